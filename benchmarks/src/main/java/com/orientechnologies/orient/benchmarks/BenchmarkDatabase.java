@@ -0,0 +1,97 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import java.io.File;
+
+/**
+ * Disk based database which is created from scratch before benchmark trial and dropped after it. Database is placed in the
+ * directory pointed by <code>buildDirectory</code> system property, or in the current directory if property is absent.
+ */
+public final class BenchmarkDatabase {
+  private final String dbName;
+  private final File   dbDirectory;
+
+  private OrientDB                  orientDB;
+  private ODatabaseSession          session;
+  private OAbstractPaginatedStorage storage;
+
+  public BenchmarkDatabase(final Class<?> benchmarkClass) {
+    final String buildDirectory = System.getProperty("buildDirectory", ".") + File.separator + benchmarkClass.getSimpleName();
+
+    this.dbName = benchmarkClass.getSimpleName();
+    this.dbDirectory = new File(buildDirectory);
+  }
+
+  public void create() {
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    final OrientDBConfig config = OrientDBConfig.builder().addConfig(OGlobalConfiguration.STORAGE_TRACK_PAGE_OPERATIONS_IN_TX, true)
+        .build();
+    orientDB = new OrientDB("plocal:" + dbDirectory.getAbsolutePath(), config);
+    orientDB.create(dbName, ODatabaseType.PLOCAL);
+
+    session = orientDB.open(dbName, "admin", "admin");
+    storage = (OAbstractPaginatedStorage) ((ODatabaseInternal) session).getStorage();
+  }
+
+  public ODatabaseSession getSession() {
+    return session;
+  }
+
+  /**
+   * @return session which is bound to the current thread, JMH may call setup and benchmark methods from different threads.
+   */
+  public ODatabaseSession activateSession() {
+    session.activateOnCurrentThread();
+    return session;
+  }
+
+  public OAbstractPaginatedStorage getStorage() {
+    return storage;
+  }
+
+  public void drop() {
+    if (session != null) {
+      session.activateOnCurrentThread();
+      session.close();
+      session = null;
+    }
+
+    if (orientDB != null) {
+      orientDB.drop(dbName);
+      orientDB.close();
+      orientDB = null;
+    }
+
+    storage = null;
+    OFileUtils.deleteRecursively(dbDirectory);
+  }
+}
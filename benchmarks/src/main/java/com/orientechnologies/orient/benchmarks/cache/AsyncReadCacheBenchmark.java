@@ -0,0 +1,105 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks.cache;
+
+import com.orientechnologies.orient.benchmarks.BenchmarkDatabase;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.chm.AsyncReadCache;
+import com.orientechnologies.orient.core.storage.cluster.v2.OPaginatedClusterV2;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load and release of pages by {@link AsyncReadCache} when all pages are already cached. Contended variant is executed by
+ * as many threads as there are available processors and shows scalability of the cache under concurrent readers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class AsyncReadCacheBenchmark {
+  @Param({ "10000" })
+  public int pagesCount;
+
+  private BenchmarkDatabase   database;
+  private OPaginatedClusterV2 cluster;
+  private OReadCache          readCache;
+  private OWriteCache         writeCache;
+  private long                fileId;
+  private int                 filledUpTo;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = new BenchmarkDatabase(AsyncReadCacheBenchmark.class);
+    database.create();
+
+    cluster = new OPaginatedClusterV2("readCacheBenchmark", database.getStorage());
+    cluster.configure(42, "readCacheBenchmark");
+    cluster.create();
+
+    readCache = database.getStorage().getReadCache();
+    writeCache = database.getStorage().getWriteCache();
+    fileId = cluster.getFileId();
+
+    //records are bigger than half of the page so each of them occupies separate page
+    final byte[] content = new byte[5 * 1024];
+    while (writeCache.getFilledUpTo(fileId) < pagesCount) {
+      cluster.createRecord(content, 1, (byte) 'b', null);
+    }
+
+    filledUpTo = (int) writeCache.getFilledUpTo(fileId);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    cluster.delete();
+    database.drop();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int loadRelease() {
+    return loadAndRelease();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public int loadReleaseContended() {
+    return loadAndRelease();
+  }
+
+  private int loadAndRelease() {
+    final OCacheEntry cacheEntry = readCache
+        .loadForRead(fileId, ThreadLocalRandom.current().nextInt(filledUpTo), false, writeCache, true);
+    try {
+      return cacheEntry.getPageIndex();
+    } finally {
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks.cluster;
+
+import com.orientechnologies.orient.benchmarks.BenchmarkDatabase;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cluster.v2.OPaginatedClusterV2;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation, read and update of records stored in {@link OPaginatedClusterV2}. Record sizes cover records which fit into single
+ * page and records which are split between several pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PaginatedClusterV2Benchmark {
+  private static final byte RECORD_TYPE = 'd';
+
+  @Param({ "100000" })
+  public int recordsCount;
+
+  @Param({ "128", "2048", "131072" })
+  public int recordSize;
+
+  private BenchmarkDatabase   database;
+  private OPaginatedClusterV2 cluster;
+  private long[]              positions;
+  private byte[]              content;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = new BenchmarkDatabase(PaginatedClusterV2Benchmark.class);
+    database.create();
+
+    cluster = new OPaginatedClusterV2("clusterBenchmark", database.getStorage());
+    cluster.configure(42, "clusterBenchmark");
+    cluster.create();
+
+    content = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(content);
+
+    positions = new long[recordsCount];
+    for (int i = 0; i < recordsCount; i++) {
+      positions[i] = cluster.createRecord(content, 1, RECORD_TYPE, null).clusterPosition;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    cluster.delete();
+    database.drop();
+  }
+
+  @Benchmark
+  public OPhysicalPosition create() throws IOException {
+    return cluster.createRecord(content, 1, RECORD_TYPE, null);
+  }
+
+  @Benchmark
+  public ORawBuffer read() throws IOException {
+    return cluster.readRecord(positions[ThreadLocalRandom.current().nextInt(recordsCount)], false);
+  }
+
+  @Benchmark
+  public void update() throws IOException {
+    cluster.updateRecord(positions[ThreadLocalRandom.current().nextInt(recordsCount)], content, 2, RECORD_TYPE);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks.index;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.benchmarks.BenchmarkDatabase;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point and range operations of {@link CellBTreeSingleValueV3} which backs unique indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CellBTreeSingleValueV3Benchmark {
+  @Param({ "1000000" })
+  public int keysCount;
+
+  @Param({ "100" })
+  public int rangeSize;
+
+  private BenchmarkDatabase               database;
+  private CellBTreeSingleValueV3<Integer> tree;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    database = new BenchmarkDatabase(CellBTreeSingleValueV3Benchmark.class);
+    database.create();
+
+    tree = new CellBTreeSingleValueV3<>("singleValueBenchmark", 42, ".sbt", ".nbt", database.getStorage());
+    tree.create(OIntegerSerializer.INSTANCE, null, 1, null);
+
+    for (int i = 0; i < keysCount; i++) {
+      tree.put(i, new ORecordId(i % 32000, i));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    tree.delete();
+    database.drop();
+  }
+
+  @Benchmark
+  public void put() throws IOException {
+    final int key = ThreadLocalRandom.current().nextInt(keysCount);
+    tree.put(key, new ORecordId(key % 32000, key));
+  }
+
+  @Benchmark
+  public ORID get() {
+    return tree.get(ThreadLocalRandom.current().nextInt(keysCount));
+  }
+
+  @Benchmark
+  public void range(final Blackhole blackhole) {
+    final int from = ThreadLocalRandom.current().nextInt(keysCount - rangeSize);
+    final OCellBTreeSingleValue.OCellBTreeCursor<Integer, ORID> cursor = tree
+        .iterateEntriesBetween(from, true, from + rangeSize, false, true);
+
+    Map.Entry<Integer, ORID> entry = cursor.next(-1);
+    while (entry != null) {
+      blackhole.consume(entry);
+      entry = cursor.next(-1);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks.serializer;
+
+import com.orientechnologies.orient.benchmarks.BenchmarkDatabase;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryField;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinaryV1;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of documents by {@link ORecordSerializerBinaryV1}. Documents contain mix of fields declared
+ * in schema and schemaless fields, so both global property ids and field names are present in record header.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RecordSerializerBinaryV1Benchmark {
+  private static final String CLASS_NAME = "SerializerBenchmark";
+
+  @Param({ "10", "80" })
+  public int fieldsCount;
+
+  private BenchmarkDatabase         database;
+  private ORecordSerializerBinaryV1 serializer;
+  private ODocument                 document;
+  private byte[]                    serialized;
+  private String                    lastFieldName;
+  private OClass                    clazz;
+  private OImmutableSchema          schema;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    database = new BenchmarkDatabase(RecordSerializerBinaryV1Benchmark.class);
+    database.create();
+
+    final ODatabaseSession session = database.getSession();
+    final OClass schemaClass = session.createClass(CLASS_NAME);
+    for (int i = 0; i < fieldsCount; i += 2) {
+      schemaClass.createProperty(fieldName(i), fieldType(i));
+    }
+
+    serializer = new ORecordSerializerBinaryV1();
+    document = new ODocument(CLASS_NAME);
+    for (int i = 0; i < fieldsCount; i++) {
+      document.field(fieldName(i), fieldValue(i));
+    }
+
+    final BytesContainer container = new BytesContainer();
+    serializer.serialize(document, container);
+    serialized = container.fitBytes();
+
+    lastFieldName = fieldName(fieldsCount - 1);
+    schema = ODocumentInternal.getImmutableSchema(document);
+    clazz = ODocumentInternal.getImmutableSchemaClass(document);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.drop();
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    database.activateSession();
+
+    final BytesContainer container = new BytesContainer();
+    serializer.serialize(document, container);
+    return container.fitBytes();
+  }
+
+  @Benchmark
+  public ODocument deserialize() {
+    database.activateSession();
+
+    final ODocument result = new ODocument(CLASS_NAME);
+    serializer.deserialize(result, new BytesContainer(serialized));
+    return result;
+  }
+
+  @Benchmark
+  public ODocument deserializePartialLastField() {
+    database.activateSession();
+
+    final ODocument result = new ODocument(CLASS_NAME);
+    serializer.deserializePartial(result, new BytesContainer(serialized), new String[] { lastFieldName });
+    return result;
+  }
+
+  @Benchmark
+  public OBinaryField deserializeFieldLastField() {
+    database.activateSession();
+
+    return serializer.deserializeField(new BytesContainer(serialized), clazz, lastFieldName, false, schema, null);
+  }
+
+  private static String fieldName(final int index) {
+    return "field" + index;
+  }
+
+  private static OType fieldType(final int index) {
+    switch (index % 4) {
+    case 0:
+      return OType.INTEGER;
+    case 1:
+      return OType.STRING;
+    case 2:
+      return OType.LONG;
+    default:
+      return OType.DATETIME;
+    }
+  }
+
+  private static Object fieldValue(final int index) {
+    switch (index % 4) {
+    case 0:
+      return index;
+    case 1:
+      return "value of the field number " + index;
+    case 2:
+      return (long) index * Integer.MAX_VALUE;
+    default:
+      return new Date(index);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks.sql;
+
+import com.orientechnologies.orient.benchmarks.BenchmarkDatabase;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.executor.OSelectExecutionPlanner;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Planning (by {@link OSelectExecutionPlanner}) and execution of representative SELECT queries: full scan with filter, lookup
+ * by unique index, range scan by not unique index, top-k sort and aggregation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SelectExecutionPlannerBenchmark {
+  private static final String CLASS_NAME = "Person";
+
+  @Param({ "100000" })
+  public int recordsCount;
+
+  @Param({ "fullScanFilter", "uniqueIndexLookup", "indexRange", "orderByLimit", "groupBy" })
+  public String query;
+
+  private BenchmarkDatabase database;
+  private String            sql;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    database = new BenchmarkDatabase(SelectExecutionPlannerBenchmark.class);
+    database.create();
+
+    final ODatabaseSession session = database.getSession();
+    final OClass person = session.createClass(CLASS_NAME);
+    person.createProperty("id", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    person.createProperty("age", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    person.createProperty("name", OType.STRING);
+    person.createProperty("city", OType.STRING);
+
+    for (int i = 0; i < recordsCount; i++) {
+      final OElement element = session.newElement(CLASS_NAME);
+      element.setProperty("id", i);
+      element.setProperty("age", i % 100);
+      element.setProperty("name", "name" + i);
+      element.setProperty("city", "city" + (i % 1000));
+      element.save();
+    }
+
+    sql = sql(query);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.drop();
+  }
+
+  @Benchmark
+  public OInternalExecutionPlan plan() {
+    final ODatabaseSession session = database.activateSession();
+
+    final OStatement statement = OSQLEngine.parse(sql, (ODatabaseDocumentInternal) session);
+    final OBasicCommandContext context = new OBasicCommandContext();
+    context.setDatabase(session);
+    context.setInputParameters(Collections.emptyMap());
+
+    return statement.createExecutionPlanNoCache(context, false);
+  }
+
+  @Benchmark
+  public void execute(final Blackhole blackhole) {
+    final ODatabaseSession session = database.activateSession();
+
+    try (OResultSet resultSet = session.query(sql)) {
+      while (resultSet.hasNext()) {
+        blackhole.consume(resultSet.next());
+      }
+    }
+  }
+
+  private static String sql(final String query) {
+    switch (query) {
+    case "fullScanFilter":
+      return "select from " + CLASS_NAME + " where city = 'city42' and name like 'name1%'";
+    case "uniqueIndexLookup":
+      return "select from " + CLASS_NAME + " where id = 4242";
+    case "indexRange":
+      return "select from " + CLASS_NAME + " where age between 10 and 12";
+    case "orderByLimit":
+      return "select from " + CLASS_NAME + " order by name desc limit 10";
+    case "groupBy":
+      return "select city, count(*), avg(age) from " + CLASS_NAME + " group by city";
+    default:
+      throw new IllegalArgumentException("Unknown query " + query);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.benchmarks.wal;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAbstractWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecordsFactory;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging of records into {@link CASDiskWriteAheadLog} with and without forcing of log content to the disk. Log and flush
+ * benchmark executed by several threads simulates concurrent durable commits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CASDiskWriteAheadLogBenchmark {
+  private static final int BENCHMARK_RECORD_ID = 1024;
+
+  @Param({ "64", "1024", "65536" })
+  public int recordSize;
+
+  private Path                 walDirectory;
+  private CASDiskWriteAheadLog wal;
+  private byte[]               data;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    OWALRecordsFactory.INSTANCE.registerNewRecord(BENCHMARK_RECORD_ID, BenchmarkRecord.class);
+
+    walDirectory = new File(System.getProperty("buildDirectory", ".") + File.separator + CASDiskWriteAheadLogBenchmark.class
+        .getSimpleName()).toPath();
+    OFileUtils.deleteRecursively(walDirectory.toFile());
+
+    wal = new CASDiskWriteAheadLog("walBenchmark", walDirectory, walDirectory, 100, 64, null, null, Integer.MAX_VALUE,
+        128 * 1024 * 1024, 20, true, Locale.US, -1, -1, 1000, false, true, false, 10);
+
+    data = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+  }
+
+  @TearDown(Level.Iteration)
+  public void cutSegments() throws IOException {
+    wal.flush();
+    wal.cutAllSegmentsSmallerThan(wal.activeSegment());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    wal.delete();
+    OFileUtils.deleteRecursively(walDirectory.toFile());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public OLogSequenceNumber log() {
+    return wal.log(new BenchmarkRecord(data));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public OLogSequenceNumber logAndFlush() {
+    final OLogSequenceNumber lsn = wal.log(new BenchmarkRecord(data));
+    wal.flush();
+    return lsn;
+  }
+
+  @Benchmark
+  @Threads(8)
+  public OLogSequenceNumber logAndFlushConcurrent() {
+    final OLogSequenceNumber lsn = wal.log(new BenchmarkRecord(data));
+    wal.flush();
+    return lsn;
+  }
+
+  public static final class BenchmarkRecord extends OAbstractWALRecord {
+    private byte[] data;
+
+    @SuppressWarnings("unused")
+    public BenchmarkRecord() {
+    }
+
+    BenchmarkRecord(final byte[] data) {
+      this.data = data;
+    }
+
+    @Override
+    public int toStream(final byte[] content, int offset) {
+      OIntegerSerializer.INSTANCE.serializeNative(data.length, content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      System.arraycopy(data, 0, content, offset, data.length);
+      offset += data.length;
+
+      return offset;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(data.length);
+      buffer.put(data);
+    }
+
+    @Override
+    public int fromStream(final byte[] content, int offset) {
+      final int len = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      data = new byte[len];
+      System.arraycopy(content, offset, data, 0, len);
+      offset += len;
+
+      return offset;
+    }
+
+    @Override
+    public int serializedSize() {
+      return data.length + OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public boolean isUpdateMasterRecord() {
+      return false;
+    }
+
+    @Override
+    public int getId() {
+      return BENCHMARK_RECORD_ID;
+    }
+  }
+}
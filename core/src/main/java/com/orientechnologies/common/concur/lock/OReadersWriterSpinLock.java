@@ -171,6 +171,13 @@ public class OReadersWriterSpinLock extends AbstractOwnableSynchronizer {
     assert lHolds.intValue() == 0;
   }
 
+  /**
+   * @return <code>true</code> if read or write lock is held by current thread.
+   */
+  public boolean isAcquiredByCurrentThread() {
+    return lockHolds.get().intValue() != 0;
+  }
+
   public void acquireWriteLock() {
     final OModifiableInteger lHolds = lockHolds.get();
 
@@ -24,6 +24,7 @@ import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -34,8 +35,15 @@ import java.util.concurrent.atomic.AtomicReference;
  * Object of this class works at the same time as factory for <code>DirectByteBuffer</code> objects and pool for
  * <code>DirectByteBuffer</code> objects which were used and now are free to be reused by other parts of the code.
  * All <code>DirectByteBuffer</code> objects have the same size which is specified in objects constructor as "page size".
+ * <p>
+ * To avoid contention between threads pool is split on stripes, each thread works with the stripe selected by its id. Every
+ * stripe keeps up to two batches of free pages, if stripe is empty or full a batch of pages is moved between stripe and shared
+ * part of the pool, so shared state of the pool is accessed once per batch of operations. If pool is too small to be split
+ * between stripes, only shared part of the pool is used.
  *
  * @see ODirectMemoryAllocator
+ * @see OGlobalConfiguration#DIRECT_MEMORY_POOL_STRIPES
+ * @see OGlobalConfiguration#DIRECT_MEMORY_POOL_BATCH_SIZE
  */
 public final class OByteBufferPool implements OByteBufferPoolMXBean {
   /**
@@ -49,11 +57,6 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    */
   private static final AtomicReference<OByteBufferPool> INSTANCE_HOLDER = new AtomicReference<>();
 
-  /**
-   * Limit of direct memory pointers are hold inside of the pool
-   */
-  private final int poolSize;
-
   /**
    * @return Singleton instance
    */
@@ -89,14 +92,32 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
   private final ConcurrentHashMap<OPointer, PointerTracker> pointerMapping = new ConcurrentHashMap<>();
 
   /**
-   * Pool of already allocated pages.
+   * Shared part of the pool of already allocated pages, pages are added and removed by batches.
+   */
+  private final ConcurrentLinkedQueue<OPointer[]> sharedPool = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Size of the shared part of the pool is kept in separate counter because it is slow to ask pool itself and count all links in
+   * the pool.
    */
-  private final ConcurrentLinkedQueue<OPointer> pointersPool = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger sharedPoolSize = new AtomicInteger();
 
   /**
-   * Size of the pool of pages is kept in separate counter because it is slow to ask pool itself and count all links in the pool.
+   * Limit of pages which are kept in shared part of the pool.
    */
-  private final AtomicInteger pointersPoolSize = new AtomicInteger();
+  private final int sharedPoolLimit;
+
+  /**
+   * Stripes of the pool or <code>null</code> if pool is too small to be striped.
+   */
+  private final Stripe[] stripes;
+
+  private final int stripesMask;
+
+  /**
+   * Amount of pages which are moved between stripe and shared part of the pool at once.
+   */
+  private final int batchSize;
 
   /**
    * Direct memory allocator.
@@ -107,9 +128,7 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by pool.
    */
   public OByteBufferPool(int pageSize) {
-    this.pageSize = pageSize;
-    this.allocator = ODirectMemoryAllocator.instance();
-    this.poolSize = OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger();
+    this(pageSize, ODirectMemoryAllocator.instance(), OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger());
   }
 
   /**
@@ -118,32 +137,105 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * @param poolSize  Size of the page pool
    */
   public OByteBufferPool(int pageSize, ODirectMemoryAllocator allocator, int poolSize) {
+    this(pageSize, allocator, poolSize, OGlobalConfiguration.DIRECT_MEMORY_POOL_STRIPES.getValueAsInteger(),
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_BATCH_SIZE.getValueAsInteger());
+  }
+
+  /**
+   * @param allocator    Direct memory allocator to use.
+   * @param pageSize     Size of single page (instance of <code>DirectByteBuffer</code>) returned by pool.
+   * @param poolSize     Size of the page pool
+   * @param stripesCount Amount of stripes of the pool, 0 means amount of CPU cores
+   * @param batchSize    Amount of pages moved between stripe and shared part of the pool at once
+   */
+  public OByteBufferPool(int pageSize, ODirectMemoryAllocator allocator, int poolSize, int stripesCount, int batchSize) {
     this.pageSize = pageSize;
     this.allocator = allocator;
-    this.poolSize = poolSize;
+
+    if (stripesCount <= 0) {
+      stripesCount = Runtime.getRuntime().availableProcessors();
+    }
+    stripesCount = stripesCount == 1 ? 1 : Integer.highestOneBit(stripesCount - 1) << 1;
+
+    //stripes may keep not more than half of the pool, the rest is used to exchange pages between stripes
+    final long stripesCapacity = 2L * batchSize * stripesCount;
+    if (batchSize > 0 && stripesCapacity <= poolSize / 2) {
+      this.stripes = new Stripe[stripesCount];
+      for (int i = 0; i < stripesCount; i++) {
+        stripes[i] = new Stripe(2 * batchSize);
+      }
+
+      this.stripesMask = stripesCount - 1;
+      this.batchSize = batchSize;
+      this.sharedPoolLimit = poolSize - (int) stripesCapacity;
+    } else {
+      this.stripes = null;
+      this.stripesMask = 0;
+      this.batchSize = 1;
+      this.sharedPoolLimit = poolSize;
+    }
+  }
+
+  /**
+   * Acquires direct memory buffer which is not bound to any specific component.
+   *
+   * @see #acquireDirect(boolean, ODirectMemoryAllocator.Intention)
+   */
+  public final OPointer acquireDirect(boolean clear) {
+    return acquireDirect(clear, ODirectMemoryAllocator.Intention.OTHER);
   }
 
   /**
    * Acquires direct memory buffer with native byte order. If there is free (already released) direct memory page we reuse it,
    * otherwise new memory chunk is allocated from direct memory.
    *
-   * @param clear Whether returned buffer should be filled with zeros before return.
+   * @param clear     Whether returned buffer should be filled with zeros before return.
+   * @param intention Component which is going to use buffer, memory of buffer is accounted to this component till buffer is
+   *                  released back to the pool.
    *
    * @return Direct memory buffer instance.
    */
-  public final OPointer acquireDirect(boolean clear) {
-    OPointer pointer;
-
-    pointer = pointersPool.poll();
+  public final OPointer acquireDirect(boolean clear, ODirectMemoryAllocator.Intention intention) {
+    allocator.checkHardBudget(intention, pageSize);
+
+    OPointer pointer = null;
+
+    if (stripes != null) {
+      final Stripe stripe = currentStripe();
+      synchronized (stripe) {
+        stripe.acquiredPages++;
+
+        if (stripe.size == 0) {
+          final OPointer[] batch = pollSharedPool();
+          if (batch != null) {
+            System.arraycopy(batch, 0, stripe.pointers, 0, batch.length);
+            stripe.size = batch.length;
+          }
+        }
+
+        if (stripe.size > 0) {
+          stripe.size--;
+          pointer = stripe.pointers[stripe.size];
+          stripe.pointers[stripe.size] = null;
+        } else {
+          stripe.allocatedPages++;
+        }
+      }
+    } else {
+      final OPointer[] batch = pollSharedPool();
+      if (batch != null) {
+        pointer = batch[0];
+      }
+    }
 
     if (pointer != null) {
-      pointersPoolSize.decrementAndGet();
+      allocator.changeIntention(pointer, intention);
 
       if (clear) {
         pointer.clear();
       }
     } else {
-      pointer = allocator.allocate(pageSize, -1, clear);
+      pointer = allocator.allocate(pageSize, -1, clear, intention);
     }
 
     pointer.getNativeByteBuffer().position(0);
@@ -167,12 +259,60 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
       pointerMapping.remove(pointer);
     }
 
-    long poolSize = pointersPoolSize.incrementAndGet();
-    if (poolSize > this.poolSize) {
-      pointersPoolSize.decrementAndGet();
-      allocator.deallocate(pointer);
+    allocator.changeIntention(pointer, ODirectMemoryAllocator.Intention.PAGE_POOL);
+
+    if (stripes != null) {
+      final Stripe stripe = currentStripe();
+      final OPointer[] batch;
+
+      synchronized (stripe) {
+        stripe.releasedPages++;
+
+        if (stripe.size < stripe.pointers.length) {
+          stripe.pointers[stripe.size] = pointer;
+          stripe.size++;
+          return;
+        }
+
+        //stripe is full, so half of its pages is moved to the shared part of the pool
+        batch = new OPointer[batchSize];
+        stripe.size -= batchSize;
+        System.arraycopy(stripe.pointers, stripe.size, batch, 0, batchSize);
+        Arrays.fill(stripe.pointers, stripe.size, stripe.size + batchSize, null);
+
+        stripe.pointers[stripe.size] = pointer;
+        stripe.size++;
+      }
+
+      releaseToSharedPool(batch);
+    } else {
+      releaseToSharedPool(new OPointer[] { pointer });
+    }
+  }
+
+  private Stripe currentStripe() {
+    return stripes[(int) Thread.currentThread().getId() & stripesMask];
+  }
+
+  private OPointer[] pollSharedPool() {
+    final OPointer[] batch = sharedPool.poll();
+    if (batch != null) {
+      sharedPoolSize.addAndGet(-batch.length);
+    }
+
+    return batch;
+  }
+
+  private void releaseToSharedPool(final OPointer[] batch) {
+    final int size = sharedPoolSize.addAndGet(batch.length);
+    if (size > sharedPoolLimit) {
+      sharedPoolSize.addAndGet(-batch.length);
+
+      for (final OPointer pointer : batch) {
+        allocator.deallocate(pointer);
+      }
     } else {
-      pointersPool.add(pointer);
+      sharedPool.add(batch);
     }
   }
 
@@ -181,7 +321,92 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    */
   @Override
   public final int getPoolSize() {
-    return pointersPoolSize.get();
+    int size = sharedPoolSize.get();
+    if (stripes != null) {
+      for (final Stripe stripe : stripes) {
+        synchronized (stripe) {
+          size += stripe.size;
+        }
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public int getSharedPoolSize() {
+    return sharedPoolSize.get();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public int getStripesCount() {
+    return stripes != null ? stripes.length : 0;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public int[] getStripesPoolSize() {
+    final int[] result = new int[getStripesCount()];
+    for (int i = 0; i < result.length; i++) {
+      synchronized (stripes[i]) {
+        result[i] = stripes[i].size;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long[] getStripesAcquiredPages() {
+    final long[] result = new long[getStripesCount()];
+    for (int i = 0; i < result.length; i++) {
+      synchronized (stripes[i]) {
+        result[i] = stripes[i].acquiredPages;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long[] getStripesAllocatedPages() {
+    final long[] result = new long[getStripesCount()];
+    for (int i = 0; i < result.length; i++) {
+      synchronized (stripes[i]) {
+        result[i] = stripes[i].allocatedPages;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long[] getStripesReleasedPages() {
+    final long[] result = new long[getStripesCount()];
+    for (int i = 0; i < result.length; i++) {
+      synchronized (stripes[i]) {
+        result[i] = stripes[i].releasedPages;
+      }
+    }
+
+    return result;
   }
 
   /**
@@ -205,12 +430,27 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * Clears pool and dealocates memory.
    */
   public void clear() {
-    for (OPointer pointer : pointersPool) {
-      allocator.deallocate(pointer);
+    if (stripes != null) {
+      for (final Stripe stripe : stripes) {
+        synchronized (stripe) {
+          for (int i = 0; i < stripe.size; i++) {
+            allocator.deallocate(stripe.pointers[i]);
+          }
+
+          Arrays.fill(stripe.pointers, null);
+          stripe.size = 0;
+        }
+      }
+    }
+
+    OPointer[] batch;
+    while ((batch = sharedPool.poll()) != null) {
+      for (final OPointer pointer : batch) {
+        allocator.deallocate(pointer);
+      }
     }
 
-    pointersPool.clear();
-    pointersPoolSize.set(0);
+    sharedPoolSize.set(0);
 
     for (OPointer pointer : pointerMapping.keySet()) {
       allocator.deallocate(pointer);
@@ -219,6 +459,22 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
     pointerMapping.clear();
   }
 
+  /**
+   * Stripe of the pool which keeps free pages of threads bound to it, all fields are guarded by stripe itself.
+   */
+  private static final class Stripe {
+    private final OPointer[] pointers;
+    private       int        size;
+
+    private long acquiredPages;
+    private long allocatedPages;
+    private long releasedPages;
+
+    private Stripe(final int capacity) {
+      this.pointers = new OPointer[capacity];
+    }
+  }
+
   /**
    * Holder which contains if memory tracking is enabled stack trace for the first allocation.
    */
@@ -28,4 +28,35 @@ public interface OByteBufferPoolMXBean {
    * @return Current size of the memory pool
    */
   int getPoolSize();
+
+  /**
+   * @return Amount of pages kept in shared part of the pool which is used to exchange pages between stripes
+   */
+  int getSharedPoolSize();
+
+  /**
+   * @return Amount of stripes of the pool
+   */
+  int getStripesCount();
+
+  /**
+   * @return Amount of pages kept in each stripe of the pool
+   */
+  int[] getStripesPoolSize();
+
+  /**
+   * @return Amount of pages acquired from each stripe of the pool
+   */
+  long[] getStripesAcquiredPages();
+
+  /**
+   * @return Amount of pages acquired from each stripe of the pool which were not found in the pool and were allocated from
+   * direct memory
+   */
+  long[] getStripesAllocatedPages();
+
+  /**
+   * @return Amount of pages released to each stripe of the pool
+   */
+  long[] getStripesReleasedPages();
 }
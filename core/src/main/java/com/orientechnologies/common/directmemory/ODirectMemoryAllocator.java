@@ -23,27 +23,98 @@ package com.orientechnologies.common.directmemory;
 import com.kenai.jffi.MemoryIO;
 import com.kenai.jffi.Platform;
 import com.orientechnologies.common.exception.ODirectMemoryAllocationFailedException;
+import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.jnr.ONative;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import jnr.ffi.NativeLong;
 import jnr.ffi.byref.PointerByReference;
 
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Manages all allocations/deallocations from/to direct memory. Also tracks the presence of memory leaks.
+ * <p>
+ * Each allocation is tagged by {@link Intention} of component which requested it, so consumption of direct memory is tracked
+ * separately for each component. Every component may have soft and hard budget of direct memory. Allocation which exceeds hard
+ * budget of component fails, exceeding of soft budget by components which buffer written data delays start of new atomic
+ * operations (see {@link #applyBackpressure()}).
  *
  * @see OGlobalConfiguration#DIRECT_MEMORY_POOL_LIMIT
+ * @see OGlobalConfiguration#DIRECT_MEMORY_SOFT_BUDGETS
+ * @see OGlobalConfiguration#DIRECT_MEMORY_HARD_BUDGETS
  */
 public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
+  /**
+   * Component of storage engine on behalf of which direct memory is allocated.
+   */
+  public enum Intention {
+    /**
+     * Pages which are kept inside of {@link OByteBufferPool} and are not used by any component.
+     */
+    PAGE_POOL(false),
+    /**
+     * Pages of read cache, including pages of in-memory storages.
+     */
+    READ_CACHE(false),
+    /**
+     * Copies of pages and write buffers which are used during flush of write cache.
+     */
+    WRITE_CACHE(true),
+    /**
+     * Buffers of double write log.
+     */
+    DOUBLE_WRITE_LOG(true),
+    /**
+     * Write buffers and pages of write ahead log.
+     */
+    WAL(true),
+    /**
+     * Hash tables of cluster position caches.
+     */
+    CLUSTER_POSITION_CACHE(false),
+    /**
+     * Allocations which are not bound to any specific component.
+     */
+    OTHER(false);
+
+    /**
+     * Whether exceeding of soft budget by this component should delay writers.
+     */
+    private final boolean throttlesWriters;
+
+    Intention(boolean throttlesWriters) {
+      this.throttlesWriters = throttlesWriters;
+    }
+  }
+
+  private static final String MBEAN_NAME = "com.orientechnologies.common.directmemory:type=ODirectMemoryAllocatorMXBean";
+
+  /**
+   * Interval between checks of soft budgets during backpressure.
+   */
+  private static final long BACKPRESSURE_PARK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(1);
 
   /**
    * Whether we should track memory leaks during application execution
@@ -82,6 +153,24 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
    */
   private final LongAdder memoryConsumption = new LongAdder();
 
+  /**
+   * Consumption and budgets of direct memory for each of intentions, indexed by {@link Intention#ordinal()}.
+   */
+  private final IntentionAccount[] accounts;
+
+  /**
+   * Whether soft budget is set for any of components which throttle writers, used as fast path check during backpressure.
+   */
+  private volatile boolean writersBudgeted;
+
+  private final long backpressureMaxWait;
+
+  private final LongAdder hardBudgetRejections = new LongAdder();
+  private final LongAdder backpressureDelays   = new LongAdder();
+  private final LongAdder backpressureWaitTime = new LongAdder();
+
+  private final AtomicBoolean mbeanIsRegistered = new AtomicBoolean();
+
   private final boolean isLinux = Platform.getPlatform().getOS() == Platform.OS.LINUX;
 
   /**
@@ -105,26 +194,53 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     trackedPointersQueue = new ReferenceQueue<>();
     trackedReferences = new HashSet<>();
     trackedBuffers = new HashMap<>();
+
+    final Intention[] intentions = Intention.values();
+    accounts = new IntentionAccount[intentions.length];
+    for (int i = 0; i < accounts.length; i++) {
+      accounts[i] = new IntentionAccount();
+    }
+
+    parseBudgets(OGlobalConfiguration.DIRECT_MEMORY_SOFT_BUDGETS.getValueAsString(), true);
+    parseBudgets(OGlobalConfiguration.DIRECT_MEMORY_HARD_BUDGETS.getValueAsString(), false);
+
+    backpressureMaxWait = TimeUnit.MILLISECONDS
+        .toNanos(OGlobalConfiguration.DIRECT_MEMORY_BACKPRESSURE_MAX_WAIT.getValueAsInteger());
+  }
+
+  /**
+   * Allocates chunk of direct memory of given size which is not bound to any specific component.
+   *
+   * @see #allocate(int, int, boolean, Intention)
+   */
+  public OPointer allocate(int size, int align, boolean clear) {
+    return allocate(size, align, clear, Intention.OTHER);
   }
 
   /**
    * Allocates chunk of direct memory of given size.
    *
-   * @param size  Amount of memory to allocate
-   * @param clear clears memory if needed
+   * @param size      Amount of memory to allocate
+   * @param clear     clears memory if needed
+   * @param intention Component on behalf of which memory is allocated
    * @return Pointer to allocated memory
-   * @throws ODirectMemoryAllocationFailedException if it is impossible to allocate amount of direct memory of given size
+   * @throws ODirectMemoryAllocationFailedException if it is impossible to allocate amount of direct memory of given size or if
+   *                                                allocation exceeds hard budget of component
    */
-  public OPointer allocate(int size, int align, boolean clear) {
+  public OPointer allocate(int size, int align, boolean clear, Intention intention) {
     if (size <= 0) {
       throw new IllegalArgumentException("Size of allocated memory can not be less or equal to 0");
     }
 
+    checkHardBudget(intention, size);
+
     final OPointer ptr;
     if (align <= 0) {
       final long pointer = MemoryIO.getInstance().allocateMemory(size, clear);
       if (pointer <= 0) {
-        throw new ODirectMemoryAllocationFailedException("Can not allocate direct memory chunk of size " + size);
+        throw new ODirectMemoryAllocationFailedException(
+            "Can not allocate direct memory chunk of size " + size + " for " + intention + ", direct memory consumption is "
+                + memoryConsumptionReport());
       }
 
       ptr = new OPointer(pointer, size);
@@ -138,10 +254,177 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
       ptr = new OPointer(pointerByReference.getValue().address(), size);
     }
 
+    ptr.setIntention(intention);
     memoryConsumption.add(size);
+    account(intention, size);
+
     return track(ptr);
   }
 
+  /**
+   * Moves accounting of already allocated memory from the component which owned it till now to the new one. Used by
+   * {@link OByteBufferPool} when page is passed from one component to another.
+   */
+  void changeIntention(OPointer pointer, Intention intention) {
+    final Intention current = pointer.getIntention();
+    if (current == intention) {
+      return;
+    }
+
+    pointer.setIntention(intention);
+    account(current, -pointer.getSize());
+    account(intention, pointer.getSize());
+  }
+
+  /**
+   * Throws exception if allocation of given amount of memory exceeds hard budget of component.
+   *
+   * @throws ODirectMemoryAllocationFailedException if hard budget of component is exceeded
+   */
+  void checkHardBudget(Intention intention, int size) {
+    final IntentionAccount account = accounts[intention.ordinal()];
+    final long hardBudget = account.hardBudget;
+
+    if (hardBudget > 0 && account.consumption.sum() + size > hardBudget) {
+      hardBudgetRejections.increment();
+      throw new ODirectMemoryAllocationFailedException(
+          "Can not allocate direct memory chunk of size " + size + " because hard budget of " + intention + " (" + OFileUtils
+              .getSizeAsString(hardBudget) + ") is exceeded, direct memory consumption is " + memoryConsumptionReport());
+    }
+  }
+
+  private void account(Intention intention, long size) {
+    final IntentionAccount account = accounts[intention.ordinal()];
+    account.consumption.add(size);
+
+    final long softBudget = account.softBudget;
+    if (softBudget > 0) {
+      final boolean overBudget = account.consumption.sum() > softBudget;
+      if (account.overSoftBudget.get() != overBudget && account.overSoftBudget.compareAndSet(!overBudget, overBudget)
+          && overBudget) {
+        OLogManager.instance()
+            .warnNoDb(this, "Soft budget of direct memory of %s (%s) is exceeded, direct memory consumption is %s", intention,
+                OFileUtils.getSizeAsString(softBudget), memoryConsumptionReport());
+      }
+    }
+  }
+
+  /**
+   * Delays current thread while any of components which buffer written data (write cache, WAL, double write log) consumes more
+   * direct memory than allowed by its soft budget, so background flush has a chance to release memory before new changes are
+   * made. Waiting time is limited by {@link OGlobalConfiguration#DIRECT_MEMORY_BACKPRESSURE_MAX_WAIT}.
+   */
+  public void applyBackpressure() {
+    if (!writersBudgeted || !isWriteBufferOverSoftBudget()) {
+      return;
+    }
+
+    backpressureDelays.increment();
+
+    final long start = System.nanoTime();
+    long now = start;
+    while (now - start < backpressureMaxWait && isWriteBufferOverSoftBudget()) {
+      LockSupport.parkNanos(this, BACKPRESSURE_PARK_INTERVAL);
+
+      if (Thread.currentThread().isInterrupted()) {
+        break;
+      }
+
+      now = System.nanoTime();
+    }
+
+    backpressureWaitTime.add(System.nanoTime() - start);
+  }
+
+  private boolean isWriteBufferOverSoftBudget() {
+    for (final Intention intention : Intention.values()) {
+      if (intention.throttlesWriters) {
+        final IntentionAccount account = accounts[intention.ordinal()];
+        final long softBudget = account.softBudget;
+
+        if (softBudget > 0 && account.consumption.sum() > softBudget) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * @return Amount of direct memory consumed by given component.
+   */
+  public long getMemoryConsumption(Intention intention) {
+    return accounts[intention.ordinal()].consumption.sum();
+  }
+
+  /**
+   * Sets soft budget of direct memory for given component, value less or equal to 0 removes the budget.
+   */
+  public void setSoftBudget(Intention intention, long budget) {
+    accounts[intention.ordinal()].softBudget = Math.max(budget, 0);
+
+    boolean budgeted = false;
+    for (final Intention value : Intention.values()) {
+      if (value.throttlesWriters && accounts[value.ordinal()].softBudget > 0) {
+        budgeted = true;
+        break;
+      }
+    }
+    writersBudgeted = budgeted;
+  }
+
+  /**
+   * Sets hard budget of direct memory for given component, value less or equal to 0 removes the budget.
+   */
+  public void setHardBudget(Intention intention, long budget) {
+    accounts[intention.ordinal()].hardBudget = Math.max(budget, 0);
+  }
+
+  /**
+   * @return Human readable amount of direct memory consumed by each of components.
+   */
+  public String memoryConsumptionReport() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(OFileUtils.getSizeAsString(memoryConsumption.sum())).append(" (");
+
+    final Intention[] intentions = Intention.values();
+    for (int i = 0; i < intentions.length; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(intentions[i]).append('=').append(OFileUtils.getSizeAsString(accounts[i].consumption.sum()));
+    }
+
+    return builder.append(')').toString();
+  }
+
+  private void parseBudgets(final String budgets, final boolean soft) {
+    if (budgets == null || budgets.trim().isEmpty()) {
+      return;
+    }
+
+    for (final String entry : budgets.split(",")) {
+      final int separator = entry.indexOf('=');
+      try {
+        if (separator < 0) {
+          throw new IllegalArgumentException("Component name and budget should be separated by '='");
+        }
+
+        final Intention intention = Intention.valueOf(entry.substring(0, separator).trim().toUpperCase(Locale.ENGLISH));
+        final long budget = Long.parseLong(entry.substring(separator + 1).trim()) * 1024 * 1024;
+
+        if (soft) {
+          setSoftBudget(intention, budget);
+        } else {
+          setHardBudget(intention, budget);
+        }
+      } catch (IllegalArgumentException e) {
+        OLogManager.instance().warnNoDb(this, "Invalid direct memory budget '%s' is ignored: %s", entry, e.getMessage());
+      }
+    }
+  }
+
   /**
    * Returns allocated direct memory back to OS
    */
@@ -154,6 +437,7 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     if (ptr > 0) {
       MemoryIO.getInstance().freeMemory(ptr);
       memoryConsumption.add(-pointer.getSize());
+      account(pointer.getIntention(), -pointer.getSize());
       untrack(pointer);
     }
   }
@@ -166,6 +450,133 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     return memoryConsumption.longValue();
   }
 
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public Map<String, Long> getMemoryConsumptionByIntention() {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    for (final Intention intention : Intention.values()) {
+      result.put(intention.name(), accounts[intention.ordinal()].consumption.sum());
+    }
+    return result;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public Map<String, Long> getSoftBudgets() {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    for (final Intention intention : Intention.values()) {
+      result.put(intention.name(), accounts[intention.ordinal()].softBudget);
+    }
+    return result;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public Map<String, Long> getHardBudgets() {
+    final Map<String, Long> result = new LinkedHashMap<>();
+    for (final Intention intention : Intention.values()) {
+      result.put(intention.name(), accounts[intention.ordinal()].hardBudget);
+    }
+    return result;
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public void setSoftBudget(String intention, long budget) {
+    setSoftBudget(Intention.valueOf(intention.toUpperCase(Locale.ENGLISH)), budget);
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public void setHardBudget(String intention, long budget) {
+    setHardBudget(Intention.valueOf(intention.toUpperCase(Locale.ENGLISH)), budget);
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getHardBudgetRejections() {
+    return hardBudgetRejections.sum();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getBackpressureDelays() {
+    return backpressureDelays.sum();
+  }
+
+  /**
+   * @inheritDoc
+   */
+  @Override
+  public long getBackpressureWaitTime() {
+    return TimeUnit.NANOSECONDS.toMillis(backpressureWaitTime.sum());
+  }
+
+  /**
+   * Registers JMX bean of allocator.
+   */
+  public void registerMBean() {
+    if (mbeanIsRegistered.compareAndSet(false, true)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME);
+        if (!server.isRegistered(mbeanName)) {
+          server.registerMBean(this, mbeanName);
+        } else {
+          mbeanIsRegistered.set(false);
+          OLogManager.instance().warnNoDb(this,
+              "MBean with name %s has already registered. Probably your system was not shutdown correctly"
+                  + " or you have several running applications which use OrientDB engine inside", mbeanName.getCanonicalName());
+        }
+      } catch (MalformedObjectNameException | InstanceAlreadyExistsException | NotCompliantMBeanException | MBeanRegistrationException e) {
+        mbeanIsRegistered.set(false);
+        OLogManager.instance().errorNoDb(this, "Error during registration of direct memory allocator MBean", e);
+      }
+    }
+  }
+
+  /**
+   * Deregisters JMX bean of allocator.
+   */
+  public void unregisterMBean() {
+    if (mbeanIsRegistered.compareAndSet(true, false)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.unregisterMBean(new ObjectName(MBEAN_NAME));
+      } catch (MalformedObjectNameException | InstanceNotFoundException | MBeanRegistrationException e) {
+        OLogManager.instance().errorNoDb(this, "Error during unregistration of direct memory allocator MBean", e);
+      }
+    }
+  }
+
+  /**
+   * Registers consumption of direct memory by each of components as profiler metrics.
+   */
+  public void registerProfilerHooks(OProfiler profiler) {
+    profiler.registerHookValue("system.memory.direct.total", "Amount of direct memory allocated by storage engine",
+        OProfiler.METRIC_TYPE.SIZE, this::getMemoryConsumption);
+
+    for (final Intention intention : Intention.values()) {
+      profiler.registerHookValue("system.memory.direct." + intention.name().toLowerCase(Locale.ENGLISH),
+          "Amount of direct memory allocated for " + intention, OProfiler.METRIC_TYPE.SIZE,
+          () -> getMemoryConsumption(intention));
+    }
+  }
+
   /**
    * Verifies that all pointers which were allocated by allocator are freed.
    */
@@ -253,6 +664,17 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
     }
   }
 
+  /**
+   * Consumption and budgets of direct memory of single component.
+   */
+  private static final class IntentionAccount {
+    private final LongAdder     consumption    = new LongAdder();
+    private final AtomicBoolean overSoftBudget = new AtomicBoolean();
+
+    private volatile long softBudget;
+    private volatile long hardBudget;
+  }
+
   /**
    * WeakReference to the direct memory pointer which tracks stack trace of allocation of direct memory associated with this
    * pointer.
@@ -20,9 +20,51 @@
 
 package com.orientechnologies.common.directmemory;
 
+import java.util.Map;
+
 public interface ODirectMemoryAllocatorMXBean {
   /**
    * @return Amount of direct memory allocated using this allocator
    */
   long getMemoryConsumption();
+
+  /**
+   * @return Amount of direct memory allocated by each of components of storage engine
+   */
+  Map<String, Long> getMemoryConsumptionByIntention();
+
+  /**
+   * @return Soft budgets of direct memory of each of components, 0 means that budget is not set
+   */
+  Map<String, Long> getSoftBudgets();
+
+  /**
+   * @return Hard budgets of direct memory of each of components, 0 means that budget is not set
+   */
+  Map<String, Long> getHardBudgets();
+
+  /**
+   * Sets soft budget of direct memory in bytes for given component, 0 removes the budget.
+   */
+  void setSoftBudget(String intention, long budget);
+
+  /**
+   * Sets hard budget of direct memory in bytes for given component, 0 removes the budget.
+   */
+  void setHardBudget(String intention, long budget);
+
+  /**
+   * @return Amount of allocations which were rejected because of exceeding of hard budget
+   */
+  long getHardBudgetRejections();
+
+  /**
+   * @return Amount of times when start of atomic operation was delayed because of exceeding of soft budget
+   */
+  long getBackpressureDelays();
+
+  /**
+   * @return Total time in milliseconds during which atomic operations were delayed because of exceeding of soft budget
+   */
+  long getBackpressureWaitTime();
 }
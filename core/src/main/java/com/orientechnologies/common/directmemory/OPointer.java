@@ -11,6 +11,11 @@ public final class OPointer {
   private final ByteBuffer byteBuffer;
   private       int        hash = 0;
 
+  /**
+   * Component which owns memory of this pointer, changed by {@link OByteBufferPool} when page is passed between components.
+   */
+  private ODirectMemoryAllocator.Intention intention;
+
   OPointer(long pointer, int size) {
     this.pointer = pointer;
     this.size = size;
@@ -18,6 +23,21 @@ public final class OPointer {
     assert this.byteBuffer.position() == 0;
   }
 
+  /**
+   * Wraps already existing direct buffer, for example region of memory mapped file. Memory of such pointer is not managed by
+   * {@link OByteBufferPool} and should not be released. If passed in buffer is read-only, buffer returned by
+   * {@link #getNativeByteBuffer()} is read-only too.
+   *
+   * @param byteBuffer Direct buffer which is wrapped by this pointer.
+   */
+  public OPointer(final ByteBuffer byteBuffer) {
+    assert byteBuffer.isDirect();
+
+    this.pointer = MemoryIO.getInstance().getDirectBufferAddress(byteBuffer);
+    this.size = byteBuffer.capacity();
+    this.byteBuffer = byteBuffer.order(ByteOrder.nativeOrder());
+  }
+
   public void clear() {
     MemoryIO.getInstance().setMemory(pointer, size, (byte) 0);
   }
@@ -34,6 +54,14 @@ public final class OPointer {
     return size;
   }
 
+  ODirectMemoryAllocator.Intention getIntention() {
+    return intention;
+  }
+
+  void setIntention(ODirectMemoryAllocator.Intention intention) {
+    this.intention = intention;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -0,0 +1,101 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.common.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of non negative values with buckets which bounds are powers of two. Bucket with index <code>0</code>
+ * contains values which are equal to <code>0</code>, bucket with index <code>i &gt; 0</code> contains values in the range
+ * <code>[2<sup>i-1</sup>, 2<sup>i</sup>)</code>.
+ */
+public final class OPowerOfTwoHistogram {
+  private static final int BUCKETS = Long.SIZE;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder       count   = new LongAdder();
+  private final LongAdder       sum     = new LongAdder();
+
+  public void record(final long value) {
+    assert value >= 0;
+
+    buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+    count.increment();
+    sum.add(value);
+  }
+
+  /**
+   * @return Snapshot of amount of values in each bucket.
+   */
+  public long[] getBuckets() {
+    final long[] result = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      result[i] = buckets.get(i);
+    }
+
+    return result;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return Average of recorded values or <code>0</code> if there are no values.
+   */
+  public long getMean() {
+    final long cnt = count.sum();
+    if (cnt == 0) {
+      return 0;
+    }
+
+    return sum.sum() / cnt;
+  }
+
+  /**
+   * @return Upper bound of the bucket which contains requested percentile of recorded values, or <code>0</code> if there are no
+   * values.
+   */
+  public long getPercentile(final double percentile) {
+    final long[] snapshot = getBuckets();
+
+    long total = 0;
+    for (final long bucket : snapshot) {
+      total += bucket;
+    }
+
+    if (total == 0) {
+      return 0;
+    }
+
+    final long threshold = (long) Math.ceil(total * percentile / 100);
+    long accumulated = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      accumulated += snapshot[i];
+      if (accumulated >= threshold) {
+        return i == 0 ? 0 : (i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+      }
+    }
+
+    return Long.MAX_VALUE;
+  }
+}
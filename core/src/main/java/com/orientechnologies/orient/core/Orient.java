@@ -269,6 +269,10 @@ public class Orient extends OListenerManger<OOrientListener> {
 
       profiler = new OProfilerStub(false);
 
+      final ODirectMemoryAllocator allocator = ODirectMemoryAllocator.instance();
+      allocator.registerProfilerHooks(profiler);
+      allocator.registerMBean();
+
       shutdownHook = new OrientShutdownHook();
       if (signalHandler == null) {
         signalHandler = new OSignalHandler();
@@ -405,6 +409,7 @@ public class Orient extends OListenerManger<OOrientListener> {
 
       OByteBufferPool.instance(null).checkMemoryLeaks();
       ODirectMemoryAllocator.instance().checkMemoryLeaks();
+      ODirectMemoryAllocator.instance().unregisterMBean();
 
       OLogManager.instance().info(this, "OrientDB Engine shutdown complete");
       OLogManager.instance().flush();
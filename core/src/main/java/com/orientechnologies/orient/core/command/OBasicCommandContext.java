@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.core.command;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -48,6 +49,8 @@ public class OBasicCommandContext implements OCommandContext {
   protected Object[]  args;
 
   protected boolean recordMetrics = false;
+  protected boolean scanHint      = false;
+  protected Long    memoryBudget  = null;
   protected OCommandContext     parent;
   protected OCommandContext     child;
   protected Map<String, Object> variables;
@@ -299,6 +302,31 @@ public class OBasicCommandContext implements OCommandContext {
     return this;
   }
 
+  @Override
+  public boolean isScanHint() {
+    return scanHint || (parent != null && parent.isScanHint());
+  }
+
+  @Override
+  public OCommandContext setScanHint(final boolean scanHint) {
+    this.scanHint = scanHint;
+    return this;
+  }
+
+  @Override
+  public long getMemoryBudget() {
+    if (memoryBudget != null) {
+      return memoryBudget;
+    }
+    return parent != null ? parent.getMemoryBudget() : OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValueAsLong();
+  }
+
+  @Override
+  public OCommandContext setMemoryBudget(final long memoryBudget) {
+    this.memoryBudget = memoryBudget;
+    return this;
+  }
+
   @Override
   public void beginExecution(final long iTimeout, final TIMEOUT_STRATEGY iStrategy) {
     if (iTimeout > 0) {
@@ -335,6 +363,8 @@ public class OBasicCommandContext implements OCommandContext {
       copy.variables.putAll(variables);
 
     copy.recordMetrics = recordMetrics;
+    copy.scanHint = scanHint;
+    copy.memoryBudget = memoryBudget;
     copy.parent = parent;
     copy.child = child;
     return copy;
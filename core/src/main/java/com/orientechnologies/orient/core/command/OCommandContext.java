@@ -66,6 +66,26 @@ public interface OCommandContext {
 
   OCommandContext setRecordingMetrics(boolean recordMetrics);
 
+  /**
+   * @return <code>true</code> if command reads big amount of data and pages read by it should not displace hot pages from disk
+   * cache. Hint is inherited from the parent context.
+   *
+   * @see com.orientechnologies.orient.core.storage.cache.OCacheScanMode
+   */
+  boolean isScanHint();
+
+  OCommandContext setScanHint(boolean scanHint);
+
+  /**
+   * @return maximum amount of heap memory (in bytes) which can be used by a memory intensive operation of the command (eg.
+   * ORDER BY, DISTINCT or GROUP BY) before its intermediate results are moved to temporary files. If the budget is not set on
+   * the context, it is inherited from the parent context or taken from
+   * {@link com.orientechnologies.orient.core.config.OGlobalConfiguration#QUERY_MEMORY_BUDGET}.
+   */
+  long getMemoryBudget();
+
+  OCommandContext setMemoryBudget(long memoryBudget);
+
   void beginExecution(long timeoutMs, TIMEOUT_STRATEGY iStrategy);
 
   /**
@@ -92,6 +92,15 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "Limit of the pages cached inside of direct memory pool to avoid frequent reallocation of memory in OS", Integer.class,
       Integer.MAX_VALUE),
 
+  DIRECT_MEMORY_POOL_STRIPES("memory.pool.stripes",
+      "Amount of stripes of direct memory pool, each stripe keeps own list of free pages and is used by part of threads. "
+          + "Value is rounded up to the power of two, 0 means that amount of stripes is equal to amount of CPU cores",
+      Integer.class, 0),
+
+  DIRECT_MEMORY_POOL_BATCH_SIZE("memory.pool.batchSize",
+      "Amount of pages which are moved at once between stripe of direct memory pool and shared part of the pool",
+      Integer.class, 16),
+
   DIRECT_MEMORY_PREALLOCATE("memory.directMemory.preallocate",
       "Preallocate amount of direct memory which is needed for the disk cache", Boolean.class, true),
 
@@ -105,6 +114,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "Some architectures do not allow unaligned memory access or may suffer from speed degradation. For such platforms, this flag should be set to true",
       Boolean.class, true),
 
+  DIRECT_MEMORY_SOFT_BUDGETS("memory.directMemory.softBudgets",
+      "Soft limits of direct memory consumed by components of storage engine in format component=megabytes separated by commas, "
+          + "for example WRITE_CACHE=512,WAL=128. Supported components are PAGE_POOL, READ_CACHE, WRITE_CACHE, DOUBLE_WRITE_LOG, "
+          + "WAL, CLUSTER_POSITION_CACHE and OTHER. If write cache, WAL or double write log exceed their soft limit, start of new "
+          + "atomic operations is delayed to give a chance to background flush to release memory", String.class, ""),
+
+  DIRECT_MEMORY_HARD_BUDGETS("memory.directMemory.hardBudgets",
+      "Hard limits of direct memory consumed by components of storage engine in the same format as "
+          + "'memory.directMemory.softBudgets'. Allocation of direct memory which exceeds hard limit of component fails",
+      String.class, ""),
+
+  DIRECT_MEMORY_BACKPRESSURE_MAX_WAIT("memory.directMemory.backpressureMaxWait",
+      "Maximum time in milliseconds during which start of atomic operation is delayed if one of components exceeds "
+          + "its soft limit of direct memory", Integer.class, 100),
+
   @Deprecated JVM_GC_DELAY_FOR_OPTIMIZE("jvm.gc.delayForOptimize",
       "Minimal amount of time (in seconds), since the last System.gc(), when called after tree optimization", Long.class, 600),
 
@@ -130,6 +154,11 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       + "but if does not enough to contain all pinned pages exception will be thrown", Integer.class, 4 * 1024,
       new OCacheSizeChangeCallback()),
 
+  DISK_CACHE_READ_AHEAD_MAX_PAGES("storage.diskCache.readAheadMaxPages",
+      "Maximum amount of pages which are asynchronously prefetched into disk cache once sequential read of pages of the file "
+          + "is detected. Amount of prefetched pages starts from 4 and is doubled on each prefetch till this limit is reached. "
+          + "0 means that read-ahead is switched off", Integer.class, 64),
+
   DISK_WRITE_CACHE_PART("storage.diskCache.writeCachePart", "Percentage of disk cache, which is used as write cache", Integer.class,
       5),
 
@@ -153,6 +182,10 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   DISK_WRITE_CACHE_FLUSH_LOCK_TIMEOUT("storage.diskCache.writeCacheFlushLockTimeout",
       "Maximum amount of time the write cache will wait before a page flushes (in ms, -1 to disable)", Integer.class, -1),
 
+  DISK_WRITE_CACHE_MAX_FLUSH_EXTENT_SIZE("storage.diskCache.writeCacheMaxFlushExtentSize",
+      "Maximum size of continuous region of adjacent pages which is written to the data file by single write operation "
+          + "during flush of write cache (in kilobytes)", Integer.class, 4 * 1024),
+
   @Deprecated DISC_CACHE_FREE_SPACE_CHECK_INTERVAL("storage.diskCache.diskFreeSpaceCheckInterval",
       "The interval (in seconds), after which the storage periodically "
           + "checks whether the amount of free disk space is enough to work in write mode", Integer.class, 5),
@@ -166,11 +199,16 @@ public enum OGlobalConfiguration { // ENVIRONMENT
           + "checks whether the amount of free disk space is enough to work in write mode", Integer.class, 2048),
 
   /**
-   * Keep disk cache state between moment when storage is closed and moment when it is opened again. <code>true</code> by default.
+   * Keep disk cache state between moment when storage is closed and moment when it is opened again. <code>false</code> by default.
    */
   STORAGE_KEEP_DISK_CACHE_STATE("storage.diskCache.keepState",
-      "Keep disk cache state between moment when storage is closed and moment when it is opened again. true by default",
-      Boolean.class, false),
+      "Keep disk cache state between moment when storage is closed and moment when it is opened again. Keys of hot pages are "
+          + "periodically stored in the storage directory and pages are loaded back in background once storage is opened. "
+          + "false by default", Boolean.class, false),
+
+  STORAGE_KEEP_DISK_CACHE_STATE_INTERVAL("storage.diskCache.keepStateInterval",
+      "Interval (in seconds) between stores of disk cache state if storage.diskCache.keepState is switched on, state is also "
+          + "stored when storage is closed", Integer.class, 300),
 
   STORAGE_CHECKSUM_MODE("storage.diskCache.checksumMode", "Controls the per-page checksum storage and verification done by "
       + "the file cache. Possible modes: 'off' – checksums are completely off; 'store' – checksums are calculated and stored "
@@ -244,6 +282,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   STORAGE_CLUSTER_VERSION("storage.cluster.version", "Binary version of cluster which will be used inside of storage",
       Integer.class, OPaginatedCluster.getLatestBinaryVersion()),
 
+  STORAGE_CLUSTER_POSITION_CACHE_SIZE("storage.cluster.positionCacheSize",
+      "Size in KB of off-heap cache of positions of records per cluster, which allows to read records without lookup in "
+          + "cluster position map. 0 means that cache is disabled", Integer.class, 0),
+
+  STORAGE_CLUSTER_IN_PLACE_UPDATE("storage.cluster.inPlaceUpdate",
+      "Update records which keep their size in place, writing to the page and WAL only bytes which were changed instead of "
+          + "the whole record", Boolean.class, true),
+
   STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS("storage.printWALPerformanceStatistics",
       "Periodically prints statistics about WAL performance", Boolean.class, false),
 
@@ -263,6 +309,11 @@ public enum OGlobalConfiguration { // ENVIRONMENT
 
   USE_WAL("storage.useWAL", "Whether WAL should be used in paginated storage", Boolean.class, true),
 
+  STORAGE_OPEN_MEMORY_MAPPED_READ_ONLY("storage.openMemoryMappedReadOnly",
+      "Opens disk based storage in read-only mode. Data files are mapped into memory and pages are served directly from the "
+          + "mapped regions bypassing disk cache, WAL is not opened and any modification operations are prohibited. "
+          + "Storage should be closed properly before it is opened in this mode", Boolean.class, false),
+
   @Deprecated USE_CHM_CACHE("storage.useCHMCache",
       "Whether to use new disk cache implementation based on CHM or old one based on cuncurrent queues", Boolean.class, true),
 
@@ -288,6 +339,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
 
   WAL_MAX_SEGMENT_SIZE("storage.wal.maxSegmentSize", "Maximum size of single WAL segment (in megabytes)", Integer.class, -1),
 
+  WAL_SEGMENT_COMPRESSION("storage.wal.segmentCompression",
+      "Compression method which is used to compress WAL segments in background once they are not active any more, "
+          + "for example segments which are retained for incremental backup. Compressed segments are read transparently. "
+          + "Segments of encrypted WAL are not compressed. Possible values : gzip, nothing. Default is 'nothing' that means no "
+          + "compression", String.class, "nothing"),
+
   WAL_MAX_SEGMENT_SIZE_PERCENT("storage.wal.maxSegmentSizePercent",
       "Maximum size of single WAL segment in percent of initial free space", Integer.class, 5),
 
@@ -300,6 +357,15 @@ public enum OGlobalConfiguration { // ENVIRONMENT
 
   WAL_COMMIT_TIMEOUT("storage.wal.commitTimeout", "Maximum interval between WAL commits (in ms.)", Integer.class, 1000),
 
+  WAL_SYNC_ON_COMMIT("storage.wal.syncOnCommit", "Makes transaction durable once commit is completed, WAL is forced to the disk "
+      + "before commit returns. Commits of concurrent transactions are grouped and share single flush of WAL", Boolean.class, false),
+
+  WAL_GROUP_COMMIT_WINDOW("storage.wal.groupCommitWindow", "Maximum time (in microseconds) which WAL flusher waits for other "
+      + "commits to join the group once first commit is registered, if storage.wal.syncOnCommit is true", Integer.class, 200),
+
+  WAL_GROUP_COMMIT_MAX_BATCH("storage.wal.groupCommitMaxBatch", "Amount of pending commits which causes WAL flush before group "
+      + "commit window is over, if storage.wal.syncOnCommit is true", Integer.class, 64),
+
   WAL_SHUTDOWN_TIMEOUT("storage.wal.shutdownTimeout", "Maximum wait interval between events, when the background flush thread"
       + "receives a shutdown command and when the background flush will be stopped (in ms.)", Integer.class, 10000),
 
@@ -310,6 +376,11 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "Amount of processed log operations, after which status of data restore procedure will be printed (0 or a negative value, disables the logging)",
       Integer.class, 10000),
 
+  WAL_RESTORE_THREADS("storage.wal.restoreThreads",
+      "Amount of threads which apply changes of pages during restore of data from WAL after crash. Changes of each page are applied "
+          + "in the same order as they were logged. If value is less than 2, changes are applied sequentially by the thread which "
+          + "opens the storage", Integer.class, Math.min(8, Runtime.getRuntime().availableProcessors())),
+
   WAL_RESTORE_BATCH_SIZE("storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure", Integer.class, 1000),
 
@@ -466,6 +537,10 @@ public enum OGlobalConfiguration { // ENVIRONMENT
 
   INDEX_CURSOR_PREFETCH_SIZE("index.cursor.prefetchSize", "Default prefetch size of index cursor", Integer.class, 10000),
 
+  INDEX_STATISTICS_HISTOGRAM_BUCKETS("index.statistics.histogramBuckets",
+      "Amount of buckets in the histogram of the leading key field which is gathered by ANALYZE INDEX command and used by query "
+          + "planner to estimate selectivity of index lookups", Integer.class, 100),
+
   // SBTREE
   SBTREE_MAX_DEPTH("sbtree.maxDepth",
       "Maximum depth of sbtree, which will be traversed during key look up until it will be treated as broken (64 by default)",
@@ -706,6 +781,26 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       "Size of the queue that holds results on parallel execution. The queue is blocking, so in case the queue is full, the query threads will be in a wait state",
       Integer.class, 20000),
 
+  QUERY_PARALLEL_SUB_PLANS("query.parallelSubPlans",
+      "Execute independent sub-plans of a query (fetch from each subclass, each index lookup of OR conditions) concurrently on the shared query thread pool",
+      Boolean.class, true),
+
+  QUERY_PARALLEL_POOL_SIZE("query.parallelPoolSize",
+      "Amount of threads in the pool shared by all databases which is used to execute sub-plans of queries concurrently",
+      Integer.class, Runtime.getRuntime().availableProcessors()),
+
+  QUERY_PARALLEL_MAX_THREADS_PER_DATABASE("query.parallelMaxThreadsPerDatabase",
+      "Maximum amount of threads of the shared query thread pool which may be used by a single database at the same time",
+      Integer.class, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+
+  QUERY_PARALLEL_AGGREGATION("query.parallelAggregation",
+      "Aggregate records of each cluster of the class separately and concurrently and then merge partial results, if all the aggregate functions of the query allow it",
+      Boolean.class, true),
+
+  QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS("query.parallelAggregationMinimumRecords",
+      "Minimum number of records in the clusters of the class to aggregate them in parallel, smaller classes are aggregated by a single thread",
+      Long.class, 100000),
+
   QUERY_SCAN_PREFETCH_PAGES("query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
       Integer.class, 20),
@@ -728,6 +823,12 @@ public enum OGlobalConfiguration { // ENVIRONMENT
           + "This setting is intended as a safety measure against excessive resource consumption from a single query (eg. prevent OutOfMemory)",
       Long.class, 500_000),
 
+  QUERY_MEMORY_BUDGET("query.memoryBudget",
+      "Maximum amount of heap memory (in bytes) which can be used by a memory-intensive operation of a query (eg. ORDER BY without LIMIT, "
+          + "DISTINCT or GROUP BY). If exceeded, intermediate results are moved to temporary files. Zero or negative number disables "
+          + "usage of temporary files. Can be overridden for a single SELECT statement by MEMORY <bytes> clause",
+      Long.class, 32L * 1024 * 1024),
+
   QUERY_LIVE_SUPPORT("query.live.support", "Enable/Disable the support of live query. (Use false to disable)", Boolean.class, true),
 
   STATEMENT_CACHE_SIZE("statement.cacheSize", "Number of parsed SQL statements kept in cache. Zero means cache disabled",
@@ -969,6 +1070,17 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   DB_DOCUMENT_SERIALIZER("db.document.serializer", "The default record serializer used by the document database", String.class,
       ORecordSerializerBinary.NAME),
 
+  DB_DOCUMENT_SERIALIZER_FIXED_LAYOUT("db.document.serializer.fixedLayout",
+      "Serialize documents of strict mode classes, which contain only declared properties, with fixed offset layout of fields. "
+          + "Records stored with this layout can not be read by older versions of OrientDB", Boolean.class, false),
+
+  DB_DOCUMENT_SERIALIZER_POOL_MAX_BUFFER_SIZE("db.document.serializer.pool.maxBufferSize",
+      "Maximum size in bytes of serialization buffers which are kept in thread local pool and reused by next serializations, "
+          + "bigger buffers are left to garbage collector. Set 0 to disable pooling", Integer.class, 256 * 1024),
+
+  DB_DOCUMENT_SERIALIZER_POOL_BUFFERS_PER_SIZE("db.document.serializer.pool.buffersPerSize",
+      "Maximum amount of serialization buffers of the same size which are kept in thread local pool", Integer.class, 4),
+
   /**
    * @Since 2.2
    */
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.db;
 import com.orientechnologies.orient.core.OOrientListenerAbstract;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.storage.cache.OCacheScanMode;
 
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -78,11 +79,13 @@ public class ODatabaseRecordThreadLocal extends ThreadLocal<ODatabaseDocumentInt
   @Override
   public void remove() {
     super.remove();
+    OCacheScanMode.setSessionHint(false);
   }
 
   @Override
   public void set(final ODatabaseDocumentInternal value) {
     super.set(value);
+    OCacheScanMode.setSessionHint(value != null && value.isScanHint());
   }
 
   public ODatabaseDocumentInternal getIfDefined() {
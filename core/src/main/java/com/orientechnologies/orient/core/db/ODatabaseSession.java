@@ -25,4 +25,21 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
  * Session for database operations with a specific user.
  */
 public interface ODatabaseSession extends ODatabaseDocument {
+  /**
+   * Hints disk cache that session is going to read big amount of data once, for example during export or full scan of classes,
+   * so pages read by this session should not displace frequently used pages from the cache. Hint is not propagated to the server
+   * in case of remote database.
+   *
+   * @param scanHint <code>true</code> to switch scan mode on, <code>false</code> to switch it off.
+   *
+   * @see com.orientechnologies.orient.core.storage.cache.OCacheScanMode
+   */
+  void setScanHint(boolean scanHint);
+
+  /**
+   * @return <code>true</code> if session reads pages in scan mode.
+   *
+   * @see #setScanHint(boolean)
+   */
+  boolean isScanHint();
 }
@@ -58,6 +58,7 @@ import com.orientechnologies.orient.core.serialization.serializer.record.ORecord
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializerFactory;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.storage.*;
+import com.orientechnologies.orient.core.storage.cache.OCacheScanMode;
 import com.orientechnologies.orient.core.storage.impl.local.OFreezableStorageComponent;
 import com.orientechnologies.orient.core.storage.impl.local.OMicroTransaction;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OBonsaiCollectionPointer;
@@ -100,6 +101,7 @@ public abstract class ODatabaseDocumentAbstract extends OListenerManger<ODatabas
   protected       OSharedContext  sharedContext;
 
   private boolean prefetchRecords;
+  private boolean scanHint;
 
   protected OMicroTransaction microTransaction = null;
 
@@ -1119,6 +1121,20 @@ public abstract class ODatabaseDocumentAbstract extends OListenerManger<ODatabas
     return prefetchRecords;
   }
 
+  @Override
+  public void setScanHint(final boolean scanHint) {
+    this.scanHint = scanHint;
+
+    if (isActiveOnCurrentThread()) {
+      OCacheScanMode.setSessionHint(scanHint);
+    }
+  }
+
+  @Override
+  public boolean isScanHint() {
+    return scanHint;
+  }
+
   /**
    * This method is internal, it can be subject to signature change or be removed, do not use.
    *
@@ -1422,6 +1422,18 @@ public class ODatabaseDocumentTx implements ODatabaseDocumentInternal {
     internal.setPrefetchRecords(prefetchRecords);
   }
 
+  @Override
+  public void setScanHint(boolean scanHint) {
+    checkOpenness();
+    internal.setScanHint(scanHint);
+  }
+
+  @Override
+  public boolean isScanHint() {
+    //called on activation of the database on current thread, so instance may be not opened yet
+    return internal != null && internal.isScanHint();
+  }
+
   public void checkForClusterPermissions(String name) {
     checkOpenness();
     internal.checkForClusterPermissions(name);
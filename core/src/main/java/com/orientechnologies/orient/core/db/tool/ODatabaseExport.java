@@ -40,6 +40,7 @@ import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.cache.OCacheScanMode;
 import com.orientechnologies.orient.core.serialization.serializer.OJSONWriter;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 
@@ -124,8 +125,15 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
         exportClusters();
       if (includeSchema)
         exportSchema();
-      if (includeRecords)
-        exportRecords();
+      if (includeRecords) {
+        //records are read only once, so they should not displace hot pages from disk cache
+        OCacheScanMode.enter();
+        try {
+          exportRecords();
+        } finally {
+          OCacheScanMode.exit();
+        }
+      }
       if (includeIndexDefinitions)
         exportIndexDefinitions();
       if (includeManualIndexes)
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.engine.local;
 
 import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
@@ -87,7 +88,7 @@ public class OEngineLocalPaginated extends OEngineAbstract {
       final List<OPointer> pages = new ArrayList<>(pageCount);
 
       for (int i = 0; i < pageCount; i++) {
-        pages.add(bufferPool.acquireDirect(false));
+        pages.add(bufferPool.acquireDirect(false, Intention.PAGE_POOL));
       }
 
       for (final OPointer pointer : pages) {
@@ -97,7 +98,8 @@ public class OEngineLocalPaginated extends OEngineAbstract {
       pages.clear();
     }
 
-    readCache = new AsyncReadCache(OByteBufferPool.instance(null), diskCacheSize, pageSize, false);
+    readCache = new AsyncReadCache(OByteBufferPool.instance(null), diskCacheSize, pageSize, false,
+        OGlobalConfiguration.DISK_CACHE_READ_AHEAD_MAX_PAGES.getValueAsInteger());
 
   }
 
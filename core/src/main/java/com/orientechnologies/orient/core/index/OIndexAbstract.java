@@ -39,6 +39,7 @@ import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.cache.OCacheScanMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
@@ -82,6 +83,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
   private          String              algorithm;
   private volatile OIndexDefinition    indexDefinition;
   private volatile boolean             rebuilding       = false;
+  private volatile OIndexStatistics    statistics;
   private          Map<String, String> engineProperties = new HashMap<>();
   protected final  int                 binaryFormatVersion;
 
@@ -273,6 +275,9 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
       algorithm = indexMetadata.getAlgorithm();
       valueContainerAlgorithm = indexMetadata.getValueContainerAlgorithm();
 
+      final ODocument statisticsConfig = config.field(OIndexInternal.STATISTICS);
+      statistics = statisticsConfig == null ? null : OIndexStatistics.fromDocument(statisticsConfig);
+
       try {
         indexId = storage.loadIndexEngine(name);
         apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
@@ -443,6 +448,8 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     }
 
     acquireSharedLock();
+    //records of indexed clusters are read only once during rebuild, so they should not displace hot pages from disk cache
+    OCacheScanMode.enter();
     try {
       documentIndexed = fillIndex(iProgressListener, true);
     } catch (final Exception e) {
@@ -457,6 +464,7 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
 
       throw OException.wrapException(new OIndexException("Error on rebuilding the index for clusters: " + clustersToIndex), e);
     } finally {
+      OCacheScanMode.exit();
       rebuilding = false;
 
       if (intentInstalled)
@@ -673,9 +681,49 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
     configuration.updateConfiguration(type, name, version, indexDefinition, clustersToIndex, algorithm, valueContainerAlgorithm);
     if (metadata != null)
       configuration.document.field(OIndexInternal.METADATA, metadata, OType.EMBEDDED);
+
+    final OIndexStatistics statistics = this.statistics;
+    if (statistics != null)
+      configuration.document.field(OIndexInternal.STATISTICS, statistics.toDocument(), OType.EMBEDDED);
+    else
+      configuration.document.removeField(OIndexInternal.STATISTICS);
     return configuration.getDocument();
   }
 
+  @Override
+  public OIndexStatistics analyze() {
+    final OIndexStatistics result;
+    if (supportsOrderedIterations()) {
+      final OIndexStatistics.Builder builder = new OIndexStatistics.Builder(getSize(),
+          OGlobalConfiguration.INDEX_STATISTICS_HISTOGRAM_BUCKETS.getValueAsInteger());
+
+      //keys are iterated instead of entries, cursors of multi value indexes do not return all the values of big keys
+      final OIndexKeyCursor cursor = keyCursor();
+      Object key;
+      while ((key = cursor.next(-1)) != null) {
+        final Object value = get(key);
+        if (value instanceof Collection) {
+          builder.add(key, ((Collection<?>) value).size());
+        } else if (value != null) {
+          builder.add(key);
+        }
+      }
+
+      result = builder.build();
+    } else {
+      result = new OIndexStatistics(getSize(), getKeySize());
+    }
+
+    statistics = result;
+    updateConfiguration();
+    return result;
+  }
+
+  @Override
+  public OIndexStatistics getStatistics() {
+    return statistics;
+  }
+
   public void addTxOperation(IndexTxSnapshot snapshots, final OTransactionIndexChanges changes) {
     acquireSharedLock();
     try {
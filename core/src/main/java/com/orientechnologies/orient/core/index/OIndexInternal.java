@@ -55,6 +55,7 @@ public interface OIndexInternal<T> extends OIndex<T> {
   String INDEX_DEFINITION_CLASS    = "indexDefinitionClass";
   String INDEX_VERSION             = "indexVersion";
   String METADATA                  = "metadata";
+  String STATISTICS                = "statistics";
 
   Object getCollatingValue(final Object key);
 
@@ -140,6 +141,20 @@ public interface OIndexInternal<T> extends OIndex<T> {
    */
   boolean acquireAtomicExclusiveLock(Object key);
 
+  /**
+   * Scans the index and gathers statistics of its key distribution. Gathered statistics replace the previous ones and are stored in
+   * the index configuration.
+   *
+   * @return gathered statistics.
+   * @see OIndexStatistics
+   */
+  OIndexStatistics analyze();
+
+  /**
+   * @return statistics gathered by the last call of {@link #analyze()} or <code>null</code> if the index was never analyzed.
+   */
+  OIndexStatistics getStatistics();
+
 
   static OIdentifiable securityFilterOnRead(OIndex idx, OIdentifiable item) {
     if (idx.getDefinition() == null) {
@@ -225,6 +225,26 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
     save();
   }
 
+  /**
+   * Gathers statistics of key distribution of the index and stores them in the index configuration.
+   *
+   * @param indexName name of index.
+   *
+   * @return gathered statistics.
+   */
+  public OIndexStatistics analyzeIndex(final String indexName) {
+    final OIndex<?> index = indexes.get(indexName);
+    if (index == null)
+      throw new OIndexException("Index with name " + indexName + " does not exist.");
+
+    if (index.getInternal() == null)
+      throw new OIndexException("Index with name " + indexName + " has no internal presentation.");
+
+    final OIndexStatistics statistics = index.getInternal().analyze();
+    save();
+    return statistics;
+  }
+
   public boolean existsIndex(final String iName) {
     return indexes.containsKey(iName);
   }
@@ -0,0 +1,445 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Statistics of the key distribution of an index, they are gathered by {@link OIndexInternal#analyze()} and stored in the index
+ * configuration, so they survive database restarts.
+ * <p>
+ * Statistics contain total amount of index entries, amount of distinct keys and, for indexes which support ordered iterations,
+ * equi-depth histogram of the leading key field. Each bucket of histogram is described by its upper bound, amount of entries equal
+ * to the upper bound and amount and distinct count of entries which lay between upper bounds of previous and current buckets.
+ * <p>
+ * Estimations are returned as a fraction of the index entries, caller multiplies them by {@link #getKeyCount()}. Size of the index
+ * is not used for that on purpose, for not unique indexes it is calculated by iteration over all the index entries.
+ */
+public final class OIndexStatistics {
+  private static final String KEY_COUNT      = "keyCount";
+  private static final String DISTINCT_COUNT = "distinctCount";
+  private static final String BOUNDS         = "bounds";
+  private static final String EQUAL_ROWS     = "equalRows";
+  private static final String RANGE_ROWS     = "rangeRows";
+  private static final String RANGE_DISTINCT = "rangeDistinct";
+
+  private final long     keyCount;
+  private final long     distinctCount;
+  private final Object[] bounds;
+  private final long[]   equalRows;
+  private final long[]   rangeRows;
+  private final long[]   rangeDistinct;
+
+  public OIndexStatistics(final long keyCount, final long distinctCount) {
+    this(keyCount, distinctCount, new Object[0], new long[0], new long[0], new long[0]);
+  }
+
+  private OIndexStatistics(final long keyCount, final long distinctCount, final Object[] bounds, final long[] equalRows,
+      final long[] rangeRows, final long[] rangeDistinct) {
+    this.keyCount = keyCount;
+    this.distinctCount = distinctCount;
+    this.bounds = bounds;
+    this.equalRows = equalRows;
+    this.rangeRows = rangeRows;
+    this.rangeDistinct = rangeDistinct;
+  }
+
+  /**
+   * @return amount of index entries at the moment of analysis
+   */
+  public long getKeyCount() {
+    return keyCount;
+  }
+
+  /**
+   * @return amount of distinct keys at the moment of analysis
+   */
+  public long getDistinctCount() {
+    return distinctCount;
+  }
+
+  /**
+   * @return amount of buckets in histogram of leading key field, zero if histogram is not available
+   */
+  public int getBucketsCount() {
+    return bounds.length;
+  }
+
+  /**
+   * @return fraction of index entries which are returned by lookup of single full key
+   */
+  public double fullKeySelectivity() {
+    if (keyCount == 0 || distinctCount == 0) {
+      return 0;
+    }
+
+    return 1.0 / distinctCount;
+  }
+
+  /**
+   * Estimates fraction of index entries which leading key field is equal to the passed in value.
+   *
+   * @param value value of leading key field converted to the key type, see {@link #toLeadingKey(OIndexDefinition, Object)}
+   *
+   * @return estimated fraction of entries or -1 if estimation is not possible
+   */
+  public double equalsSelectivity(final Object value) {
+    if (keyCount == 0) {
+      return 0;
+    }
+    if (bounds.length == 0 || value == null) {
+      return -1;
+    }
+
+    final int bucket = findBucket(value);
+    if (bucket == bounds.length) {
+      return 0;
+    }
+
+    if (compare(bounds[bucket], value) == 0) {
+      return (double) equalRows[bucket] / keyCount;
+    }
+
+    if (rangeDistinct[bucket] == 0) {
+      return 0;
+    }
+
+    return (double) rangeRows[bucket] / rangeDistinct[bucket] / keyCount;
+  }
+
+  /**
+   * Estimates fraction of index entries which leading key field lays between passed in values.
+   *
+   * @param from          lower bound converted to the key type or <code>null</code> if range is not bounded from below
+   * @param fromInclusive whether lower bound is included in range
+   * @param to            upper bound converted to the key type or <code>null</code> if range is not bounded from above
+   * @param toInclusive   whether upper bound is included in range
+   *
+   * @return estimated fraction of entries or -1 if estimation is not possible
+   */
+  public double rangeSelectivity(final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+    if (keyCount == 0) {
+      return 0;
+    }
+    if (bounds.length == 0) {
+      return -1;
+    }
+
+    double rows = 0;
+    Object lower = null;
+    for (int i = 0; i < bounds.length; i++) {
+      final Object upper = bounds[i];
+
+      if (rangeRows[i] > 0) {
+        rows += rangeRows[i] * overlap(lower, upper, from, to);
+      }
+
+      if (inRange(upper, from, fromInclusive, to, toInclusive)) {
+        rows += equalRows[i];
+      }
+
+      lower = upper;
+    }
+
+    return rows / keyCount;
+  }
+
+  /**
+   * Converts value used in query condition to the form in which leading key field is stored in the index, so it may be passed to
+   * the estimation methods.
+   *
+   * @return converted value or <code>null</code> if value can not be converted to the key type
+   */
+  public static Object toLeadingKey(final OIndexDefinition definition, Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    final OType[] types = definition.getTypes();
+    if (types.length > 0 && types[0] != null && types[0].getDefaultJavaType() != null) {
+      final Class<?> keyClass = types[0].getDefaultJavaType();
+      try {
+        value = OType.convert(value, keyClass);
+      } catch (RuntimeException ignore) {
+        return null;
+      }
+
+      if (!keyClass.isInstance(value)) {
+        return null;
+      }
+    }
+
+    OCollate collate = definition.getCollate();
+    if (collate instanceof OCompositeCollate) {
+      final List<OCollate> collates = ((OCompositeCollate) collate).getCollates();
+      collate = collates.isEmpty() ? null : collates.get(0);
+    }
+
+    return collate == null ? value : collate.transform(value);
+  }
+
+  public ODocument toDocument() {
+    final ODocument document = new ODocument().setTrackingChanges(false);
+    document.field(KEY_COUNT, keyCount);
+    document.field(DISTINCT_COUNT, distinctCount);
+    document.field(BOUNDS, new ArrayList<>(Arrays.asList(bounds)), OType.EMBEDDEDLIST);
+    document.field(EQUAL_ROWS, toList(equalRows), OType.EMBEDDEDLIST);
+    document.field(RANGE_ROWS, toList(rangeRows), OType.EMBEDDEDLIST);
+    document.field(RANGE_DISTINCT, toList(rangeDistinct), OType.EMBEDDEDLIST);
+    return document;
+  }
+
+  public static OIndexStatistics fromDocument(final ODocument document) {
+    final Number keyCount = document.field(KEY_COUNT);
+    final Number distinctCount = document.field(DISTINCT_COUNT);
+    if (keyCount == null || distinctCount == null) {
+      return null;
+    }
+
+    final List<Object> bounds = document.field(BOUNDS);
+    final List<Number> equalRows = document.field(EQUAL_ROWS);
+    final List<Number> rangeRows = document.field(RANGE_ROWS);
+    final List<Number> rangeDistinct = document.field(RANGE_DISTINCT);
+    if (bounds == null || equalRows == null || rangeRows == null || rangeDistinct == null || equalRows.size() != bounds.size()
+        || rangeRows.size() != bounds.size() || rangeDistinct.size() != bounds.size()) {
+      return new OIndexStatistics(keyCount.longValue(), distinctCount.longValue());
+    }
+
+    return new OIndexStatistics(keyCount.longValue(), distinctCount.longValue(), bounds.toArray(), toArray(equalRows),
+        toArray(rangeRows), toArray(rangeDistinct));
+  }
+
+  @Override
+  public String toString() {
+    return "OIndexStatistics{keyCount=" + keyCount + ", distinctCount=" + distinctCount + ", buckets=" + bounds.length + '}';
+  }
+
+  private int findBucket(final Object value) {
+    int low = 0;
+    int high = bounds.length - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (compare(bounds[mid], value) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * @return fraction of the open interval <code>(lower, upper)</code> which is covered by the requested range
+   */
+  private static double overlap(final Object lower, final Object upper, final Object from, final Object to) {
+    if (to != null && lower != null && compare(to, lower) <= 0) {
+      return 0;
+    }
+    if (from != null && compare(from, upper) >= 0) {
+      return 0;
+    }
+
+    final boolean fromCovered = from == null || (lower != null && compare(from, lower) <= 0);
+    final boolean toCovered = to == null || compare(to, upper) >= 0;
+    if (fromCovered && toCovered) {
+      return 1;
+    }
+
+    final double lowerValue = toDouble(lower);
+    final double upperValue = toDouble(upper);
+    if (Double.isNaN(lowerValue) || Double.isNaN(upperValue) || upperValue <= lowerValue) {
+      return 0.5;
+    }
+
+    final double start = fromCovered ? lowerValue : Math.max(lowerValue, toDouble(from));
+    final double end = toCovered ? upperValue : Math.min(upperValue, toDouble(to));
+    if (Double.isNaN(start) || Double.isNaN(end)) {
+      return 0.5;
+    }
+
+    return Math.max(0, end - start) / (upperValue - lowerValue);
+  }
+
+  private static boolean inRange(final Object value, final Object from, final boolean fromInclusive, final Object to,
+      final boolean toInclusive) {
+    if (from != null) {
+      final int cmp = compare(value, from);
+      if (cmp < 0 || (cmp == 0 && !fromInclusive)) {
+        return false;
+      }
+    }
+
+    if (to != null) {
+      final int cmp = compare(value, to);
+      return cmp < 0 || (cmp == 0 && toInclusive);
+    }
+
+    return true;
+  }
+
+  private static double toDouble(final Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Date) {
+      return ((Date) value).getTime();
+    }
+    return Double.NaN;
+  }
+
+  private static int compare(final Object first, final Object second) {
+    return ODefaultComparator.INSTANCE.compare(first, second);
+  }
+
+  private static List<Long> toList(final long[] values) {
+    final List<Long> result = new ArrayList<>(values.length);
+    for (final long value : values) {
+      result.add(value);
+    }
+    return result;
+  }
+
+  private static long[] toArray(final List<Number> values) {
+    final long[] result = new long[values.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values.get(i).longValue();
+    }
+    return result;
+  }
+
+  /**
+   * Gathers statistics from the keys of the index which are passed in ascending order.
+   */
+  public static final class Builder {
+    private final long depth;
+
+    private final List<Object> bounds        = new ArrayList<>();
+    private final List<Long>   equalRows     = new ArrayList<>();
+    private final List<Long>   rangeRows     = new ArrayList<>();
+    private final List<Long>   rangeDistinct = new ArrayList<>();
+
+    private long keyCount;
+    private long distinctCount;
+
+    private Object lastKey;
+    private Object leadingValue;
+    private long   leadingValueRows;
+    private long   bucketRangeRows;
+    private long   bucketRangeDistinct;
+
+    /**
+     * @param expectedSize expected amount of index entries, used to calculate depth of histogram buckets
+     * @param buckets      desired amount of histogram buckets
+     */
+    public Builder(final long expectedSize, final int buckets) {
+      this.depth = Math.max(1, expectedSize / Math.max(1, buckets));
+    }
+
+    public void add(final Object key) {
+      add(key, 1);
+    }
+
+    /**
+     * Adds key which is mapped to several index entries, keys have to be added in ascending order.
+     *
+     * @param key  index key
+     * @param rows amount of index entries mapped to the key
+     */
+    public void add(final Object key, final long rows) {
+      if (rows <= 0) {
+        return;
+      }
+
+      if (keyCount == 0 || compare(lastKey, key) != 0) {
+        distinctCount++;
+      }
+      keyCount += rows;
+      lastKey = key;
+
+      final Object leading = key instanceof OCompositeKey ? leadingOf((OCompositeKey) key) : key;
+      if (leading == null) {
+        return;
+      }
+
+      if (leadingValue != null && compare(leadingValue, leading) == 0) {
+        leadingValueRows += rows;
+        return;
+      }
+
+      if (leadingValue != null) {
+        if (bucketRangeRows + leadingValueRows >= depth) {
+          closeBucket();
+        } else {
+          bucketRangeRows += leadingValueRows;
+          bucketRangeDistinct++;
+        }
+      }
+
+      leadingValue = leading;
+      leadingValueRows = rows;
+    }
+
+    public OIndexStatistics build() {
+      if (leadingValue != null) {
+        closeBucket();
+      }
+
+      final long[] equal = new long[bounds.size()];
+      final long[] range = new long[bounds.size()];
+      final long[] distinct = new long[bounds.size()];
+      for (int i = 0; i < equal.length; i++) {
+        equal[i] = equalRows.get(i);
+        range[i] = rangeRows.get(i);
+        distinct[i] = rangeDistinct.get(i);
+      }
+
+      return new OIndexStatistics(keyCount, distinctCount, bounds.toArray(), equal, range, distinct);
+    }
+
+    private void closeBucket() {
+      bounds.add(leadingValue);
+      equalRows.add(leadingValueRows);
+      rangeRows.add(bucketRangeRows);
+      rangeDistinct.add(bucketRangeDistinct);
+
+      leadingValue = null;
+      leadingValueRows = 0;
+      bucketRangeRows = 0;
+      bucketRangeDistinct = 0;
+    }
+
+    private static Object leadingOf(final OCompositeKey key) {
+      final List<Object> keys = key.getKeys();
+      return keys.isEmpty() ? null : keys.get(0);
+    }
+  }
+}
@@ -361,7 +361,7 @@ public abstract class OClassImpl implements OClass {
     }
   }
 
-  private void propertiesMap(Map<String, OProperty> propertiesMap) {
+  void propertiesMap(Map<String, OProperty> propertiesMap) {
     for (OProperty p : properties.values()) {
       String propName = p.getName();
       if (!propertiesMap.containsKey(propName))
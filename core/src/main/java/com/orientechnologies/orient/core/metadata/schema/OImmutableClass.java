@@ -89,6 +89,7 @@ public class OImmutableClass implements OClass {
   private       boolean                     orole;
   private       OIndex<?>                   autoShardingIndex;
   private       HashSet<OIndex<?>>          indexes;
+  private       ORecordLayout               recordLayout;
 
   public OImmutableClass(final OClass oClass, final OImmutableSchema schema) {
     isAbstract = oClass.isAbstract();
@@ -156,6 +157,7 @@ public class OImmutableClass implements OClass {
       this.orole = isSubClassOf(ORole.CLASS_NAME);
       this.indexes = new HashSet<>();
       getRawIndexes(indexes);
+      this.recordLayout = strictMode ? schema.findRecordLayout(allPropertiesMap.values()) : null;
 
       final ODatabaseDocumentInternal db = getDatabase();
       if (db != null && db.getMetadata() != null && db.getMetadata().getIndexManagerInternal() != null) {
@@ -262,6 +264,14 @@ public class OImmutableClass implements OClass {
     return allPropertiesMap;
   }
 
+  /**
+   * @return layout of records of this class or <code>null</code> if class is not in strict mode or its layout is not registered
+   * yet, in such case records are serialized with layout which contains names of fields.
+   */
+  public ORecordLayout getRecordLayout() {
+    return recordLayout;
+  }
+
   public void getIndexedProperties(Collection<OProperty> indexedProperties) {
     for (OProperty p : properties.values())
       if (areIndexed(p.getName()))
@@ -47,6 +47,7 @@ public class OImmutableSchema implements OSchema {
   public final  int                      version;
   private final ORID                     identity;
   private final List<OGlobalProperty>    properties;
+  private final List<ORecordLayout>      recordLayouts;
   private final OClusterSelectionFactory clusterSelectionFactory;
 
   public OImmutableSchema(OSchemaShared schemaShared, ODatabaseDocumentInternal database) {
@@ -74,6 +75,7 @@ public class OImmutableSchema implements OSchema {
     properties = new ArrayList<OGlobalProperty>();
     for (OGlobalProperty globalProperty : schemaShared.getGlobalProperties())
       properties.add(globalProperty);
+    recordLayouts = new ArrayList<ORecordLayout>(schemaShared.getRecordLayouts());
 
     for (OClass cl : classes.values()) {
       ((OImmutableClass) cl).init();
@@ -265,6 +267,20 @@ public class OImmutableSchema implements OSchema {
     return properties.get(id);
   }
 
+  /**
+   * @return layout of records of strict mode classes with passed in id or <code>null</code> if layout is not registered in this
+   * snapshot of schema.
+   */
+  public ORecordLayout getRecordLayout(int id) {
+    if (id < 0 || id >= recordLayouts.size())
+      return null;
+    return recordLayouts.get(id);
+  }
+
+  ORecordLayout findRecordLayout(Collection<OProperty> classProperties) {
+    return OSchemaShared.findRecordLayout(recordLayouts, ORecordLayout.globalIdsOf(classProperties));
+  }
+
   @Override
   public List<OGlobalProperty> getGlobalProperties() {
     return Collections.unmodifiableList(properties);
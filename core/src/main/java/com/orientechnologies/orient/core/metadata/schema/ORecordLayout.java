@@ -0,0 +1,192 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.metadata.schema;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.orient.core.exception.OSchemaException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slots of properties of strict mode class inside of records serialized with fixed offset layout. Layouts are interned by
+ * schema and never changed or removed, so record stores only id of its layout and stays readable after the class is changed.
+ * <p>
+ * Every property has own slot, slots are ordered by id of global property. Values of fixed width types are stored at fixed
+ * offsets, values of other types are stored one after another in the order of slots. Name of every property is resolved when
+ * layout is loaded, so slot of field is found by single lookup.
+ */
+public final class ORecordLayout {
+  private final int      id;
+  private final int[]    globalIds;
+  private final String[] names;
+  private final OType[]  types;
+
+  private final Map<String, Integer> slotsByName;
+
+  /**
+   * Offset of value inside of section of fixed width values or <code>-1</code> if value has variable width.
+   */
+  private final int[] fixedOffsets;
+
+  /**
+   * Index of value inside of section of variable width values or <code>-1</code> if value has fixed width.
+   */
+  private final int[] variableIndexes;
+
+  private final int fixedSize;
+  private final int variableCount;
+
+  ORecordLayout(final int id, final int[] globalIds, final List<OGlobalProperty> globalProperties) {
+    this.id = id;
+    this.globalIds = globalIds;
+
+    final int count = globalIds.length;
+    names = new String[count];
+    types = new OType[count];
+    fixedOffsets = new int[count];
+    variableIndexes = new int[count];
+    slotsByName = new HashMap<>(count * 2);
+
+    int fixedPosition = 0;
+    int variableIndex = 0;
+    for (int i = 0; i < count; i++) {
+      final OGlobalProperty property = globalIds[i] < globalProperties.size() ? globalProperties.get(globalIds[i]) : null;
+      if (property == null) {
+        throw new OSchemaException("Missing property definition for property id '" + globalIds[i] + "' of record layout " + id);
+      }
+
+      names[i] = property.getName();
+      types[i] = property.getType();
+      slotsByName.put(names[i], i);
+
+      final int width = fixedWidth(types[i]);
+      if (width > 0) {
+        fixedOffsets[i] = fixedPosition;
+        variableIndexes[i] = -1;
+        fixedPosition += width;
+      } else {
+        fixedOffsets[i] = -1;
+        variableIndexes[i] = variableIndex++;
+      }
+    }
+
+    fixedSize = fixedPosition;
+    variableCount = variableIndex;
+  }
+
+  /**
+   * @return sorted ids of global properties of passed in properties, key under which layout of class is interned.
+   */
+  static int[] globalIdsOf(final Collection<OProperty> properties) {
+    final int[] ids = new int[properties.size()];
+    int i = 0;
+    for (final OProperty property : properties) {
+      ids[i++] = property.getId();
+    }
+
+    Arrays.sort(ids);
+    return ids;
+  }
+
+  /**
+   * @return size of value of type in section of fixed width values or <code>0</code> if type has variable width.
+   */
+  public static int fixedWidth(final OType type) {
+    switch (type) {
+    case BOOLEAN:
+    case BYTE:
+      return 1;
+    case SHORT:
+      return OShortSerializer.SHORT_SIZE;
+    case INTEGER:
+    case FLOAT:
+      return OIntegerSerializer.INT_SIZE;
+    case LONG:
+    case DOUBLE:
+    case DATETIME:
+      return OLongSerializer.LONG_SIZE;
+    default:
+      return 0;
+    }
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public int count() {
+    return globalIds.length;
+  }
+
+  int[] getGlobalIds() {
+    return globalIds;
+  }
+
+  public int getGlobalId(final int slot) {
+    return globalIds[slot];
+  }
+
+  public String getName(final int slot) {
+    return names[slot];
+  }
+
+  public OType getType(final int slot) {
+    return types[slot];
+  }
+
+  /**
+   * @return slot of property with passed in name or <code>-1</code> if layout does not contain such property.
+   */
+  public int indexOf(final String name) {
+    final Integer slot = slotsByName.get(name);
+    return slot != null ? slot : -1;
+  }
+
+  public int getFixedOffset(final int slot) {
+    return fixedOffsets[slot];
+  }
+
+  public int getVariableIndex(final int slot) {
+    return variableIndexes[slot];
+  }
+
+  public int getFixedSize() {
+    return fixedSize;
+  }
+
+  public int getVariableCount() {
+    return variableCount;
+  }
+
+  /**
+   * @return size of bitmap which contains single bit for every slot.
+   */
+  public int getBitmapSize() {
+    return (globalIds.length + 7) >>> 3;
+  }
+}
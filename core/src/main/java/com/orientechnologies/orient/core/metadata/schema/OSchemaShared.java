@@ -76,6 +76,7 @@ public abstract class OSchemaShared implements OCloseable {
 
   private final      OModifiableInteger           modificationCounter  = new OModifiableInteger();
   private final      List<OGlobalProperty>        properties           = new ArrayList<OGlobalProperty>();
+  private final      List<ORecordLayout>          recordLayouts        = new ArrayList<ORecordLayout>();
   private final      Map<String, OGlobalProperty> propertiesByNameType = new HashMap<String, OGlobalProperty>();
   private            Set<Integer>                 blobClusters         = new HashSet<Integer>();
   private volatile   int                          version              = 0;
@@ -408,6 +409,14 @@ public abstract class OSchemaShared implements OCloseable {
     rwSpinLock.releaseReadLock();
   }
 
+  /**
+   * @return <code>true</code> if schema read or write lock is held by current thread, other threads which read schema may wait
+   * for this thread then.
+   */
+  public boolean isSchemaLockedByCurrentThread() {
+    return rwSpinLock.isAcquiredByCurrentThread();
+  }
+
   public void acquireSchemaWriteLock(ODatabaseDocumentInternal database) {
     rwSpinLock.acquireWriteLock();
     modificationCounter.increment();
@@ -528,6 +537,19 @@ public abstract class OSchemaShared implements OCloseable {
           propertiesByNameType.put(prop.getName() + "|" + prop.getType().name(), prop);
         }
       }
+
+      recordLayouts.clear();
+      List<ODocument> storedLayouts = document.field("recordLayouts");
+      if (storedLayouts != null) {
+        for (ODocument storedLayout : storedLayouts) {
+          final List<Integer> globalIds = storedLayout.field("globalIds");
+          final int[] ids = new int[globalIds.size()];
+          for (int i = 0; i < ids.length; i++)
+            ids[i] = globalIds.get(i);
+
+          recordLayouts.add(new ORecordLayout(recordLayouts.size(), ids, properties));
+        }
+      }
       // REGISTER ALL THE CLASSES
       clustersToClasses.clear();
 
@@ -669,6 +691,7 @@ public abstract class OSchemaShared implements OCloseable {
           globalProperties.add(((OGlobalPropertyImpl) globalProperty).toDocument());
       }
       document.field("globalProperties", globalProperties, OType.EMBEDDEDLIST);
+      document.field("recordLayouts", recordLayoutsToStream(), OType.EMBEDDEDLIST);
       document.field("blobClusters", blobClusters, OType.EMBEDDEDSET);
       return document;
     } finally {
@@ -703,6 +726,7 @@ public abstract class OSchemaShared implements OCloseable {
           globalProperties.add(((OGlobalPropertyImpl) globalProperty).toDocument());
       }
       document.field("globalProperties", globalProperties, OType.EMBEDDEDLIST);
+      document.field("recordLayouts", recordLayoutsToStream(), OType.EMBEDDEDLIST);
       document.field("blobClusters", blobClusters, OType.EMBEDDEDSET);
 
       return document;
@@ -848,6 +872,61 @@ public abstract class OSchemaShared implements OCloseable {
     return Collections.unmodifiableList(properties);
   }
 
+  public List<ORecordLayout> getRecordLayouts() {
+    return Collections.unmodifiableList(recordLayouts);
+  }
+
+  /**
+   * Interns layouts of records of strict mode classes. Layouts are only added, so records which reference them by id stay readable
+   * after the class is changed. Classes are processed in order of their names, so the same changes of schema give the same ids.
+   */
+  private void registerRecordLayouts() {
+    final List<OClass> sortedClasses = new ArrayList<OClass>(new HashSet<OClass>(classes.values()));
+    Collections.sort(sortedClasses, new Comparator<OClass>() {
+      @Override
+      public int compare(OClass first, OClass second) {
+        return first.getName().compareTo(second.getName());
+      }
+    });
+
+    for (OClass clazz : sortedClasses) {
+      if (!clazz.isStrictMode())
+        continue;
+
+      final Map<String, OProperty> classProperties = new HashMap<String, OProperty>();
+      ((OClassImpl) clazz).propertiesMap(classProperties);
+
+      final int[] globalIds = ORecordLayout.globalIdsOf(classProperties.values());
+      if (findRecordLayout(recordLayouts, globalIds) == null)
+        recordLayouts.add(new ORecordLayout(recordLayouts.size(), globalIds, properties));
+    }
+  }
+
+  static ORecordLayout findRecordLayout(final List<ORecordLayout> recordLayouts, final int[] globalIds) {
+    for (ORecordLayout recordLayout : recordLayouts) {
+      if (Arrays.equals(recordLayout.getGlobalIds(), globalIds))
+        return recordLayout;
+    }
+
+    return null;
+  }
+
+  private List<ODocument> recordLayoutsToStream() {
+    final List<ODocument> result = new ArrayList<ODocument>();
+    for (ORecordLayout recordLayout : recordLayouts) {
+      final List<Integer> globalIds = new ArrayList<Integer>(recordLayout.count());
+      for (int i = 0; i < recordLayout.count(); i++)
+        globalIds.add(recordLayout.getGlobalId(i));
+
+      final ODocument layoutDocument = new ODocument();
+      layoutDocument.field("id", recordLayout.getId());
+      layoutDocument.field("globalIds", globalIds, OType.EMBEDDEDLIST);
+      result.add(layoutDocument);
+    }
+
+    return result;
+  }
+
   protected OGlobalProperty findOrCreateGlobalProperty(final String name, final OType type) {
     OGlobalProperty global = propertiesByNameType.get(name + "|" + type.name());
     if (global == null) {
@@ -876,6 +955,7 @@ public abstract class OSchemaShared implements OCloseable {
       @Override
       public Object call() {
         try {
+          registerRecordLayouts();
           toStream();
           document.save(OMetadataDefault.CLUSTER_INTERNAL_NAME);
         } catch (OConcurrentModificationException e) {
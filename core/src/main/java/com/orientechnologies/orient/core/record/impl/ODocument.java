@@ -47,6 +47,7 @@ import com.orientechnologies.orient.core.record.*;
 import com.orientechnologies.orient.core.serialization.serializer.OStringSerializerHelper;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializerFactory;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetwork;
 import com.orientechnologies.orient.core.sql.OSQLHelper;
 import com.orientechnologies.orient.core.sql.executor.OResult;
@@ -2102,6 +2103,21 @@ public class ODocument extends ORecordAbstract
     return getDatabase().save(this, iClusterName, ODatabase.OPERATION_MODE.SYNCHRONOUS, forceCreate, null, null);
   }
 
+  /**
+   * Returns content of the document in binary format if document was not changed and was not completely deserialized yet, so
+   * fields of the document may be read directly from the serialized content.
+   *
+   * @return serialized content or <code>null</code> if fields can not be read from serialized content.
+   */
+  protected byte[] getSerializedSource() {
+    if (source == null || dirty || status != ORecordElement.STATUS.LOADED || propertyAccess != null
+        || !(recordFormat instanceof ORecordSerializerBinary)) {
+      return null;
+    }
+
+    return source;
+  }
+
   /*
    * Initializes the object if has been unserialized
    */
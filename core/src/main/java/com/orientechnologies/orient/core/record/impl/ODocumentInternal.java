@@ -131,4 +131,8 @@ public class ODocumentInternal {
   public static void clearTransactionTrackData(ODocument doc) {
     doc.clearTransactionTrackData();
   }
+
+  public static byte[] getSerializedSource(ODocument doc) {
+    return doc.getSerializedSource();
+  }
 }
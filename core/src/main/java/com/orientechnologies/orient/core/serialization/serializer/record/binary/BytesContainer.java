@@ -25,6 +25,11 @@ public class BytesContainer {
   public byte[] bytes;
   public int    offset;
 
+  /**
+   * Pool from which buffers of this container are taken, <code>null</code> if container is not pooled.
+   */
+  private OBytesContainerPool pool;
+
   public BytesContainer(byte[] iSource) {
     bytes = iSource;
   }
@@ -38,6 +43,30 @@ public class BytesContainer {
     this.offset = iOffset;
   }
 
+  /**
+   * Creates container which takes its buffers from {@link OBytesContainerPool} bound to the current thread. Such container has
+   * to be {@link #release() released} by the same thread once its content is not needed anymore, content of the container
+   * should be taken by {@link #fitBytes()} which always returns a copy of pooled buffer.
+   */
+  public static BytesContainer pooled() {
+    final OBytesContainerPool pool = OBytesContainerPool.instance();
+    final BytesContainer container = new BytesContainer(pool.acquire(OBytesContainerPool.MIN_BUFFER_SIZE));
+    container.pool = pool;
+    return container;
+  }
+
+  /**
+   * Returns buffer of pooled container back to the pool, container can not be used after this call. Does nothing for not pooled
+   * containers.
+   */
+  public void release() {
+    if (pool != null) {
+      pool.release(bytes);
+      pool = null;
+      bytes = null;
+    }
+  }
+
   public BytesContainer copy() {
     return new BytesContainer(bytes, offset);
   }
@@ -54,9 +83,13 @@ public class BytesContainer {
     final int cur = offset;
     offset += toAlloc;
     if (bytes.length < offset) {
-      byte[] newArray = new byte[offset];
-      System.arraycopy(bytes, 0, newArray, 0, bytes.length);
-      bytes = newArray;
+      if (pool != null) {
+        resize();
+      } else {
+        byte[] newArray = new byte[offset];
+        System.arraycopy(bytes, 0, newArray, 0, bytes.length);
+        bytes = newArray;
+      }
     }
     return cur;
   }
@@ -67,7 +100,7 @@ public class BytesContainer {
   }
 
   public byte[] fitBytes() {
-    if (bytes.length == offset) {
+    if (bytes.length == offset && pool == null) {
       return bytes;
     }
     final byte[] fitted = new byte[offset];
@@ -79,9 +112,16 @@ public class BytesContainer {
     int newLength = bytes.length;
     while (newLength < offset)
       newLength *= 2;
-    final byte[] newBytes = new byte[newLength];
-    System.arraycopy(bytes, 0, newBytes, 0, bytes.length);
-    bytes = newBytes;
+    if (pool != null) {
+      final byte[] newBytes = pool.acquire(newLength);
+      System.arraycopy(bytes, 0, newBytes, 0, bytes.length);
+      pool.release(bytes);
+      bytes = newBytes;
+    } else {
+      final byte[] newBytes = new byte[newLength];
+      System.arraycopy(bytes, 0, newBytes, 0, bytes.length);
+      bytes = newBytes;
+    }
   }
 
 }
@@ -0,0 +1,149 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.serialization.serializer.record.binary;
+
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.util.Arrays;
+
+import static com.orientechnologies.orient.core.serialization.serializer.record.binary.HelperClasses.bytesFromString;
+
+/**
+ * Set of top level fields which are read directly from serialized content of records by
+ * {@link ORecordSerializerBinaryV1#deserializeFields(BytesContainer, OImmutableSchema, OBinaryFieldsProjection, Object[],
+ * boolean[])}.
+ * <p>
+ * Schema properties are stored in record header by id of global property, so the mapping between id of global property and index
+ * of projected field is resolved once and cached by this instance, which makes lookup of the field during the header walk a
+ * simple array access. Instances are not thread safe and are supposed to be used by single query execution step.
+ */
+public final class OBinaryFieldsProjection {
+  private static final int UNRESOLVED    = 0;
+  private static final int NOT_PROJECTED = -1;
+
+  private final String[] fieldNames;
+  private final byte[][] fieldNameBytes;
+
+  /**
+   * Index of projected field + 1 by id of global property, {@link #UNRESOLVED} if global property was not met yet and
+   * {@link #NOT_PROJECTED} if it is not part of projection.
+   */
+  private int[] globalPropertySlots = new int[0];
+
+  public OBinaryFieldsProjection(final String[] fieldNames) {
+    this.fieldNames = fieldNames.clone();
+    this.fieldNameBytes = new byte[fieldNames.length][];
+    for (int i = 0; i < fieldNames.length; i++) {
+      fieldNameBytes[i] = bytesFromString(fieldNames[i]);
+    }
+  }
+
+  public String[] getFieldNames() {
+    return fieldNames.clone();
+  }
+
+  public int size() {
+    return fieldNames.length;
+  }
+
+  /**
+   * @return <code>true</code> if value of given type can be read without owner document, embedded values and collections are
+   * bound to their owner so they are not supported.
+   */
+  public static boolean isSupportedType(final OType type) {
+    if (type == null) {
+      return false;
+    }
+
+    switch (type) {
+    case BOOLEAN:
+    case BYTE:
+    case SHORT:
+    case INTEGER:
+    case LONG:
+    case FLOAT:
+    case DOUBLE:
+    case STRING:
+    case DATE:
+    case DATETIME:
+    case DECIMAL:
+    case BINARY:
+    case LINK:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * @return index of projected field which has name stored in header of record at the current position of passed in container
+   * or <code>-1</code> if field is not projected.
+   */
+  int indexOfNamedField(final BytesContainer bytes, final int len) {
+    for (int i = 0; i < fieldNameBytes.length; i++) {
+      final byte[] name = fieldNameBytes[i];
+      if (name.length != len) {
+        continue;
+      }
+
+      boolean match = true;
+      for (int j = 0; j < len; j++) {
+        if (bytes.bytes[bytes.offset + j] != name[j]) {
+          match = false;
+          break;
+        }
+      }
+
+      if (match) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * @return index of projected field which corresponds to global property with passed in id or <code>-1</code> if field is not
+   * projected.
+   */
+  int indexOfGlobalProperty(final int id, final OImmutableSchema schema) {
+    if (id >= globalPropertySlots.length) {
+      globalPropertySlots = Arrays.copyOf(globalPropertySlots, Math.max(id + 1, globalPropertySlots.length << 1));
+    }
+
+    int slot = globalPropertySlots[id];
+    if (slot == UNRESOLVED) {
+      slot = NOT_PROJECTED;
+      final String name = schema.getGlobalPropertyById(id).getName();
+      for (int i = 0; i < fieldNames.length; i++) {
+        if (fieldNames[i].equals(name)) {
+          slot = i + 1;
+          break;
+        }
+      }
+
+      globalPropertySlots[id] = slot;
+    }
+
+    return slot == NOT_PROJECTED ? -1 : slot - 1;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.serialization.serializer.record.binary;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+
+import java.util.Arrays;
+
+/**
+ * Thread confined pool of byte arrays which are used as buffers of {@link BytesContainer} during serialization of records.
+ * <p>
+ * Buffers are grouped in size classes, each size class is a power of two starting from {@value #MIN_BUFFER_SIZE} bytes up to
+ * {@link OGlobalConfiguration#DB_DOCUMENT_SERIALIZER_POOL_MAX_BUFFER_SIZE}. Buffers bigger than the biggest size class are
+ * allocated on demand and left to garbage collector once they are released. Buffers are cleared when they are returned to the
+ * pool, so acquired buffer always looks like freshly allocated array.
+ * <p>
+ * Instance of pool is bound to the thread which uses it, so it does not require any synchronization, buffers acquired from
+ * the pool must be released by the same thread.
+ */
+public final class OBytesContainerPool {
+  /**
+   * Size of the smallest size class, the same as default size of {@link BytesContainer}.
+   */
+  static final int MIN_BUFFER_SIZE = 64;
+
+  private static final int MIN_BUFFER_SIZE_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+
+  private static final ThreadLocal<OBytesContainerPool> INSTANCE = ThreadLocal.withInitial(
+      () -> new OBytesContainerPool(OGlobalConfiguration.DB_DOCUMENT_SERIALIZER_POOL_MAX_BUFFER_SIZE.getValueAsInteger(),
+          OGlobalConfiguration.DB_DOCUMENT_SERIALIZER_POOL_BUFFERS_PER_SIZE.getValueAsInteger()));
+
+  private final byte[][][] buckets;
+  private final int[]      bucketSizes;
+
+  OBytesContainerPool(final int maxBufferSize, final int buffersPerSize) {
+    final int bucketsCount;
+    if (maxBufferSize < MIN_BUFFER_SIZE || buffersPerSize <= 0) {
+      bucketsCount = 0;
+    } else {
+      bucketsCount = 31 - Integer.numberOfLeadingZeros(maxBufferSize) - MIN_BUFFER_SIZE_SHIFT + 1;
+    }
+
+    buckets = new byte[bucketsCount][buffersPerSize][];
+    bucketSizes = new int[bucketsCount];
+  }
+
+  /**
+   * @return pool bound to the current thread.
+   */
+  public static OBytesContainerPool instance() {
+    return INSTANCE.get();
+  }
+
+  /**
+   * Returns buffer which length is at least equal to requested one. Length of the buffer is rounded up to the closest size class
+   * if requested size fits in the pool.
+   */
+  public byte[] acquire(final int minSize) {
+    final int bucket = bucketIndex(minSize);
+    if (bucket >= buckets.length) {
+      return new byte[minSize];
+    }
+
+    int size = bucketSizes[bucket];
+    if (size > 0) {
+      size--;
+      final byte[] buffer = buckets[bucket][size];
+      buckets[bucket][size] = null;
+      bucketSizes[bucket] = size;
+      return buffer;
+    }
+
+    return new byte[MIN_BUFFER_SIZE << bucket];
+  }
+
+  /**
+   * Returns buffer to the pool. Buffers which do not belong to any size class or which do not fit in already filled size class
+   * are silently dropped.
+   */
+  public void release(final byte[] buffer) {
+    final int length = buffer.length;
+    if (length < MIN_BUFFER_SIZE || Integer.bitCount(length) != 1) {
+      return;
+    }
+
+    final int bucket = Integer.numberOfTrailingZeros(length) - MIN_BUFFER_SIZE_SHIFT;
+    if (bucket >= buckets.length) {
+      return;
+    }
+
+    final int size = bucketSizes[bucket];
+    if (size == buckets[bucket].length) {
+      return;
+    }
+
+    Arrays.fill(buffer, (byte) 0);
+    buckets[bucket][size] = buffer;
+    bucketSizes[bucket] = size + 1;
+  }
+
+  /**
+   * @return amount of buffers which are currently kept in the pool.
+   */
+  public int pooledBuffers() {
+    int result = 0;
+    for (final int size : bucketSizes) {
+      result += size;
+    }
+    return result;
+  }
+
+  private static int bucketIndex(final int size) {
+    if (size <= MIN_BUFFER_SIZE) {
+      return 0;
+    }
+
+    return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_BUFFER_SIZE_SHIFT;
+  }
+}
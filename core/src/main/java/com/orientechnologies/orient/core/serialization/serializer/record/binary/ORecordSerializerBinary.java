@@ -21,6 +21,7 @@
 package com.orientechnologies.orient.core.serialization.serializer.record.binary;
 
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.ORecord;
@@ -37,14 +38,16 @@ public class ORecordSerializerBinary implements ORecordSerializer {
   public static final  String                  NAME                   = "ORecordSerializerBinary";
   public static final  ORecordSerializerBinary INSTANCE               = new ORecordSerializerBinary();
   private static final byte                    CURRENT_RECORD_VERSION = 1;
+  private static final byte                    FIXED_LAYOUT_VERSION   = 2;
 
   private       ODocumentSerializer[] serializerByVersion;
   private final byte                  currentSerializerVersion;
 
   private void init() {
-    serializerByVersion = new ODocumentSerializer[2];
+    serializerByVersion = new ODocumentSerializer[3];
     serializerByVersion[0] = new ORecordSerializerBinaryV0();
     serializerByVersion[1] = new ORecordSerializerBinaryV1();
+    serializerByVersion[2] = new ORecordSerializerBinaryV2();
   }
 
   public ORecordSerializerBinary(byte serializerVersion) {
@@ -124,16 +127,33 @@ public class ORecordSerializerBinary implements ORecordSerializer {
     } else {
       ODocument documentToSerialize = (ODocument) record;
 
-      final BytesContainer container = new BytesContainer();
-
-      // WRITE SERIALIZER VERSION
-      int pos = container.alloc(1);
-      container.bytes[pos] = currentSerializerVersion;
-      // SERIALIZE RECORD
-      serializerByVersion[currentSerializerVersion].serialize(documentToSerialize, container);
+      final BytesContainer container = BytesContainer.pooled();
+      try {
+        final byte version = chooseSerializerVersion(documentToSerialize);
+        // WRITE SERIALIZER VERSION
+        int pos = container.alloc(1);
+        container.bytes[pos] = version;
+        // SERIALIZE RECORD
+        serializerByVersion[version].serialize(documentToSerialize, container);
+
+        return container.fitBytes();
+      } finally {
+        container.release();
+      }
+    }
+  }
 
-      return container.fitBytes();
+  /**
+   * Fixed offset layout is used only for documents of strict classes, all the other documents are serialized with the previous
+   * version of the format.
+   */
+  private byte chooseSerializerVersion(final ODocument document) {
+    if (currentSerializerVersion == FIXED_LAYOUT_VERSION || (currentSerializerVersion == CURRENT_RECORD_VERSION
+        && OGlobalConfiguration.DB_DOCUMENT_SERIALIZER_FIXED_LAYOUT.getValueAsBoolean())) {
+      return ORecordSerializerBinaryV2.isApplicable(document) ? FIXED_LAYOUT_VERSION : CURRENT_RECORD_VERSION;
     }
+
+    return currentSerializerVersion;
   }
 
   @Override
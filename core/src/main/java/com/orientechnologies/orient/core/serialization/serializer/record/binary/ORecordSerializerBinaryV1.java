@@ -128,6 +128,70 @@ public class ORecordSerializerBinaryV1 implements ODocumentSerializer {
     }
   }
 
+  /**
+   * Reads values of projected top level fields of record walking the header only once, without creation of document.
+   *
+   * @param bytes      serialized content of record positioned after the serializer version
+   * @param projection fields to read
+   * @param values     values of projected fields, in the order of projection
+   * @param found      flags which indicate if projected field is present in the record
+   *
+   * @return <code>false</code> if one of projected fields has a type which is not supported by projection, in such case content
+   * of <code>values</code> is undefined and record has to be deserialized as document.
+   *
+   * @see OBinaryFieldsProjection#isSupportedType(OType)
+   */
+  public boolean deserializeFields(final BytesContainer bytes, final OImmutableSchema schema,
+      final OBinaryFieldsProjection projection, final Object[] values, final boolean[] found) {
+    int headerLength = OVarIntSerializer.readAsInteger(bytes);
+    int headerStart = bytes.offset;
+    int valuesStart = headerStart + headerLength;
+    int currentValuePos = valuesStart;
+    int unmarshalledFields = 0;
+
+    while (bytes.offset < valuesStart) {
+      final int len = OVarIntSerializer.readAsInteger(bytes);
+      final int fieldIndex;
+      final int fieldLength;
+      final OType type;
+      if (len > 0) {
+        fieldIndex = projection.indexOfNamedField(bytes, len);
+        bytes.skip(len);
+        Tuple<Integer, OType> pointerAndType = getFieldSizeAndTypeFromCurrentPosition(bytes);
+        fieldLength = pointerAndType.getFirstVal();
+        type = pointerAndType.getSecondVal();
+      } else {
+        final int id = (len * -1) - 1;
+        fieldIndex = projection.indexOfGlobalProperty(id, schema);
+        fieldLength = OVarIntSerializer.readAsInteger(bytes);
+        type = getPropertyTypeFromStream(schema.getGlobalPropertyById(id), bytes);
+      }
+
+      if (fieldIndex >= 0 && !found[fieldIndex]) {
+        if (fieldLength != 0) {
+          if (!OBinaryFieldsProjection.isSupportedType(type)) {
+            return false;
+          }
+
+          int headerCursor = bytes.offset;
+          bytes.offset = currentValuePos;
+          values[fieldIndex] = deserializeValue(bytes, type, null, true, -1, false, schema);
+          bytes.offset = headerCursor;
+        } else {
+          values[fieldIndex] = null;
+        }
+
+        found[fieldIndex] = true;
+        if (++unmarshalledFields == values.length)
+          // ALL REQUESTED FIELDS UNMARSHALLED: EXIT
+          break;
+      }
+      currentValuePos += fieldLength;
+    }
+
+    return true;
+  }
+
   private boolean checkMatchForLargerThenZero(final BytesContainer bytes, final byte[] field, int len) {
     if (field.length != len) {
       return false;
@@ -383,15 +447,19 @@ public class ORecordSerializerBinaryV1 implements ODocumentSerializer {
     final Map<String, OProperty> props = clazz != null ? clazz.propertiesMap() : null;
     final Set<Entry<String, ODocumentEntry>> fields = ODocumentInternal.rawEntries(document);
 
-    BytesContainer valuesBuffer = new BytesContainer();
-    BytesContainer headerBuffer = new BytesContainer();
-
-    serializeValues(headerBuffer, valuesBuffer, document, fields, props, schema, encryption);
-    int headerLength = headerBuffer.offset;
-    //write header length as soon as possible
-    OVarIntSerializer.write(bytes, headerLength);
-
-    merge(bytes, headerBuffer, valuesBuffer);
+    BytesContainer valuesBuffer = BytesContainer.pooled();
+    BytesContainer headerBuffer = BytesContainer.pooled();
+    try {
+      serializeValues(headerBuffer, valuesBuffer, document, fields, props, schema, encryption);
+      int headerLength = headerBuffer.offset;
+      //write header length as soon as possible
+      OVarIntSerializer.write(bytes, headerLength);
+
+      merge(bytes, headerBuffer, valuesBuffer);
+    } finally {
+      headerBuffer.release();
+      valuesBuffer.release();
+    }
   }
 
   public void serializeWithClassName(final ODocument document, final BytesContainer bytes) {
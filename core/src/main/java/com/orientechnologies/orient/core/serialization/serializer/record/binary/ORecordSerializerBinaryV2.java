@@ -0,0 +1,555 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.serialization.serializer.record.binary;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.ORecordElement;
+import com.orientechnologies.orient.core.exception.OSerializationException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.ORecordLayout;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.OPropertyEncryption;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentEntry;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map.Entry;
+
+/**
+ * Fixed offset layout of documents which belong to strict mode classes and contain only declared properties.
+ * <p>
+ * Instead of the header of {@link ORecordSerializerBinaryV1}, which contains id and length of every field, record starts with
+ * id of {@link ORecordLayout} of its class, followed by bitmaps of present and null fields, section of fixed width values at
+ * fixed offsets and section of variable width values preceded by the table of their end offsets:
+ * <pre>
+ * +-----------+----------------+-------------+-------------+--------------+------------------+-----------------+
+ * | layout id | present bitmap | null bitmap | fixed width | offset width | end offsets      | variable width  |
+ * | varint    | (slot count)   | (slot count)| values      | 1 byte       | (1, 2 or 4 bytes | values encoded  |
+ * |           |  bits          |  bits       |             |              |  per value)      | as in V1        |
+ * +-----------+----------------+-------------+-------------+--------------+------------------+-----------------+
+ * </pre>
+ * Layouts are interned by schema together with names of their properties, so position of any field is found by single lookup
+ * without parsing of the record. Slots of fields which are not present in the document are left empty. Embedded documents and
+ * values of variable width are serialized by {@link ORecordSerializerBinaryV1}.
+ */
+public class ORecordSerializerBinaryV2 implements ODocumentSerializer {
+  private final ORecordSerializerBinaryV1 delegate = new ORecordSerializerBinaryV1();
+
+  /**
+   * @return <code>true</code> if document belongs to strict mode class which has registered record layout and all its fields are
+   * declared properties of this class which have concrete type, so it can be serialized with fixed offset layout.
+   */
+  public static boolean isApplicable(final ODocument document) {
+    if (document.isEmbedded()) {
+      return false;
+    }
+
+    final OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(document);
+    if (clazz == null || !clazz.isStrictMode()) {
+      return false;
+    }
+
+    final ORecordLayout layout = clazz.getRecordLayout();
+    if (layout == null) {
+      return false;
+    }
+
+    for (final Entry<String, ODocumentEntry> field : ODocumentInternal.rawEntries(document)) {
+      final ODocumentEntry entry = field.getValue();
+      if (!entry.exists()) {
+        continue;
+      }
+
+      final int slot = layout.indexOf(field.getKey());
+      if (slot < 0) {
+        return false;
+      }
+
+      final OType type = layout.getType(slot);
+      if (type == OType.ANY || type == OType.TRANSIENT) {
+        return false;
+      }
+
+      if (entry.value != null && getFieldType(entry) != type) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static OType getFieldType(final ODocumentEntry entry) {
+    OType type = entry.type;
+    if (type == null && entry.property != null) {
+      type = entry.property.getType();
+    }
+    if (type == null || OType.ANY == type) {
+      type = OType.getTypeByValue(entry.value);
+    }
+    return type;
+  }
+
+  @Override
+  public void serialize(final ODocument document, final BytesContainer bytes) {
+    if (!isApplicable(document)) {
+      throw new OSerializationException(
+          "Document of class '" + document.getClassName() + "' can not be serialized with fixed offset layout");
+    }
+
+    final OImmutableSchema schema = ODocumentInternal.getImmutableSchema(document);
+    final OPropertyEncryption encryption = ODocumentInternal.getPropertyEncryption(document);
+    final OImmutableClass clazz = ODocumentInternal.getImmutableSchemaClass(document);
+    final ORecordLayout layout = clazz.getRecordLayout();
+
+    final int count = layout.count();
+    final boolean[] present = new boolean[count];
+    final Object[] values = new Object[count];
+    for (final Entry<String, ODocumentEntry> field : ODocumentInternal.rawEntries(document)) {
+      if (!field.getValue().exists()) {
+        continue;
+      }
+
+      final int slot = layout.indexOf(field.getKey());
+      present[slot] = true;
+      values[slot] = field.getValue().value;
+    }
+
+    OVarIntSerializer.write(bytes, layout.getId());
+    final int presentStart = bytes.alloc(layout.getBitmapSize());
+    final int nullStart = bytes.alloc(layout.getBitmapSize());
+    final int fixedStart = bytes.alloc(layout.getFixedSize());
+
+    final BytesContainer variable = BytesContainer.pooled();
+    try {
+      final int[] endOffsets = new int[layout.getVariableCount()];
+      for (int i = 0; i < count; i++) {
+        //slot of absent field is left empty
+        if (present[i]) {
+          bytes.bytes[presentStart + (i >>> 3)] |= 1 << (i & 7);
+
+          final OType type = layout.getType(i);
+          if (values[i] == null) {
+            bytes.bytes[nullStart + (i >>> 3)] |= 1 << (i & 7);
+          } else if (layout.getFixedOffset(i) >= 0) {
+            writeFixed(bytes.bytes, fixedStart + layout.getFixedOffset(i), values[i], type);
+          } else {
+            delegate.serializeValue(variable, values[i], type, HelperClasses.getLinkedType(clazz, type, layout.getName(i)),
+                schema, encryption);
+          }
+        }
+
+        if (layout.getVariableIndex(i) >= 0) {
+          endOffsets[layout.getVariableIndex(i)] = variable.offset;
+        }
+      }
+
+      if (layout.getVariableCount() > 0) {
+        final int offsetWidth = offsetWidth(variable.offset);
+        HelperClasses.writeByte(bytes, (byte) offsetWidth);
+        final int offsetsStart = bytes.alloc(offsetWidth * layout.getVariableCount());
+        for (int i = 0; i < endOffsets.length; i++) {
+          writeOffset(bytes.bytes, offsetsStart + i * offsetWidth, offsetWidth, endOffsets[i]);
+        }
+
+        final int valuesStart = bytes.alloc(variable.offset);
+        System.arraycopy(variable.bytes, 0, bytes.bytes, valuesStart, variable.offset);
+      }
+    } finally {
+      variable.release();
+    }
+  }
+
+  @Override
+  public void deserialize(final ODocument document, final BytesContainer bytes) {
+    final OImmutableSchema schema = ODocumentInternal.getImmutableSchema(document);
+    final Record record = new Record(bytes, schema);
+    final ORecordLayout layout = record.layout;
+
+    for (int i = 0; i < layout.count(); i++) {
+      if (!record.isPresent(i)) {
+        continue;
+      }
+
+      final String fieldName = layout.getName(i);
+      if (ODocumentInternal.rawContainsField(document, fieldName)) {
+        continue;
+      }
+
+      if (record.isNull(i)) {
+        ODocumentInternal.rawField(document, fieldName, null, null);
+      } else {
+        ODocumentInternal.rawField(document, fieldName, record.read(i, document, true, schema), layout.getType(i));
+      }
+    }
+
+    ORecordInternal.clearSource(document);
+    bytes.offset = record.end;
+  }
+
+  @Override
+  public void deserializePartial(final ODocument document, final BytesContainer bytes, final String[] iFields) {
+    final OImmutableSchema schema = ODocumentInternal.getImmutableSchema(document);
+    final Record record = new Record(bytes, schema);
+
+    for (final String fieldName : iFields) {
+      final int index = record.indexOf(fieldName);
+      if (index < 0) {
+        continue;
+      }
+
+      if (record.isNull(index)) {
+        ODocumentInternal.rawField(document, fieldName, null, null);
+      } else {
+        ODocumentInternal.rawField(document, fieldName, record.read(index, document, true, schema), record.layout.getType(index));
+      }
+    }
+  }
+
+  @Override
+  public OBinaryField deserializeField(final BytesContainer bytes, final OClass iClass, final String iFieldName,
+      final boolean embedded, final OImmutableSchema schema, final OPropertyEncryption encryption) {
+    if (embedded) {
+      return delegate.deserializeField(bytes, iClass, iFieldName, true, schema, encryption);
+    }
+
+    final Record record = new Record(bytes, schema);
+    final int index = record.indexOf(iFieldName);
+    if (index < 0 || record.isNull(index)) {
+      return null;
+    }
+
+    final OType type = record.layout.getType(index);
+    if (!getComparator().isBinaryComparable(type)) {
+      return null;
+    }
+
+    final OProperty classProp = iClass != null ? iClass.getProperty(iFieldName) : null;
+    final BytesContainer value;
+    if (record.layout.getFixedOffset(index) >= 0) {
+      //binary comparator works with values encoded by V1
+      value = new BytesContainer();
+      delegate.serializeValue(value, record.read(index, null, false, schema), type, null, schema, encryption);
+      value.offset = 0;
+    } else {
+      value = bytes;
+      value.offset = record.variableStart(index);
+    }
+
+    return new OBinaryField(iFieldName, type, value, classProp != null ? classProp.getCollate() : null);
+  }
+
+  @Override
+  public <RET> RET deserializeFieldTyped(final BytesContainer bytes, final String iFieldName, final boolean isEmbedded,
+      final OImmutableSchema schema, final OPropertyEncryption encryption) {
+    if (isEmbedded) {
+      return delegate.deserializeFieldTyped(bytes, iFieldName, true, schema, encryption);
+    }
+
+    final Record record = new Record(bytes, schema);
+    final int index = record.indexOf(iFieldName);
+    if (index < 0 || record.isNull(index)) {
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    final RET value = (RET) record.read(index, null, false, schema);
+    return value;
+  }
+
+  @Override
+  public String[] getFieldNames(final ODocument reference, final BytesContainer bytes, final boolean embedded) {
+    if (embedded) {
+      return delegate.getFieldNames(reference, bytes, true);
+    }
+
+    final Record record = new Record(bytes, ODocumentInternal.getImmutableSchema(reference));
+    final ORecordLayout layout = record.layout;
+    final ArrayList<String> result = new ArrayList<>(layout.count());
+    for (int i = 0; i < layout.count(); i++) {
+      if (record.isPresent(i)) {
+        result.add(layout.getName(i));
+      }
+    }
+
+    return result.toArray(new String[0]);
+  }
+
+  @Override
+  public void deserializeDebug(final BytesContainer bytes, final ODatabaseDocumentInternal db,
+      final ORecordSerializationDebug debugInfo, final OImmutableSchema schema) {
+    debugInfo.properties = new ArrayList<>();
+
+    final Record record;
+    try {
+      record = new Record(bytes, schema);
+    } catch (RuntimeException ex) {
+      debugInfo.readingFailure = true;
+      debugInfo.readingException = ex;
+      debugInfo.failPosition = bytes.offset;
+      return;
+    }
+
+    final ORecordLayout layout = record.layout;
+    for (int i = 0; i < layout.count(); i++) {
+      if (!record.isPresent(i)) {
+        continue;
+      }
+
+      final ORecordSerializationDebugProperty debugProperty = new ORecordSerializationDebugProperty();
+      debugInfo.properties.add(debugProperty);
+
+      debugProperty.globalId = layout.getGlobalId(i);
+      debugProperty.type = layout.getType(i);
+      debugProperty.name = layout.getName(i);
+
+      if (record.isNull(i)) {
+        debugProperty.value = null;
+        continue;
+      }
+
+      debugProperty.valuePos =
+          layout.getFixedOffset(i) >= 0 ? record.fixedStart + layout.getFixedOffset(i) : record.variableStart(i);
+      try {
+        debugProperty.value = record.read(i, new ODocument(), true, schema);
+      } catch (RuntimeException ex) {
+        debugProperty.faildToRead = true;
+        debugProperty.readingException = ex;
+        debugProperty.failPosition = debugProperty.valuePos;
+      }
+    }
+  }
+
+  @Override
+  public int serializeValue(final BytesContainer bytes, final Object value, final OType type, final OType linkedType,
+      final OImmutableSchema schema, final OPropertyEncryption encryption) {
+    return delegate.serializeValue(bytes, value, type, linkedType, schema, encryption);
+  }
+
+  @Override
+  public Object deserializeValue(final BytesContainer bytes, final OType type, final ORecordElement owner) {
+    return delegate.deserializeValue(bytes, type, owner);
+  }
+
+  @Override
+  public OBinaryComparator getComparator() {
+    return delegate.getComparator();
+  }
+
+  @Override
+  public boolean isSerializingClassNameByDefault() {
+    return false;
+  }
+
+  private static ORecordLayout getLayout(final OImmutableSchema schema, final int id) {
+    ORecordLayout layout = schema != null ? schema.getRecordLayout(id) : null;
+    if (layout == null) {
+      //layout may be registered after the snapshot of schema was taken
+      final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+      if (db != null && !db.isClosed()) {
+        layout = db.getSharedContext().getSchema().makeSnapshot(db).getRecordLayout(id);
+      }
+    }
+
+    if (layout == null) {
+      throw new OSerializationException("Record layout with id '" + id + "' is not registered in schema");
+    }
+    return layout;
+  }
+
+  private static void writeFixed(final byte[] stream, final int position, final Object value, final OType type) {
+    switch (type) {
+    case BOOLEAN:
+      stream[position] = ((Boolean) value) ? (byte) 1 : (byte) 0;
+      break;
+    case BYTE:
+      stream[position] = ((Number) value).byteValue();
+      break;
+    case SHORT:
+      OShortSerializer.INSTANCE.serializeLiteral(((Number) value).shortValue(), stream, position);
+      break;
+    case INTEGER:
+      OIntegerSerializer.INSTANCE.serializeLiteral(((Number) value).intValue(), stream, position);
+      break;
+    case FLOAT:
+      OIntegerSerializer.INSTANCE.serializeLiteral(Float.floatToIntBits(((Number) value).floatValue()), stream, position);
+      break;
+    case LONG:
+      OLongSerializer.INSTANCE.serializeLiteral(((Number) value).longValue(), stream, position);
+      break;
+    case DOUBLE:
+      OLongSerializer.INSTANCE.serializeLiteral(Double.doubleToLongBits(((Number) value).doubleValue()), stream, position);
+      break;
+    case DATETIME:
+      final long time = value instanceof Number ? ((Number) value).longValue() : ((Date) value).getTime();
+      OLongSerializer.INSTANCE.serializeLiteral(time, stream, position);
+      break;
+    default:
+      throw new OSerializationException("Type " + type + " does not have fixed width");
+    }
+  }
+
+  private static Object readFixed(final byte[] stream, final int position, final OType type) {
+    switch (type) {
+    case BOOLEAN:
+      return stream[position] == 1;
+    case BYTE:
+      return stream[position];
+    case SHORT:
+      return OShortSerializer.INSTANCE.deserializeLiteral(stream, position);
+    case INTEGER:
+      return OIntegerSerializer.INSTANCE.deserializeLiteral(stream, position);
+    case FLOAT:
+      return Float.intBitsToFloat(OIntegerSerializer.INSTANCE.deserializeLiteral(stream, position));
+    case LONG:
+      return OLongSerializer.INSTANCE.deserializeLiteral(stream, position);
+    case DOUBLE:
+      return Double.longBitsToDouble(OLongSerializer.INSTANCE.deserializeLiteral(stream, position));
+    case DATETIME:
+      return new Date(OLongSerializer.INSTANCE.deserializeLiteral(stream, position));
+    default:
+      throw new OSerializationException("Type " + type + " does not have fixed width");
+    }
+  }
+
+  private static int offsetWidth(final int maxOffset) {
+    if (maxOffset <= 0xFF) {
+      return 1;
+    }
+    if (maxOffset <= 0xFFFF) {
+      return 2;
+    }
+    return 4;
+  }
+
+  private static void writeOffset(final byte[] stream, final int position, final int width, final int offset) {
+    switch (width) {
+    case 1:
+      stream[position] = (byte) offset;
+      break;
+    case 2:
+      OShortSerializer.INSTANCE.serializeLiteral((short) offset, stream, position);
+      break;
+    default:
+      OIntegerSerializer.INSTANCE.serializeLiteral(offset, stream, position);
+    }
+  }
+
+  private static int readOffset(final byte[] stream, final int position, final int width) {
+    switch (width) {
+    case 1:
+      return stream[position] & 0xFF;
+    case 2:
+      return OShortSerializer.INSTANCE.deserializeLiteral(stream, position) & 0xFFFF;
+    default:
+      return OIntegerSerializer.INSTANCE.deserializeLiteral(stream, position);
+    }
+  }
+
+  /**
+   * Positions of sections of single serialized record.
+   */
+  private final class Record {
+    private final byte[]        stream;
+    private final ORecordLayout layout;
+    private final int           presentStart;
+    private final int           nullStart;
+    private final int           fixedStart;
+    private final int           offsetWidth;
+    private final int           offsetsStart;
+    private final int           valuesStart;
+    private final int           end;
+
+    private Record(final BytesContainer bytes, final OImmutableSchema schema) {
+      stream = bytes.bytes;
+      layout = getLayout(schema, OVarIntSerializer.readAsInteger(bytes));
+
+      presentStart = bytes.offset;
+      nullStart = presentStart + layout.getBitmapSize();
+      fixedStart = nullStart + layout.getBitmapSize();
+      if (layout.getVariableCount() > 0) {
+        offsetWidth = stream[fixedStart + layout.getFixedSize()];
+        offsetsStart = fixedStart + layout.getFixedSize() + 1;
+        valuesStart = offsetsStart + offsetWidth * layout.getVariableCount();
+        end = valuesStart + readOffset(stream, offsetsStart + (layout.getVariableCount() - 1) * offsetWidth, offsetWidth);
+      } else {
+        offsetWidth = 0;
+        offsetsStart = fixedStart + layout.getFixedSize();
+        valuesStart = offsetsStart;
+        end = valuesStart;
+      }
+    }
+
+    /**
+     * @return slot of field with passed in name or <code>-1</code> if field is not present in this record.
+     */
+    private int indexOf(final String fieldName) {
+      final int index = layout.indexOf(fieldName);
+      if (index < 0 || !isPresent(index)) {
+        return -1;
+      }
+      return index;
+    }
+
+    private boolean isPresent(final int index) {
+      return (stream[presentStart + (index >>> 3)] & (1 << (index & 7))) != 0;
+    }
+
+    private boolean isNull(final int index) {
+      return (stream[nullStart + (index >>> 3)] & (1 << (index & 7))) != 0;
+    }
+
+    private int variableStart(final int index) {
+      final int variableIndex = layout.getVariableIndex(index);
+      if (variableIndex == 0) {
+        return valuesStart;
+      }
+
+      return valuesStart + readOffset(stream, offsetsStart + (variableIndex - 1) * offsetWidth, offsetWidth);
+    }
+
+    private int variableEnd(final int index) {
+      return valuesStart + readOffset(stream, offsetsStart + layout.getVariableIndex(index) * offsetWidth, offsetWidth);
+    }
+
+    private Object read(final int index, final ORecordElement owner, final boolean embeddedAsDocument,
+        final OImmutableSchema schema) {
+      final OType type = layout.getType(index);
+      if (layout.getFixedOffset(index) >= 0) {
+        return readFixed(stream, fixedStart + layout.getFixedOffset(index), type);
+      }
+
+      final int start = variableStart(index);
+      return delegate
+          .deserializeValue(new BytesContainer(stream, start), type, owner, embeddedAsDocument, variableEnd(index) - start, false,
+              schema);
+    }
+  }
+}
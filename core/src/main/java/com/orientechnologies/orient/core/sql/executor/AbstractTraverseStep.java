@@ -22,7 +22,7 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
   protected List<OResult> results     = new ArrayList<>();
   private   long          cost        = 0;
 
-  protected Set<ORID> traversed = new ORidSet();
+  protected Set<ORID> traversed = new ORidHashSet();
 
   public AbstractTraverseStep(List<OTraverseProjectionItem> projections, OWhereClause whileClause, OInteger maxDepth,
       OCommandContext ctx, boolean profilingEnabled) {
@@ -12,22 +12,101 @@ import java.util.*;
 
 /**
  * Created by luigidellaquila on 12/07/16.
+ * <p>
+ * In {@link Phase#COMPLETE} phase groups are kept in heap until they exceed the memory budget of the query (see {@link
+ * OCommandContext#getMemoryBudget()}), after that only the groups which already exist are updated, records of new groups are
+ * partitioned by hash of the group key among temporary files. Once the input is consumed the groups in heap are returned and the
+ * partitions are aggregated one at a time in the same way.
+ * <p>
+ * State of aggregate functions can not be written to a file, so {@link Phase#PARTIAL} phase writes the records of new groups
+ * instead, once its groups exceed the share of the budget, and passes them unaggregated after its groups. {@link Phase#MERGE}
+ * phase aggregates such records in the same way as {@link Phase#COMPLETE} phase, but the groups it keeps in heap once their
+ * records are moved to temporary files may still receive partial state of aggregates, so they are returned only after all the
+ * partitions are aggregated. The budget is divided accordingly, see {@link #phaseMemoryBudget(long)}.
  */
 public class AggregateProjectionCalculationStep extends ProjectionCalculationStep {
 
+  /**
+   * Part of the aggregation which is calculated by the step.
+   */
+  public enum Phase {
+    /**
+     * Aggregates all the records and returns final values of aggregates.
+     */
+    COMPLETE,
+    /**
+     * Aggregates a subset of the records and returns rows which contain not finalized state of aggregates, such rows are consumed
+     * by the step executed in {@link #MERGE} phase.
+     */
+    PARTIAL,
+    /**
+     * Combines rows returned by several steps executed in {@link #PARTIAL} phase and returns final values of aggregates.
+     */
+    MERGE
+  }
+
+  private static final String GROUP_KEY = "$$$GROUP_KEY$$$";
+
+  private static final int PASSED_RECORDS_BATCH = 100;
+
   private final OGroupBy groupBy;
+  private final Phase    phase;
+  private final int      parallelism;
 
   //the key is the GROUP BY key, the value is the (partially) aggregated value
-  private Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
-  private List<OResultInternal>      finalResults     = null;
+  private Map<List<?>, OResultInternal> aggregateResults     = new LinkedHashMap<>();
+  private long                          aggregateResultsSize = 0;
+  private long                          memoryBudget         = 0;
+  private List<OResultInternal>         finalResults         = null;
+
+  //groups of MERGE phase which are kept in heap while records of other groups are aggregated from partitions on disk
+  private Map<List<?>, OResultInternal> residentResults = null;
+
+  private final Deque<OResultPartitions.Partition> pendingPartitions = new ArrayDeque<>();
+  private       OResultPartitions                  spilled           = null;
+  private       int                                level             = 0;
+  private       int                                partitionsCount   = 0;
+
+  //partition of PARTIAL phase, records of which are passed to the MERGE phase
+  private OResultPartitions.Partition passedPartition = null;
+  private Iterator<OResult>           passedRecords   = null;
 
   private int  nextItem = 0;
   private long cost     = 0;
 
   public AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, OCommandContext ctx,
       boolean profilingEnabled) {
+    this(projection, groupBy, Phase.COMPLETE, ctx, profilingEnabled);
+  }
+
+  public AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, Phase phase, OCommandContext ctx,
+      boolean profilingEnabled) {
+    this(projection, groupBy, phase, 1, ctx, profilingEnabled);
+  }
+
+  /**
+   * @param parallelism amount of steps which are executed in {@link Phase#PARTIAL} phase in parallel and share the memory budget
+   *                    of the query
+   */
+  public AggregateProjectionCalculationStep(OProjection projection, OGroupBy groupBy, Phase phase, int parallelism,
+      OCommandContext ctx, boolean profilingEnabled) {
     super(projection, ctx, profilingEnabled);
     this.groupBy = groupBy;
+    this.phase = phase;
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * @return {@code true} if all aggregates of the projection can be calculated in {@link Phase#PARTIAL} phase and then combined in
+   * {@link Phase#MERGE} phase.
+   */
+  public static boolean isCombinable(OProjection projection, OCommandContext ctx) {
+    for (OProjectionItem proj : projection.getItems()) {
+      if (proj.isAggregate() && !proj.getAggregationContext(ctx).isCombinable()) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -41,15 +120,15 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
       @Override
       public boolean hasNext() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext > nRecords) {
           return false;
         }
-        return true;
+        return fetchResults(ctx);
       }
 
       @Override
       public OResult next() {
-        if (localNext > nRecords || nextItem >= finalResults.size()) {
+        if (localNext > nRecords || !fetchResults(ctx)) {
           throw new IllegalStateException();
         }
         OResult result = finalResults.get(nextItem);
@@ -79,17 +158,136 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     if (!prev.isPresent()) {
       throw new OCommandExecutionException("Cannot execute an aggregation or a GROUP BY without a previous result");
     }
+    memoryBudget = phaseMemoryBudget(ctx.getMemoryBudget());
     OExecutionStepInternal prevStep = prev.get();
     OResultSet lastRs = prevStep.syncPull(ctx, nRecords);
     while (lastRs.hasNext()) {
-      aggregate(lastRs.next(), ctx);
+      OResult next = lastRs.next();
+      if (phase == Phase.MERGE && next instanceof OResultInternal
+          && ((OResultInternal) next).getTemporaryProperty(GROUP_KEY) != null) {
+        merge((OResultInternal) next);
+      } else {
+        //records which are passed by PARTIAL phase are aggregated from scratch
+        aggregate(next, ctx);
+      }
       if (!lastRs.hasNext()) {
         lastRs = prevStep.syncPull(ctx, nRecords);
       }
     }
+    completeAggregation();
+  }
+
+  /**
+   * Steps executed in {@link Phase#PARTIAL} phase run in parallel and share a quarter of the budget, their groups are merged in
+   * heap by {@link Phase#MERGE} phase which keeps another quarter for the groups of partitions on disk and half for the rest of
+   * the groups.
+   *
+   * @return part of the memory budget of the query which is used by this step or <code>0</code> if the budget is not limited
+   */
+  private long phaseMemoryBudget(long budget) {
+    if (budget <= 0) {
+      return 0;
+    }
+    switch (phase) {
+    case PARTIAL:
+      return Math.max(1, budget / (4L * parallelism));
+    case MERGE:
+      return Math.max(1, budget / 2);
+    default:
+      return budget;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if there are more results, if the results in heap are already returned aggregates the next
+   * partition on disk
+   */
+  private boolean fetchResults(OCommandContext ctx) {
+    while (nextItem >= finalResults.size()) {
+      if (phase == Phase.PARTIAL) {
+        if (!passSpilledRecords()) {
+          return false;
+        }
+        continue;
+      }
+      OResultPartitions.Partition partition = pendingPartitions.poll();
+      if (partition == null) {
+        if (residentResults == null) {
+          return false;
+        }
+        finalResults = new ArrayList<>(residentResults.values());
+        residentResults = null;
+        finalizeAggregates();
+        nextItem = 0;
+        continue;
+      }
+      try {
+        level = partition.getLevel();
+        Iterator<OResult> records = partition.read();
+        while (records.hasNext()) {
+          aggregate(records.next(), ctx);
+        }
+      } finally {
+        partition.close();
+      }
+      completeAggregation();
+      nextItem = 0;
+    }
+    return true;
+  }
+
+  /**
+   * Moves the next batch of records of new groups, which do not fit in the memory budget of {@link Phase#PARTIAL} phase, to the
+   * results.
+   *
+   * @return <code>false</code> if all the records are already passed
+   */
+  private boolean passSpilledRecords() {
     finalResults = new ArrayList<>();
-    finalResults.addAll(aggregateResults.values());
-    aggregateResults.clear();
+    nextItem = 0;
+    while (finalResults.size() < PASSED_RECORDS_BATCH) {
+      if (passedRecords != null && passedRecords.hasNext()) {
+        finalResults.add((OResultInternal) passedRecords.next());
+        continue;
+      }
+      if (passedPartition != null) {
+        passedPartition.close();
+        passedPartition = null;
+        passedRecords = null;
+      }
+      passedPartition = pendingPartitions.poll();
+      if (passedPartition == null) {
+        break;
+      }
+      passedRecords = passedPartition.read();
+    }
+    return !finalResults.isEmpty();
+  }
+
+  private void completeAggregation() {
+    if (phase == Phase.MERGE && level == 0 && spilled != null) {
+      //partial state of aggregates may be merged to these groups till the end of the input, so records of the groups may be
+      //spilled to partitions as well, groups are returned once all the partitions are aggregated
+      residentResults = aggregateResults;
+      aggregateResults = new LinkedHashMap<>();
+      memoryBudget = Math.max(1, memoryBudget / 2);
+      finalResults = new ArrayList<>();
+    } else {
+      finalResults = new ArrayList<>(aggregateResults.values());
+      aggregateResults.clear();
+    }
+    aggregateResultsSize = 0;
+    if (spilled != null) {
+      partitionsCount += spilled.drainTo(pendingPartitions);
+      spilled = null;
+    }
+    if (phase == Phase.PARTIAL) {
+      return;
+    }
+    finalizeAggregates();
+  }
+
+  private void finalizeAggregates() {
     for (OResultInternal item : finalResults) {
       for (String name : item.getTemporaryProperties()) {
         Object prevVal = item.getTemporaryProperty(name);
@@ -111,8 +309,20 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
         }
       }
       OResultInternal preAggr = aggregateResults.get(key);
-      if (preAggr == null) {
+      if (preAggr == null && residentResults != null) {
+        preAggr = residentResults.get(key);
+      }
+      boolean newGroup = preAggr == null;
+      if (newGroup) {
+        if (spilled != null) {
+          //groups in heap exceed the memory budget, records of new groups are aggregated later
+          spilled.write(key.hashCode(), next);
+          return;
+        }
         preAggr = new OResultInternal();
+        if (phase == Phase.PARTIAL) {
+          preAggr.setTemporaryProperty(GROUP_KEY, key);
+        }
         aggregateResults.put(key, preAggr);
       }
 
@@ -129,6 +339,10 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
           preAggr.setProperty(alias, proj.execute(next, ctx));
         }
       }
+
+      if (newGroup) {
+        accountGroup(key, preAggr);
+      }
     } finally {
       if (profilingEnabled) {
         cost += (System.nanoTime() - begin);
@@ -136,20 +350,94 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
   }
 
+  private void merge(OResultInternal partial) {
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      List<?> key = (List<?>) partial.getTemporaryProperty(GROUP_KEY);
+      OResultInternal preAggr = aggregateResults.get(key);
+      if (preAggr == null) {
+        //partial state can not be written to a file, so group is kept in heap even if records of new groups are already spilled
+        aggregateResults.put(key, partial);
+        accountGroup(key, partial);
+        return;
+      }
+
+      for (OProjectionItem proj : this.projection.getItems()) {
+        String alias = proj.getProjectionAlias().getStringValue();
+        if (proj.isAggregate()) {
+          AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
+          aggrCtx.combine((AggregationContext) partial.getTemporaryProperty(alias));
+        } else {
+          preAggr.setProperty(alias, partial.getProperty(alias));
+        }
+      }
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  /**
+   * Adds estimated size of the new group to the size of the groups in heap, once the size exceeds the memory budget records of new
+   * groups are spilled to partitions on disk.
+   */
+  private void accountGroup(List<?> key, OResultInternal group) {
+    if (memoryBudget <= 0 || spilled != null) {
+      return;
+    }
+    aggregateResultsSize += OResultSizeEstimator.estimateValue(key) + OResultSizeEstimator.estimate(group);
+    if (aggregateResultsSize > memoryBudget && OResultPartitions.canPartition(level)) {
+      spilled = new OResultPartitions(level);
+    }
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
     String result = spaces + "+ CALCULATE AGGREGATE PROJECTIONS";
+    if (phase == Phase.PARTIAL) {
+      result += " (PARTIAL)";
+    } else if (phase == Phase.MERGE) {
+      result += " (MERGE PARTIAL)";
+    }
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    if (partitionsCount > 0) {
+      result += "\n" + spaces + "  (partitions on disk: " + partitionsCount + ")";
+    }
     result +=
         "\n" + spaces + "      " + projection.toString() + "" + (groupBy == null ? "" : (spaces + "\n  " + groupBy.toString()));
     return result;
   }
 
+  @Override
+  public void close() {
+    if (spilled != null) {
+      spilled.close();
+      spilled = null;
+    }
+    if (passedPartition != null) {
+      passedPartition.close();
+      passedPartition = null;
+      passedRecords = null;
+    }
+    for (OResultPartitions.Partition partition : pendingPartitions) {
+      partition.close();
+    }
+    pendingPartitions.clear();
+    super.close();
+  }
+
   @Override
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new AggregateProjectionCalculationStep(projection.copy(), groupBy == null ? null : groupBy.copy(), phase,
+        parallelism, ctx, profilingEnabled);
+  }
 }
@@ -11,4 +11,18 @@ public interface AggregationContext {
   public Object getFinalValue();
 
   void apply(OResult next, OCommandContext ctx);
+
+  /**
+   * @return {@code true} if partial state of this context can be merged with {@link #combine(AggregationContext)}
+   */
+  default boolean isCombinable() {
+    return false;
+  }
+
+  /**
+   * Merges state of the context which aggregated other subset of records into this one.
+   */
+  default void combine(AggregationContext other) {
+    throw new UnsupportedOperationException("Partial state of aggregation " + getClass().getSimpleName() + " can not be combined");
+  }
 }
@@ -0,0 +1,571 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryField;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.sql.parser.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Evaluates simple conditions of WHERE clause (comparisons of top level fields with constants by <code>=, &lt;, &lt;=, &gt;,
+ * &gt;=, BETWEEN, IN, IS NULL, IS NOT NULL</code>) directly on serialized content of records, using {@link OBinaryField} and
+ * {@link com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryComparator}, so records which do not
+ * match are discarded without deserialization.
+ * <p>
+ * Only conditions which are joined by AND on the top level of WHERE clause are evaluated. If condition can not be evaluated on
+ * serialized content (record is not loaded, was changed, field is of not comparable type and so on) the whole WHERE clause has
+ * to be evaluated on the deserialized record.
+ */
+final class BinaryFilter {
+  private final List<Condition> conditions;
+
+  /**
+   * If <code>true</code> all the conditions of WHERE clause are evaluated by this filter.
+   */
+  private final boolean complete;
+
+  private BinaryFilter(final List<Condition> conditions, final boolean complete) {
+    this.conditions = conditions;
+    this.complete = complete;
+  }
+
+  /**
+   * @return Filter which evaluates conditions of passed in WHERE clause which can be evaluated on serialized content or
+   * <code>null</code> if there are no such conditions.
+   */
+  static BinaryFilter create(final OWhereClause whereClause, final OCommandContext ctx) {
+    if (whereClause == null || whereClause.getBaseExpression() == null) {
+      return null;
+    }
+
+    final List<OBooleanExpression> conjuncts = new ArrayList<>();
+    collectConjuncts(whereClause.getBaseExpression(), conjuncts);
+
+    final List<Condition> conditions = new ArrayList<>(conjuncts.size());
+    for (final OBooleanExpression conjunct : conjuncts) {
+      final Condition condition = compile(conjunct, ctx);
+      if (condition != null) {
+        conditions.add(condition);
+      }
+    }
+
+    if (conditions.isEmpty()) {
+      return null;
+    }
+
+    return new BinaryFilter(conditions, conditions.size() == conjuncts.size());
+  }
+
+  private static void collectConjuncts(final OBooleanExpression expression, final List<OBooleanExpression> conjuncts) {
+    if (expression instanceof OOrBlock && ((OOrBlock) expression).getSubBlocks().size() == 1) {
+      collectConjuncts(((OOrBlock) expression).getSubBlocks().get(0), conjuncts);
+    } else if (expression instanceof OAndBlock) {
+      for (final OBooleanExpression subBlock : ((OAndBlock) expression).getSubBlocks()) {
+        collectConjuncts(subBlock, conjuncts);
+      }
+    } else if (expression instanceof ONotBlock && !((ONotBlock) expression).isNegate()) {
+      collectConjuncts(((ONotBlock) expression).getSub(), conjuncts);
+    } else {
+      conjuncts.add(expression);
+    }
+  }
+
+  /**
+   * @return names of top level fields checked by conditions of passed in WHERE clause or <code>null</code> if WHERE clause
+   * contains conditions which are not simple comparisons of fields.
+   */
+  static List<String> conditionFields(final OWhereClause whereClause) {
+    if (whereClause == null || whereClause.getBaseExpression() == null) {
+      return Collections.emptyList();
+    }
+
+    final List<OBooleanExpression> conjuncts = new ArrayList<>();
+    collectConjuncts(whereClause.getBaseExpression(), conjuncts);
+
+    final List<String> fields = new ArrayList<>(conjuncts.size());
+    for (final OBooleanExpression conjunct : conjuncts) {
+      final OExpression field;
+      if (conjunct instanceof OBinaryCondition) {
+        final OExpression left = ((OBinaryCondition) conjunct).getLeft();
+        field = isField(left) ? left : ((OBinaryCondition) conjunct).getRight();
+      } else if (conjunct instanceof OBetweenCondition) {
+        field = ((OBetweenCondition) conjunct).getFirst();
+      } else if (conjunct instanceof OInCondition) {
+        field = ((OInCondition) conjunct).getLeft();
+      } else if (conjunct instanceof OIsNullCondition) {
+        field = ((OIsNullCondition) conjunct).getExpression();
+      } else if (conjunct instanceof OIsNotNullCondition) {
+        field = ((OIsNotNullCondition) conjunct).getExpression();
+      } else {
+        return null;
+      }
+
+      if (!isField(field)) {
+        return null;
+      }
+
+      fields.add(fieldName(field));
+    }
+
+    return fields;
+  }
+
+  /**
+   * @return <code>true</code> if passed in records match WHERE clause does not need to be evaluated again.
+   */
+  boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Evaluates conditions on serialized content of record.
+   *
+   * @return {@link Boolean#FALSE} if record does not match conditions, {@link Boolean#TRUE} if record matches all conditions of
+   * this filter and <code>null</code> if record has to be checked by evaluation of WHERE clause on deserialized record.
+   */
+  Boolean evaluate(final OResult result) {
+    if (!result.isElement()) {
+      return null;
+    }
+
+    final Optional<OElement> element = result.getElement();
+    if (!element.isPresent()) {
+      return null;
+    }
+
+    final ORecord record = element.get().getRecord();
+    if (!(record instanceof ODocument)) {
+      return null;
+    }
+
+    final ODocument document = (ODocument) record;
+    if (document.isEmbedded()) {
+      return null;
+    }
+
+    final byte[] source = ODocumentInternal.getSerializedSource(document);
+    if (source == null || source.length == 0) {
+      return null;
+    }
+
+    final int version = source[0];
+    if (version < 0 || version >= ORecordSerializerBinary.INSTANCE.getNumberOfSupportedVersions()) {
+      return null;
+    }
+
+    final ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getSerializer(version);
+    final OImmutableSchema schema = ODocumentInternal.getImmutableSchema(document);
+    if (schema == null) {
+      return null;
+    }
+
+    final Record serializedRecord = new Record(document, source, version, serializer, schema);
+
+    boolean undefined = false;
+    for (final Condition condition : conditions) {
+      final Boolean matches;
+      try {
+        matches = condition.evaluate(serializedRecord);
+      } catch (final RuntimeException e) {
+        //value can not be compared on binary level, whole WHERE clause will be evaluated on deserialized record
+        return null;
+      }
+
+      if (matches == null) {
+        undefined = true;
+      } else if (!matches) {
+        return Boolean.FALSE;
+      }
+    }
+
+    return undefined ? null : Boolean.TRUE;
+  }
+
+  private static Condition compile(final OBooleanExpression expression, final OCommandContext ctx) {
+    if (expression instanceof OBinaryCondition) {
+      final OBinaryCondition condition = (OBinaryCondition) expression;
+
+      OExpression left = condition.getLeft();
+      OExpression right = condition.getRight();
+      OBinaryCompareOperator operator = condition.getOperator();
+
+      if (!isField(left) && isField(right)) {
+        final OExpression swap = left;
+        left = right;
+        right = swap;
+
+        if (operator instanceof OLtOperator) {
+          operator = new OGtOperator(-1);
+        } else if (operator instanceof OGtOperator) {
+          operator = new OLtOperator(-1);
+        } else if (operator instanceof OLeOperator) {
+          operator = new OGeOperator(-1);
+        } else if (operator instanceof OGeOperator) {
+          operator = new OLeOperator(-1);
+        }
+      }
+
+      if (!(operator instanceof OEqualsCompareOperator || operator instanceof OLtOperator || operator instanceof OGtOperator
+          || operator instanceof OLeOperator || operator instanceof OGeOperator)) {
+        return null;
+      }
+
+      if (!isField(left) || !right.isEarlyCalculated(ctx)) {
+        return null;
+      }
+
+      final Constant constant = Constant.create(right.execute((OResult) null, ctx));
+      if (constant == null) {
+        return null;
+      }
+
+      return new Comparison(fieldName(left), operator, constant);
+    }
+
+    if (expression instanceof OBetweenCondition) {
+      final OBetweenCondition condition = (OBetweenCondition) expression;
+      if (!isField(condition.getFirst()) || !condition.getSecond().isEarlyCalculated(ctx) || !condition.getThird()
+          .isEarlyCalculated(ctx)) {
+        return null;
+      }
+
+      final Constant from = Constant.create(condition.getSecond().execute((OResult) null, ctx));
+      final Constant to = Constant.create(condition.getThird().execute((OResult) null, ctx));
+      if (from == null || to == null) {
+        return null;
+      }
+
+      return new Between(fieldName(condition.getFirst()), from, to);
+    }
+
+    if (expression instanceof OInCondition) {
+      final OInCondition condition = (OInCondition) expression;
+      if (!isField(condition.getLeft()) || condition.getRightStatement() != null) {
+        return null;
+      }
+
+      final Object values;
+      if (condition.getRightParam() != null) {
+        values = condition.getRightParam().getValue(ctx.getInputParameters());
+      } else if (condition.getRightMathExpression() != null && condition.getRightMathExpression().isEarlyCalculated(ctx)) {
+        values = condition.getRightMathExpression().execute((OResult) null, ctx);
+      } else {
+        return null;
+      }
+
+      if (!OMultiValue.isMultiValue(values)) {
+        return null;
+      }
+
+      final List<Constant> constants = new ArrayList<>();
+      for (final Object value : OMultiValue.getMultiValueIterable(values, false)) {
+        final Constant constant = Constant.create(value);
+        if (constant == null) {
+          return null;
+        }
+
+        constants.add(constant);
+      }
+
+      return new In(fieldName(condition.getLeft()), constants);
+    }
+
+    if (expression instanceof OIsNullCondition) {
+      final OExpression field = ((OIsNullCondition) expression).getExpression();
+      return isField(field) ? new IsNull(fieldName(field), true) : null;
+    }
+
+    if (expression instanceof OIsNotNullCondition) {
+      final OExpression field = ((OIsNotNullCondition) expression).getExpression();
+      return isField(field) ? new IsNull(fieldName(field), false) : null;
+    }
+
+    return null;
+  }
+
+  static boolean isField(final OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier()) {
+      return false;
+    }
+
+    final String name = fieldName(expression);
+    return !name.startsWith("$") && !name.startsWith("@");
+  }
+
+  static String fieldName(final OExpression expression) {
+    return expression.getDefaultAlias().getStringValue();
+  }
+
+  /**
+   * Serialized record which is evaluated by filter.
+   */
+  private static final class Record {
+    private final ODocument           document;
+    private final byte[]              source;
+    private final int                 version;
+    private final ODocumentSerializer serializer;
+    private final OImmutableSchema    schema;
+
+    private Record(final ODocument document, final byte[] source, final int version, final ODocumentSerializer serializer,
+        final OImmutableSchema schema) {
+      this.document = document;
+      this.source = source;
+      this.version = version;
+      this.serializer = serializer;
+      this.schema = schema;
+    }
+
+    /**
+     * @return Serialized value of the field or <code>null</code> if field is absent, its value is <code>null</code> or it can not
+     * be compared on binary level.
+     */
+    private OBinaryField field(final String name) {
+      final OClass clazz = ODocumentInternal.getImmutableSchemaClass(document);
+      final BytesContainer bytes = new BytesContainer(source).skip(1);
+      final OBinaryField field = serializer
+          .deserializeField(bytes, clazz, name, false, schema, ODocumentInternal.getPropertyEncryption(document));
+
+      //fields which were stored before property was added to the schema are serialized without collate
+      if (field != null && field.collate == null && clazz != null) {
+        final OProperty property = clazz.getProperty(name);
+        if (property != null && property.getCollate() != null) {
+          return new OBinaryField(field.name, field.type, field.bytes, property.getCollate());
+        }
+      }
+
+      return field;
+    }
+  }
+
+  /**
+   * Constant with which values of fields are compared, serialized by each version of serializer on demand.
+   */
+  private static final class Constant {
+    private final Object         value;
+    private final OType          type;
+    private final OBinaryField[] serialized = new OBinaryField[ORecordSerializerBinary.INSTANCE.getNumberOfSupportedVersions()];
+
+    private Constant(final Object value, final OType type) {
+      this.value = value;
+      this.type = type;
+    }
+
+    private static Constant create(final Object value) {
+      if (value == null) {
+        return null;
+      }
+
+      final OType type = OType.getTypeByValue(value);
+      if (type == null) {
+        return null;
+      }
+
+      switch (type) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case STRING:
+      case BOOLEAN:
+      case DATETIME:
+        return new Constant(value, type);
+      case LINK:
+        return value instanceof ORID ? new Constant(value, type) : null;
+      default:
+        return null;
+      }
+    }
+
+    /**
+     * @return <code>true</code> if result of binary comparison of field with this constant is the same as result of comparison of
+     * deserialized values.
+     */
+    private boolean isComparableWith(final OType fieldType) {
+      if (fieldType == type) {
+        return true;
+      }
+
+      return isIntegral(type) && (isIntegral(fieldType) || fieldType == OType.FLOAT || fieldType == OType.DOUBLE);
+    }
+
+    private static boolean isIntegral(final OType type) {
+      return type == OType.BYTE || type == OType.SHORT || type == OType.INTEGER || type == OType.LONG;
+    }
+
+    private OBinaryField serialized(final Record record) {
+      OBinaryField field = serialized[record.version];
+      if (field == null) {
+        final BytesContainer bytes = new BytesContainer();
+        record.serializer.serializeValue(bytes, value, type, null, record.schema, null);
+        bytes.offset = 0;
+
+        field = new OBinaryField(null, type, bytes, null);
+        serialized[record.version] = field;
+      }
+
+      return field.copy();
+    }
+
+    /**
+     * @return Result of comparison of field with constant or <code>null</code> if they can not be compared on binary level.
+     */
+    private Integer compare(final OBinaryField field, final Record record) {
+      if (!isComparableWith(field.type)) {
+        return null;
+      }
+
+      return record.serializer.getComparator().compare(field.copy(), serialized(record));
+    }
+
+    private Boolean isEqual(final OBinaryField field, final Record record) {
+      if (!isComparableWith(field.type)) {
+        return null;
+      }
+
+      return record.serializer.getComparator().isEqual(field.copy(), serialized(record));
+    }
+  }
+
+  private abstract static class Condition {
+    protected final String fieldName;
+
+    private Condition(final String fieldName) {
+      this.fieldName = fieldName;
+    }
+
+    /**
+     * @return Result of evaluation of condition or <code>null</code> if condition can not be evaluated on serialized record.
+     */
+    protected Boolean evaluate(final Record record) {
+      final OBinaryField field = record.field(fieldName);
+      if (field == null) {
+        //field is absent, null, or has type which can not be compared, so even IS NULL can not be evaluated
+        return null;
+      }
+
+      return evaluate(field, record);
+    }
+
+    protected abstract Boolean evaluate(OBinaryField field, Record record);
+  }
+
+  private static final class Comparison extends Condition {
+    private final OBinaryCompareOperator operator;
+    private final Constant               constant;
+
+    private Comparison(final String fieldName, final OBinaryCompareOperator operator, final Constant constant) {
+      super(fieldName);
+      this.operator = operator;
+      this.constant = constant;
+    }
+
+    @Override
+    protected Boolean evaluate(final OBinaryField field, final Record record) {
+      if (operator instanceof OEqualsCompareOperator) {
+        return constant.isEqual(field, record);
+      }
+
+      final Integer result = constant.compare(field, record);
+      if (result == null) {
+        return null;
+      }
+
+      if (operator instanceof OLtOperator) {
+        return result < 0;
+      }
+      if (operator instanceof OLeOperator) {
+        return result <= 0;
+      }
+      if (operator instanceof OGtOperator) {
+        return result > 0;
+      }
+
+      return result >= 0;
+    }
+  }
+
+  private static final class Between extends Condition {
+    private final Constant from;
+    private final Constant to;
+
+    private Between(final String fieldName, final Constant from, final Constant to) {
+      super(fieldName);
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Boolean evaluate(final OBinaryField field, final Record record) {
+      final Integer fromResult = from.compare(field, record);
+      if (fromResult == null) {
+        return null;
+      }
+      if (fromResult < 0) {
+        return Boolean.FALSE;
+      }
+
+      final Integer toResult = to.compare(field, record);
+      if (toResult == null) {
+        return null;
+      }
+
+      return toResult <= 0;
+    }
+  }
+
+  private static final class In extends Condition {
+    private final List<Constant> constants;
+
+    private In(final String fieldName, final List<Constant> constants) {
+      super(fieldName);
+      this.constants = Collections.unmodifiableList(constants);
+    }
+
+    @Override
+    protected Boolean evaluate(final OBinaryField field, final Record record) {
+      boolean undefined = false;
+      for (final Constant constant : constants) {
+        final Boolean equal = constant.isEqual(field, record);
+        if (equal == null) {
+          undefined = true;
+        } else if (equal) {
+          return Boolean.TRUE;
+        }
+      }
+
+      return undefined ? null : Boolean.FALSE;
+    }
+  }
+
+  private static final class IsNull extends Condition {
+    private final boolean isNull;
+
+    private IsNull(final String fieldName, final boolean isNull) {
+      super(fieldName);
+      this.isNull = isNull;
+    }
+
+    @Override
+    protected Boolean evaluate(final OBinaryField field, final Record record) {
+      return !isNull;
+    }
+  }
+}
@@ -4,26 +4,56 @@ import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.id.ORID;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * Created by luigidellaquila on 08/07/16.
+ * <p>
+ * Results which were already returned are kept in heap. If the step is allowed to change the order of results, once they exceed
+ * the memory budget of the query (see {@link OCommandContext#getMemoryBudget()}) the set of returned results is not extended any
+ * more, new results which are not in the set are partitioned by hash among temporary files instead. Once the input is consumed
+ * the set is cleared and partitions are processed one at a time in the same way.
  */
 public class DistinctExecutionStep extends AbstractExecutionStep {
+  private static final int RID_SIZE = 16;
 
-  private Set<OResult> pastItems = new HashSet<>();
-  private ORidSet      pastRids  = new ORidSet();
+  private Set<OResult> pastItems     = new HashSet<>();
+  private ORidHashSet  pastRids      = new ORidHashSet();
+  private long         pastItemsSize = 0;
+  private Long         memoryBudget  = null;
 
-  private OResultSet lastResult = null;
+  private OResultSet lastResult   = null;
+  private boolean    prevConsumed = false;
   private OResult    nextValue;
 
+  private final Deque<OResultPartitions.Partition> pendingPartitions = new ArrayDeque<>();
+  private       OResultPartitions                  spilled           = null;
+  private       OResultPartitions.Partition        currentPartition  = null;
+  private       Iterator<OResult>                  partitionInput    = null;
+  private       int                                level             = 0;
+  private       int                                partitionsCount   = 0;
+
+  private final boolean spillAllowed;
+
   private long cost = 0;
 
   public DistinctExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
+    this(false, ctx, profilingEnabled);
+  }
+
+  /**
+   * @param spillAllowed <code>true</code> if the following steps do not depend on the order of results, so the results which do
+   *                     not fit in the memory budget can be partitioned on disk and returned after all the other results
+   */
+  public DistinctExecutionStep(boolean spillAllowed, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
+    this.spillAllowed = spillAllowed;
   }
 
   @Override
@@ -81,23 +111,30 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
   }
 
   private void fetchNext(int nRecords) {
-    while (true) {
-      if (nextValue != null) {
-        return;
-      }
-      if (lastResult == null || !lastResult.hasNext()) {
-        lastResult = getPrev().get().syncPull(ctx, nRecords);
-      }
-      if (lastResult == null || !lastResult.hasNext()) {
+    if (memoryBudget == null) {
+      memoryBudget = spillAllowed ? ctx.getMemoryBudget() : 0;
+    }
+    while (nextValue == null) {
+      OResult item = nextInput(nRecords);
+      if (item == null) {
         return;
       }
       long begin = profilingEnabled ? System.nanoTime() : 0;
       try {
-        nextValue = lastResult.next();
-        if (alreadyVisited(nextValue)) {
-          nextValue = null;
-        } else {
-          markAsVisited(nextValue);
+        ORID identity = persistentIdentity(item);
+        if (alreadyVisited(item, identity)) {
+          continue;
+        }
+        if (spilled != null) {
+          spilled.write(identity != null ? identity.hashCode() : item.hashCode(), item);
+          continue;
+        }
+
+        markAsVisited(item, identity);
+        nextValue = item;
+        if (memoryBudget > 0 && pastItemsSize + (long) pastRids.size() * RID_SIZE > memoryBudget && OResultPartitions
+            .canPartition(level)) {
+          spilled = new OResultPartitions(level);
         }
       } finally {
         if (profilingEnabled) {
@@ -107,31 +144,88 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
     }
   }
 
-  private void markAsVisited(OResult nextValue) {
-    if (nextValue.isElement()) {
-      ORID identity = nextValue.getElement().get().getIdentity();
-      int cluster = identity.getClusterId();
-      long pos = identity.getClusterPosition();
-      if (cluster >= 0 && pos >= 0) {
-        pastRids.add(identity);
-        return;
+  /**
+   * @return next result of the previous step or, once they are consumed, of the partitions on disk, <code>null</code> if there
+   * are no more results
+   */
+  private OResult nextInput(int nRecords) {
+    while (true) {
+      if (!prevConsumed) {
+        if (lastResult == null || !lastResult.hasNext()) {
+          lastResult = getPrev().get().syncPull(ctx, nRecords);
+        }
+        if (lastResult != null && lastResult.hasNext()) {
+          return lastResult.next();
+        }
+        prevConsumed = true;
+      } else if (partitionInput != null && partitionInput.hasNext()) {
+        return partitionInput.next();
+      }
+
+      if (!nextPartition()) {
+        return null;
       }
     }
-    pastItems.add(nextValue);
   }
 
-  private boolean alreadyVisited(OResult nextValue) {
-    if (nextValue.isElement()) {
-      ORID identity = nextValue.getElement().get().getIdentity();
+  private boolean nextPartition() {
+    closeCurrentPartition();
+    if (spilled != null) {
+      partitionsCount += spilled.drainTo(pendingPartitions);
+      spilled = null;
+    }
+
+    //results of the remaining partitions differ from all the results returned so far
+    pastItems.clear();
+    pastRids.clear();
+    pastItemsSize = 0;
+
+    currentPartition = pendingPartitions.poll();
+    if (currentPartition == null) {
+      return false;
+    }
+    level = currentPartition.getLevel();
+    partitionInput = currentPartition.read();
+    return true;
+  }
+
+  private static ORID persistentIdentity(OResult item) {
+    if (item.isElement()) {
+      ORID identity = item.getElement().get().getIdentity();
       int cluster = identity.getClusterId();
       long pos = identity.getClusterPosition();
       if (cluster >= 0 && pos >= 0) {
-        return pastRids.contains(identity);
+        return identity;
       }
     }
+    return null;
+  }
+
+  private void markAsVisited(OResult nextValue, ORID identity) {
+    if (identity != null) {
+      pastRids.add(identity);
+      return;
+    }
+    if (pastItems.add(nextValue) && memoryBudget > 0) {
+      pastItemsSize += OResultSizeEstimator.estimate(nextValue);
+    }
+  }
+
+  private boolean alreadyVisited(OResult nextValue, ORID identity) {
+    if (identity != null) {
+      return pastRids.contains(identity);
+    }
     return pastItems.contains(nextValue);
   }
 
+  private void closeCurrentPartition() {
+    if (currentPartition != null) {
+      currentPartition.close();
+      currentPartition = null;
+      partitionInput = null;
+    }
+  }
+
   @Override
   public void sendTimeout() {
 
@@ -139,6 +233,15 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
 
   @Override
   public void close() {
+    closeCurrentPartition();
+    if (spilled != null) {
+      spilled.close();
+      spilled = null;
+    }
+    for (OResultPartitions.Partition partition : pendingPartitions) {
+      partition.close();
+    }
+    pendingPartitions.clear();
     prev.ifPresent(x -> x.close());
   }
 
@@ -148,6 +251,7 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    result += (partitionsCount > 0 ? "\n  (partitions on disk: " + partitionsCount + ")" : "");
     return result;
   }
 
@@ -10,9 +10,18 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableSchema;
 import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryFieldsProjection;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ODocumentSerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinaryV1;
 import com.orientechnologies.orient.core.sql.parser.*;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 
@@ -31,6 +40,10 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
   private ORecordIteratorCluster iterator;
   private long cost = 0;
 
+  private OBinaryFieldsProjection projection;
+  private Object[]                projectedValues;
+  private boolean[]               projectedFound;
+
   public FetchFromClusterExecutionStep(int clusterId, OCommandContext ctx, boolean profilingEnabled) {
     this(clusterId, null, ctx, profilingEnabled);
   }
@@ -54,6 +67,11 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
         if (ORDER_DESC.equals(order)) {
           iterator.last();
         }
+        if (queryPlanning != null && queryPlanning.projectedFields != null) {
+          projection = new OBinaryFieldsProjection(queryPlanning.projectedFields);
+          projectedValues = new Object[projection.size()];
+          projectedFound = new boolean[projection.size()];
+        }
       }
       OResultSet rs = new OResultSet() {
 
@@ -103,6 +121,9 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
             nFetched++;
             OResultInternal result = new OResultInternal();
             result.element = record;
+            if (projection != null) {
+              readProjectedFields(record, result);
+            }
             ctx.setVariable("$current", result);
             return result;
           } finally {
@@ -137,6 +158,43 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
 
   }
 
+  /**
+   * copies the values of the projected fields from the serialized record to the result, so that the record is not deserialized
+   * when the fields are accessed. The record is still referenced by the result, the fields that are not projected are read from it
+   * as usual.
+   */
+  private void readProjectedFields(ORecord record, OResultInternal result) {
+    if (!(record instanceof ODocument)) {
+      return;
+    }
+    ODocument document = (ODocument) record;
+    byte[] source = ODocumentInternal.getSerializedSource(document);
+    if (source == null || source.length == 0) {
+      return;
+    }
+    int version = source[0];
+    if (version < 0 || version >= ORecordSerializerBinary.INSTANCE.getNumberOfSupportedVersions()) {
+      return;
+    }
+    ODocumentSerializer serializer = ORecordSerializerBinary.INSTANCE.getSerializer(version);
+    OImmutableSchema schema = ODocumentInternal.getImmutableSchema(document);
+    if (!(serializer instanceof ORecordSerializerBinaryV1) || schema == null) {
+      return;
+    }
+
+    Arrays.fill(projectedFound, false);
+    if (((ORecordSerializerBinaryV1) serializer)
+        .deserializeFields(new BytesContainer(source).skip(1), schema, projection, projectedValues, projectedFound)) {
+      String[] fieldNames = queryPlanning.projectedFields;
+      for (int i = 0; i < fieldNames.length; i++) {
+        if (projectedFound[i]) {
+          result.setProperty(fieldNames[i], projectedValues[i]);
+        }
+      }
+    }
+    Arrays.fill(projectedValues, null);
+  }
+
   private long calculateMinClusterPosition() {
     if (queryPlanning == null || queryPlanning.ridRangeConditions == null || queryPlanning.ridRangeConditions.isEmpty()) {
       return -1;
@@ -221,6 +279,10 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
     this.order = order;
   }
 
+  public int getClusterId() {
+    return clusterId;
+  }
+
   @Override
   public long getCost() {
     return cost;
@@ -15,6 +15,9 @@ import java.util.Optional;
 public class FilterStep extends AbstractExecutionStep {
   private OWhereClause whereClause;
 
+  private BinaryFilter binaryFilter;
+  private boolean      binaryFilterCreated;
+
   private OResultSet prevResult = null;
 
   private long cost;
@@ -31,6 +34,11 @@ public class FilterStep extends AbstractExecutionStep {
     }
     OExecutionStepInternal prevStep = prev.get();
 
+    if (!binaryFilterCreated) {
+      binaryFilter = BinaryFilter.create(whereClause, ctx);
+      binaryFilterCreated = true;
+    }
+
     return new OResultSet() {
       public boolean finished = false;
 
@@ -60,6 +68,19 @@ public class FilterStep extends AbstractExecutionStep {
           nextItem = prevResult.next();
           long begin = profilingEnabled ? System.nanoTime() : 0;
           try {
+            if (binaryFilter != null) {
+              //records which do not match simple conditions are discarded without deserialization
+              final Boolean binaryResult = binaryFilter.evaluate(nextItem);
+              if (Boolean.FALSE.equals(binaryResult)) {
+                nextItem = null;
+                continue;
+              }
+
+              if (binaryResult != null && binaryFilter.isComplete()) {
+                break;
+              }
+            }
+
             if (whereClause.matchesFilters(nextItem, ctx)) {
               break;
             }
@@ -3,10 +3,20 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.index.OIndexStatistics;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
 import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+
+import java.util.List;
 
 /**
  * Created by luigidellaquila on 26/07/16.
@@ -41,13 +51,100 @@ public class IndexSearchDescriptor {
       range = op.isRangeOperator();
     }
 
-    long val = stats.getIndexStats(indexName, size, range, additionalRangeCondition != null);
+    long val = estimateFromStatistics(ctx);
     if (val == -1) {
-      //TODO query the index!
+      val = stats.getIndexStats(indexName, size, range, additionalRangeCondition != null);
     }
     if (val >= 0) {
       return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
     }
     return Integer.MAX_VALUE;
   }
+
+  /**
+   * Estimates amount of entries returned by this index lookup using statistics gathered by ANALYZE INDEX command.
+   *
+   * @return estimated amount of entries or -1 if estimation is not possible
+   */
+  private long estimateFromStatistics(OCommandContext ctx) {
+    OIndexDefinition definition = idx.getDefinition();
+    if (definition == null) {
+      return -1;
+    }
+
+    List<OBooleanExpression> subBlocks = keyCondition.getSubBlocks();
+    boolean fullKeyEquality = additionalRangeCondition == null && subBlocks.size() == definition.getFields().size() && subBlocks
+        .stream().allMatch(x -> x instanceof OBinaryCondition && ((OBinaryCondition) x).getOperator() instanceof OEqualsCompareOperator);
+    if (fullKeyEquality && idx.isUnique()) {
+      return 1;
+    }
+
+    OIndexInternal<?> internal = idx.getInternal();
+    OIndexStatistics statistics = internal == null ? null : internal.getStatistics();
+    if (statistics == null) {
+      return -1;
+    }
+
+    double selectivity;
+    if (fullKeyEquality) {
+      selectivity = statistics.fullKeySelectivity();
+    } else {
+      selectivity = estimateLeadingField(statistics, definition, ctx);
+    }
+    if (selectivity < 0) {
+      return -1;
+    }
+
+    return Math.max(1, Math.round(selectivity * statistics.getKeyCount()));
+  }
+
+  private double estimateLeadingField(OIndexStatistics statistics, OIndexDefinition definition, OCommandContext ctx) {
+    OBooleanExpression first = keyCondition.getSubBlocks().get(0);
+    if (!(first instanceof OBinaryCondition) || !((OBinaryCondition) first).getRight().isEarlyCalculated(ctx)) {
+      return -1;
+    }
+
+    OBinaryCondition condition = (OBinaryCondition) first;
+    OBinaryCompareOperator operator = condition.getOperator();
+    Object value = OIndexStatistics.toLeadingKey(definition, condition.getRight().execute((OResult) null, ctx));
+    if (value == null) {
+      return -1;
+    }
+    if (operator instanceof OEqualsCompareOperator) {
+      return statistics.equalsSelectivity(value);
+    }
+
+    Object from = null;
+    Object to = null;
+    boolean fromInclusive = false;
+    boolean toInclusive = false;
+    if (operator instanceof OGtOperator || operator instanceof OGeOperator) {
+      from = value;
+      fromInclusive = operator instanceof OGeOperator;
+    } else if (operator instanceof OLtOperator || operator instanceof OLeOperator) {
+      to = value;
+      toInclusive = operator instanceof OLeOperator;
+    } else {
+      return -1;
+    }
+
+    if (keyCondition.getSubBlocks().size() == 1 && additionalRangeCondition != null && additionalRangeCondition.getRight()
+        .isEarlyCalculated(ctx)) {
+      OBinaryCompareOperator additionalOperator = additionalRangeCondition.getOperator();
+      Object additionalValue = OIndexStatistics
+          .toLeadingKey(definition, additionalRangeCondition.getRight().execute((OResult) null, ctx));
+      if (additionalValue == null) {
+        return -1;
+      }
+      if (additionalOperator instanceof OGtOperator || additionalOperator instanceof OGeOperator) {
+        from = additionalValue;
+        fromInclusive = additionalOperator instanceof OGeOperator;
+      } else if (additionalOperator instanceof OLtOperator || additionalOperator instanceof OLeOperator) {
+        to = additionalValue;
+        toInclusive = additionalOperator instanceof OLeOperator;
+      }
+    }
+
+    return statistics.rangeSelectivity(from, fromInclusive, to, toInclusive);
+  }
 }
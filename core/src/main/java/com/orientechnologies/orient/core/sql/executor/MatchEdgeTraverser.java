@@ -303,7 +303,7 @@ public class MatchEdgeTraverser {
     Iterable possibleResults = null;
     if (this.item.getFilter() != null) {
       String alias = getEndpointAlias();
-      Object matchedNodes = iCommandContext.getVariable(MatchPrefetchStep.PREFETCHED_MATCH_ALIAS_PREFIX + alias);
+      Object matchedNodes = iCommandContext.getVariable(MatchPrefetchStep.PREFETCHED_MATCH_ALIAS_RIDS_PREFIX + alias);
       if (matchedNodes != null) {
         if (matchedNodes instanceof Iterable) {
           possibleResults = (Iterable) matchedNodes;
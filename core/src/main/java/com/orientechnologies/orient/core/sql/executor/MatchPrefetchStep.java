@@ -13,6 +13,12 @@ public class MatchPrefetchStep extends AbstractExecutionStep {
 
   public static final String PREFETCHED_MATCH_ALIAS_PREFIX = "$$OrientDB_Prefetched_Alias_Prefix__";
 
+  /**
+   * Prefix of variable which contains RIDs of prefetched records packed in {@link ORidSortedList}, it is passed as possible
+   * results of pattern edges, so candidates are looked up in order of their RIDs and are packed only once.
+   */
+  public static final String PREFETCHED_MATCH_ALIAS_RIDS_PREFIX = "$$OrientDB_Prefetched_Alias_Rids_Prefix__";
+
   private final String                 alias;
   private final OInternalExecutionPlan prefetchExecutionPlan;
 
@@ -45,6 +51,7 @@ public class MatchPrefetchStep extends AbstractExecutionStep {
       }
       prefetchExecutionPlan.close();
       ctx.setVariable(PREFETCHED_MATCH_ALIAS_PREFIX + alias, prefetched);
+      ctx.setVariable(PREFETCHED_MATCH_ALIAS_RIDS_PREFIX + alias, ORidSortedList.of(prefetched));
       executed = true;
     }
     return new OInternalResultSet();
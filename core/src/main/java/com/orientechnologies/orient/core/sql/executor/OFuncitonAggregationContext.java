@@ -37,4 +37,14 @@ public class OFuncitonAggregationContext implements AggregationContext {
     }
     aggregateFunction.execute(next, null, null, paramValues.toArray(), ctx);
   }
+
+  @Override
+  public boolean isCombinable() {
+    return aggregateFunction.isCombinable();
+  }
+
+  @Override
+  public void combine(AggregationContext other) {
+    aggregateFunction.combine(((OFuncitonAggregationContext) other).aggregateFunction);
+  }
 }
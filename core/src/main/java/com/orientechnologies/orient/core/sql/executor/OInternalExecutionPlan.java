@@ -25,6 +25,13 @@ public interface OInternalExecutionPlan extends OExecutionPlan {
 
   long getCost();
 
+  /**
+   * @return Context of execution of the plan or <code>null</code> if plan does not keep it.
+   */
+  default OCommandContext getContext() {
+    return null;
+  }
+
   default OResult serialize() {
     throw new UnsupportedOperationException();
   }
@@ -107,7 +107,8 @@ public class OMatchExecutionPlanner {
       addReturnStep(result, context, enableProfiling);
 
       if (this.returnDistinct) {
-        result.chain(new DistinctExecutionStep(context, enableProfiling));
+        //results are sorted after DISTINCT, so their order can be changed by it
+        result.chain(new DistinctExecutionStep(true, context, enableProfiling));
       }
       if (groupBy != null) {
         throw new OCommandExecutionException(
@@ -0,0 +1,108 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+/**
+ * Encodes RID as single <code>long</code> value, so collections of RIDs may be stored in primitive arrays instead of arrays of
+ * {@link ORecordId} instances. Upper 16 bits of packed value contain cluster id, lower 48 bits contain cluster position, both
+ * values are signed, so RIDs of new and temporary records can be packed too.
+ * <p>
+ * Value {@link #NULL} is never produced for real RID, so it can be used by collections as marker of absent entry.
+ */
+public final class OPackedRid {
+  /**
+   * Value which does not correspond to any RID.
+   */
+  public static final long NULL = Long.MIN_VALUE;
+
+  private static final int POSITION_BITS = 48;
+
+  private static final long MIN_POSITION = -(1L << (POSITION_BITS - 1));
+  private static final long MAX_POSITION = (1L << (POSITION_BITS - 1)) - 1;
+
+  private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+
+  private OPackedRid() {
+  }
+
+  /**
+   * @return <code>true</code> if RID can be encoded as single <code>long</code> value.
+   */
+  public static boolean isPackable(final ORID rid) {
+    return rid != null && isPackable(rid.getClusterId(), rid.getClusterPosition());
+  }
+
+  private static boolean isPackable(final int clusterId, final long clusterPosition) {
+    return clusterId > Short.MIN_VALUE && clusterId <= Short.MAX_VALUE && clusterPosition >= MIN_POSITION
+        && clusterPosition <= MAX_POSITION;
+  }
+
+  /**
+   * @throws IllegalArgumentException if RID is <code>null</code> or its cluster id or position is out of supported range.
+   */
+  public static long pack(final ORID rid) {
+    if (rid == null) {
+      throw new IllegalArgumentException("Null RID can not be packed");
+    }
+
+    return pack(rid.getClusterId(), rid.getClusterPosition());
+  }
+
+  /**
+   * @throws IllegalArgumentException if cluster id or position is out of supported range.
+   */
+  public static long pack(final int clusterId, final long clusterPosition) {
+    if (!isPackable(clusterId, clusterPosition)) {
+      throw new IllegalArgumentException("RID #" + clusterId + ":" + clusterPosition + " can not be packed");
+    }
+
+    return ((long) clusterId << POSITION_BITS) | (clusterPosition & POSITION_MASK);
+  }
+
+  public static int clusterId(final long packed) {
+    return (int) (packed >> POSITION_BITS);
+  }
+
+  public static long clusterPosition(final long packed) {
+    return (packed << (Long.SIZE - POSITION_BITS)) >> (Long.SIZE - POSITION_BITS);
+  }
+
+  /**
+   * @return RID which corresponds to the packed value or <code>null</code> if {@link #NULL} is passed.
+   */
+  public static ORecordId unpack(final long packed) {
+    if (packed == NULL) {
+      return null;
+    }
+
+    return new ORecordId(clusterId(packed), clusterPosition(packed));
+  }
+
+  /**
+   * Hash of packed value which is used by open addressing hash tables, the highest bits of result are the best mixed ones.
+   */
+  static long mix(final long packed) {
+    return packed * 0x9E3779B97F4A7C15L;
+  }
+}
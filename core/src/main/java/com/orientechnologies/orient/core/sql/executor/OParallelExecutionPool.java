@@ -0,0 +1,121 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pool shared by all databases which is used by {@link ParallelExecStep} to execute sub-plans concurrently.
+ * <p>
+ * Amount of threads which may be used by a single database at the same time is limited by
+ * {@link OGlobalConfiguration#QUERY_PARALLEL_MAX_THREADS_PER_DATABASE}, so heavy queries of one database can not starve queries
+ * of the others. Tasks are never queued: if there is no free thread or database exhausted its limit task is rejected and caller
+ * is expected to do the work by itself. Because of that nested parallel steps can not deadlock waiting for each other.
+ */
+final class OParallelExecutionPool {
+  private static volatile OParallelExecutionPool instance;
+
+  private final ThreadPoolExecutor                   executor;
+  private final int                                  maxThreadsPerDatabase;
+  private final ConcurrentHashMap<String, Semaphore> databasePermits = new ConcurrentHashMap<>();
+
+  OParallelExecutionPool(final int threads, final int maxThreadsPerDatabase) {
+    this.maxThreadsPerDatabase = Math.max(1, maxThreadsPerDatabase);
+
+    final int poolSize = Math.max(1, threads);
+    final AtomicInteger threadCounter = new AtomicInteger();
+    executor = new OThreadPoolExecutorWithLogging(poolSize, poolSize, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+      final Thread thread = new Thread(r, "OrientDB Parallel Query Executor " + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  static OParallelExecutionPool instance() {
+    OParallelExecutionPool pool = instance;
+    if (pool == null) {
+      synchronized (OParallelExecutionPool.class) {
+        pool = instance;
+        if (pool == null) {
+          pool = new OParallelExecutionPool(OGlobalConfiguration.QUERY_PARALLEL_POOL_SIZE.getValueAsInteger(),
+              OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS_PER_DATABASE.getValueAsInteger());
+          instance = pool;
+        }
+      }
+    }
+
+    return pool;
+  }
+
+  /**
+   * Starts execution of task in one of the threads of the pool.
+   *
+   * @param database name of the database on behalf of which task is executed
+   * @param task     task to execute
+   *
+   * @return <code>true</code> if task is started, <code>false</code> if there are no free threads in the pool or the database
+   * already uses all threads which are allowed to it.
+   */
+  boolean tryExecute(final String database, final Runnable task) {
+    final Semaphore permits = databasePermits.computeIfAbsent(database, name -> new Semaphore(maxThreadsPerDatabase));
+    if (!permits.tryAcquire()) {
+      return false;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          task.run();
+        } finally {
+          permits.release();
+        }
+      });
+    } catch (RejectedExecutionException ignore) {
+      permits.release();
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * @return amount of threads which are currently used by given database.
+   */
+  int activeThreads(final String database) {
+    final Semaphore permits = databasePermits.get(database);
+    if (permits == null) {
+      return 0;
+    }
+
+    return maxThreadsPerDatabase - permits.availablePermits();
+  }
+}
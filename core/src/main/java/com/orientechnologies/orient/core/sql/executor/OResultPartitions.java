@@ -0,0 +1,139 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Distributes results of a hash based operation of a query (eg. DISTINCT or GROUP BY) among temporary files by hash of their
+ * keys, so results with equal keys end up in the same partition and every partition can be processed separately once all the
+ * results are distributed.
+ * <p>
+ * Each level of partitioning uses next bits of the hash, so a partition which still does not fit in the memory budget of the
+ * query can be partitioned again. Results of the partition which is created once all the bits are used have the same hash and
+ * can not be split any more.
+ */
+final class OResultPartitions implements AutoCloseable {
+  private static final int BITS_PER_LEVEL = 4;
+  private static final int PARTITIONS     = 1 << BITS_PER_LEVEL;
+  private static final int LEVELS         = Integer.SIZE / BITS_PER_LEVEL;
+
+  private final int                level;
+  private final OResultSpillFile[] files = new OResultSpillFile[PARTITIONS];
+
+  /**
+   * @param level level of partitioning, results of the operation are partitioned at level 0 and results of partitions created at
+   *              level <code>n</code> are partitioned at level <code>n + 1</code>
+   */
+  OResultPartitions(final int level) {
+    if (!canPartition(level)) {
+      throw new IllegalArgumentException("All the bits of hash are already used by previous levels of partitioning");
+    }
+    this.level = level;
+  }
+
+  /**
+   * @return <code>true</code> if results can be partitioned at the given level, otherwise partition has to be processed in heap
+   */
+  static boolean canPartition(final int level) {
+    return level < LEVELS;
+  }
+
+  void write(final int hash, final OResult result) {
+    final int index = (spread(hash) >>> (level * BITS_PER_LEVEL)) & (PARTITIONS - 1);
+    OResultSpillFile file = files[index];
+    if (file == null) {
+      file = new OResultSpillFile();
+      files[index] = file;
+    }
+    file.write(result);
+  }
+
+  /**
+   * Moves partitions which contain results to the queue, files of the partitions have to be closed by the caller.
+   *
+   * @return amount of partitions added to the queue
+   */
+  int drainTo(final Deque<Partition> queue) {
+    int count = 0;
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (files[i] != null) {
+        queue.add(new Partition(files[i], level + 1));
+        files[i] = null;
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public void close() {
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (files[i] != null) {
+        files[i].close();
+        files[i] = null;
+      }
+    }
+  }
+
+  /**
+   * Mixes bits of the hash code, so each group of bits used by a level of partitioning depends on all the bits of the hash code.
+   */
+  private static int spread(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  /**
+   * Partition of results written to temporary file.
+   */
+  static final class Partition implements AutoCloseable {
+    private final OResultSpillFile file;
+    private final int              level;
+
+    private Partition(final OResultSpillFile file, final int level) {
+      this.file = file;
+      this.level = level;
+    }
+
+    /**
+     * @return level at which results of the partition are partitioned again
+     */
+    int getLevel() {
+      return level;
+    }
+
+    Iterator<OResult> read() {
+      return file.read();
+    }
+
+    @Override
+    public void close() {
+      file.close();
+    }
+  }
+}
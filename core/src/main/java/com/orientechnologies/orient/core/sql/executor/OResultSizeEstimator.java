@@ -0,0 +1,128 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Gives rough estimation of the amount of heap memory occupied by query results. Estimation is used to decide when intermediate
+ * results of a memory intensive operation have to be moved from the heap to temporary files, so it has to be fast rather than
+ * precise.
+ */
+final class OResultSizeEstimator {
+  private static final int RESULT_OVERHEAD = 64;
+  private static final int ENTRY_OVERHEAD  = 32;
+  private static final int OBJECT_OVERHEAD = 16;
+
+  private OResultSizeEstimator() {
+  }
+
+  static long estimate(final OResult result) {
+    long size = RESULT_OVERHEAD;
+
+    if (result instanceof OResultInternal) {
+      final OResultInternal internal = (OResultInternal) result;
+      if (internal.element != null) {
+        size += estimateElement(internal.element);
+      }
+
+      size += estimateMap(internal.content);
+      if (internal.temporaryContent != null) {
+        size += estimateMap(internal.temporaryContent);
+      }
+      if (internal.metadata != null) {
+        size += estimateMap(internal.metadata);
+      }
+    } else {
+      for (String name : result.getPropertyNames()) {
+        size += ENTRY_OVERHEAD + estimateValue(name) + estimateValue(result.getProperty(name));
+      }
+    }
+
+    return size;
+  }
+
+  private static long estimateElement(final OIdentifiable element) {
+    if (element instanceof ORecordAbstract) {
+      final int serializedSize = ((ORecordAbstract) element).getSize();
+      // deserialized fields take more space than their serialized form
+      return RESULT_OVERHEAD + 2L * serializedSize;
+    }
+
+    return RESULT_OVERHEAD;
+  }
+
+  private static long estimateMap(final Map<?, ?> map) {
+    long size = OBJECT_OVERHEAD;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      size += ENTRY_OVERHEAD + estimateValue(entry.getKey()) + estimateValue(entry.getValue());
+    }
+    return size;
+  }
+
+  static long estimateValue(final Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String) {
+      return 40 + 2L * ((String) value).length();
+    }
+    if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Date) {
+      return 24;
+    }
+    if (value instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) value).length;
+    }
+    if (value instanceof OResult) {
+      return estimate((OResult) value);
+    }
+    if (value instanceof ORecord) {
+      return estimateElement((ORecord) value);
+    }
+    if (value instanceof OIdentifiable) {
+      return 40;
+    }
+    if (value instanceof ORecordLazyMultiValue) {
+      // links are not loaded just to estimate their size
+      return OBJECT_OVERHEAD + 40L * ((ORecordLazyMultiValue) value).size();
+    }
+    if (value instanceof Map) {
+      return estimateMap((Map<?, ?>) value);
+    }
+    if (value instanceof Collection) {
+      long size = OBJECT_OVERHEAD;
+      for (Object item : (Collection<?>) value) {
+        size += 8 + estimateValue(item);
+      }
+      return size;
+    }
+
+    return OBJECT_OVERHEAD;
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Temporary file which keeps results of a query operation which do not fit in the memory budget of the query, for example sorted
+ * runs of ORDER BY. Results are appended one by one and then read back sequentially in the same order.
+ * <p>
+ * Records are written as their serialized content together with their identity and version, so they are read back without access
+ * to the database and results are not affected by changes of the records which are done after the results are written. Other
+ * results are written by {@link OResultSerializerNetwork}. The file is deleted once it is closed.
+ */
+final class OResultSpillFile implements AutoCloseable {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final byte PROJECTION = 0;
+  private static final byte RECORD     = 1;
+
+  private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+
+  private final File             file;
+  private       DataOutputStream output;
+  private       DataInputStream  input;
+  private       long             size;
+
+  OResultSpillFile() {
+    try {
+      final File directory = new File(Orient.getTempPath());
+      if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+        throw new IOException("Cannot create directory " + directory);
+      }
+
+      file = File.createTempFile("query-", ".spill", directory);
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot create temporary file for query results"), e);
+    }
+  }
+
+  /**
+   * @return amount of results which were written in the file
+   */
+  long size() {
+    return size;
+  }
+
+  void write(final OResult result) {
+    if (output == null) {
+      throw new IllegalStateException("Results of temporary file " + file + " are already read");
+    }
+
+    try {
+      final ORecord record = result.isProjection() ? null : result.getRecord().orElse(null);
+      if (record == null) {
+        output.writeByte(PROJECTION);
+        writeResult(result);
+      } else {
+        output.writeByte(RECORD);
+        output.writeByte(ORecordInternal.getRecordType(record));
+        writeIdentity(record.getIdentity());
+        output.writeInt(record.getVersion());
+        output.writeBoolean(record.isDirty());
+        writeBytes(record.toStream());
+
+        writeResult(additionalContent(result));
+      }
+
+      writeResult(temporaryContent(result));
+      size++;
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot write query results to temporary file " + file), e);
+    }
+  }
+
+  /**
+   * Completes writing and releases the file handle and the buffer used for writing, so many files may be kept till they are
+   * read. Results can not be written after this call.
+   */
+  void finish() {
+    try {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot write query results to temporary file " + file), e);
+    }
+  }
+
+  /**
+   * Completes writing and returns iterator over the written results. The results can be read only once.
+   */
+  Iterator<OResult> read() {
+    finish();
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Cannot read query results from temporary file " + file), e);
+    }
+
+    return new Iterator<OResult>() {
+      private long read = 0;
+
+      @Override
+      public boolean hasNext() {
+        return read < size;
+      }
+
+      @Override
+      public OResult next() {
+        if (read >= size) {
+          throw new NoSuchElementException();
+        }
+
+        try {
+          final OResult result = readResult();
+          read++;
+          return result;
+        } catch (IOException e) {
+          throw OException
+              .wrapException(new OCommandExecutionException("Cannot read query results from temporary file " + file), e);
+        }
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+      if (input != null) {
+        input.close();
+        input = null;
+      }
+    } catch (IOException e) {
+      OLogManager.instance().warn(this, "Error during closing of temporary file %s", e, file);
+    }
+
+    if (file.exists() && !file.delete()) {
+      OLogManager.instance().warn(this, "Cannot delete temporary file %s", file);
+    }
+  }
+
+  private OResult readResult() throws IOException {
+    final byte kind = input.readByte();
+
+    final OResultInternal result;
+    if (kind == PROJECTION) {
+      result = readContent();
+    } else {
+      final byte recordType = input.readByte();
+      final ORecordId identity = new ORecordId(input.readInt(), input.readLong());
+      final int version = input.readInt();
+      final boolean dirty = input.readBoolean();
+
+      final ORecord record = Orient.instance().getRecordFactoryManager()
+          .newInstance(recordType, identity.getClusterId(), ODatabaseRecordThreadLocal.instance().getIfDefined());
+      ORecordInternal.fill(record, identity, version, readBytes(), dirty);
+
+      result = new OResultInternal();
+      result.setElement(record);
+
+      final OResultInternal additional = readContent();
+      for (String name : additional.getPropertyNames()) {
+        result.setProperty(name, additional.getProperty(name));
+      }
+      for (String key : additional.getMetadataKeys()) {
+        result.setMetadata(key, additional.getMetadata(key));
+      }
+    }
+
+    final OResultInternal temporary = readContent();
+    for (String name : temporary.getPropertyNames()) {
+      result.setTemporaryProperty(name, temporary.getProperty(name));
+    }
+    return result;
+  }
+
+  private void writeIdentity(final ORID identity) throws IOException {
+    output.writeInt(identity.getClusterId());
+    output.writeLong(identity.getClusterPosition());
+  }
+
+  private void writeResult(final OResult result) throws IOException {
+    final BytesContainer bytes = BytesContainer.pooled();
+    try {
+      serializer.serialize(result, bytes);
+      output.writeInt(bytes.offset);
+      output.write(bytes.bytes, 0, bytes.offset);
+    } finally {
+      bytes.release();
+    }
+  }
+
+  private void writeBytes(final byte[] bytes) throws IOException {
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private byte[] readBytes() throws IOException {
+    final byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return bytes;
+  }
+
+  private OResultInternal readContent() throws IOException {
+    return serializer.deserialize(new BytesContainer(readBytes()));
+  }
+
+  /**
+   * @return properties and metadata which are set on the result in addition to the properties of its record
+   */
+  private static OResult additionalContent(final OResult result) {
+    final OResultInternal content = new OResultInternal();
+    if (result instanceof OResultInternal) {
+      final OResultInternal source = (OResultInternal) result;
+      for (Map.Entry<String, Object> entry : source.content.entrySet()) {
+        content.setProperty(entry.getKey(), entry.getValue());
+      }
+      for (String key : source.getMetadataKeys()) {
+        content.setMetadata(key, source.getMetadata(key));
+      }
+    }
+    return content;
+  }
+
+  private static OResult temporaryContent(final OResult result) {
+    final OResultInternal content = new OResultInternal();
+    if (result instanceof OResultInternal) {
+      final OResultInternal source = (OResultInternal) result;
+      for (String name : source.getTemporaryProperties()) {
+        content.setProperty(name, source.getTemporaryProperty(name));
+      }
+    }
+    return content;
+  }
+}
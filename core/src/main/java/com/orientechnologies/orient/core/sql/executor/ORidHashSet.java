@@ -0,0 +1,267 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of RIDs which keeps them packed by {@link OPackedRid} in open addressing hash table with linear probing, so single entry
+ * takes 8 bytes (16 bytes at the worst fill factor) instead of instance of {@link com.orientechnologies.orient.core.id.ORecordId}
+ * and entry of {@link java.util.HashSet}. Unlike {@link ORidSet} memory consumption does not depend on values of cluster
+ * positions, so set works well for sparse RIDs and for RIDs of new records.
+ * <p>
+ * Iterator of set creates new RID instances and does not support removal of items.
+ */
+public class ORidHashSet extends AbstractSet<ORID> {
+  private static final int   MIN_CAPACITY = 16;
+  private static final float LOAD_FACTOR  = 0.75f;
+
+  private long[] keys;
+  private int    size;
+  private int    shift;
+  private int    threshold;
+
+  public ORidHashSet() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize Amount of RIDs which may be added to the set without rehashing.
+   */
+  public ORidHashSet(final int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    if (!(o instanceof ORID)) {
+      return false;
+    }
+
+    final ORID rid = (ORID) o;
+    return OPackedRid.isPackable(rid) && contains(OPackedRid.pack(rid));
+  }
+
+  /**
+   * @param packed RID packed by {@link OPackedRid#pack(ORID)}.
+   */
+  public boolean contains(final long packed) {
+    final int mask = keys.length - 1;
+    int index = index(packed);
+
+    while (true) {
+      final long key = keys[index];
+      if (key == packed) {
+        return true;
+      }
+      if (key == OPackedRid.NULL) {
+        return false;
+      }
+
+      index = (index + 1) & mask;
+    }
+  }
+
+  /**
+   * @throws IllegalArgumentException if RID can not be packed by {@link OPackedRid}.
+   */
+  @Override
+  public boolean add(final ORID rid) {
+    return add(OPackedRid.pack(rid));
+  }
+
+  /**
+   * @param packed RID packed by {@link OPackedRid#pack(ORID)}.
+   */
+  public boolean add(final long packed) {
+    if (packed == OPackedRid.NULL) {
+      throw new IllegalArgumentException("Null RID can not be added to the set");
+    }
+
+    final int mask = keys.length - 1;
+    int index = index(packed);
+
+    while (true) {
+      final long key = keys[index];
+      if (key == packed) {
+        return false;
+      }
+      if (key == OPackedRid.NULL) {
+        keys[index] = packed;
+        size++;
+
+        if (size > threshold) {
+          rehash(keys.length << 1);
+        }
+
+        return true;
+      }
+
+      index = (index + 1) & mask;
+    }
+  }
+
+  @Override
+  public boolean remove(final Object o) {
+    if (!(o instanceof ORID)) {
+      return false;
+    }
+
+    final ORID rid = (ORID) o;
+    return OPackedRid.isPackable(rid) && remove(OPackedRid.pack(rid));
+  }
+
+  /**
+   * @param packed RID packed by {@link OPackedRid#pack(ORID)}.
+   */
+  public boolean remove(final long packed) {
+    final int mask = keys.length - 1;
+    int index = index(packed);
+
+    while (true) {
+      final long key = keys[index];
+      if (key == OPackedRid.NULL) {
+        return false;
+      }
+      if (key == packed) {
+        break;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    //shift following entries of the same cluster of occupied slots back, so lookups do not stop on the removed entry
+    int gap = index;
+    int next = (gap + 1) & mask;
+    while (keys[next] != OPackedRid.NULL) {
+      final int home = index(keys[next]);
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        keys[gap] = keys[next];
+        gap = next;
+      }
+
+      next = (next + 1) & mask;
+    }
+
+    keys[gap] = OPackedRid.NULL;
+    size--;
+
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final Collection<?> c) {
+    boolean modified = false;
+    for (final Object o : c) {
+      modified |= remove(o);
+    }
+
+    return modified;
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(keys, OPackedRid.NULL);
+      size = 0;
+    }
+  }
+
+  @Override
+  public Iterator<ORID> iterator() {
+    return new Iterator<ORID>() {
+      private int index = -1;
+      private int returned;
+
+      @Override
+      public boolean hasNext() {
+        return returned < size;
+      }
+
+      @Override
+      public ORID next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        do {
+          index++;
+        } while (keys[index] == OPackedRid.NULL);
+
+        returned++;
+        return OPackedRid.unpack(keys[index]);
+      }
+    };
+  }
+
+  private int index(final long packed) {
+    return (int) (OPackedRid.mix(packed) >>> shift);
+  }
+
+  private void rehash(final int capacity) {
+    final long[] oldKeys = keys;
+    allocate(capacity);
+
+    final int mask = capacity - 1;
+    for (final long key : oldKeys) {
+      if (key != OPackedRid.NULL) {
+        int index = index(key);
+        while (keys[index] != OPackedRid.NULL) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = key;
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    Arrays.fill(keys, OPackedRid.NULL);
+
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    threshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  static int capacityFor(final int expectedSize) {
+    final long required = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+    if (required > (1 << 30)) {
+      return 1 << 30;
+    }
+
+    return Integer.highestOneBit((int) required - 1) << 1;
+  }
+}
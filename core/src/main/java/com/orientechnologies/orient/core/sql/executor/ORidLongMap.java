@@ -0,0 +1,164 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.Arrays;
+
+/**
+ * Map from RIDs to <code>long</code> values which keeps keys packed by {@link OPackedRid} in open addressing hash table with
+ * linear probing, so neither keys nor values are boxed. Values are often RIDs packed by {@link OPackedRid} too, for example
+ * links between vertices of paths which are found during graph traversal.
+ * <p>
+ * Absent value is reported as {@link OPackedRid#NULL}, so this value can not be stored in the map.
+ */
+public class ORidLongMap {
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private long[] keys;
+  private long[] values;
+  private int    size;
+  private int    shift;
+  private int    threshold;
+
+  public ORidLongMap() {
+    this(16);
+  }
+
+  /**
+   * @param expectedSize Amount of entries which may be added to the map without rehashing.
+   */
+  public ORidLongMap(final int expectedSize) {
+    allocate(ORidHashSet.capacityFor(expectedSize));
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(final ORID rid) {
+    return OPackedRid.isPackable(rid) && get(OPackedRid.pack(rid)) != OPackedRid.NULL;
+  }
+
+  /**
+   * @param key RID packed by {@link OPackedRid#pack(ORID)}.
+   *
+   * @return Value which is associated with the key or {@link OPackedRid#NULL} if there is no such value.
+   */
+  public long get(final long key) {
+    final int mask = keys.length - 1;
+    int index = index(key);
+
+    while (true) {
+      final long current = keys[index];
+      if (current == key) {
+        return values[index];
+      }
+      if (current == OPackedRid.NULL) {
+        return OPackedRid.NULL;
+      }
+
+      index = (index + 1) & mask;
+    }
+  }
+
+  /**
+   * @param key   RID packed by {@link OPackedRid#pack(ORID)}.
+   * @param value Any value except of {@link OPackedRid#NULL}.
+   *
+   * @return Previous value which was associated with the key or {@link OPackedRid#NULL} if there was no such value.
+   */
+  public long put(final long key, final long value) {
+    if (key == OPackedRid.NULL || value == OPackedRid.NULL) {
+      throw new IllegalArgumentException("Null RID can not be stored in the map");
+    }
+
+    final int mask = keys.length - 1;
+    int index = index(key);
+
+    while (true) {
+      final long current = keys[index];
+      if (current == key) {
+        final long oldValue = values[index];
+        values[index] = value;
+        return oldValue;
+      }
+      if (current == OPackedRid.NULL) {
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        if (size > threshold) {
+          rehash(keys.length << 1);
+        }
+
+        return OPackedRid.NULL;
+      }
+
+      index = (index + 1) & mask;
+    }
+  }
+
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(keys, OPackedRid.NULL);
+      size = 0;
+    }
+  }
+
+  private int index(final long key) {
+    return (int) (OPackedRid.mix(key) >>> shift);
+  }
+
+  private void rehash(final int capacity) {
+    final long[] oldKeys = keys;
+    final long[] oldValues = values;
+    allocate(capacity);
+
+    final int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      final long key = oldKeys[i];
+      if (key != OPackedRid.NULL) {
+        int index = index(key);
+        while (keys[index] != OPackedRid.NULL) {
+          index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    values = new long[capacity];
+    Arrays.fill(keys, OPackedRid.NULL);
+
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    threshold = (int) (capacity * LOAD_FACTOR);
+  }
+}
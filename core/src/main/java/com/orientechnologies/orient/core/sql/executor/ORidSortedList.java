@@ -0,0 +1,239 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List of distinct RIDs which keeps them packed by {@link OPackedRid} in sorted primitive array, so single entry takes 8 bytes.
+ * RIDs are sorted by cluster id and then by cluster position, the same way as {@link ORecordId#compareTo(OIdentifiable)} does,
+ * so lookup is a binary search and two lists are intersected by a single merge pass.
+ * <p>
+ * List is meant to be filled once and then read, added RIDs are sorted and duplicates are removed only by the first read. Items
+ * are created as new RID instances on every access and can not be removed.
+ */
+public class ORidSortedList extends AbstractList<ORID> implements RandomAccess {
+  /**
+   * Sign bit of cluster position in packed RID, packed RIDs are stored with flipped sign bit, so order of stored values is the
+   * order of signed cluster positions.
+   */
+  private static final long POSITION_SIGN = 1L << 47;
+
+  private long[]  keys;
+  private int     size;
+  private boolean sorted = true;
+
+  public ORidSortedList() {
+    this(16);
+  }
+
+  /**
+   * @param expectedSize Amount of RIDs which may be added to the list without growing of the array.
+   */
+  public ORidSortedList(final int expectedSize) {
+    keys = new long[Math.max(1, expectedSize)];
+  }
+
+  /**
+   * Creates list which contains RIDs of passed in items. Items may be {@link OIdentifiable}s or {@link OResult}s, items of other
+   * types, <code>null</code> values, results which are not records and RIDs which can not be packed are skipped (list never
+   * contains such RIDs anyway). If passed in items are already {@link ORidSortedList} they are returned as is.
+   */
+  public static ORidSortedList of(final Iterable<?> items) {
+    if (items instanceof ORidSortedList) {
+      return (ORidSortedList) items;
+    }
+
+    final ORidSortedList list =
+        items instanceof Collection ? new ORidSortedList(((Collection<?>) items).size()) : new ORidSortedList();
+    for (final Object item : items) {
+      ORID rid = null;
+      if (item instanceof OIdentifiable) {
+        rid = ((OIdentifiable) item).getIdentity();
+      } else if (item instanceof OResult) {
+        rid = ((OResult) item).getIdentity().orElse(null);
+      }
+
+      if (rid != null && OPackedRid.isPackable(rid)) {
+        list.add(OPackedRid.pack(rid));
+      }
+    }
+
+    return list;
+  }
+
+  @Override
+  public int size() {
+    sort();
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public ORID get(final int index) {
+    return OPackedRid.unpack(getPacked(index));
+  }
+
+  /**
+   * @return RID packed by {@link OPackedRid#pack(ORID)} which is placed at passed in position of sorted list.
+   */
+  public long getPacked(final int index) {
+    sort();
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+
+    return keys[index] ^ POSITION_SIGN;
+  }
+
+  /**
+   * @throws IllegalArgumentException if RID can not be packed by {@link OPackedRid}.
+   */
+  @Override
+  public boolean add(final ORID rid) {
+    add(OPackedRid.pack(rid));
+    return true;
+  }
+
+  /**
+   * @param packed RID packed by {@link OPackedRid#pack(ORID)}.
+   */
+  public void add(final long packed) {
+    if (packed == OPackedRid.NULL) {
+      throw new IllegalArgumentException("Null RID can not be added to the list");
+    }
+
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, Math.max(size + 1, size + (size >> 1)));
+    }
+
+    final long key = packed ^ POSITION_SIGN;
+    if (sorted && size > 0 && keys[size - 1] >= key) {
+      sorted = false;
+    }
+
+    keys[size] = key;
+    size++;
+    modCount++;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  /**
+   * @param packed RID packed by {@link OPackedRid#pack(ORID)}.
+   */
+  public boolean contains(final long packed) {
+    return indexOf(packed) >= 0;
+  }
+
+  @Override
+  public int indexOf(final Object o) {
+    if (!(o instanceof ORID)) {
+      return -1;
+    }
+
+    final ORID rid = (ORID) o;
+    return OPackedRid.isPackable(rid) ? indexOf(OPackedRid.pack(rid)) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(final Object o) {
+    return indexOf(o);
+  }
+
+  /**
+   * @param packed RID packed by {@link OPackedRid#pack(ORID)}.
+   *
+   * @return position of RID in the sorted list or negative value if list does not contain it.
+   */
+  public int indexOf(final long packed) {
+    sort();
+    final int index = Arrays.binarySearch(keys, 0, size, packed ^ POSITION_SIGN);
+    return index >= 0 ? index : -1;
+  }
+
+  /**
+   * @return new list which contains RIDs present in both this and passed in list, lists are merged in a single pass.
+   */
+  public ORidSortedList intersect(final ORidSortedList other) {
+    sort();
+    other.sort();
+
+    final ORidSortedList result = new ORidSortedList(Math.min(size, other.size));
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      final long key = keys[i];
+      final long otherKey = other.keys[j];
+      if (key < otherKey) {
+        i++;
+      } else if (key > otherKey) {
+        j++;
+      } else {
+        result.keys[result.size++] = key;
+        i++;
+        j++;
+      }
+    }
+
+    return result;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    sorted = true;
+    modCount++;
+  }
+
+  private void sort() {
+    if (sorted) {
+      return;
+    }
+
+    Arrays.sort(keys, 0, size);
+
+    int distinct = 0;
+    for (int i = 0; i < size; i++) {
+      if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+        keys[distinct] = keys[i];
+        distinct++;
+      }
+    }
+
+    size = distinct;
+    sorted = true;
+  }
+}
@@ -95,6 +95,11 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
     return 0l;
   }
 
+  @Override
+  public OCommandContext getContext() {
+    return ctx;
+  }
+
   public OResult serialize() {
     OResultInternal result = new OResultInternal();
     result.setProperty("type", "QueryExecutionPlan");
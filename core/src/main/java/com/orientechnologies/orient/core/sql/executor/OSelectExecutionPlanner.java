@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
@@ -55,11 +56,16 @@ public class OSelectExecutionPlanner {
     info.skip = this.statement.getSkip();
     info.limit = this.statement.getLimit();
     info.lockRecord = this.statement.getLockRecord();
+    info.timeout = this.statement.getTimeout() == null ? null : this.statement.getTimeout().copy();
 
   }
 
   public OInternalExecutionPlan createExecutionPlan(OCommandContext ctx, boolean enableProfiling, boolean useCache) {
     ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (statement.getMemoryBudget() != null) {
+      //the budget is read by the steps during the execution, so it is set also when the plan is taken from the cache
+      ctx.setMemoryBudget(statement.getMemoryBudget());
+    }
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached()) {
       OExecutionPlan plan = OExecutionPlanCache.get(statement.getOriginalStatement(), ctx, db);
       if (plan != null) {
@@ -104,6 +110,8 @@ public class OSelectExecutionPlanner {
 
     handleProjectionsBlock(result, info, ctx, enableProfiling);
 
+    handleTimeout(result, info, ctx, enableProfiling);
+
     if (useCache && !enableProfiling && statement.executinPlanCanBeCached() && result.canBeCached()
         && OExecutionPlanCache.getLastInvalidation(db) < planningStart) {
       OExecutionPlanCache.put(statement.getOriginalStatement(), result, (ODatabaseDocumentInternal) ctx.getDatabase());
@@ -111,6 +119,12 @@ public class OSelectExecutionPlanner {
     return result;
   }
 
+  private void handleTimeout(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx, boolean enableProfiling) {
+    if (info.timeout != null && info.timeout.getVal().longValue() > 0) {
+      result.chain(new TimeoutStep(info.timeout, ctx, enableProfiling));
+    }
+  }
+
   private void handleLockRecord(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx, boolean enableProfiling) {
     if (info.lockRecord != null) {
       result.chain(new LockRecordStep(info.lockRecord, ctx, enableProfiling));
@@ -653,7 +667,9 @@ public class OSelectExecutionPlanner {
   private static void handleDistinct(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
       boolean profilingEnabled) {
     if (info.distinct) {
-      result.chain(new DistinctExecutionStep(ctx, profilingEnabled));
+      //ORDER BY is executed before DISTINCT, so results can be moved to disk only if they do not have to be sorted
+      boolean spillAllowed = info.orderBy == null || info.orderBy.getItems() == null || info.orderBy.getItems().isEmpty();
+      result.chain(new DistinctExecutionStep(spillAllowed, ctx, profilingEnabled));
     }
   }
 
@@ -671,7 +687,9 @@ public class OSelectExecutionPlanner {
         result.chain(new ProjectionCalculationStep(info.preAggregateProjection, ctx, profilingEnabled));
       }
       if (info.aggregateProjection != null) {
-        result.chain(new AggregateProjectionCalculationStep(info.aggregateProjection, info.groupBy, ctx, profilingEnabled));
+        if (!handleParallelAggregation(result, info, ctx, profilingEnabled)) {
+          result.chain(new AggregateProjectionCalculationStep(info.aggregateProjection, info.groupBy, ctx, profilingEnabled));
+        }
         if (isCountOnly(info) && info.groupBy == null) {
           result.chain(new GuaranteeEmptyCountStep(info.aggregateProjection.getItems().get(0), ctx, profilingEnabled));
         }
@@ -683,6 +701,67 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  /**
+   * If records are fetched by a scan of the class and then only filtered and projected, replaces the scan with the aggregation of
+   * each cluster in a separate sub-plan. Sub-plans are executed by {@link ParallelExecStep} and their partial results are merged.
+   * <p>
+   * Sub-plans share the memory budget of the query, records of groups which do not fit in it are passed to the merge unaggregated
+   * (see {@link AggregateProjectionCalculationStep}). Classes which have less records than {@link
+   * OGlobalConfiguration#QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS} are aggregated by a single thread, because for them the cost
+   * of sub-plans and of the merge of partial results outweighs the gain.
+   *
+   * @return {@code true} if aggregation steps are added to the plan
+   */
+  private static boolean handleParallelAggregation(OSelectExecutionPlan result, QueryPlanningInfo info, OCommandContext ctx,
+      boolean profilingEnabled) {
+    if (ctx.getDatabase() == null || !ctx.getDatabase().getConfiguration()
+        .getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION)) {
+      return false;
+    }
+    List<OExecutionStep> steps = result.getSteps();
+    if (steps.isEmpty() || steps.get(0).getClass() != FetchFromClassExecutionStep.class) {
+      return false;
+    }
+    for (OExecutionStep step : steps.subList(1, steps.size())) {
+      Class<?> stepClass = step.getClass();
+      if (stepClass != FilterStep.class && stepClass != ProjectionCalculationStep.class) {
+        return false;
+      }
+    }
+
+    List<OExecutionStep> partitions = ((FetchFromClassExecutionStep) steps.get(0)).getSubSteps();
+    int[] clusterIds = partitions.stream().filter(x -> x instanceof FetchFromClusterExecutionStep)
+        .mapToInt(x -> ((FetchFromClusterExecutionStep) x).getClusterId()).toArray();
+    if (clusterIds.length < 2 || !AggregateProjectionCalculationStep.isCombinable(info.aggregateProjection, ctx)) {
+      return false;
+    }
+
+    long minimumRecords = ctx.getDatabase().getConfiguration()
+        .getValueAsLong(OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS);
+    if (minimumRecords > 0 && ctx.getDatabase().countClusterElements(clusterIds) < minimumRecords) {
+      return false;
+    }
+
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (OExecutionStep partition : partitions) {
+      OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
+      subPlan.chain((OExecutionStepInternal) partition);
+      for (OExecutionStep step : steps.subList(1, steps.size())) {
+        subPlan.chain((OExecutionStepInternal) ((OExecutionStepInternal) step).copy(ctx));
+      }
+      subPlan.chain(new AggregateProjectionCalculationStep(info.aggregateProjection.copy(),
+          info.groupBy == null ? null : info.groupBy.copy(), AggregateProjectionCalculationStep.Phase.PARTIAL, partitions.size(),
+          ctx, profilingEnabled));
+      subPlans.add(subPlan);
+    }
+
+    result.setSteps(new ArrayList<>());
+    result.chain(new ParallelExecStep(subPlans, ctx, profilingEnabled));
+    result.chain(new AggregateProjectionCalculationStep(info.aggregateProjection, info.groupBy,
+        AggregateProjectionCalculationStep.Phase.MERGE, ctx, profilingEnabled));
+    return true;
+  }
+
   protected static void optimizeQuery(QueryPlanningInfo info, OCommandContext ctx) {
     splitLet(info, ctx);
     rewriteIndexChainsAsSubqueries(info, ctx);
@@ -1605,6 +1684,7 @@ public class OSelectExecutionPlanner {
 
     AbstractExecutionStep fetcher;
     if (schema.getClass(className) != null) {
+      info.projectedFields = calculateProjectedFields(info);
       fetcher = new FetchFromClassExecutionStep(className, filterClusters, info, ctx, orderByRidAsc, profilingEnabled);
     } else if (schema.getView(className) != null) {
       fetcher = new FetchFromViewExecutionStep(className, filterClusters, info, ctx, orderByRidAsc, profilingEnabled);
@@ -1618,6 +1698,45 @@ public class OSelectExecutionPlanner {
     plan.chain(fetcher);
   }
 
+  /**
+   * calculates the top level fields of records that are needed by the WHERE condition and by the first projection applied to the
+   * records, so that the fetch steps can read them directly from the serialized records, without deserializing them
+   *
+   * @param info the query planning information
+   *
+   * @return the names of the fields, null if the projection or the WHERE condition need more than plain fields
+   */
+  private static String[] calculateProjectedFields(QueryPlanningInfo info) {
+    if (info.expand || info.globalLetPresent) {
+      return null;
+    }
+    OProjection projection = info.preAggregateProjection;
+    if (projection == null) {
+      if (info.aggregateProjection != null) {
+        return null;
+      }
+      projection = info.projection;
+    }
+    if (projection == null || projection.getItems() == null || projection.getItems().isEmpty()) {
+      return null;
+    }
+
+    Set<String> result = new LinkedHashSet<>();
+    for (OProjectionItem item : projection.getItems()) {
+      if (item.isAll() || !BinaryFilter.isField(item.getExpression())) {
+        return null;
+      }
+      result.add(BinaryFilter.fieldName(item.getExpression()));
+    }
+
+    List<String> conditionFields = BinaryFilter.conditionFields(info.whereClause);
+    if (conditionFields == null) {
+      return null;
+    }
+    result.addAll(conditionFields);
+    return result.toArray(new String[0]);
+  }
+
   private boolean handleClassAsTargetWithIndexedFunction(OSelectExecutionPlan plan, Set<String> filterClusters,
       OIdentifier queryTarget, QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
     if (queryTarget == null) {
@@ -7,18 +7,30 @@ import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Created by luigidellaquila on 11/07/16.
+ * <p>
+ * When the number of results is limited only the best <code>maxResults</code> results are kept in a bounded heap. Otherwise all
+ * the results are sorted, if they do not fit in the memory budget of the query (see {@link OCommandContext#getMemoryBudget()})
+ * they are sorted in runs which are moved to temporary files and merged back when results are fetched. At most {@link
+ * #MAX_MERGED_RUNS} runs are merged at once, if there are more runs they are merged in several passes.
  */
 public class OrderByStep extends AbstractExecutionStep {
+  /**
+   * Maximum amount of sorted runs which are read at the same time, every run keeps an open file and a buffer while it is read.
+   */
+  static final int MAX_MERGED_RUNS = 64;
+
   private final OOrderBy orderBy;
   private       Integer  maxResults;
 
   private long cost = 0;
 
-  private List<OResult> cachedResult = null;
-  private int           nextElement  = 0;
+  private Iterator<OResult>            sortedResults = null;
+  private final List<OResultSpillFile> spilledRuns   = new ArrayList<>();
+  private int                          runsCount     = 0;
 
   public OrderByStep(OOrderBy orderBy, OCommandContext ctx, boolean profilingEnabled) {
     this(orderBy, null, ctx, profilingEnabled);
@@ -35,24 +47,20 @@ public class OrderByStep extends AbstractExecutionStep {
 
   @Override
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
-    if (cachedResult == null) {
-      cachedResult = new ArrayList<>();
+    if (sortedResults == null) {
+      sortedResults = Collections.emptyIterator();
       prev.ifPresent(p -> init(p, ctx));
     }
 
     return new OResultSet() {
       private int currentBatchReturned = 0;
-      private int offset = nextElement;
 
       @Override
       public boolean hasNext() {
         if (currentBatchReturned >= nRecords) {
           return false;
         }
-        if (cachedResult.size() <= nextElement) {
-          return false;
-        }
-        return true;
+        return sortedResults.hasNext();
       }
 
       @Override
@@ -62,11 +70,10 @@ public class OrderByStep extends AbstractExecutionStep {
           if (currentBatchReturned >= nRecords) {
             throw new IllegalStateException();
           }
-          if (cachedResult.size() <= nextElement) {
+          if (!sortedResults.hasNext()) {
             throw new IllegalStateException();
           }
-          OResult result = cachedResult.get(offset + currentBatchReturned);
-          nextElement++;
+          OResult result = sortedResults.next();
           currentBatchReturned++;
           return result;
         } finally {
@@ -94,8 +101,125 @@ public class OrderByStep extends AbstractExecutionStep {
   }
 
   private void init(OExecutionStepInternal p, OCommandContext ctx) {
+    try {
+      if (maxResults != null) {
+        initTopResults(p, ctx);
+      } else {
+        initAllResults(p, ctx);
+      }
+    } catch (RuntimeException e) {
+      closeSpilledRuns();
+      throw e;
+    }
+  }
+
+  /**
+   * Keeps only the best <code>maxResults</code> results in a heap which has the worst of them on the top, so each new result is
+   * compared with the top and either discarded or replaces it.
+   */
+  private void initTopResults(OExecutionStepInternal p, OCommandContext ctx) {
+    final long maxElementsAllowed = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    final Comparator<OrderedResult> comparator = comparator(ctx);
+    final PriorityQueue<OrderedResult> heap = new PriorityQueue<>(Math.max(1, Math.min(maxResults, 1024)),
+        comparator.reversed());
+
+    consumeInput(p, ctx, new Consumer<OResult>() {
+      private long sequence = 0;
+
+      @Override
+      public void accept(OResult item) {
+        if (maxResults == 0) {
+          return;
+        }
+        OrderedResult candidate = new OrderedResult(item, sequence++);
+        if (heap.size() < maxResults) {
+          heap.add(candidate);
+          if (maxElementsAllowed >= 0 && maxElementsAllowed < heap.size()) {
+            heap.clear();
+            throw heapLimitExceeded(maxElementsAllowed);
+          }
+        } else if (comparator.compare(candidate, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(candidate);
+        }
+      }
+    });
+
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      List<OrderedResult> sorted = new ArrayList<>(heap);
+      heap.clear();
+      sorted.sort(comparator);
+      List<OResult> results = new ArrayList<>(sorted.size());
+      for (OrderedResult item : sorted) {
+        results.add(item.result);
+      }
+      sortedResults = results.iterator();
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  /**
+   * Sorts all the results in the heap, if they exceed the memory budget the sorted runs are moved to temporary files and merged
+   * once all the results are read.
+   */
+  private void initAllResults(OExecutionStepInternal p, OCommandContext ctx) {
     final long maxElementsAllowed = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
-    boolean sorted = true;
+    final long memoryBudget = ctx.getMemoryBudget();
+    final Comparator<OResult> comparator = (a, b) -> orderBy.compare(a, b, ctx);
+    final List<OResult> buffer = new ArrayList<>();
+
+    consumeInput(p, ctx, new Consumer<OResult>() {
+      private long bufferSize = 0;
+
+      @Override
+      public void accept(OResult item) {
+        buffer.add(item);
+        if (maxElementsAllowed >= 0 && maxElementsAllowed < buffer.size()) {
+          buffer.clear();
+          throw heapLimitExceeded(maxElementsAllowed);
+        }
+
+        if (memoryBudget > 0) {
+          bufferSize += OResultSizeEstimator.estimate(item);
+          if (bufferSize > memoryBudget) {
+            spill(buffer, comparator);
+            bufferSize = 0;
+          }
+        }
+      }
+    });
+
+    long begin = profilingEnabled ? System.nanoTime() : 0;
+    try {
+      //List.sort is stable, so results which are equal keep the order in which they were received
+      buffer.sort(comparator);
+      if (spilledRuns.isEmpty()) {
+        sortedResults = buffer.iterator();
+      } else {
+        //results in heap are merged as one more run
+        while (spilledRuns.size() + 1 > MAX_MERGED_RUNS) {
+          mergeSpilledRuns(comparator);
+        }
+
+        List<Iterator<OResult>> runs = new ArrayList<>();
+        for (OResultSpillFile run : spilledRuns) {
+          runs.add(run.read());
+        }
+        runs.add(buffer.iterator());
+        sortedResults = new MergingIterator(runs, comparator, true);
+      }
+    } finally {
+      if (profilingEnabled) {
+        cost += (System.nanoTime() - begin);
+      }
+    }
+  }
+
+  private void consumeInput(OExecutionStepInternal p, OCommandContext ctx, Consumer<OResult> consumer) {
     do {
       OResultSet lastBatch = p.syncPull(ctx, 100);
       if (!lastBatch.hasNext()) {
@@ -108,55 +232,96 @@ public class OrderByStep extends AbstractExecutionStep {
         OResult item = lastBatch.next();
         long begin = profilingEnabled ? System.nanoTime() : 0;
         try {
-          cachedResult.add(item);
-          if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
-            this.cachedResult.clear();
-            throw new OCommandExecutionException(
-                "Limit of allowed elements for in-heap ORDER BY in a single query exceeded (" + maxElementsAllowed
-                    + ") . You can set " + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
-                    + " to increase this limit");
-          }
-          sorted = false;
-          //compact, only at twice as the buffer, to avoid to do it at each add
-          if (this.maxResults != null && maxResults * 2 < cachedResult.size()) {
-            cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-            cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-            sorted = true;
-          }
+          consumer.accept(item);
         } finally {
           if (profilingEnabled) {
             cost += (System.nanoTime() - begin);
           }
         }
       }
-      if (timedOut) {
-        break;
-      }
-      long begin = profilingEnabled ? System.nanoTime() : 0;
-      try {
-        //compact at each batch, if needed
-        if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
+    } while (!timedOut);
+  }
+
+  private void spill(List<OResult> buffer, Comparator<OResult> comparator) {
+    buffer.sort(comparator);
+    OResultSpillFile run = new OResultSpillFile();
+    spilledRuns.add(run);
+    runsCount++;
+    for (OResult item : buffer) {
+      run.write(item);
+    }
+    run.finish();
+    buffer.clear();
+  }
+
+  /**
+   * Merges each {@link #MAX_MERGED_RUNS} consecutive sorted runs into a single run, so merged runs keep the order in which results
+   * were received.
+   */
+  private void mergeSpilledRuns(Comparator<OResult> comparator) {
+    List<OResultSpillFile> mergedRuns = new ArrayList<>();
+    try {
+      for (int start = 0; start < spilledRuns.size(); start += MAX_MERGED_RUNS) {
+        List<OResultSpillFile> group = spilledRuns.subList(start, Math.min(start + MAX_MERGED_RUNS, spilledRuns.size()));
+        if (group.size() == 1) {
+          mergedRuns.add(group.get(0));
+          continue;
+        }
+
+        OResultSpillFile mergedRun = new OResultSpillFile();
+        mergedRuns.add(mergedRun);
+
+        List<Iterator<OResult>> runs = new ArrayList<>();
+        for (OResultSpillFile run : group) {
+          runs.add(run.read());
         }
-      } finally {
-        if (profilingEnabled) {
-          cost += (System.nanoTime() - begin);
+        Iterator<OResult> merged = new MergingIterator(runs, comparator, false);
+        while (merged.hasNext()) {
+          mergedRun.write(merged.next());
+        }
+        mergedRun.finish();
+
+        for (OResultSpillFile run : group) {
+          run.close();
         }
       }
-    } while (true);
-    long begin = profilingEnabled ? System.nanoTime() : 0;
-    try {
-      if (!sorted) {
-        cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-      }
-    } finally {
-      if (profilingEnabled) {
-        cost += (System.nanoTime() - begin);
+    } catch (RuntimeException e) {
+      for (OResultSpillFile run : mergedRuns) {
+        if (!spilledRuns.contains(run)) {
+          run.close();
+        }
       }
+      throw e;
     }
 
+    spilledRuns.clear();
+    spilledRuns.addAll(mergedRuns);
+  }
+
+  private Comparator<OrderedResult> comparator(OCommandContext ctx) {
+    return (a, b) -> {
+      int result = orderBy.compare(a.result, b.result, ctx);
+      return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+    };
+  }
+
+  private static OCommandExecutionException heapLimitExceeded(long maxElementsAllowed) {
+    return new OCommandExecutionException(
+        "Limit of allowed elements for in-heap ORDER BY in a single query exceeded (" + maxElementsAllowed + ") . You can set "
+            + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey() + " to increase this limit");
+  }
+
+  private void closeSpilledRuns() {
+    for (OResultSpillFile run : spilledRuns) {
+      run.close();
+    }
+    spilledRuns.clear();
+  }
+
+  @Override
+  public void close() {
+    closeSpilledRuns();
+    super.close();
   }
 
   @Override
@@ -166,6 +331,7 @@ public class OrderByStep extends AbstractExecutionStep {
       result += " (" + getCostFormatted() + ")";
     }
     result += (maxResults != null ? "\n  (buffer size: " + maxResults + ")" : "");
+    result += (runsCount > 0 ? "\n  (sorted runs on disk: " + runsCount + ")" : "");
     return result;
   }
 
@@ -173,4 +339,81 @@ public class OrderByStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  /**
+   * Result with the position in which it was received, used to keep the order of equal results when they are sorted in the
+   * heap.
+   */
+  private static final class OrderedResult {
+    private final OResult result;
+    private final long    sequence;
+
+    private OrderedResult(OResult result, long sequence) {
+      this.result = result;
+      this.sequence = sequence;
+    }
+  }
+
+  /**
+   * Merges sorted runs, equal results are taken from the runs in the order in which runs were created.
+   */
+  private final class MergingIterator implements Iterator<OResult> {
+    private final List<Iterator<OResult>> runs;
+    private final PriorityQueue<Head>     heads;
+    private final boolean                 closeRuns;
+
+    /**
+     * @param closeRuns if <code>true</code> files of the sorted runs of the step are closed once all the results are merged
+     */
+    private MergingIterator(List<Iterator<OResult>> runs, Comparator<OResult> comparator, boolean closeRuns) {
+      this.runs = runs;
+      this.closeRuns = closeRuns;
+      this.heads = new PriorityQueue<>(runs.size(), (a, b) -> {
+        int result = comparator.compare(a.result, b.result);
+        return result != 0 ? result : Integer.compare(a.run, b.run);
+      });
+
+      for (int i = 0; i < runs.size(); i++) {
+        advance(i);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (heads.isEmpty()) {
+        if (closeRuns) {
+          closeSpilledRuns();
+        }
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public OResult next() {
+      Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      advance(head.run);
+      return head.result;
+    }
+
+    private void advance(int run) {
+      Iterator<OResult> iterator = runs.get(run);
+      if (iterator.hasNext()) {
+        heads.add(new Head(iterator.next(), run));
+      }
+    }
+  }
+
+  private static final class Head {
+    private final OResult result;
+    private final int     run;
+
+    private Head(OResult result, int run) {
+      this.result = result;
+      this.run = run;
+    }
+  }
 }
@@ -1,22 +1,50 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
+ * Returns results of several independent sub-plans, results of different sub-plans may be interleaved.
+ * <p>
+ * Current thread executes sub-plans one by one, while threads of {@link OParallelExecutionPool} claim not yet started sub-plans
+ * and pass their results back through the bounded queue. Every worker uses its own copy of the database and of the sub-plan, so
+ * if any sub-plan can not be copied or there is an active transaction, changes of which are not visible to other sessions, all
+ * sub-plans are executed by current thread.
+ *
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
 public class ParallelExecStep extends AbstractExecutionStep {
+  private static final long POLL_INTERVAL = 10;
+
   private final List<OInternalExecutionPlan> subExecutionPlans;
 
-  private int        current          = 0;
   private OResultSet currentResultSet = null;
 
+  private       boolean                started        = false;
+  private       OInternalExecutionPlan inlinePlan     = null;
+  private       BlockingQueue<Object>  results        = null;
+  private final AtomicInteger          nextPlan       = new AtomicInteger();
+  private final AtomicInteger          runningWorkers = new AtomicInteger();
+  private volatile boolean cancelled = false;
+
   public ParallelExecStep(List<OInternalExecutionPlan> subExecuitonPlans, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
@@ -75,16 +103,241 @@ public class ParallelExecStep extends AbstractExecutionStep {
   }
 
   void fetchNext(OCommandContext ctx, int nRecords) {
-    do {
-      if (current >= subExecutionPlans.size()) {
-        currentResultSet = null;
+    if (!started) {
+      started = true;
+      startWorkers(ctx, nRecords);
+    }
+
+    while (!cancelled) {
+      Object item = results == null ? null : results.poll();
+      if (item != null) {
+        currentResultSet = toResultSet(item);
         return;
       }
-      currentResultSet = subExecutionPlans.get(current).fetchNext(nRecords);
-      if (!currentResultSet.hasNext()) {
-        current++;
+
+      if (inlinePlan == null) {
+        final int index = claimPlan();
+        if (index >= 0) {
+          inlinePlan = subExecutionPlans.get(index);
+        }
+      }
+
+      if (inlinePlan != null) {
+        final OResultSet resultSet = inlinePlan.fetchNext(nRecords);
+        if (resultSet.hasNext()) {
+          currentResultSet = resultSet;
+          return;
+        }
+
+        inlinePlan = null;
+        continue;
       }
-    } while (!currentResultSet.hasNext());
+
+      if (runningWorkers.get() == 0) {
+        //all results are published before worker is stopped
+        item = results == null ? null : results.poll();
+        if (item == null) {
+          break;
+        }
+      } else {
+        item = waitForResults(ctx);
+      }
+
+      if (item != null) {
+        currentResultSet = toResultSet(item);
+        return;
+      }
+    }
+
+    currentResultSet = null;
+  }
+
+  private void startWorkers(OCommandContext ctx, int batchSize) {
+    if (!canBeExecutedInParallel(ctx)) {
+      return;
+    }
+
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final int queueSize = db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE);
+    results = new ArrayBlockingQueue<>(Math.max(2, queueSize / Math.max(1, batchSize)));
+
+    final OParallelExecutionPool pool = OParallelExecutionPool.instance();
+    //current thread executes one of the sub-plans too
+    for (int i = 0; i < subExecutionPlans.size() - 1; i++) {
+      final OBasicCommandContext workerCtx = (OBasicCommandContext) ctx.copy();
+      workerCtx.setInputParameters(ctx.getInputParameters());
+
+      runningWorkers.incrementAndGet();
+      if (!pool.tryExecute(db.getName(), () -> runWorker(db, workerCtx, batchSize))) {
+        runningWorkers.decrementAndGet();
+        break;
+      }
+    }
+  }
+
+  private boolean canBeExecutedInParallel(OCommandContext ctx) {
+    if (subExecutionPlans.size() < 2 || !(ctx instanceof OBasicCommandContext)
+        || !(ctx.getDatabase() instanceof ODatabaseDocumentInternal)) {
+      return false;
+    }
+
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (!db.getConfiguration().getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_SUB_PLANS) || db.getTransaction().isActive()) {
+      return false;
+    }
+
+    //queries executed during schema changes would wait for workers which wait for schema lock
+    if (db.getSharedContext().getSchema().isSchemaLockedByCurrentThread()) {
+      return false;
+    }
+
+    for (OInternalExecutionPlan plan : subExecutionPlans) {
+      if (!plan.canBeCached()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void runWorker(ODatabaseDocumentInternal db, OBasicCommandContext workerCtx, int batchSize) {
+    final ODatabaseDocumentInternal workerDb;
+    try {
+      workerDb = db.copy();
+    } catch (RuntimeException e) {
+      //sub-plans which are not claimed by workers are executed by the thread which consumes results
+      OLogManager.instance().debug(this, "Cannot open session to execute sub-plans in parallel", e);
+      ODatabaseRecordThreadLocal.instance().remove();
+      runningWorkers.decrementAndGet();
+      return;
+    }
+
+    try {
+      workerDb.activateOnCurrentThread();
+      workerCtx.setDatabase(workerDb);
+
+      int index;
+      while (!cancelled && (index = claimPlan()) >= 0) {
+        final OInternalExecutionPlan plan = subExecutionPlans.get(index).copy(workerCtx);
+        try {
+          while (!cancelled) {
+            final OResultSet resultSet = plan.fetchNext(batchSize);
+            if (!resultSet.hasNext()) {
+              break;
+            }
+
+            final List<OResult> batch = new ArrayList<>(batchSize);
+            while (resultSet.hasNext()) {
+              batch.add(resultSet.next());
+            }
+            publish(batch);
+          }
+        } finally {
+          plan.close();
+        }
+      }
+    } catch (RuntimeException | Error e) {
+      publish(e);
+    } finally {
+      try {
+        workerDb.activateOnCurrentThread();
+        workerDb.close();
+      } finally {
+        ODatabaseRecordThreadLocal.instance().remove();
+        runningWorkers.decrementAndGet();
+      }
+    }
+  }
+
+  private int claimPlan() {
+    while (true) {
+      final int index = nextPlan.get();
+      if (index >= subExecutionPlans.size()) {
+        return -1;
+      }
+      if (nextPlan.compareAndSet(index, index + 1)) {
+        return index;
+      }
+    }
+  }
+
+  private void publish(Object item) {
+    try {
+      while (!cancelled) {
+        if (results.offer(item, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+    } catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Object waitForResults(OCommandContext ctx) {
+    final Object item;
+    try {
+      item = results.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel();
+      throw OException.wrapException(new OCommandInterruptedException("The command has been interrupted"), e);
+    }
+
+    if (item == null) {
+      if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
+        cancel();
+        throw new OCommandInterruptedException("The command has been interrupted");
+      }
+
+      final boolean inTime;
+      try {
+        inTime = ctx.checkTimeout();
+      } catch (OTimeoutException e) {
+        sendTimeout();
+        throw e;
+      }
+      if (!inTime) {
+        sendTimeout();
+      }
+    }
+
+    return item;
+  }
+
+  @SuppressWarnings("unchecked")
+  private OResultSet toResultSet(Object item) {
+    if (item instanceof RuntimeException) {
+      cancel();
+      throw (RuntimeException) item;
+    }
+    if (item instanceof Error) {
+      cancel();
+      throw (Error) item;
+    }
+
+    final OInternalResultSet resultSet = new OInternalResultSet();
+    for (OResult result : (List<OResult>) item) {
+      resultSet.add(result);
+    }
+    return resultSet;
+  }
+
+  private void cancel() {
+    cancelled = true;
+    if (results != null) {
+      results.clear();
+    }
+  }
+
+  @Override
+  public void sendTimeout() {
+    cancel();
+    super.sendTimeout();
+  }
+
+  @Override
+  public void close() {
+    cancel();
+    super.close();
   }
 
   @Override
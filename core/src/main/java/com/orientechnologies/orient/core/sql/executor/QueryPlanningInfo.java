@@ -51,6 +51,13 @@ public class QueryPlanningInfo {
 
   protected OAndBlock                 ridRangeConditions;
   protected OStorage.LOCKING_STRATEGY lockRecord;
+  protected OTimeout                  timeout;
+
+  /**
+   * top level fields of records which are needed to calculate the query, when not null fetch steps read them directly from
+   * serialized content of records.
+   */
+  protected String[] projectedFields;
 
   public QueryPlanningInfo copy() {
     //TODO check what has to be copied and what can be just referenced as it is
@@ -82,6 +89,8 @@ public class QueryPlanningInfo {
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
+    result.timeout = this.timeout;
+    result.projectedFields = this.projectedFields;
     return result;
   }
 }
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext.TIMEOUT_STRATEGY;
 import com.orientechnologies.orient.core.sql.parser.OTimeout;
 
 /**
@@ -21,6 +22,9 @@ public class TimeoutStep extends AbstractExecutionStep {
   public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
     if (this.expiryTime == null) {
       this.expiryTime = System.currentTimeMillis() + timeout.getVal().longValue();
+      //previous steps which wait for results of other threads check timeout through the context
+      ctx.beginExecution(timeout.getVal().longValue(),
+          OTimeout.RETURN.equals(this.timeout.getFailureStrategy()) ? TIMEOUT_STRATEGY.RETURN : TIMEOUT_STRATEGY.EXCEPTION);
     }
     if (System.currentTimeMillis() > expiryTime) {
       return fail();
@@ -38,4 +42,14 @@ public class TimeoutStep extends AbstractExecutionStep {
     }
   }
 
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new TimeoutStep(this.timeout.copy(), ctx, profilingEnabled);
+  }
+
 }
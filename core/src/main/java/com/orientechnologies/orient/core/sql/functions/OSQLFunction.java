@@ -145,4 +145,25 @@ public interface OSQLFunction {
    * @return is the valid merged result
    */
   public Object mergeDistributedResult(List<Object> resultsToMerge);
+
+  /**
+   * Tells if aggregation may be split between several instances of the function, each of which processes its own subset of
+   * records, and then states of those instances combined by {@link #combine(OSQLFunction)}. Result of the combined instance has
+   * to be the same as the result of single instance which processed all the records.
+   *
+   * @return {@code true} if partial states of the function can be combined, {@code false} otherwise
+   */
+  default boolean isCombinable() {
+    return false;
+  }
+
+  /**
+   * Merges partial state aggregated by other instance of the same function into the state of this instance. Called only if
+   * {@link #isCombinable()} returns {@code true}.
+   *
+   * @param other instance of the same function, configured with the same parameters, which processed other subset of records
+   */
+  default void combine(OSQLFunction other) {
+    throw new UnsupportedOperationException("Partial results of function " + getName() + " can not be combined");
+  }
 }
@@ -12,7 +12,10 @@ import com.orientechnologies.orient.core.record.*;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.OEdgeToVertexIterable;
 import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.executor.OPackedRid;
 import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.ORidHashSet;
+import com.orientechnologies.orient.core.sql.executor.ORidLongMap;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 
 import java.util.*;
@@ -44,11 +47,14 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     private ArrayDeque<OVertex> queueLeft  = new ArrayDeque<>();
     private ArrayDeque<OVertex> queueRight = new ArrayDeque<>();
 
-    private final Set<ORID> leftVisited  = new HashSet<ORID>();
-    private final Set<ORID> rightVisited = new HashSet<ORID>();
+    private final ORidHashSet leftVisited  = new ORidHashSet();
+    private final ORidHashSet rightVisited = new ORidHashSet();
 
-    private final Map<ORID, ORID> previouses = new HashMap<ORID, ORID>();
-    private final Map<ORID, ORID> nexts      = new HashMap<ORID, ORID>();
+    /**
+     * Links between RIDs of paths from source and destination vertices, RIDs are packed by {@link OPackedRid}.
+     */
+    private final ORidLongMap previouses = new ORidLongMap();
+    private final ORidLongMap nexts      = new ORidLongMap();
 
     private OVertex current;
     private OVertex currentRight;
@@ -310,11 +316,11 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
           final ORID neighborIdentity = v.getIdentity();
 
           if (ctx.rightVisited.contains(neighborIdentity)) {
-            ctx.previouses.put(neighborIdentity, ctx.current.getIdentity());
+            link(ctx.previouses, neighborIdentity, ctx.current.getIdentity());
             return computePath(ctx.previouses, ctx.nexts, neighborIdentity);
           }
           if (!ctx.leftVisited.contains(neighborIdentity)) {
-            ctx.previouses.put(neighborIdentity, ctx.current.getIdentity());
+            link(ctx.previouses, neighborIdentity, ctx.current.getIdentity());
 
             nextLevelQueue.offer(v);
             ctx.leftVisited.add(neighborIdentity);
@@ -340,13 +346,13 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
           final ORID neighborEdgeIdentity = edgeIterator.next().getIdentity();
 
           if (ctx.rightVisited.contains(neighborVertexIdentity)) {
-            ctx.previouses.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.previouses.put(neighborEdgeIdentity, ctx.current.getIdentity());
+            link(ctx.previouses, neighborVertexIdentity, neighborEdgeIdentity);
+            link(ctx.previouses, neighborEdgeIdentity, ctx.current.getIdentity());
             return computePath(ctx.previouses, ctx.nexts, neighborVertexIdentity);
           }
           if (!ctx.leftVisited.contains(neighborVertexIdentity)) {
-            ctx.previouses.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.previouses.put(neighborEdgeIdentity, ctx.current.getIdentity());
+            link(ctx.previouses, neighborVertexIdentity, neighborEdgeIdentity);
+            link(ctx.previouses, neighborEdgeIdentity, ctx.current.getIdentity());
 
             nextLevelQueue.offer(v);
             ctx.leftVisited.add(neighborVertexIdentity);
@@ -375,12 +381,12 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
           final ORID neighborIdentity = v.getIdentity();
 
           if (ctx.leftVisited.contains(neighborIdentity)) {
-            ctx.nexts.put(neighborIdentity, ctx.currentRight.getIdentity());
+            link(ctx.nexts, neighborIdentity, ctx.currentRight.getIdentity());
             return computePath(ctx.previouses, ctx.nexts, neighborIdentity);
           }
           if (!ctx.rightVisited.contains(neighborIdentity)) {
 
-            ctx.nexts.put(neighborIdentity, ctx.currentRight.getIdentity());
+            link(ctx.nexts, neighborIdentity, ctx.currentRight.getIdentity());
 
             nextLevelQueue.offer(v);
             ctx.rightVisited.add(neighborIdentity);
@@ -407,13 +413,13 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
           final ORID neighborEdgeIdentity = edgeIterator.next().getIdentity();
 
           if (ctx.leftVisited.contains(neighborVertexIdentity)) {
-            ctx.nexts.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.nexts.put(neighborEdgeIdentity, ctx.currentRight.getIdentity());
+            link(ctx.nexts, neighborVertexIdentity, neighborEdgeIdentity);
+            link(ctx.nexts, neighborEdgeIdentity, ctx.currentRight.getIdentity());
             return computePath(ctx.previouses, ctx.nexts, neighborVertexIdentity);
           }
           if (!ctx.rightVisited.contains(neighborVertexIdentity)) {
-            ctx.nexts.put(neighborVertexIdentity, neighborEdgeIdentity);
-            ctx.nexts.put(neighborEdgeIdentity, ctx.currentRight.getIdentity());
+            link(ctx.nexts, neighborVertexIdentity, neighborEdgeIdentity);
+            link(ctx.nexts, neighborEdgeIdentity, ctx.currentRight.getIdentity());
 
             nextLevelQueue.offer(v);
             ctx.rightVisited.add(neighborVertexIdentity);
@@ -425,20 +431,30 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     return null;
   }
 
-  private List<ORID> computePath(final Map<ORID, ORID> leftDistances, final Map<ORID, ORID> rightDistances, final ORID neighbor) {
+  /**
+   * Stores link between two RIDs of path, links from or to records without identity (lightweight edges) are skipped, so walk over
+   * the path stops on such records.
+   */
+  private static void link(final ORidLongMap links, final ORID from, final ORID to) {
+    if (from != null && to != null) {
+      links.put(OPackedRid.pack(from), OPackedRid.pack(to));
+    }
+  }
+
+  private List<ORID> computePath(final ORidLongMap leftDistances, final ORidLongMap rightDistances, final ORID neighbor) {
     final List<ORID> result = new ArrayList<ORID>();
 
-    ORID current = neighbor;
-    while (current != null) {
-      result.add(0, current);
+    long current = OPackedRid.pack(neighbor);
+    while (current != OPackedRid.NULL) {
+      result.add(0, OPackedRid.unpack(current));
       current = leftDistances.get(current);
     }
 
-    current = neighbor;
-    while (current != null) {
+    current = OPackedRid.pack(neighbor);
+    while (current != OPackedRid.NULL) {
       current = rightDistances.get(current);
-      if (current != null) {
-        result.add(current);
+      if (current != OPackedRid.NULL) {
+        result.add(OPackedRid.unpack(current));
       }
     }
 
@@ -23,6 +23,7 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -92,6 +93,20 @@ public class OSQLFunctionAverage extends OSQLFunctionMathAbstract {
     }
   }
 
+  @Override
+  public boolean isCombinable() {
+    return aggregateResults();
+  }
+
+  @Override
+  public void combine(OSQLFunction other) {
+    final OSQLFunctionAverage average = (OSQLFunctionAverage) other;
+    if (average.sum != null) {
+      sum = sum == null ? average.sum : OType.increment(sum, average.sum);
+    }
+    total += average.total;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Object mergeDistributedResult(final List<Object> resultsToMerge) {
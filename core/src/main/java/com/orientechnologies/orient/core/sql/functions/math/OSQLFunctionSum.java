@@ -23,6 +23,7 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
 
 import java.util.List;
 
@@ -82,6 +83,16 @@ public class OSQLFunctionSum extends OSQLFunctionMathAbstract {
     return sum == null ? 0 : sum;
   }
 
+  @Override
+  public boolean isCombinable() {
+    return aggregateResults();
+  }
+
+  @Override
+  public void combine(OSQLFunction other) {
+    sum(((OSQLFunctionSum) other).sum);
+  }
+
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     Number sum = null;
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.sql.functions.misc;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 
 import java.util.List;
@@ -66,6 +67,16 @@ public class OSQLFunctionCount extends OSQLFunctionMathAbstract {
     total = ((Number) iResult).longValue();
   }
 
+  @Override
+  public boolean isCombinable() {
+    return true;
+  }
+
+  @Override
+  public void combine(OSQLFunction other) {
+    total += ((OSQLFunctionCount) other).total;
+  }
+
   @Override
   public Object mergeDistributedResult(List<Object> resultsToMerge) {
     long total = 0;
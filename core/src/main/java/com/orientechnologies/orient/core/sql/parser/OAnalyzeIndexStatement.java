@@ -0,0 +1,103 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeIndexStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
+import com.orientechnologies.orient.core.index.OIndexStatistics;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+import java.util.Map;
+
+public class OAnalyzeIndexStatement extends OSimpleExecStatement {
+
+  protected boolean    all = false;
+  protected OIndexName name;
+
+  public OAnalyzeIndexStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeIndexStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OResultSet executeSimple(OCommandContext ctx) {
+    final ODatabaseDocumentInternal database = getDatabase();
+    final OIndexManagerAbstract indexManager = database.getMetadata().getIndexManagerInternal();
+
+    OInternalResultSet rs = new OInternalResultSet();
+    if (all) {
+      for (OIndex<?> idx : indexManager.getIndexes(database)) {
+        rs.add(analyze(indexManager, idx.getName()));
+      }
+    } else {
+      if (!indexManager.existsIndex(name.getValue()))
+        throw new OCommandExecutionException("Index '" + name + "' not found");
+
+      rs.add(analyze(indexManager, name.getValue()));
+    }
+    return rs;
+  }
+
+  private OResultInternal analyze(OIndexManagerAbstract indexManager, String indexName) {
+    OIndexStatistics statistics = indexManager.analyzeIndex(indexName);
+
+    OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "analyze index");
+    result.setProperty("name", indexName);
+    result.setProperty("keyCount", statistics.getKeyCount());
+    result.setProperty("distinctCount", statistics.getDistinctCount());
+    result.setProperty("buckets", statistics.getBucketsCount());
+    return result;
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE INDEX ");
+    if (all) {
+      builder.append("*");
+    } else {
+      name.toString(params, builder);
+    }
+  }
+
+  @Override
+  public OAnalyzeIndexStatement copy() {
+    OAnalyzeIndexStatement result = new OAnalyzeIndexStatement(-1);
+    result.all = all;
+    result.name = name == null ? null : name.copy();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OAnalyzeIndexStatement that = (OAnalyzeIndexStatement) o;
+
+    if (all != that.all)
+      return false;
+    if (name != null ? !name.equals(that.name) : that.name != null)
+      return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = (all ? 1 : 0);
+    result = 31 * result + (name != null ? name.hashCode() : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=1be0f7fe55175c634c7fb4dcc80fea84 (do not edit this line) */
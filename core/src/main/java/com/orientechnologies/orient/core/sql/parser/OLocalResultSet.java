@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
@@ -8,6 +9,7 @@ import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.cache.OCacheScanMode;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,6 +22,7 @@ public class OLocalResultSet implements OResultSet {
 
   private OResultSet lastFetch = null;
   private final OInternalExecutionPlan executionPlan;
+  private final boolean                scanHint;
   private boolean finished = false;
 
   long totalExecutionTime = 0;
@@ -29,11 +32,18 @@ public class OLocalResultSet implements OResultSet {
 
   public OLocalResultSet(OInternalExecutionPlan executionPlan) {
     this.executionPlan = executionPlan;
+
+    final OCommandContext ctx = executionPlan.getContext();
+    this.scanHint = ctx != null && ctx.isScanHint();
+
     fetchNext();
   }
 
   private boolean fetchNext() {
     long begin = System.currentTimeMillis();
+    if (scanHint) {
+      OCacheScanMode.enter();
+    }
     try {
       if(lastFetch == null) {
         startTime = begin;
@@ -46,6 +56,9 @@ public class OLocalResultSet implements OResultSet {
       }
       return true;
     } finally {
+      if (scanHint) {
+        OCacheScanMode.exit();
+      }
       totalExecutionTime += (System.currentTimeMillis() - begin);
     }
   }
@@ -55,7 +68,7 @@ public class OLocalResultSet implements OResultSet {
     if (finished) {
       return false;
     }
-    if (lastFetch.hasNext()) {
+    if (lastHasNext()) {
       return true;
     } else {
       return fetchNext();
@@ -67,12 +80,36 @@ public class OLocalResultSet implements OResultSet {
     if (finished) {
       throw new IllegalStateException();
     }
-    if (!lastFetch.hasNext()) {
+    if (!lastHasNext()) {
       if (!fetchNext()) {
         throw new IllegalStateException();
       }
     }
-    return lastFetch.next();
+
+    //records of fetched block may be loaded lazily
+    if (scanHint) {
+      OCacheScanMode.enter();
+    }
+    try {
+      return lastFetch.next();
+    } finally {
+      if (scanHint) {
+        OCacheScanMode.exit();
+      }
+    }
+  }
+
+  private boolean lastHasNext() {
+    if (scanHint) {
+      OCacheScanMode.enter();
+    }
+    try {
+      return lastFetch.hasNext();
+    } finally {
+      if (scanHint) {
+        OCacheScanMode.exit();
+      }
+    }
   }
 
   private void logProfiling() {
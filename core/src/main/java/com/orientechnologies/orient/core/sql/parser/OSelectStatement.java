@@ -46,6 +46,8 @@ public class OSelectStatement extends OStatement {
 
   protected Boolean noCache;
 
+  protected Long memoryBudget;
+
   public OSelectStatement(int id) {
     super(id);
   }
@@ -213,6 +215,11 @@ public class OSelectStatement extends OStatement {
     if (Boolean.TRUE.equals(noCache)) {
       builder.append(" NOCACHE");
     }
+
+    if (memoryBudget != null) {
+      builder.append(" MEMORY ");
+      builder.append(memoryBudget);
+    }
   }
 
   public void validate() throws OCommandSQLParsingException {
@@ -329,6 +336,7 @@ public class OSelectStatement extends OStatement {
     result.timeout = timeout == null ? null : timeout.copy();
     result.parallel = parallel;
     result.noCache = noCache;
+    result.memoryBudget = memoryBudget;
 
     return result;
   }
@@ -370,6 +378,8 @@ public class OSelectStatement extends OStatement {
       return false;
     if (noCache != null ? !noCache.equals(that.noCache) : that.noCache != null)
       return false;
+    if (memoryBudget != null ? !memoryBudget.equals(that.memoryBudget) : that.memoryBudget != null)
+      return false;
 
     return true;
   }
@@ -390,6 +400,7 @@ public class OSelectStatement extends OStatement {
     result = 31 * result + (timeout != null ? timeout.hashCode() : 0);
     result = 31 * result + (parallel != null ? parallel.hashCode() : 0);
     result = 31 * result + (noCache != null ? noCache.hashCode() : 0);
+    result = 31 * result + (memoryBudget != null ? memoryBudget.hashCode() : 0);
     return result;
   }
 
@@ -431,6 +442,10 @@ public class OSelectStatement extends OStatement {
     this.unwind = unwind;
   }
 
+  public OTimeout getTimeout() {
+    return timeout;
+  }
+
   public void setTimeout(OTimeout timeout) {
     this.timeout = timeout;
   }
@@ -443,6 +458,18 @@ public class OSelectStatement extends OStatement {
     this.noCache = noCache;
   }
 
+  /**
+   * @return memory budget of the memory intensive operations of the statement which overrides the budget of the command context,
+   * <code>null</code> if it is not set
+   */
+  public Long getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  public void setMemoryBudget(Long memoryBudget) {
+    this.memoryBudget = memoryBudget;
+  }
+
   public OResult serialize() {
     OResultInternal result = (OResultInternal) super.serialize();
     if (target != null) {
@@ -483,6 +510,7 @@ public class OSelectStatement extends OStatement {
     }
     result.setProperty("parallel", parallel);
     result.setProperty("noCache", noCache);
+    result.setProperty("memoryBudget", memoryBudget);
     return result;
   }
 
@@ -537,6 +565,8 @@ public class OSelectStatement extends OStatement {
 
     parallel = fromResult.getProperty("parallel");
     noCache = fromResult.getProperty("noCache");
+    Number memoryBudget = fromResult.getProperty("memoryBudget");
+    this.memoryBudget = memoryBudget == null ? null : memoryBudget.longValue();
   }
 }
 /* JavaCC - OriginalChecksum=b26959b9726a8cf35d6283eca931da6b (do not edit this line) */
@@ -98,7 +98,7 @@ public class OWhereClause extends SimpleNode {
       } else {
         Map<String, Object> conditions = getEqualityOperations(condition, ctx);
 
-        for (OIndex index : indexes) {
+        for (OIndex<?> index : indexes) {
           if (index.getType().equals(OClass.INDEX_TYPE.FULLTEXT.name()) || index.getType()
               .equals(OClass.INDEX_TYPE.FULLTEXT_HASH_INDEX.name())) {
             continue;
@@ -128,12 +128,16 @@ public class OWhereClause extends SimpleNode {
     return Math.min(indexesCount, count);
   }
 
-  private long estimateFromIndex(OIndex index, Map<String, Object> conditions, int nMatchingKeys) {
+  private long estimateFromIndex(OIndex<?> index, Map<String, Object> conditions, int nMatchingKeys) {
     if (nMatchingKeys < 1) {
       throw new IllegalArgumentException("Cannot estimate from an index with zero keys");
     }
     OIndexDefinition definition = index.getDefinition();
     List<String> definitionFields = definition.getFields();
+    long estimation = estimateFromStatistics(index, conditions, nMatchingKeys);
+    if (estimation >= 0) {
+      return estimation;
+    }
     Object key = null;
     if (definition instanceof OPropertyIndexDefinition) {
       key = convert(conditions.get(definitionFields.get(0)), definition.getTypes()[0]);
@@ -155,18 +159,19 @@ public class OWhereClause extends SimpleNode {
         return 1;
       }
       if (result instanceof Collection) {
-        return ((Collection) result).size();
+        return ((Collection<?>) result).size();
       }
       if (result instanceof OSizeable) {
         return ((OSizeable) result).size();
       }
       if (result instanceof Iterable) {
-        result = ((Iterable) result).iterator();
+        result = ((Iterable<?>) result).iterator();
       }
       if (result instanceof Iterator) {
+        Iterator<?> iterator = (Iterator<?>) result;
         int i = 0;
-        while (((Iterator) result).hasNext()) {
-          ((Iterator) result).next();
+        while (iterator.hasNext()) {
+          iterator.next();
           i++;
         }
         return i;
@@ -175,22 +180,51 @@ public class OWhereClause extends SimpleNode {
     return Long.MAX_VALUE;
   }
 
-  public Iterable fetchFromIndexes(OClass oClass, OCommandContext ctx) {
+  /**
+   * Estimates amount of entries matching equality conditions on the first keys of the index using statistics gathered by ANALYZE
+   * INDEX command, so the index does not have to be scanned.
+   *
+   * @return estimated amount of entries or -1 if the index has no statistics
+   */
+  private long estimateFromStatistics(OIndex<?> index, Map<String, Object> conditions, int nMatchingKeys) {
+    OIndexInternal<?> internal = index.getInternal();
+    OIndexStatistics statistics = internal == null ? null : internal.getStatistics();
+    if (statistics == null) {
+      return -1;
+    }
+
+    OIndexDefinition definition = index.getDefinition();
+    double selectivity = -1;
+    if (nMatchingKeys == 1) {
+      selectivity = statistics
+          .equalsSelectivity(OIndexStatistics.toLeadingKey(definition, conditions.get(definition.getFields().get(0))));
+    }
+    if (selectivity < 0 && nMatchingKeys == definition.getFields().size()) {
+      selectivity = statistics.fullKeySelectivity();
+    }
+    if (selectivity < 0) {
+      return -1;
+    }
+
+    return Math.max(1, Math.round(selectivity * statistics.getKeyCount()));
+  }
+
+  public Iterable<OIdentifiable> fetchFromIndexes(OClass oClass, OCommandContext ctx) {
 
     List<OAndBlock> flattenedConditions = flatten();
     if (flattenedConditions == null || flattenedConditions.size() == 0) {
       return null;
     }
     Set<OIndex<?>> indexes = oClass.getIndexes();
-    List<OIndex> bestIndexes = new ArrayList<OIndex>();
+    List<OIndex<?>> bestIndexes = new ArrayList<>();
     List<Map<String, Object>> indexConditions = new ArrayList<Map<String, Object>>();
     for (OAndBlock condition : flattenedConditions) {
       Map<String, Object> conditions = getEqualityOperations(condition, ctx);
       long conditionEstimation = Long.MAX_VALUE;
-      OIndex bestIndex = null;
+      OIndex<?> bestIndex = null;
       Map<String, Object> bestCondition = null;
 
-      for (OIndex index : indexes) {
+      for (OIndex<?> index : indexes) {
         List<String> indexedFields = index.getDefinition().getFields();
         int nMatchingKeys = 0;
         for (String indexedField : indexedFields) {
@@ -215,17 +249,21 @@ public class OWhereClause extends SimpleNode {
       bestIndexes.add(bestIndex);
       indexConditions.add(bestCondition);
     }
-    OMultiCollectionIterator result = new OMultiCollectionIterator();
+    OMultiCollectionIterator<OIdentifiable> result = new OMultiCollectionIterator<>();
 
     for (int i = 0; i < bestIndexes.size(); i++) {
-      OIndex index = bestIndexes.get(i);
+      OIndex<?> index = bestIndexes.get(i);
       Map<String, Object> condition = indexConditions.get(i);
       result.add(fetchFromIndex(index, indexConditions.get(i)));
     }
     return result;
   }
 
-  private Iterable fetchFromIndex(OIndex index, Map<String, Object> conditions) {
+  /**
+   * @return records found by the index: single record, iterable or iterator of records, <code>null</code> if index can not be
+   * used for the conditions
+   */
+  private Object fetchFromIndex(OIndex<?> index, Map<String, Object> conditions) {
     OIndexDefinition definition = index.getDefinition();
     List<String> definitionFields = definition.getFields();
     Object key = null;
@@ -245,20 +283,9 @@ public class OWhereClause extends SimpleNode {
     if (key != null) {
       final Object result = index.get(key);
       if (result == null) {
-        return Collections.EMPTY_LIST;
-      }
-      if (result instanceof Iterable) {
-        return (Iterable) result;
-      }
-      if (result instanceof Iterator) {
-        return new Iterable() {
-          @Override
-          public Iterator iterator() {
-            return (Iterator) result;
-          }
-        };
+        return Collections.emptyList();
       }
-      return Collections.singleton(result);
+      return result;
     }
     return null;
   }
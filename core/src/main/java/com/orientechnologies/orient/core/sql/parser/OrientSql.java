@@ -29,7 +29,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(268);
+        jj_consume_token(270);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -169,6 +169,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -209,6 +210,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -281,7 +283,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           ;
           break;
         default:
@@ -552,6 +554,12 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case REBUILD:
         token = jj_consume_token(REBUILD);
         break;
+      case ANALYZE:
+        token = jj_consume_token(ANALYZE);
+        break;
+      case MEMORY:
+        token = jj_consume_token(MEMORY);
+        break;
       case ID:
         token = jj_consume_token(ID);
         break;
@@ -924,6 +932,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -964,6 +973,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -1034,7 +1044,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           result = ExpressionStatement();
           break;
         default:
@@ -1175,6 +1185,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                     case REBUILD:
                       result = RebuildIndexStatement();
                       break;
+                    case ANALYZE:
+                      result = AnalyzeIndexStatement();
+                      break;
                     default:
                       jj_la1[13] = jj_gen;
                       if (jj_2_41(2)) {
@@ -1544,7 +1557,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
   OSelectStatement jjtn000 = new OSelectStatement(JJTSELECTSTATEMENT);
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
-  jjtn000.jjtSetFirstToken(getToken(1));
+  jjtn000.jjtSetFirstToken(getToken(1));OInteger memoryBudget;
     try {
       jj_consume_token(SELECT);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1566,6 +1579,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -1606,6 +1620,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -1676,7 +1691,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         jjtn000.projection = Projection();
         break;
       default:
@@ -1829,6 +1844,16 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jj_la1[45] = jj_gen;
         ;
       }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case MEMORY:
+        jj_consume_token(MEMORY);
+        memoryBudget = Integer();
+                                              jjtn000.memoryBudget = memoryBudget.getValue().longValue();
+        break;
+      default:
+        jj_la1[46] = jj_gen;
+        ;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -1883,6 +1908,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -1923,6 +1949,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -1990,7 +2017,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[46] = jj_gen;
+            jj_la1[47] = jj_gen;
             break label_2;
           }
           jj_consume_token(COMMA);
@@ -1999,7 +2026,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         break;
       default:
-        jj_la1[47] = jj_gen;
+        jj_la1[48] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -2010,7 +2037,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.maxDepth = Integer();
         break;
       default:
-        jj_la1[48] = jj_gen;
+        jj_la1[49] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2019,7 +2046,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whileClause = WhereClause();
         break;
       default:
-        jj_la1[49] = jj_gen;
+        jj_la1[50] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2027,7 +2054,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[50] = jj_gen;
+        jj_la1[51] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2043,13 +2070,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                   jjtn000.strategy = OTraverseStatement.Strategy.BREADTH_FIRST;
           break;
         default:
-          jj_la1[51] = jj_gen;
+          jj_la1[52] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[52] = jj_gen;
+        jj_la1[53] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -2099,7 +2126,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[53] = jj_gen;
+          jj_la1[54] = jj_gen;
           break label_3;
         }
         jj_consume_token(COMMA);
@@ -2114,7 +2141,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                             jjtn000.notMatchExpressions.add(lastMatchExpr);
           break;
         default:
-          jj_la1[54] = jj_gen;
+          jj_la1[55] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2130,7 +2157,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastNestedProjection = NestedProjection();
           break;
         default:
-          jj_la1[55] = jj_gen;
+          jj_la1[56] = jj_gen;
           ;
         }
       } else if (jj_2_55(2147483647)) {
@@ -2141,7 +2168,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastNestedProjection = NestedProjection();
           break;
         default:
-          jj_la1[56] = jj_gen;
+          jj_la1[57] = jj_gen;
           ;
         }
       } else {
@@ -2154,7 +2181,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         lastReturnAlias = Identifier();
         break;
       default:
-        jj_la1[57] = jj_gen;
+        jj_la1[58] = jj_gen;
         ;
       }
             jjtn000.returnAliases.add(lastReturnAlias);
@@ -2168,7 +2195,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[58] = jj_gen;
+          jj_la1[59] = jj_gen;
           break label_4;
         }
         jj_consume_token(COMMA);
@@ -2179,7 +2206,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastNestedProjection = NestedProjection();
           break;
         default:
-          jj_la1[59] = jj_gen;
+          jj_la1[60] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2188,7 +2215,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           lastReturnAlias = Identifier();
           break;
         default:
-          jj_la1[60] = jj_gen;
+          jj_la1[61] = jj_gen;
           ;
         }
                 jjtn000.returnAliases.add(lastReturnAlias);
@@ -2201,7 +2228,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.groupBy = GroupBy();
         break;
       default:
-        jj_la1[61] = jj_gen;
+        jj_la1[62] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2209,7 +2236,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.orderBy = OrderBy();
         break;
       default:
-        jj_la1[62] = jj_gen;
+        jj_la1[63] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2217,7 +2244,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.unwind = Unwind();
         break;
       default:
-        jj_la1[63] = jj_gen;
+        jj_la1[64] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2226,7 +2253,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.skip = Skip();
         break;
       default:
-        jj_la1[64] = jj_gen;
+        jj_la1[65] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2234,7 +2261,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[65] = jj_gen;
+        jj_la1[66] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2281,7 +2308,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                               jjtn000.returnBefore = true;
         break;
       default:
-        jj_la1[66] = jj_gen;
+        jj_la1[67] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2290,7 +2317,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[67] = jj_gen;
+        jj_la1[68] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2298,7 +2325,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[68] = jj_gen;
+        jj_la1[69] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2307,7 +2334,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[69] = jj_gen;
+        jj_la1[70] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2352,7 +2379,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                   jjtn000.from = true;
         break;
       default:
-        jj_la1[70] = jj_gen;
+        jj_la1[71] = jj_gen;
         ;
       }
       jjtn000.fromClause = FromClause();
@@ -2363,7 +2390,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                               jjtn000.returnBefore = true;
         break;
       default:
-        jj_la1[71] = jj_gen;
+        jj_la1[72] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2372,7 +2399,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[72] = jj_gen;
+        jj_la1[73] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2380,7 +2407,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[73] = jj_gen;
+        jj_la1[74] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2388,7 +2415,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[74] = jj_gen;
+        jj_la1[75] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2479,7 +2506,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 270:
         jjtn000.rid = Rid();
         break;
       case LBRACKET:
@@ -2488,7 +2515,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 270:
           lastRid = Rid();
                     jjtn000.rids = new ArrayList();
                     jjtn000.rids.add(lastRid);
@@ -2499,7 +2526,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
               ;
               break;
             default:
-              jj_la1[75] = jj_gen;
+              jj_la1[76] = jj_gen;
               break label_5;
             }
             jj_consume_token(COMMA);
@@ -2508,13 +2535,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           }
           break;
         default:
-          jj_la1[76] = jj_gen;
+          jj_la1[77] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[77] = jj_gen;
+        jj_la1[78] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2523,7 +2550,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[78] = jj_gen;
+        jj_la1[79] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2580,6 +2607,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -2620,6 +2648,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -2676,7 +2705,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.className = Identifier();
         break;
       default:
-        jj_la1[79] = jj_gen;
+        jj_la1[80] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -2687,7 +2716,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.rightExpression = Expression();
         break;
       default:
-        jj_la1[80] = jj_gen;
+        jj_la1[81] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2696,7 +2725,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[81] = jj_gen;
+        jj_la1[82] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2704,7 +2733,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[82] = jj_gen;
+        jj_la1[83] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2712,7 +2741,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[83] = jj_gen;
+        jj_la1[84] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2760,7 +2789,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[84] = jj_gen;
+        jj_la1[85] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2768,7 +2797,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[86] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2776,7 +2805,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[86] = jj_gen;
+        jj_la1[87] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2823,7 +2852,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[87] = jj_gen;
+        jj_la1[88] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2831,7 +2860,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[88] = jj_gen;
+        jj_la1[89] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2839,7 +2868,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[89] = jj_gen;
+        jj_la1[90] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2896,6 +2925,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -2936,6 +2966,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -2992,7 +3023,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.className = Identifier();
         break;
       default:
-        jj_la1[90] = jj_gen;
+        jj_la1[91] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3001,7 +3032,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[91] = jj_gen;
+        jj_la1[92] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3009,7 +3040,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[92] = jj_gen;
+        jj_la1[93] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3017,7 +3048,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[93] = jj_gen;
+        jj_la1[94] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -3073,7 +3104,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[94] = jj_gen;
+          jj_la1[95] = jj_gen;
           break label_6;
         }
       }
@@ -3083,7 +3114,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[95] = jj_gen;
+        jj_la1[96] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3099,7 +3130,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                                         jjtn000.returnAfter = true;
           break;
         default:
-          jj_la1[96] = jj_gen;
+          jj_la1[97] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3122,6 +3153,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -3162,6 +3194,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3232,16 +3265,16 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           jjtn000.returnProjection = Projection();
           break;
         default:
-          jj_la1[97] = jj_gen;
+          jj_la1[98] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[98] = jj_gen;
+        jj_la1[99] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3250,7 +3283,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[99] = jj_gen;
+        jj_la1[100] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3274,13 +3307,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                         jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[100] = jj_gen;
+          jj_la1[101] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[101] = jj_gen;
+        jj_la1[102] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3288,7 +3321,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[102] = jj_gen;
+        jj_la1[103] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3296,7 +3329,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[103] = jj_gen;
+        jj_la1[104] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -3351,7 +3384,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           ;
           break;
         default:
-          jj_la1[104] = jj_gen;
+          jj_la1[105] = jj_gen;
           break label_7;
         }
       }
@@ -3361,7 +3394,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[105] = jj_gen;
+        jj_la1[106] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3381,7 +3414,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                                                                               jjtn000.returnCount = true;
           break;
         default:
-          jj_la1[106] = jj_gen;
+          jj_la1[107] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3404,6 +3437,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -3444,6 +3478,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -3514,16 +3549,16 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           jjtn000.returnProjection = Projection();
           break;
         default:
-          jj_la1[107] = jj_gen;
+          jj_la1[108] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[108] = jj_gen;
+        jj_la1[109] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3532,7 +3567,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[109] = jj_gen;
+        jj_la1[110] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3556,13 +3591,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                             jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[110] = jj_gen;
+          jj_la1[111] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[111] = jj_gen;
+        jj_la1[112] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3570,7 +3605,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[112] = jj_gen;
+        jj_la1[113] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3578,7 +3613,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[113] = jj_gen;
+        jj_la1[114] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3631,7 +3666,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[114] = jj_gen;
+            jj_la1[115] = jj_gen;
             break label_8;
           }
           jj_consume_token(COMMA);
@@ -3651,7 +3686,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[115] = jj_gen;
+            jj_la1[116] = jj_gen;
             break label_9;
           }
           jj_consume_token(COMMA);
@@ -3671,7 +3706,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                             jjtn000.type = OUpdateOperations.TYPE_CONTENT;
           break;
         default:
-          jj_la1[116] = jj_gen;
+          jj_la1[117] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3689,7 +3724,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                         jjtn000.type = OUpdateOperations.TYPE_ADD;
           break;
         default:
-          jj_la1[117] = jj_gen;
+          jj_la1[118] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3702,7 +3737,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[118] = jj_gen;
+            jj_la1[119] = jj_gen;
             break label_10;
           }
           jj_consume_token(COMMA);
@@ -3722,7 +3757,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[119] = jj_gen;
+            jj_la1[120] = jj_gen;
             break label_11;
           }
           jj_consume_token(COMMA);
@@ -3730,172 +3765,172 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                                                        jjtn000.updateRemoveItems.add(lastRemoveItem);
         }
         break;
-      default:
-        jj_la1[120] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
-      jjtree.closeNodeScope(jjtn000, true);
-      jjtc000 = false;
-      jjtn000.jjtSetLastToken(getToken(0));
-      {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {if (true) throw (RuntimeException)jjte000;}
-      }
-      if (jjte000 instanceof ParseException) {
-        {if (true) throw (ParseException)jjte000;}
-      }
-      {if (true) throw (Error)jjte000;}
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public OUpdateItem UpdateItem() throws ParseException {
- /*@bgen(jjtree) UpdateItem */
-  OUpdateItem jjtn000 = new OUpdateItem(JJTUPDATEITEM);
-  boolean jjtc000 = true;
-  jjtree.openNodeScope(jjtn000);
-  jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jjtn000.left = Identifier();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case LBRACKET:
-      case DOT:
-        jjtn000.leftModifier = Modifier();
-        break;
       default:
         jj_la1[121] = jj_gen;
-        ;
-      }
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case EQ:
-        jj_consume_token(EQ);
-                   jjtn000.operator = OUpdateItem.OPERATOR_EQ;
-        break;
-      case PLUSASSIGN:
-        jj_consume_token(PLUSASSIGN);
-                           jjtn000.operator = OUpdateItem.OPERATOR_PLUSASSIGN;
-        break;
-      case MINUSASSIGN:
-        jj_consume_token(MINUSASSIGN);
-                        jjtn000.operator = OUpdateItem.OPERATOR_MINUSASSIGN;
-        break;
-      case STARASSIGN:
-        jj_consume_token(STARASSIGN);
-                       jjtn000.operator = OUpdateItem.OPERATOR_STARASSIGN;
-        break;
-      case SLASHASSIGN:
-        jj_consume_token(SLASHASSIGN);
-                        jjtn000.operator = OUpdateItem.OPERATOR_SLASHASSIGN;
-        break;
-      default:
-        jj_la1[122] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
-      jjtn000.right = Expression();
-    jjtree.closeNodeScope(jjtn000, true);
-    jjtc000 = false;
-    jjtn000.jjtSetLastToken(getToken(0));
-    {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-  if (jjtc000) {
-    jjtree.clearNodeScope(jjtn000);
-    jjtc000 = false;
-  } else {
-    jjtree.popNode();
-  }
-  if (jjte000 instanceof RuntimeException) {
-    {if (true) throw (RuntimeException)jjte000;}
-  }
-  if (jjte000 instanceof ParseException) {
-    {if (true) throw (ParseException)jjte000;}
-  }
-  {if (true) throw (Error)jjte000;}
-    } finally {
-  if (jjtc000) {
-    jjtree.closeNodeScope(jjtn000, true);
-    jjtn000.jjtSetLastToken(getToken(0));
-  }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public OUpdateIncrementItem UpdateIncrementItem() throws ParseException {
- /*@bgen(jjtree) UpdateIncrementItem */
-  OUpdateIncrementItem jjtn000 = new OUpdateIncrementItem(JJTUPDATEINCREMENTITEM);
-  boolean jjtc000 = true;
-  jjtree.openNodeScope(jjtn000);
-  jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jjtn000.left = Identifier();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case LBRACKET:
-      case DOT:
-        jjtn000.leftModifier = Modifier();
-        break;
-      default:
-        jj_la1[123] = jj_gen;
-        ;
-      }
-      jj_consume_token(EQ);
-      jjtn000.right = Expression();
-          jjtree.closeNodeScope(jjtn000, true);
-          jjtc000 = false;
-          jjtn000.jjtSetLastToken(getToken(0));
-          {if (true) return jjtn000;}
-    } catch (Throwable jjte000) {
-      if (jjtc000) {
-        jjtree.clearNodeScope(jjtn000);
-        jjtc000 = false;
-      } else {
-        jjtree.popNode();
-      }
-      if (jjte000 instanceof RuntimeException) {
-        {if (true) throw (RuntimeException)jjte000;}
-      }
-      if (jjte000 instanceof ParseException) {
-        {if (true) throw (ParseException)jjte000;}
-      }
-      {if (true) throw (Error)jjte000;}
-    } finally {
-      if (jjtc000) {
-        jjtree.closeNodeScope(jjtn000, true);
-        jjtn000.jjtSetLastToken(getToken(0));
-      }
-    }
-    throw new Error("Missing return statement in function");
-  }
-
-  final public OUpdateRemoveItem UpdateRemoveItem() throws ParseException {
- /*@bgen(jjtree) UpdateRemoveItem */
-  OUpdateRemoveItem jjtn000 = new OUpdateRemoveItem(JJTUPDATEREMOVEITEM);
-  boolean jjtc000 = true;
-  jjtree.openNodeScope(jjtn000);
-  jjtn000.jjtSetFirstToken(getToken(1));
-    try {
-      jjtn000.left = Expression();
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case EQ:
-        jj_consume_token(EQ);
-        jjtn000.right = Expression();
-        break;
-      default:
-        jj_la1[124] = jj_gen;
-        ;
-      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OUpdateItem UpdateItem() throws ParseException {
+ /*@bgen(jjtree) UpdateItem */
+  OUpdateItem jjtn000 = new OUpdateItem(JJTUPDATEITEM);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jjtn000.left = Identifier();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case LBRACKET:
+      case DOT:
+        jjtn000.leftModifier = Modifier();
+        break;
+      default:
+        jj_la1[122] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case EQ:
+        jj_consume_token(EQ);
+                   jjtn000.operator = OUpdateItem.OPERATOR_EQ;
+        break;
+      case PLUSASSIGN:
+        jj_consume_token(PLUSASSIGN);
+                           jjtn000.operator = OUpdateItem.OPERATOR_PLUSASSIGN;
+        break;
+      case MINUSASSIGN:
+        jj_consume_token(MINUSASSIGN);
+                        jjtn000.operator = OUpdateItem.OPERATOR_MINUSASSIGN;
+        break;
+      case STARASSIGN:
+        jj_consume_token(STARASSIGN);
+                       jjtn000.operator = OUpdateItem.OPERATOR_STARASSIGN;
+        break;
+      case SLASHASSIGN:
+        jj_consume_token(SLASHASSIGN);
+                        jjtn000.operator = OUpdateItem.OPERATOR_SLASHASSIGN;
+        break;
+      default:
+        jj_la1[123] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      jjtn000.right = Expression();
+    jjtree.closeNodeScope(jjtn000, true);
+    jjtc000 = false;
+    jjtn000.jjtSetLastToken(getToken(0));
+    {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+  if (jjtc000) {
+    jjtree.clearNodeScope(jjtn000);
+    jjtc000 = false;
+  } else {
+    jjtree.popNode();
+  }
+  if (jjte000 instanceof RuntimeException) {
+    {if (true) throw (RuntimeException)jjte000;}
+  }
+  if (jjte000 instanceof ParseException) {
+    {if (true) throw (ParseException)jjte000;}
+  }
+  {if (true) throw (Error)jjte000;}
+    } finally {
+  if (jjtc000) {
+    jjtree.closeNodeScope(jjtn000, true);
+    jjtn000.jjtSetLastToken(getToken(0));
+  }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OUpdateIncrementItem UpdateIncrementItem() throws ParseException {
+ /*@bgen(jjtree) UpdateIncrementItem */
+  OUpdateIncrementItem jjtn000 = new OUpdateIncrementItem(JJTUPDATEINCREMENTITEM);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jjtn000.left = Identifier();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case LBRACKET:
+      case DOT:
+        jjtn000.leftModifier = Modifier();
+        break;
+      default:
+        jj_la1[124] = jj_gen;
+        ;
+      }
+      jj_consume_token(EQ);
+      jjtn000.right = Expression();
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OUpdateRemoveItem UpdateRemoveItem() throws ParseException {
+ /*@bgen(jjtree) UpdateRemoveItem */
+  OUpdateRemoveItem jjtn000 = new OUpdateRemoveItem(JJTUPDATEREMOVEITEM);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jjtn000.left = Expression();
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case EQ:
+        jj_consume_token(EQ);
+        jjtn000.right = Expression();
+        break;
+      default:
+        jj_la1[125] = jj_gen;
+        ;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -4029,6 +4064,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -4069,6 +4105,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -4129,7 +4166,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             jjtn000.targetClusterName = Identifier();
             break;
           default:
-            jj_la1[125] = jj_gen;
+            jj_la1[126] = jj_gen;
             ;
           }
           break;
@@ -4138,7 +4175,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jjtn000.targetCluster = Cluster();
           break;
         default:
-          jj_la1[126] = jj_gen;
+          jj_la1[127] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4154,7 +4191,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.returnStatement = Projection();
         break;
       default:
-        jj_la1[127] = jj_gen;
+        jj_la1[128] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4167,7 +4204,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                    jjtn000.selectWithFrom = true;
           break;
         default:
-          jj_la1[128] = jj_gen;
+          jj_la1[129] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4180,14 +4217,14 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
               jjtn000.selectStatement = SelectWithoutTargetStatement();
               break;
             default:
-              jj_la1[129] = jj_gen;
+              jj_la1[130] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[131] = jj_gen;
+          jj_la1[132] = jj_gen;
           if (jj_2_65(2)) {
             jj_consume_token(LPAREN);
             if (jj_2_64(2147483647)) {
@@ -4198,7 +4235,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                 jjtn000.selectStatement = SelectWithoutTargetStatement();
                 break;
               default:
-                jj_la1[130] = jj_gen;
+                jj_la1[131] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -4212,7 +4249,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         }
         break;
       default:
-        jj_la1[132] = jj_gen;
+        jj_la1[133] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4221,7 +4258,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                  jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[133] = jj_gen;
+        jj_la1[134] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -4272,7 +4309,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[134] = jj_gen;
+            jj_la1[135] = jj_gen;
             break label_12;
           }
           jj_consume_token(COMMA);
@@ -4294,7 +4331,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[135] = jj_gen;
+            jj_la1[136] = jj_gen;
             break label_13;
           }
           jj_consume_token(COMMA);
@@ -4309,7 +4346,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[136] = jj_gen;
+            jj_la1[137] = jj_gen;
             break label_14;
           }
           jj_consume_token(COMMA);
@@ -4325,7 +4362,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
               ;
               break;
             default:
-              jj_la1[137] = jj_gen;
+              jj_la1[138] = jj_gen;
               break label_15;
             }
             jj_consume_token(COMMA);
@@ -4349,7 +4386,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             ;
             break;
           default:
-            jj_la1[138] = jj_gen;
+            jj_la1[139] = jj_gen;
             break label_16;
           }
           jj_consume_token(COMMA);
@@ -4372,13 +4409,13 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
             jjtn000.contentInputParam = InputParameter();
             break;
           default:
-            jj_la1[139] = jj_gen;
+            jj_la1[140] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[140] = jj_gen;
+          jj_la1[141] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4448,7 +4485,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.targetClusterName = Identifier();
         break;
       default:
-        jj_la1[141] = jj_gen;
+        jj_la1[142] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4495,7 +4532,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jjtn000.targetClusterName = Identifier();
           break;
         default:
-          jj_la1[142] = jj_gen;
+          jj_la1[143] = jj_gen;
           ;
         }
       } else if (jj_2_69(2147483647)) {
@@ -4510,7 +4547,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.returnStatement = Projection();
         break;
       default:
-        jj_la1[143] = jj_gen;
+        jj_la1[144] = jj_gen;
         ;
       }
       if (jj_2_70(2147483647)) {
@@ -4604,7 +4641,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.targetClass = Identifier();
         break;
       default:
-        jj_la1[144] = jj_gen;
+        jj_la1[145] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4619,7 +4656,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.updateOperations = UpdateOperations();
         break;
       default:
-        jj_la1[145] = jj_gen;
+        jj_la1[146] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4627,7 +4664,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[146] = jj_gen;
+        jj_la1[147] = jj_gen;
         ;
       }
      jjtree.closeNodeScope(jjtn000, true);
@@ -4684,6 +4721,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -4724,6 +4762,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -4784,12 +4823,12 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
           jjtn000.targetClusterName = Identifier();
           break;
         default:
-          jj_la1[147] = jj_gen;
+          jj_la1[148] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[148] = jj_gen;
+        jj_la1[149] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4798,7 +4837,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[149] = jj_gen;
+        jj_la1[150] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -4812,7 +4851,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.body = InsertBody();
         break;
       default:
-        jj_la1[150] = jj_gen;
+        jj_la1[151] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4820,7 +4859,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.retry = Retry();
         break;
       default:
-        jj_la1[151] = jj_gen;
+        jj_la1[152] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4828,7 +4867,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.wait = Wait();
         break;
       default:
-        jj_la1[152] = jj_gen;
+        jj_la1[153] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4836,7 +4875,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[153] = jj_gen;
+        jj_la1[154] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -4881,7 +4920,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         result = NamedParameter();
         break;
       default:
-        jj_la1[154] = jj_gen;
+        jj_la1[155] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4962,6 +5001,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -5002,6 +5042,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5071,7 +5112,7 @@ Token token;
                             jjtn000.paramName = token.image;
         break;
       default:
-        jj_la1[155] = jj_gen;
+        jj_la1[156] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5122,7 +5163,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[156] = jj_gen;
+            jj_la1[157] = jj_gen;
             break label_17;
           }
           jj_consume_token(COMMA);
@@ -5143,7 +5184,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[157] = jj_gen;
+              jj_la1[158] = jj_gen;
               break label_18;
             }
             jj_consume_token(COMMA);
@@ -5152,7 +5193,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[158] = jj_gen;
+          jj_la1[159] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -5198,7 +5239,7 @@ Token token;
         jjtn000.nestedProjection = NestedProjection();
         break;
       default:
-        jj_la1[159] = jj_gen;
+        jj_la1[160] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5207,7 +5248,7 @@ Token token;
         jjtn000.alias = Alias();
         break;
       default:
-        jj_la1[160] = jj_gen;
+        jj_la1[161] = jj_gen;
         ;
       }
    jjtree.closeNodeScope(jjtn000, true);
@@ -5261,7 +5302,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[161] = jj_gen;
+          jj_la1[162] = jj_gen;
           break label_19;
         }
         jj_consume_token(COMMA);
@@ -5332,6 +5373,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -5372,6 +5414,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5442,14 +5485,14 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BANG:
           jj_consume_token(BANG);
                  jjtn000.exclude = true;
           break;
         default:
-          jj_la1[162] = jj_gen;
+          jj_la1[163] = jj_gen;
           ;
         }
         jjtn000.expression = Expression();
@@ -5459,12 +5502,12 @@ Token token;
                  jjtn000.rightWildcard = true;
           break;
         default:
-          jj_la1[163] = jj_gen;
+          jj_la1[164] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[164] = jj_gen;
+        jj_la1[165] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5473,7 +5516,7 @@ Token token;
         jjtn000.expansion = NestedProjection();
         break;
       default:
-        jj_la1[165] = jj_gen;
+        jj_la1[166] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5482,7 +5525,7 @@ Token token;
         jjtn000.alias = Identifier();
         break;
       default:
-        jj_la1[166] = jj_gen;
+        jj_la1[167] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -5615,7 +5658,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[167] = jj_gen;
+          jj_la1[168] = jj_gen;
           break label_20;
         }
         jj_consume_token(COMMA);
@@ -5688,14 +5731,14 @@ Token token;
                            jjtn000.newRange = true; jjtn000.included = true;
           break;
         default:
-          jj_la1[168] = jj_gen;
+          jj_la1[169] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         jjtn000.toSelector = ArrayNumberSelector();
         break;
       default:
-        jj_la1[169] = jj_gen;
+        jj_la1[170] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5808,6 +5851,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -5848,6 +5892,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -5908,7 +5953,7 @@ Token token;
                            jjtn000.name = new OIdentifier("distinct");
         break;
       default:
-        jj_la1[170] = jj_gen;
+        jj_la1[171] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5932,6 +5977,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -5972,6 +6018,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -6042,7 +6089,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         lastExpression = Expression();
                                            jjtn000.params.add(lastExpression);
         label_21:
@@ -6052,7 +6099,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[171] = jj_gen;
+            jj_la1[172] = jj_gen;
             break label_21;
           }
           jj_consume_token(COMMA);
@@ -6061,7 +6108,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[172] = jj_gen;
+        jj_la1[173] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -6121,6 +6168,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -6161,6 +6209,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -6231,7 +6280,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         lastExpression = Expression();
                                             jjtn000.params.add(lastExpression);
         label_22:
@@ -6241,7 +6290,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[173] = jj_gen;
+            jj_la1[174] = jj_gen;
             break label_22;
           }
           jj_consume_token(COMMA);
@@ -6250,7 +6299,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[174] = jj_gen;
+        jj_la1[175] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -6297,7 +6346,7 @@ Token token;
                  jjtn000.self = true;
           break;
         default:
-          jj_la1[175] = jj_gen;
+          jj_la1[176] = jj_gen;
           if (jj_2_78(2147483647)) {
             jjtn000.collection = Collection();
           } else {
@@ -6351,7 +6400,7 @@ Token token;
                    jjtn000.star = true;
           break;
         default:
-          jj_la1[176] = jj_gen;
+          jj_la1[177] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6451,7 +6500,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[177] = jj_gen;
+        jj_la1[178] = jj_gen;
         if (jj_2_87(2147483647)) {
           jjtn000.methodCall = MethodCall();
         } else {
@@ -6461,7 +6510,7 @@ Token token;
             jjtn000.suffix = SuffixIdentifier();
             break;
           default:
-            jj_la1[178] = jj_gen;
+            jj_la1[179] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -6524,7 +6573,7 @@ Token token;
                   jjtn000.booleanValue = false; jjtn000.value = false;
           break;
         default:
-          jj_la1[179] = jj_gen;
+          jj_la1[180] = jj_gen;
           if (jj_2_90(2147483647)) {
             jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
@@ -6538,7 +6587,7 @@ Token token;
                                jjtn000.value = jjtn000.json;
               break;
             default:
-              jj_la1[180] = jj_gen;
+              jj_la1[181] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -6592,7 +6641,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[181] = jj_gen;
+          jj_la1[182] = jj_gen;
           break label_23;
         }
       }
@@ -6644,7 +6693,7 @@ Token token;
                   jjtn000.booleanValue = false; jjtn000.value = false;
         break;
       default:
-        jj_la1[182] = jj_gen;
+        jj_la1[183] = jj_gen;
         if (jj_2_92(2147483647)) {
           jjtn000.rid = Rid();
                               jjtn000.value = jjtn000.rid;
@@ -6658,7 +6707,7 @@ Token token;
                                jjtn000.value = jjtn000.json;
             break;
           default:
-            jj_la1[183] = jj_gen;
+            jj_la1[184] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -6754,7 +6803,7 @@ Token token;
                             jjtn000.operators.add(OMathExpression.Operator.XOR);
           break;
         default:
-          jj_la1[184] = jj_gen;
+          jj_la1[185] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6864,6 +6913,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -6904,6 +6954,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -6974,14 +7025,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           jjtn000.expression = Expression();
           break;
         case INSERT:
           jjtn000.statement = InsertStatement();
           break;
         default:
-          jj_la1[185] = jj_gen;
+          jj_la1[186] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7044,6 +7095,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -7084,6 +7136,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -7171,7 +7224,7 @@ Token token;
                                               jjtn000.string = token.image;
           break;
         default:
-          jj_la1[186] = jj_gen;
+          jj_la1[187] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7182,7 +7235,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[187] = jj_gen;
+        jj_la1[188] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7265,7 +7318,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[188] = jj_gen;
+          jj_la1[189] = jj_gen;
           break label_25;
         }
         jj_consume_token(COMMA);
@@ -7318,7 +7371,7 @@ Token token;
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[189] = jj_gen;
+          jj_la1[190] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7364,12 +7417,12 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 270:
         lastRid = Rid();
                           jjtn000.rids.add(lastRid);
         break;
       default:
-        jj_la1[194] = jj_gen;
+        jj_la1[195] = jj_gen;
         if (jj_2_105(2)) {
           jj_consume_token(LBRACKET);
           lastRid = Rid();
@@ -7381,7 +7434,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[190] = jj_gen;
+              jj_la1[191] = jj_gen;
               break label_26;
             }
             jj_consume_token(COMMA);
@@ -7403,7 +7456,7 @@ Token token;
                                                jjtn000.inputParams.add(lastParam);
               break;
             default:
-              jj_la1[191] = jj_gen;
+              jj_la1[192] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -7415,7 +7468,7 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[192] = jj_gen;
+                jj_la1[193] = jj_gen;
                 break label_27;
               }
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -7429,7 +7482,7 @@ Token token;
                                                jjtn000.inputParams.add(lastParam);
                 break;
               default:
-                jj_la1[193] = jj_gen;
+                jj_la1[194] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -7444,7 +7497,7 @@ Token token;
             jjtn000.clusterList = ClusterList();
             break;
           default:
-            jj_la1[195] = jj_gen;
+            jj_la1[196] = jj_gen;
             if (jj_2_106(2147483647)) {
               jjtn000.index = IndexIdentifier();
             } else {
@@ -7467,7 +7520,7 @@ Token token;
                 jjtn000.inputParam = InputParameter();
                 break;
               default:
-                jj_la1[196] = jj_gen;
+                jj_la1[197] = jj_gen;
                 if (jj_2_107(2)) {
                   jjtn000.functionCall = FunctionCall();
                   if (jj_2_103(2147483647)) {
@@ -7494,6 +7547,7 @@ Token token;
                   case CYCLE:
                   case NOLIMIT:
                   case NOCYCLE:
+                  case MEMORY:
                   case LUCENE:
                   case NEAR:
                   case WITHIN:
@@ -7534,6 +7588,7 @@ Token token;
                   case COLLATE:
                   case ENGINE:
                   case REBUILD:
+                  case ANALYZE:
                   case ID:
                   case DATABASE:
                   case OPTIMIZE:
@@ -7595,7 +7650,7 @@ Token token;
                     }
                     break;
                   default:
-                    jj_la1[197] = jj_gen;
+                    jj_la1[198] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                   }
@@ -7649,7 +7704,7 @@ Token token;
                                                  jjtn000.clusterNumber = Integer.parseInt(cName.image.split(":")[1]);
         break;
       default:
-        jj_la1[198] = jj_gen;
+        jj_la1[199] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7694,6 +7749,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -7734,6 +7790,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -7796,7 +7853,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[199] = jj_gen;
+            jj_la1[200] = jj_gen;
             break label_28;
           }
           jj_consume_token(COMMA);
@@ -7805,7 +7862,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[200] = jj_gen;
+        jj_la1[201] = jj_gen;
         ;
       }
       jj_consume_token(RBRACKET);
@@ -7868,12 +7925,12 @@ Token token;
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 269:
-        jj_consume_token(269);
+      case 271:
+        jj_consume_token(271);
                              builder.append("__@recordmap@___");
         break;
       default:
-        jj_la1[201] = jj_gen;
+        jj_la1[202] = jj_gen;
         ;
       }
       lastIdentifier = Identifier();
@@ -7886,7 +7943,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[202] = jj_gen;
+          jj_la1[203] = jj_gen;
           break label_29;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -7899,7 +7956,7 @@ Token token;
                       builder.append("-");
           break;
         default:
-          jj_la1[203] = jj_gen;
+          jj_la1[204] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7964,14 +8021,14 @@ Token token;
                                                        jjtn000.type = OIndexIdentifier.Type.VALUESDESC;
           break;
         default:
-          jj_la1[204] = jj_gen;
+          jj_la1[205] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
                 jjtn000.indexNameString = token.image.split(":")[1];
         break;
       default:
-        jj_la1[205] = jj_gen;
+        jj_la1[206] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8053,7 +8110,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[206] = jj_gen;
+          jj_la1[207] = jj_gen;
           break label_30;
         }
         jj_consume_token(OR);
@@ -8103,7 +8160,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[207] = jj_gen;
+          jj_la1[208] = jj_gen;
           break label_31;
         }
         jj_consume_token(AND);
@@ -8175,6 +8232,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -8215,6 +8273,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -8285,7 +8344,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         if (jj_2_110(2147483647)) {
           jjtn000.sub = ConditionBlock();
         } else if (jj_2_111(2147483647)) {
@@ -8296,7 +8355,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[208] = jj_gen;
+        jj_la1[209] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8414,7 +8473,7 @@ Token token;
               result = OBooleanExpression.FALSE;
           break;
         default:
-          jj_la1[209] = jj_gen;
+          jj_la1[210] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -8495,7 +8554,7 @@ Token token;
         result = ScAndOperator();
         break;
       default:
-        jj_la1[210] = jj_gen;
+        jj_la1[211] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8816,7 +8875,7 @@ Token token;
                  jjtn000.doubleEquals = true;
         break;
       default:
-        jj_la1[211] = jj_gen;
+        jj_la1[212] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8866,14 +8925,14 @@ Token token;
                    jjtn000.not = true;
           break;
         default:
-          jj_la1[212] = jj_gen;
+          jj_la1[213] = jj_gen;
           ;
         }
         jjtn000.inOperator = InOperator();
         jjtn000.right = Expression();
         break;
       default:
-        jj_la1[213] = jj_gen;
+        jj_la1[214] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9014,6 +9073,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -9054,6 +9114,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -9118,7 +9179,7 @@ Token token;
                                                  jjtn000.rightString = token.image;
         break;
       default:
-        jj_la1[214] = jj_gen;
+        jj_la1[215] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9195,6 +9256,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -9235,6 +9297,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9305,7 +9368,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_32:
@@ -9315,7 +9378,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[215] = jj_gen;
+              jj_la1[216] = jj_gen;
               break label_32;
             }
             jj_consume_token(COMMA);
@@ -9324,7 +9387,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[216] = jj_gen;
+          jj_la1[217] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -9352,6 +9415,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -9392,6 +9456,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9462,7 +9527,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_33:
@@ -9472,7 +9537,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[217] = jj_gen;
+              jj_la1[218] = jj_gen;
               break label_33;
             }
             jj_consume_token(COMMA);
@@ -9481,7 +9546,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[218] = jj_gen;
+          jj_la1[219] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -9506,6 +9571,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -9546,6 +9612,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -9616,7 +9683,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           lastExpression = Expression();
                                                     jjtn000.rightExpressions.add(lastExpression);
           label_34:
@@ -9626,7 +9693,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[219] = jj_gen;
+              jj_la1[220] = jj_gen;
               break label_34;
             }
             jj_consume_token(COMMA);
@@ -9635,13 +9702,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[220] = jj_gen;
+          jj_la1[221] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[221] = jj_gen;
+        jj_la1[222] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9947,7 +10014,7 @@ Token token;
             jjtn000.rightStatement = SelectWithoutTargetStatement();
             break;
           default:
-            jj_la1[222] = jj_gen;
+            jj_la1[223] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -9976,6 +10043,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -10016,6 +10084,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10086,7 +10155,7 @@ Token token;
           jjtn000.rightMathExpression = MathExpression();
           break;
         default:
-          jj_la1[223] = jj_gen;
+          jj_la1[224] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10138,7 +10207,7 @@ Token token;
             jjtn000.rightStatement = SelectWithoutTargetStatement();
             break;
           default:
-            jj_la1[224] = jj_gen;
+            jj_la1[225] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -10167,6 +10236,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -10207,6 +10277,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10277,7 +10348,7 @@ Token token;
           jjtn000.rightMathExpression = MathExpression();
           break;
         default:
-          jj_la1[225] = jj_gen;
+          jj_la1[226] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10464,7 +10535,7 @@ Token token;
           jjtn000.rightParam = InputParameter();
           break;
         default:
-          jj_la1[226] = jj_gen;
+          jj_la1[227] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10528,6 +10599,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -10568,6 +10640,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -10625,7 +10698,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
                     lastItem = new OOrderByItem();
                     jjtn000.items.add(lastItem);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10646,6 +10719,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -10686,6 +10760,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10748,14 +10823,14 @@ Token token;
                                                        lastItem.modifier = lastModifier;
             break;
           default:
-            jj_la1[227] = jj_gen;
+            jj_la1[228] = jj_gen;
             ;
           }
           break;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 270:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10763,7 +10838,7 @@ Token token;
                                                      lastItem.recordAttr = lastToken.image;
           break;
         default:
-          jj_la1[228] = jj_gen;
+          jj_la1[229] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10780,13 +10855,13 @@ Token token;
                                                                       lastItem.type = OOrderByItem.ASC;
             break;
           default:
-            jj_la1[229] = jj_gen;
+            jj_la1[230] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[230] = jj_gen;
+          jj_la1[231] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10795,7 +10870,7 @@ Token token;
           lastItem.collate = Expression();
           break;
         default:
-          jj_la1[231] = jj_gen;
+          jj_la1[232] = jj_gen;
           ;
         }
         break;
@@ -10821,6 +10896,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -10861,6 +10937,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -10923,14 +11000,14 @@ Token token;
                                                        lastItem.modifier = lastModifier;
             break;
           default:
-            jj_la1[232] = jj_gen;
+            jj_la1[233] = jj_gen;
             ;
           }
           break;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 270:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10938,7 +11015,7 @@ Token token;
                                                      lastItem.recordAttr = lastToken.image;
           break;
         default:
-          jj_la1[233] = jj_gen;
+          jj_la1[234] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10955,13 +11032,13 @@ Token token;
                                                                       lastItem.type = OOrderByItem.ASC;
             break;
           default:
-            jj_la1[234] = jj_gen;
+            jj_la1[235] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[235] = jj_gen;
+          jj_la1[236] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10970,13 +11047,13 @@ Token token;
           lastItem.collate = Expression();
           break;
         default:
-          jj_la1[236] = jj_gen;
+          jj_la1[237] = jj_gen;
           ;
         }
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[237] = jj_gen;
+        jj_la1[238] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10987,7 +11064,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[238] = jj_gen;
+          jj_la1[239] = jj_gen;
           break label_35;
         }
         jj_consume_token(COMMA);
@@ -11009,6 +11086,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -11049,6 +11127,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -11106,7 +11185,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
                         lastItem = new OOrderByItem();
                         jjtn000.items.add(lastItem);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11127,6 +11206,7 @@ Token token;
           case CYCLE:
           case NOLIMIT:
           case NOCYCLE:
+          case MEMORY:
           case LUCENE:
           case NEAR:
           case WITHIN:
@@ -11167,6 +11247,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -11229,14 +11310,14 @@ Token token;
                                                            lastItem.modifier = lastModifier;
               break;
             default:
-              jj_la1[239] = jj_gen;
+              jj_la1[240] = jj_gen;
               ;
             }
             break;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 268:
+          case 270:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11244,7 +11325,7 @@ Token token;
                                                          lastItem.recordAttr = lastToken.image;
             break;
           default:
-            jj_la1[240] = jj_gen;
+            jj_la1[241] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -11261,13 +11342,13 @@ Token token;
                                                                           lastItem.type = OOrderByItem.ASC;
               break;
             default:
-              jj_la1[241] = jj_gen;
+              jj_la1[242] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[242] = jj_gen;
+            jj_la1[243] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11276,7 +11357,7 @@ Token token;
             lastItem.collate = Expression();
             break;
           default:
-            jj_la1[243] = jj_gen;
+            jj_la1[244] = jj_gen;
             ;
           }
           break;
@@ -11302,6 +11383,7 @@ Token token;
           case CYCLE:
           case NOLIMIT:
           case NOCYCLE:
+          case MEMORY:
           case LUCENE:
           case NEAR:
           case WITHIN:
@@ -11342,6 +11424,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -11404,14 +11487,14 @@ Token token;
                                                            lastItem.modifier = lastModifier;
               break;
             default:
-              jj_la1[244] = jj_gen;
+              jj_la1[245] = jj_gen;
               ;
             }
             break;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 268:
+          case 270:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11419,7 +11502,7 @@ Token token;
                                                          lastItem.recordAttr = lastToken.image;
             break;
           default:
-            jj_la1[245] = jj_gen;
+            jj_la1[246] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -11436,13 +11519,13 @@ Token token;
                                                                           lastItem.type = OOrderByItem.ASC;
               break;
             default:
-              jj_la1[246] = jj_gen;
+              jj_la1[247] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[247] = jj_gen;
+            jj_la1[248] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -11451,13 +11534,13 @@ Token token;
             lastItem.collate = Expression();
             break;
           default:
-            jj_la1[248] = jj_gen;
+            jj_la1[249] = jj_gen;
             ;
           }
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[249] = jj_gen;
+          jj_la1[250] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -11507,7 +11590,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[250] = jj_gen;
+          jj_la1[251] = jj_gen;
           break label_36;
         }
         jj_consume_token(COMMA);
@@ -11558,7 +11641,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[251] = jj_gen;
+          jj_la1[252] = jj_gen;
           break label_37;
         }
         jj_consume_token(COMMA);
@@ -11610,7 +11693,7 @@ Token token;
         jjtn000.inputParam = InputParameter();
         break;
       default:
-        jj_la1[252] = jj_gen;
+        jj_la1[253] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11661,7 +11744,7 @@ Token token;
           jjtn000.inputParam = InputParameter();
           break;
         default:
-          jj_la1[253] = jj_gen;
+          jj_la1[254] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -11678,13 +11761,13 @@ Token token;
           jjtn000.inputParam = InputParameter();
           break;
         default:
-          jj_la1[254] = jj_gen;
+          jj_la1[255] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[255] = jj_gen;
+        jj_la1[256] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11733,7 +11816,7 @@ Token token;
         jjtn000.inputParam = InputParameter();
         break;
       default:
-        jj_la1[256] = jj_gen;
+        jj_la1[257] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11787,13 +11870,13 @@ Token token;
                                 jjtn000.failureStrategy = OTimeout.EXCEPTION;
           break;
         default:
-          jj_la1[257] = jj_gen;
+          jj_la1[258] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[258] = jj_gen;
+        jj_la1[259] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -11922,6 +12005,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -11962,6 +12046,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -12032,7 +12117,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         lastExpression = Expression();
                                             jjtn000.expressions.add(lastExpression);
         label_38:
@@ -12042,7 +12127,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[259] = jj_gen;
+            jj_la1[260] = jj_gen;
             break label_38;
           }
           jj_consume_token(COMMA);
@@ -12051,7 +12136,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[260] = jj_gen;
+        jj_la1[261] = jj_gen;
         ;
       }
       jj_consume_token(RBRACKET);
@@ -12094,127 +12179,13 @@ Token token;
                                                  jjtn000.items.add(lastItem);
       label_39:
       while (true) {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case TO:
-        case VALUE:
-        case VALUES:
-        case SET:
-        case ADD:
-        case PUT:
-        case MERGE:
-        case CONTENT:
-        case REMOVE:
-        case ORDER:
-        case GROUP:
-        case OFFSET:
-        case RECORD:
-        case CACHE:
-        case CYCLE:
-        case NOLIMIT:
-        case NOCYCLE:
-        case LUCENE:
-        case NEAR:
-        case WITHIN:
-        case MINDEPTH:
-        case CLASS:
-        case SUPERCLASS:
-        case CLASSES:
-        case SUPERCLASSES:
-        case VIEW:
-        case UPDATABLE:
-        case EXCEPTION:
-        case PROFILE:
-        case STORAGE:
-        case ON:
-        case OFF:
-        case TRUNCATE:
-        case FIND:
-        case REFERENCES:
-        case EXTENDS:
-        case CLUSTERS:
-        case ABSTRACT:
-        case ALTER:
-        case NAME:
-        case SHORTNAME:
-        case OVERSIZE:
-        case STRICTMODE:
-        case ADDCLUSTER:
-        case REMOVECLUSTER:
-        case CUSTOM:
-        case CLUSTERSELECTION:
-        case DESCRIPTION:
-        case ENCRYPTION:
-        case DROP:
-        case PROPERTY:
-        case FORCE:
-        case METADATA:
-        case INDEX:
-        case COLLATE:
-        case ENGINE:
-        case REBUILD:
-        case ID:
-        case DATABASE:
-        case OPTIMIZE:
-        case LINK:
-        case TYPE:
-        case INVERSE:
-        case EXPLAIN:
-        case GRANT:
-        case REVOKE:
-        case READ:
-        case EXECUTE:
-        case ALL:
-        case NONE:
-        case FUNCTION:
-        case PARAMETERS:
-        case IDEMPOTENT:
-        case LANGUAGE:
-        case BEGIN:
-        case COMMIT:
-        case ROLLBACK:
-        case IF:
-        case ELSE:
-        case CONTINUE:
-        case FAIL:
-        case ISOLATION:
-        case SLEEP:
-        case CONSOLE:
-        case BLOB:
-        case SHARED:
-        case DEFAULT_:
-        case SEQUENCE:
-        case START:
-        case OPTIONAL:
-        case COUNT:
-        case HA:
-        case STATUS:
-        case SERVER:
-        case SYNC:
-        case EXISTS:
-        case MOVE:
-        case DEPTH_ALIAS:
-        case PATH_ALIAS:
-        case IDENTIFIED:
-        case ROLE:
-        case USER:
-        case RID:
-        case SECURITY:
-        case POLICY:
-        case DEFAULTCLUSTER:
-        case LBRACKET:
-        case STAR:
-        case IN:
-        case KEY:
-        case IDENTIFIER:
-        case QUOTED_IDENTIFIER:
+        if (jj_2_143(2)) {
           ;
-          break;
-        default:
-          jj_la1[261] = jj_gen;
+        } else {
           break label_39;
         }
         lastItem = FetchPlanItem();
-                                       jjtn000.items.add(lastItem);
+                                                    jjtn000.items.add(lastItem);
       }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -12273,6 +12244,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -12313,6 +12285,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -12477,7 +12450,7 @@ Token token;
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_143(2147483647)) {
+      if (jj_2_144(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -12536,6 +12509,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -12576,6 +12550,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -12652,6 +12627,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -12692,6 +12668,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -12798,6 +12775,7 @@ Token token;
           case CYCLE:
           case NOLIMIT:
           case NOCYCLE:
+          case MEMORY:
           case LUCENE:
           case NEAR:
           case WITHIN:
@@ -12838,6 +12816,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -12969,13 +12948,13 @@ Token token;
           jj_la1[272] = jj_gen;
           break label_42;
         }
-        if (jj_2_144(3)) {
+        if (jj_2_145(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_145(3)) {
-          nextItem = MultiMatchPathItemArrows();
         } else if (jj_2_146(3)) {
+          nextItem = MultiMatchPathItemArrows();
+        } else if (jj_2_147(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_147(2147483647)) {
+        } else if (jj_2_148(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -12984,7 +12963,7 @@ Token token;
             break;
           default:
             jj_la1[273] = jj_gen;
-            if (jj_2_148(2147483647)) {
+            if (jj_2_149(2147483647)) {
               nextItem = BothPathItem();
             } else {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13171,7 +13150,7 @@ Token token;
                                               jjtn000.items.add(nextItem);
       label_43:
       while (true) {
-        if (jj_2_149(2147483647)) {
+        if (jj_2_150(2147483647)) {
           ;
         } else {
           break label_43;
@@ -13227,13 +13206,13 @@ Token token;
       jj_consume_token(LPAREN);
       label_44:
       while (true) {
-        if (jj_2_150(2147483647)) {
+        if (jj_2_151(2147483647)) {
           nextItem = OutPathItemOpt();
                                                jjtn000.items.add(nextItem);
-        } else if (jj_2_151(2147483647)) {
+        } else if (jj_2_152(2147483647)) {
           nextItem = InPathItemOpt();
                                               jjtn000.items.add(nextItem);
-        } else if (jj_2_152(2147483647)) {
+        } else if (jj_2_153(2147483647)) {
           nextItem = BothPathItemOpt();
                                                 jjtn000.items.add(nextItem);
         } else {
@@ -13401,6 +13380,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -13441,6 +13421,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13640,6 +13621,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -13680,6 +13662,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13818,6 +13801,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -13858,6 +13842,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -13994,6 +13979,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -14034,6 +14020,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14170,6 +14157,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -14210,6 +14198,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14355,6 +14344,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -14395,6 +14385,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14538,6 +14529,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -14578,6 +14570,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -14811,6 +14804,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -14851,6 +14845,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -14964,7 +14959,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 270:
         jjtn000.record = Rid();
         break;
       case LBRACKET:
@@ -14974,7 +14969,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 268:
+        case 270:
           lastRecord = Rid();
                                                      jjtn000.records.add(lastRecord);
           label_46:
@@ -15043,7 +15038,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 268:
+      case 270:
         jjtn000.rid = Rid();
         break;
       case LPAREN:
@@ -15078,6 +15073,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -15118,6 +15114,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15212,6 +15209,7 @@ Token token;
           case CYCLE:
           case NOLIMIT:
           case NOCYCLE:
+          case MEMORY:
           case LUCENE:
           case NEAR:
           case WITHIN:
@@ -15252,6 +15250,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -15567,6 +15566,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -15607,6 +15607,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15714,6 +15715,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -15754,6 +15756,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -15841,6 +15844,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -15881,6 +15885,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16005,6 +16010,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -16045,6 +16051,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16131,6 +16138,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -16171,6 +16179,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16282,6 +16291,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -16322,6 +16332,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16377,8 +16388,8 @@ Token token;
         case QUOTED_IDENTIFIER:
           jjtn000.identifierValue = Identifier();
           break;
-        case 270:
-          jj_consume_token(270);
+        case 272:
+          jj_consume_token(272);
                                                 jjtn000.customString = "round-robin";
           break;
         case RID_STRING:
@@ -16413,6 +16424,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -16453,6 +16465,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16538,6 +16551,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -16578,6 +16592,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16666,6 +16681,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -16706,6 +16722,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -16941,7 +16958,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_153(3)) {
+      if (jj_2_154(3)) {
         IfNotExists();
                                                    jjtn000.ifNotExists = true;
       } else {
@@ -16966,6 +16983,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -17006,6 +17024,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -17178,7 +17197,7 @@ Token token;
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_154(3)) {
+      if (jj_2_155(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -17202,6 +17221,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -17242,6 +17262,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17401,7 +17422,7 @@ Token token;
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_156(4)) {
+      if (jj_2_157(4)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case IF:
           jj_consume_token(IF);
@@ -17434,6 +17455,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -17474,6 +17496,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17603,6 +17626,7 @@ Token token;
           case CYCLE:
           case NOLIMIT:
           case NOCYCLE:
+          case MEMORY:
           case LUCENE:
           case NEAR:
           case WITHIN:
@@ -17643,6 +17667,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -17765,6 +17790,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -17805,6 +17831,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -17858,7 +17885,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_155(3)) {
+          if (jj_2_156(3)) {
             jj_consume_token(IF);
             jj_consume_token(NOT);
             jj_consume_token(EXISTS);
@@ -17883,6 +17910,7 @@ Token token;
             case CYCLE:
             case NOLIMIT:
             case NOCYCLE:
+            case MEMORY:
             case LUCENE:
             case NEAR:
             case WITHIN:
@@ -17923,6 +17951,7 @@ Token token;
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -17991,7 +18020,7 @@ Token token;
           throw new ParseException();
         }
       }
-      if (jj_2_159(2)) {
+      if (jj_2_160(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18012,6 +18041,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -18052,6 +18082,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -18105,7 +18136,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_157(2)) {
+          if (jj_2_158(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -18127,6 +18158,7 @@ Token token;
             case CYCLE:
             case NOLIMIT:
             case NOCYCLE:
+            case MEMORY:
             case LUCENE:
             case NEAR:
             case WITHIN:
@@ -18167,6 +18199,7 @@ Token token;
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -18276,6 +18309,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -18316,6 +18350,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -18369,7 +18404,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_158(2)) {
+          if (jj_2_159(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -18391,6 +18426,7 @@ Token token;
             case CYCLE:
             case NOLIMIT:
             case NOCYCLE:
+            case MEMORY:
             case LUCENE:
             case NEAR:
             case WITHIN:
@@ -18431,6 +18467,7 @@ Token token;
             case COLLATE:
             case ENGINE:
             case REBUILD:
+            case ANALYZE:
             case ID:
             case DATABASE:
             case OPTIMIZE:
@@ -18576,6 +18613,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -18616,6 +18654,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -18669,7 +18708,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 269:
+      case 271:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18708,6 +18747,167 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
+  final public OAnalyzeIndexStatement AnalyzeIndexStatement() throws ParseException {
+ /*@bgen(jjtree) AnalyzeIndexStatement */
+  OAnalyzeIndexStatement jjtn000 = new OAnalyzeIndexStatement(JJTANALYZEINDEXSTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ANALYZE);
+      jj_consume_token(INDEX);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case TO:
+      case VALUE:
+      case VALUES:
+      case SET:
+      case ADD:
+      case PUT:
+      case MERGE:
+      case CONTENT:
+      case REMOVE:
+      case ORDER:
+      case GROUP:
+      case OFFSET:
+      case RECORD:
+      case CACHE:
+      case CYCLE:
+      case NOLIMIT:
+      case NOCYCLE:
+      case MEMORY:
+      case LUCENE:
+      case NEAR:
+      case WITHIN:
+      case MINDEPTH:
+      case CLASS:
+      case SUPERCLASS:
+      case CLASSES:
+      case SUPERCLASSES:
+      case VIEW:
+      case UPDATABLE:
+      case EXCEPTION:
+      case PROFILE:
+      case STORAGE:
+      case ON:
+      case OFF:
+      case TRUNCATE:
+      case FIND:
+      case REFERENCES:
+      case EXTENDS:
+      case CLUSTERS:
+      case ABSTRACT:
+      case ALTER:
+      case NAME:
+      case SHORTNAME:
+      case OVERSIZE:
+      case STRICTMODE:
+      case ADDCLUSTER:
+      case REMOVECLUSTER:
+      case CUSTOM:
+      case CLUSTERSELECTION:
+      case DESCRIPTION:
+      case ENCRYPTION:
+      case DROP:
+      case PROPERTY:
+      case FORCE:
+      case METADATA:
+      case INDEX:
+      case COLLATE:
+      case ENGINE:
+      case REBUILD:
+      case ANALYZE:
+      case ID:
+      case DATABASE:
+      case OPTIMIZE:
+      case LINK:
+      case TYPE:
+      case INVERSE:
+      case EXPLAIN:
+      case GRANT:
+      case REVOKE:
+      case READ:
+      case EXECUTE:
+      case ALL:
+      case NONE:
+      case FUNCTION:
+      case PARAMETERS:
+      case IDEMPOTENT:
+      case LANGUAGE:
+      case BEGIN:
+      case COMMIT:
+      case ROLLBACK:
+      case IF:
+      case ELSE:
+      case CONTINUE:
+      case FAIL:
+      case ISOLATION:
+      case SLEEP:
+      case CONSOLE:
+      case BLOB:
+      case SHARED:
+      case DEFAULT_:
+      case SEQUENCE:
+      case START:
+      case OPTIONAL:
+      case COUNT:
+      case HA:
+      case STATUS:
+      case SERVER:
+      case SYNC:
+      case EXISTS:
+      case MOVE:
+      case DEPTH_ALIAS:
+      case PATH_ALIAS:
+      case IDENTIFIED:
+      case ROLE:
+      case USER:
+      case RID:
+      case SECURITY:
+      case POLICY:
+      case DEFAULTCLUSTER:
+      case IN:
+      case KEY:
+      case IDENTIFIER:
+      case QUOTED_IDENTIFIER:
+      case 271:
+        jjtn000.name = IndexName();
+        break;
+      case STAR:
+        jj_consume_token(STAR);
+                     jjtn000.all = true;
+        break;
+      default:
+        jj_la1[371] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+          jjtree.closeNodeScope(jjtn000, true);
+          jjtc000 = false;
+          jjtn000.jjtSetLastToken(getToken(0));
+          {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   final public ODropIndexStatement DropIndexStatement() throws ParseException {
  /*@bgen(jjtree) DropIndexStatement */
   ODropIndexStatement jjtn000 = new ODropIndexStatement(JJTDROPINDEXSTATEMENT);
@@ -18735,6 +18935,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -18775,6 +18976,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -18828,7 +19030,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 269:
+      case 271:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18836,7 +19038,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[371] = jj_gen;
+        jj_la1[372] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18847,7 +19049,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[372] = jj_gen;
+        jj_la1[373] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18895,7 +19097,7 @@ Token token;
                                  jjtn000.blob = true;
         break;
       default:
-        jj_la1[373] = jj_gen;
+        jj_la1[374] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18908,7 +19110,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[374] = jj_gen;
+        jj_la1[375] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18917,7 +19119,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[375] = jj_gen;
+        jj_la1[376] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18963,7 +19165,7 @@ Token token;
                    jjtn000.starred = true;
         break;
       default:
-        jj_la1[376] = jj_gen;
+        jj_la1[377] = jj_gen;
         ;
       }
       jjtn000.attributeName = Identifier();
@@ -19022,6 +19224,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -19062,6 +19265,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19122,7 +19326,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[377] = jj_gen;
+        jj_la1[378] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19133,7 +19337,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[378] = jj_gen;
+        jj_la1[379] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -19172,7 +19376,7 @@ Token token;
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_160(3)) {
+      if (jj_2_161(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -19196,6 +19400,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -19236,6 +19441,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -19293,7 +19499,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[379] = jj_gen;
+          jj_la1[380] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -19377,7 +19583,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[380] = jj_gen;
+          jj_la1[381] = jj_gen;
           break label_55;
         }
         lastOption = CommandLineOption();
@@ -19443,6 +19649,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -19483,6 +19690,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19542,7 +19750,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[381] = jj_gen;
+        jj_la1[382] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19567,6 +19775,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -19607,6 +19816,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -19666,7 +19876,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[382] = jj_gen;
+        jj_la1[383] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19676,7 +19886,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[383] = jj_gen;
+        jj_la1[384] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19815,7 +20025,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[384] = jj_gen;
+        jj_la1[385] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19855,7 +20065,7 @@ Token token;
         jjtn000.permission = Permission();
         break;
       default:
-        jj_la1[385] = jj_gen;
+        jj_la1[386] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19913,7 +20123,7 @@ Token token;
         jjtn000.permission = Permission();
         break;
       default:
-        jj_la1[386] = jj_gen;
+        jj_la1[387] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19975,7 +20185,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[387] = jj_gen;
+            jj_la1[388] = jj_gen;
             break label_56;
           }
           jj_consume_token(COMMA);
@@ -19985,7 +20195,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[388] = jj_gen;
+        jj_la1[389] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -20001,13 +20211,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[389] = jj_gen;
+          jj_la1[390] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[390] = jj_gen;
+        jj_la1[391] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -20016,7 +20226,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[391] = jj_gen;
+        jj_la1[392] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20077,6 +20287,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -20117,6 +20328,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -20177,7 +20389,7 @@ Token token;
         jjtn000.passwordString = String();
         break;
       default:
-        jj_la1[392] = jj_gen;
+        jj_la1[393] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -20202,6 +20414,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -20242,6 +20455,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -20318,6 +20532,7 @@ Token token;
           case CYCLE:
           case NOLIMIT:
           case NOCYCLE:
+          case MEMORY:
           case LUCENE:
           case NEAR:
           case WITHIN:
@@ -20358,6 +20573,7 @@ Token token;
           case COLLATE:
           case ENGINE:
           case REBUILD:
+          case ANALYZE:
           case ID:
           case DATABASE:
           case OPTIMIZE:
@@ -20420,7 +20636,7 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[393] = jj_gen;
+                jj_la1[394] = jj_gen;
                 break label_57;
               }
               jj_consume_token(COMMA);
@@ -20429,19 +20645,19 @@ Token token;
             }
             break;
           default:
-            jj_la1[394] = jj_gen;
+            jj_la1[395] = jj_gen;
             ;
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[395] = jj_gen;
+          jj_la1[396] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[396] = jj_gen;
+        jj_la1[397] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20542,7 +20758,7 @@ Token token;
             lastSecurityResource, null));
           break;
         default:
-          jj_la1[397] = jj_gen;
+          jj_la1[398] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20552,7 +20768,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[398] = jj_gen;
+          jj_la1[399] = jj_gen;
           break label_58;
         }
       }
@@ -20593,9 +20809,9 @@ Token token;
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_161(2147483647)) {
+      if (jj_2_162(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_162(2147483647)) {
+      } else if (jj_2_163(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -20642,7 +20858,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[399] = jj_gen;
+        jj_la1[400] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20712,6 +20928,7 @@ Token token;
               case ALTER:
               case DROP:
               case REBUILD:
+              case ANALYZE:
               case OPTIMIZE:
               case EXPLAIN:
               case GRANT:
@@ -20727,7 +20944,7 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[400] = jj_gen;
+                jj_la1[401] = jj_gen;
                 break label_59;
               }
             }
@@ -20745,13 +20962,13 @@ Token token;
                                                                                       jjtn000.elseFail = true;
                 break;
               default:
-                jj_la1[401] = jj_gen;
+                jj_la1[402] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
               break;
             default:
-              jj_la1[402] = jj_gen;
+              jj_la1[403] = jj_gen;
               ;
             }
             break;
@@ -20767,24 +20984,24 @@ Token token;
                                                                             jjtn000.elseFail = true;
               break;
             default:
-              jj_la1[403] = jj_gen;
+              jj_la1[404] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[404] = jj_gen;
+            jj_la1[405] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[405] = jj_gen;
+          jj_la1[406] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[406] = jj_gen;
+        jj_la1[407] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20862,6 +21079,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -20902,6 +21120,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -20972,11 +21191,11 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 268:
+      case 270:
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[407] = jj_gen;
+        jj_la1[408] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21049,6 +21268,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -21089,6 +21309,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -21161,14 +21382,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           ;
           break;
         default:
-          jj_la1[408] = jj_gen;
+          jj_la1[409] = jj_gen;
           break label_60;
         }
-        if (jj_2_163(2147483647)) {
+        if (jj_2_164(2147483647)) {
           last = StatementSemicolon();
                                           jjtn000.statements.add(last);
         } else {
@@ -21189,7 +21410,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[409] = jj_gen;
+            jj_la1[410] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21315,7 +21536,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[410] = jj_gen;
+        jj_la1[411] = jj_gen;
         ;
       }
       jj_consume_token(TYPE);
@@ -21340,7 +21561,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[411] = jj_gen;
+          jj_la1[412] = jj_gen;
           break label_61;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -21368,7 +21589,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[412] = jj_gen;
+            jj_la1[413] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21386,7 +21607,7 @@ Token token;
                        jjtn000.positive = false;
           break;
         default:
-          jj_la1[413] = jj_gen;
+          jj_la1[414] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21442,7 +21663,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[414] = jj_gen;
+          jj_la1[415] = jj_gen;
           break label_62;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -21470,7 +21691,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[415] = jj_gen;
+            jj_la1[416] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21492,7 +21713,7 @@ Token token;
                           jjtn000.turnLimitOff = true;
           break;
         default:
-          jj_la1[416] = jj_gen;
+          jj_la1[417] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21541,7 +21762,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[417] = jj_gen;
+        jj_la1[418] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21583,54 +21804,54 @@ Token token;
       label_63:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 271:
-        case 272:
         case 273:
         case 274:
         case 275:
         case 276:
         case 277:
+        case 278:
+        case 279:
           ;
           break;
         default:
-          jj_la1[418] = jj_gen;
+          jj_la1[419] = jj_gen;
           break label_63;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 271:
-          token = jj_consume_token(271);
-                                 jjtn000.servers = true;
-          break;
-        case 272:
-          token = jj_consume_token(272);
-                            jjtn000.db = true;
-          break;
         case 273:
           token = jj_consume_token(273);
-                                 jjtn000.latency = true;
+                                 jjtn000.servers = true;
           break;
         case 274:
           token = jj_consume_token(274);
-                                  jjtn000.messages = true;
+                            jjtn000.db = true;
           break;
         case 275:
           token = jj_consume_token(275);
-                               jjtn000.locks = true;
+                                 jjtn000.latency = true;
           break;
         case 276:
           token = jj_consume_token(276);
+                                  jjtn000.messages = true;
+          break;
+        case 277:
+          token = jj_consume_token(277);
+                               jjtn000.locks = true;
+          break;
+        case 278:
+          token = jj_consume_token(278);
                 jjtn000.servers = true;
                 jjtn000.db = true;
                 jjtn000.latency = true;
                 jjtn000.messages = true;
                 jjtn000.locks = true;
           break;
-        case 277:
-          token = jj_consume_token(277);
+        case 279:
+          token = jj_consume_token(279);
                                      jjtn000.outputText = true;
           break;
         default:
-          jj_la1[419] = jj_gen;
+          jj_la1[420] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21699,25 +21920,25 @@ Token token;
       label_64:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 278:
-        case 279:
+        case 280:
+        case 281:
           ;
           break;
         default:
-          jj_la1[420] = jj_gen;
+          jj_la1[421] = jj_gen;
           break label_64;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 278:
-          jj_consume_token(278);
+        case 280:
+          jj_consume_token(280);
                       jjtn000.force = true;
           break;
-        case 279:
-          jj_consume_token(279);
+        case 281:
+          jj_consume_token(281);
                       jjtn000.full = true;
           break;
         default:
-          jj_la1[421] = jj_gen;
+          jj_la1[422] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21747,25 +21968,25 @@ Token token;
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 280:
-      case 281:
+      case 282:
+      case 283:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 280:
-          jj_consume_token(280);
+        case 282:
+          jj_consume_token(282);
                                  jjtn000.modeFull = true;
           break;
-        case 281:
-          jj_consume_token(281);
+        case 283:
+          jj_consume_token(283);
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[422] = jj_gen;
+          jj_la1[423] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[423] = jj_gen;
+        jj_la1[424] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21880,6 +22101,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -21920,6 +22142,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -21992,14 +22215,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           ;
           break;
         default:
-          jj_la1[424] = jj_gen;
+          jj_la1[425] = jj_gen;
           break label_65;
         }
-        if (jj_2_164(2147483647)) {
+        if (jj_2_165(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -22020,7 +22243,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[425] = jj_gen;
+            jj_la1[426] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22097,6 +22320,7 @@ Token token;
         case CYCLE:
         case NOLIMIT:
         case NOCYCLE:
+        case MEMORY:
         case LUCENE:
         case NEAR:
         case WITHIN:
@@ -22137,6 +22361,7 @@ Token token;
         case COLLATE:
         case ENGINE:
         case REBUILD:
+        case ANALYZE:
         case ID:
         case DATABASE:
         case OPTIMIZE:
@@ -22209,14 +22434,14 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 268:
+        case 270:
           ;
           break;
         default:
-          jj_la1[426] = jj_gen;
+          jj_la1[427] = jj_gen;
           break label_66;
         }
-        if (jj_2_165(2147483647)) {
+        if (jj_2_166(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -22237,7 +22462,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[427] = jj_gen;
+            jj_la1[428] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22300,6 +22525,7 @@ Token token;
       case CYCLE:
       case NOLIMIT:
       case NOCYCLE:
+      case MEMORY:
       case LUCENE:
       case NEAR:
       case WITHIN:
@@ -22340,6 +22566,7 @@ Token token;
       case COLLATE:
       case ENGINE:
       case REBUILD:
+      case ANALYZE:
       case ID:
       case DATABASE:
       case OPTIMIZE:
@@ -22452,7 +22679,7 @@ Token token;
                              jjtn000.identifier = new OIdentifier(token.image);
         break;
       default:
-        jj_la1[428] = jj_gen;
+        jj_la1[429] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -22462,7 +22689,7 @@ Token token;
         jjtn000.next = SecurityResourceSegment();
         break;
       default:
-        jj_la1[429] = jj_gen;
+        jj_la1[430] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22552,7 +22779,7 @@ Token token;
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[430] = jj_gen;
+          jj_la1[431] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -22563,7 +22790,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[431] = jj_gen;
+            jj_la1[432] = jj_gen;
             break label_67;
           }
           jj_consume_token(COMMA);
@@ -22613,14 +22840,14 @@ Token token;
             jj_consume_token(RPAREN);
             break;
           default:
-            jj_la1[432] = jj_gen;
+            jj_la1[433] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
         }
         break;
       default:
-        jj_la1[433] = jj_gen;
+        jj_la1[434] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -22712,7 +22939,7 @@ Token token;
             jj_consume_token(RPAREN);
             break;
           default:
-            jj_la1[434] = jj_gen;
+            jj_la1[435] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22723,7 +22950,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[435] = jj_gen;
+              jj_la1[436] = jj_gen;
               break label_69;
             }
             jj_consume_token(COMMA);
@@ -22773,7 +23000,7 @@ Token token;
               jj_consume_token(RPAREN);
               break;
             default:
-              jj_la1[436] = jj_gen;
+              jj_la1[437] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -22809,7 +23036,7 @@ Token token;
                         jjtn000.removeExecute = true;
             break;
           default:
-            jj_la1[437] = jj_gen;
+            jj_la1[438] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22820,7 +23047,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[438] = jj_gen;
+              jj_la1[439] = jj_gen;
               break label_70;
             }
             jj_consume_token(COMMA);
@@ -22852,14 +23079,14 @@ Token token;
                             jjtn000.removeExecute = true;
               break;
             default:
-              jj_la1[439] = jj_gen;
+              jj_la1[440] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[440] = jj_gen;
+          jj_la1[441] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -22869,7 +23096,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[441] = jj_gen;
+          jj_la1[442] = jj_gen;
           break label_68;
         }
       }
@@ -24055,267 +24282,242 @@ Token token;
     finally { jj_save(164, xla); }
   }
 
-  private boolean jj_3_129() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_218() {
-    if (jj_3R_157()) return true;
-    if (jj_scan_token(INSTANCEOF)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_446()) {
-    jj_scanpos = xsp;
-    if (jj_3R_447()) {
-    jj_scanpos = xsp;
-    if (jj_3R_448()) return true;
-    }
-    }
-    return false;
+  private boolean jj_2_166(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_166(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(165, xla); }
   }
 
-  private boolean jj_3R_437() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_441() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3_128() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_157()) return true;
-    if (jj_3R_436()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_158()) return true;
+    if (jj_3R_440()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_128()) {
     jj_scanpos = xsp;
-    if (jj_3R_437()) return true;
+    if (jj_3R_441()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_157()) return true;
-    if (jj_3R_434()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_210() {
+    if (jj_3R_158()) return true;
+    if (jj_3R_438()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
+  private boolean jj_3R_567() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
+  private boolean jj_3R_389() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_561()) jj_scanpos = xsp;
-    if (jj_3R_431()) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_567()) jj_scanpos = xsp;
+    if (jj_3R_435()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_434()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_438()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_179() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_384()) {
+    if (jj_3R_388()) {
     jj_scanpos = xsp;
-    if (jj_3R_385()) return true;
+    if (jj_3R_389()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_692() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_837()) {
+    if (jj_3R_846()) {
     jj_scanpos = xsp;
-    if (jj_3R_838()) return true;
+    if (jj_3R_847()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_436() {
+  private boolean jj_3R_440() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_703() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_702() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_701() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_698() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_697() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_696() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_695() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_3R_697()) return true;
+  private boolean jj_3R_607() {
+    if (jj_3R_704()) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_3R_696()) return true;
+  private boolean jj_3R_606() {
+    if (jj_3R_703()) return true;
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_3R_695()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_702()) return true;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_694()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_701()) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
-    if (jj_3R_685()) return true;
+  private boolean jj_3R_595() {
+    if (jj_3R_692()) return true;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_693()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_700()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_3R_692()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_699()) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_691()) return true;
+  private boolean jj_3R_601() {
+    if (jj_3R_698()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_690()) return true;
+  private boolean jj_3R_600() {
+    if (jj_3R_697()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_3R_689()) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_696()) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
-    if (jj_3R_688()) return true;
+  private boolean jj_3R_598() {
+    if (jj_3R_695()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_687()) return true;
+  private boolean jj_3R_597() {
+    if (jj_3R_694()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_3R_686()) return true;
+  private boolean jj_3R_596() {
+    if (jj_3R_693()) return true;
     return false;
   }
 
   private boolean jj_3_126() {
-    if (jj_3R_217()) return true;
+    if (jj_3R_218()) return true;
     return false;
   }
 
   private boolean jj_3_127() {
-    if (jj_3R_218()) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
   private boolean jj_3_125() {
-    if (jj_3R_216()) return true;
+    if (jj_3R_217()) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
+  private boolean jj_3R_438() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_589()) {
-    jj_scanpos = xsp;
-    if (jj_3R_590()) {
-    jj_scanpos = xsp;
-    if (jj_3R_591()) {
-    jj_scanpos = xsp;
-    if (jj_3R_592()) {
-    jj_scanpos = xsp;
-    if (jj_3R_593()) {
-    jj_scanpos = xsp;
-    if (jj_3R_594()) {
-    jj_scanpos = xsp;
     if (jj_3R_595()) {
     jj_scanpos = xsp;
     if (jj_3R_596()) {
@@ -24328,7 +24530,19 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_600()) {
     jj_scanpos = xsp;
-    if (jj_3R_601()) return true;
+    if (jj_3R_601()) {
+    jj_scanpos = xsp;
+    if (jj_3R_602()) {
+    jj_scanpos = xsp;
+    if (jj_3R_603()) {
+    jj_scanpos = xsp;
+    if (jj_3R_604()) {
+    jj_scanpos = xsp;
+    if (jj_3R_605()) {
+    jj_scanpos = xsp;
+    if (jj_3R_606()) {
+    jj_scanpos = xsp;
+    if (jj_3R_607()) return true;
     }
     }
     }
@@ -24344,177 +24558,169 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_430() {
+  private boolean jj_3R_434() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
+  private boolean jj_3R_433() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_124() {
-    if (jj_3R_215()) return true;
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_217()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
   private boolean jj_3_122() {
-    if (jj_3R_213()) return true;
+    if (jj_3R_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_219()) return true;
     return false;
   }
 
   private boolean jj_3_123() {
-    if (jj_3R_214()) return true;
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_430() {
+    if (jj_3R_217()) return true;
     return false;
   }
 
   private boolean jj_3_121() {
-    if (jj_3R_212()) return true;
+    if (jj_3R_213()) return true;
     return false;
   }
 
   private boolean jj_3_120() {
-    if (jj_3R_211()) return true;
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_119() {
-    if (jj_3R_210()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3R_429() {
+    if (jj_3R_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
-    if (jj_3R_213()) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_214()) return true;
     return false;
   }
 
   private boolean jj_3_118() {
-    if (jj_3R_209()) return true;
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_214()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_212()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_116() {
-    if (jj_3R_207()) return true;
+    if (jj_3R_208()) return true;
     return false;
   }
 
   private boolean jj_3_117() {
-    if (jj_3R_208()) return true;
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_420() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
   private boolean jj_3_115() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_423() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
   private boolean jj_3_114() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
   private boolean jj_3_113() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_208()) return true;
     return false;
   }
 
   private boolean jj_3_112() {
-    if (jj_3R_203()) return true;
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_422() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_420() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_419() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_418() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_417() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
   private boolean jj_3_111() {
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_202() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_413()) {
-    jj_scanpos = xsp;
-    if (jj_3R_414()) {
-    jj_scanpos = xsp;
-    if (jj_3R_415()) {
-    jj_scanpos = xsp;
-    if (jj_3R_416()) {
-    jj_scanpos = xsp;
     if (jj_3R_417()) {
     jj_scanpos = xsp;
     if (jj_3R_418()) {
@@ -24541,7 +24747,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_429()) {
     jj_scanpos = xsp;
-    if (jj_3R_430()) return true;
+    if (jj_3R_430()) {
+    jj_scanpos = xsp;
+    if (jj_3R_431()) {
+    jj_scanpos = xsp;
+    if (jj_3R_432()) {
+    jj_scanpos = xsp;
+    if (jj_3R_433()) {
+    jj_scanpos = xsp;
+    if (jj_3R_434()) return true;
     }
     }
     }
@@ -24563,389 +24777,389 @@ Token token;
   }
 
   private boolean jj_3_110() {
-    if (jj_3R_201()) return true;
+    if (jj_3R_202()) return true;
     return false;
   }
 
   private boolean jj_3_109() {
-    if (jj_3R_202()) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_203() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_108() {
-    if (jj_3R_201()) return true;
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_833() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_832() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_831() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_673() {
+  private boolean jj_3R_680() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) {
+    if (jj_3R_832()) {
     jj_scanpos = xsp;
-    if (jj_3R_824()) return true;
+    if (jj_3R_833()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_830() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_679() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_821()) {
+    if (jj_3R_830()) {
     jj_scanpos = xsp;
-    if (jj_3R_822()) return true;
+    if (jj_3R_831()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_565() {
+  private boolean jj_3R_571() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_672()) {
+    if (jj_3R_679()) {
     jj_scanpos = xsp;
-    if (jj_3R_673()) return true;
+    if (jj_3R_680()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_566() {
+  private boolean jj_3R_572() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_565()) return true;
+    if (jj_3R_571()) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
+  private boolean jj_3R_394() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_389()) return true;
+    if (jj_3R_393()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_3R_565()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_571()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_566()) { jj_scanpos = xsp; break; }
+      if (jj_3R_572()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_180() {
-    if (jj_3R_389()) return true;
+  private boolean jj_3R_181() {
+    if (jj_3R_393()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_390()) { jj_scanpos = xsp; break; }
+      if (jj_3R_394()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3R_481() {
+    if (jj_3R_181()) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
+  private boolean jj_3R_555() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
+  private boolean jj_3R_554() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
+  private boolean jj_3R_553() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_364() {
+  private boolean jj_3R_368() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_547()) {
+    if (jj_3R_553()) {
     jj_scanpos = xsp;
-    if (jj_3R_548()) {
+    if (jj_3R_554()) {
     jj_scanpos = xsp;
-    if (jj_3R_549()) return true;
+    if (jj_3R_555()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_363() {
+  private boolean jj_3R_367() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_546()) return true;
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
+  private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_363()) {
+    if (jj_3R_367()) {
     jj_scanpos = xsp;
-    if (jj_3R_364()) return true;
+    if (jj_3R_368()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_825() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_824() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
+  private boolean jj_3R_669() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_815()) {
+    if (jj_3R_824()) {
     jj_scanpos = xsp;
-    if (jj_3R_816()) return true;
+    if (jj_3R_825()) return true;
     }
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_661() {
-    if (jj_scan_token(269)) return true;
+  private boolean jj_3R_668() {
+    if (jj_scan_token(271)) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_552() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_661()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
+    if (jj_3R_668()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_662()) { jj_scanpos = xsp; break; }
+      if (jj_3R_669()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1020() {
+  private boolean jj_3R_1026() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_917() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_926() {
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1020()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1026()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_778() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_777() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_917()) jj_scanpos = xsp;
+    if (jj_3R_926()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_372() {
+    if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
+  private boolean jj_3R_371() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
   private boolean jj_3_103() {
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_170() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_367()) {
+    if (jj_3R_371()) {
     jj_scanpos = xsp;
-    if (jj_3R_368()) return true;
+    if (jj_3R_372()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_770() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_781() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
   private boolean jj_3_102() {
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_780() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_629() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_638() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_770()) jj_scanpos = xsp;
+    if (jj_3R_781()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_768() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_779() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
   private boolean jj_3_107() {
-    if (jj_3R_173()) return true;
+    if (jj_3R_174()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_769()) jj_scanpos = xsp;
+    if (jj_3R_780()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_628() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_637() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
   private boolean jj_3_106() {
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
+  private boolean jj_3R_636() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_200()) return true;
+    if (jj_3R_201()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_768()) jj_scanpos = xsp;
+    if (jj_3R_779()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_626() {
-    if (jj_3R_767()) return true;
+  private boolean jj_3R_635() {
+    if (jj_3R_778()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_916() {
-    if (jj_3R_558()) return true;
+  private boolean jj_3R_925() {
+    if (jj_3R_564()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
-    if (jj_3R_766()) return true;
+  private boolean jj_3R_633() {
+    if (jj_3R_777()) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_655() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_645()) return true;
+    if (jj_3R_654()) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
+  private boolean jj_3R_776() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_915()) {
+    if (jj_3R_924()) {
     jj_scanpos = xsp;
-    if (jj_3R_916()) return true;
+    if (jj_3R_925()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_915() {
+  private boolean jj_3R_924() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_557()) return true;
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_623() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_632() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
-    if (jj_3R_558()) return true;
+  private boolean jj_3R_775() {
+    if (jj_3R_564()) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_774() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
+  private boolean jj_3R_631() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_763()) {
+    if (jj_3R_774()) {
     jj_scanpos = xsp;
-    if (jj_3R_764()) return true;
+    if (jj_3R_775()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_765()) { jj_scanpos = xsp; break; }
+      if (jj_3R_776()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -24953,45 +25167,45 @@ Token token;
 
   private boolean jj_3_105() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_762()) { jj_scanpos = xsp; break; }
+      if (jj_3R_773()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_630() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3R_476() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_621()) {
+    if (jj_3R_630()) {
     jj_scanpos = xsp;
     if (jj_3_105()) {
     jj_scanpos = xsp;
-    if (jj_3R_622()) {
+    if (jj_3R_631()) {
     jj_scanpos = xsp;
-    if (jj_3R_623()) {
+    if (jj_3R_632()) {
     jj_scanpos = xsp;
-    if (jj_3R_624()) {
+    if (jj_3R_633()) {
     jj_scanpos = xsp;
-    if (jj_3R_625()) {
+    if (jj_3R_634()) {
     jj_scanpos = xsp;
-    if (jj_3R_626()) {
+    if (jj_3R_635()) {
     jj_scanpos = xsp;
-    if (jj_3R_627()) {
+    if (jj_3R_636()) {
     jj_scanpos = xsp;
-    if (jj_3R_628()) {
+    if (jj_3R_637()) {
     jj_scanpos = xsp;
     if (jj_3_107()) {
     jj_scanpos = xsp;
-    if (jj_3R_629()) return true;
+    if (jj_3R_638()) return true;
     }
     }
     }
@@ -25006,250 +25220,250 @@ Token token;
   }
 
   private boolean jj_3_101() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_804() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_200()) return true;
+    if (jj_3R_201()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_792() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_803() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_654() {
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_792()) {
+    if (jj_3R_803()) {
     jj_scanpos = xsp;
-    if (jj_3R_793()) return true;
+    if (jj_3R_804()) return true;
     }
     return false;
   }
 
   private boolean jj_3_100() {
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_537() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_645()) return true;
+    if (jj_3R_654()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_646()) { jj_scanpos = xsp; break; }
+      if (jj_3R_655()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_261() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_592() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
   private boolean jj_3_99() {
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
+  private boolean jj_3R_591() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_590() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
   private boolean jj_3_98() {
-    if (jj_3R_183()) return true;
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_589() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
+  private boolean jj_3R_411() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_584()) {
+    if (jj_3R_590()) {
     jj_scanpos = xsp;
-    if (jj_3R_585()) return true;
+    if (jj_3R_591()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_586()) jj_scanpos = xsp;
+    if (jj_3R_592()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_588() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_173()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_583()) jj_scanpos = xsp;
+    if (jj_3R_589()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_581()) return true;
+  private boolean jj_3R_409() {
+    if (jj_3R_587()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_582()) jj_scanpos = xsp;
+    if (jj_3R_588()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_497()) return true;
+  private boolean jj_3R_408() {
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_200() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_404()) {
+    if (jj_3R_408()) {
     jj_scanpos = xsp;
-    if (jj_3R_405()) {
+    if (jj_3R_409()) {
     jj_scanpos = xsp;
-    if (jj_3R_406()) {
+    if (jj_3R_410()) {
     jj_scanpos = xsp;
-    if (jj_3R_407()) return true;
+    if (jj_3R_411()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_312()) return true;
     return false;
   }
 
   private boolean jj_3_97() {
-    if (jj_3R_200()) return true;
+    if (jj_3R_201()) return true;
     return false;
   }
 
   private boolean jj_3_96() {
-    if (jj_3R_199()) return true;
+    if (jj_3R_200()) return true;
     return false;
   }
 
   private boolean jj_3_95() {
-    if (jj_3R_198()) return true;
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_199() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_97()) {
     jj_scanpos = xsp;
-    if (jj_3R_402()) {
+    if (jj_3R_406()) {
     jj_scanpos = xsp;
-    if (jj_3R_403()) return true;
+    if (jj_3R_407()) return true;
     }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_198() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_400()) {
+    if (jj_3R_404()) {
     jj_scanpos = xsp;
-    if (jj_3R_401()) return true;
+    if (jj_3R_405()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_194() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_192() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_191() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_190() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
+  private boolean jj_3R_189() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
+  private boolean jj_3R_188() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_187() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -25257,8 +25471,6 @@ Token token;
   private boolean jj_3_94() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_186()) {
-    jj_scanpos = xsp;
     if (jj_3R_187()) {
     jj_scanpos = xsp;
     if (jj_3R_188()) {
@@ -25277,7 +25489,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_195()) {
     jj_scanpos = xsp;
-    if (jj_3R_196()) return true;
+    if (jj_3R_196()) {
+    jj_scanpos = xsp;
+    if (jj_3R_197()) return true;
     }
     }
     }
@@ -25288,12 +25502,12 @@ Token token;
     }
     }
     }
-    if (jj_3R_197()) return true;
+    if (jj_3R_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_185() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3R_186() {
+    if (jj_3R_198()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -25303,59 +25517,59 @@ Token token;
   }
 
   private boolean jj_3_93() {
-    if (jj_3R_185()) return true;
+    if (jj_3R_186()) return true;
     return false;
   }
 
   private boolean jj_3_92() {
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_3R_235()) return true;
+  private boolean jj_3R_586() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
+  private boolean jj_3R_583() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
+  private boolean jj_3R_582() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
+  private boolean jj_3R_581() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
+  private boolean jj_3R_402() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_575()) {
+    if (jj_3R_581()) {
     jj_scanpos = xsp;
-    if (jj_3R_576()) {
+    if (jj_3R_582()) {
     jj_scanpos = xsp;
-    if (jj_3R_577()) {
+    if (jj_3R_583()) {
     jj_scanpos = xsp;
-    if (jj_3R_578()) {
+    if (jj_3R_584()) {
     jj_scanpos = xsp;
-    if (jj_3R_579()) {
+    if (jj_3R_585()) {
     jj_scanpos = xsp;
-    if (jj_3R_580()) return true;
+    if (jj_3R_586()) return true;
     }
     }
     }
@@ -25364,100 +25578,75 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_398()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1060() {
+  private boolean jj_3R_1064() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3_91() {
-    if (jj_3R_185()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_184() {
-    if (jj_3R_398()) return true;
-    Token xsp;
-    if (jj_3R_399()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_399()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_1059() {
+  private boolean jj_3R_1063() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_403() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_402()) return true;
     return false;
   }
 
-  private boolean jj_3R_1058() {
+  private boolean jj_3R_1062() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1057() {
+  private boolean jj_3R_1061() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1056() {
+  private boolean jj_3R_1060() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_235()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1055() {
+  private boolean jj_3R_1059() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
-    if (jj_3R_185()) return true;
-    return false;
-  }
-
-  private boolean jj_3_89() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_185() {
+    if (jj_3R_402()) return true;
+    Token xsp;
+    if (jj_3R_403()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_403()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_1011() {
+  private boolean jj_3R_1017() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1055()) {
+    if (jj_3R_1059()) {
     jj_scanpos = xsp;
-    if (jj_3R_1056()) {
+    if (jj_3R_1060()) {
     jj_scanpos = xsp;
-    if (jj_3R_1057()) {
+    if (jj_3R_1061()) {
     jj_scanpos = xsp;
-    if (jj_3R_1058()) {
+    if (jj_3R_1062()) {
     jj_scanpos = xsp;
-    if (jj_3R_1059()) {
+    if (jj_3R_1063()) {
     jj_scanpos = xsp;
-    if (jj_3R_1060()) return true;
+    if (jj_3R_1064()) return true;
     }
     }
     }
@@ -25466,182 +25655,136 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_340() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_1010() {
+  private boolean jj_3R_1016() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_88() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1015() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1009() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_348() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_1008() {
+  private boolean jj_3R_1014() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_338() {
-    if (jj_3R_184()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1007() {
+  private boolean jj_3R_1013() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3_89() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_1006() {
+  private boolean jj_3R_1012() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_157() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_338()) {
-    jj_scanpos = xsp;
-    if (jj_3R_339()) {
-    jj_scanpos = xsp;
-    if (jj_3R_340()) {
-    jj_scanpos = xsp;
-    if (jj_3R_341()) {
-    jj_scanpos = xsp;
-    if (jj_3R_342()) {
-    jj_scanpos = xsp;
-    if (jj_3R_343()) {
-    jj_scanpos = xsp;
-    if (jj_3R_344()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_346() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_1005() {
+  private boolean jj_3R_1011() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1054() {
+  private boolean jj_3R_1058() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_397() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_345() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1053() {
+  private boolean jj_3R_1057() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1052() {
+  private boolean jj_3R_344() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1056() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_83() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_343() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_177()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_1051() {
+  private boolean jj_3R_1055() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_574() {
     if (jj_3R_181()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1005()) {
+    if (jj_3R_1011()) {
     jj_scanpos = xsp;
-    if (jj_3R_1006()) {
+    if (jj_3R_1012()) {
     jj_scanpos = xsp;
-    if (jj_3R_1007()) {
+    if (jj_3R_1013()) {
     jj_scanpos = xsp;
-    if (jj_3R_1008()) {
+    if (jj_3R_1014()) {
     jj_scanpos = xsp;
-    if (jj_3R_1009()) {
+    if (jj_3R_1015()) {
     jj_scanpos = xsp;
-    if (jj_3R_1010()) return true;
+    if (jj_3R_1016()) return true;
     }
     }
     }
@@ -25649,64 +25792,110 @@ Token token;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1011()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1017()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_342() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_1050() {
+  private boolean jj_3R_1054() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
-    if (jj_3R_180()) return true;
+  private boolean jj_3_86() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_1049() {
+  private boolean jj_3R_1053() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
+  private boolean jj_3_87() {
+    if (jj_3R_183()) return true;
+    return false;
+  }
+
+  private boolean jj_3_85() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_158() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_342()) {
+    jj_scanpos = xsp;
+    if (jj_3R_343()) {
+    jj_scanpos = xsp;
+    if (jj_3R_344()) {
+    jj_scanpos = xsp;
+    if (jj_3R_345()) {
+    jj_scanpos = xsp;
+    if (jj_3R_346()) {
+    jj_scanpos = xsp;
+    if (jj_3R_347()) {
+    jj_scanpos = xsp;
+    if (jj_3R_348()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3_84() {
+    if (jj_3R_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_401() {
+    if (jj_3R_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3_83() {
     if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
+  private boolean jj_3R_400() {
+    if (jj_scan_token(DOT)) return true;
     if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_1004() {
+  private boolean jj_3R_1010() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1049()) {
+    if (jj_3R_1053()) {
     jj_scanpos = xsp;
-    if (jj_3R_1050()) {
+    if (jj_3R_1054()) {
     jj_scanpos = xsp;
-    if (jj_3R_1051()) {
+    if (jj_3R_1055()) {
     jj_scanpos = xsp;
-    if (jj_3R_1052()) {
+    if (jj_3R_1056()) {
     jj_scanpos = xsp;
-    if (jj_3R_1053()) {
+    if (jj_3R_1057()) {
     jj_scanpos = xsp;
-    if (jj_3R_1054()) return true;
+    if (jj_3R_1058()) return true;
     }
     }
     }
@@ -25715,136 +25904,112 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_1003() {
+  private boolean jj_3R_1009() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1002() {
+  private boolean jj_3R_580() {
+    if (jj_3R_182()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1008() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1001() {
+  private boolean jj_3R_399() {
+    if (jj_3R_183()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1007() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_579() {
+    if (jj_3R_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1006() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_571()) {
-    jj_scanpos = xsp;
-    if (jj_3R_572()) {
-    jj_scanpos = xsp;
-    if (jj_3R_573()) {
-    jj_scanpos = xsp;
-    if (jj_3R_574()) return true;
-    }
-    }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_578() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_999() {
+  private boolean jj_3R_1005() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_998() {
+  private boolean jj_3R_1004() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_82() {
-    if (jj_3R_177()) return true;
-    return false;
-  }
-
-  private boolean jj_3_81() {
-    if (jj_3R_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_183() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_394()) {
-    jj_scanpos = xsp;
-    if (jj_3R_395()) {
-    jj_scanpos = xsp;
-    if (jj_3R_396()) return true;
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_397()) jj_scanpos = xsp;
+  private boolean jj_3R_577() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_748() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) {
+    if (jj_3R_884()) {
     jj_scanpos = xsp;
-    if (jj_3R_876()) return true;
+    if (jj_3R_885()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_998()) {
+    if (jj_3R_1004()) {
     jj_scanpos = xsp;
-    if (jj_3R_999()) {
+    if (jj_3R_1005()) {
     jj_scanpos = xsp;
-    if (jj_3R_1000()) {
+    if (jj_3R_1006()) {
     jj_scanpos = xsp;
-    if (jj_3R_1001()) {
+    if (jj_3R_1007()) {
     jj_scanpos = xsp;
-    if (jj_3R_1002()) {
+    if (jj_3R_1008()) {
     jj_scanpos = xsp;
-    if (jj_3R_1003()) return true;
+    if (jj_3R_1009()) return true;
     }
     }
     }
@@ -25852,23 +26017,37 @@ Token token;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1004()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1010()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_682() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_398() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_577()) {
+    jj_scanpos = xsp;
+    if (jj_3R_578()) {
+    jj_scanpos = xsp;
+    if (jj_3R_579()) {
+    jj_scanpos = xsp;
+    if (jj_3R_580()) return true;
+    }
+    }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_565() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
@@ -25876,149 +26055,146 @@ Token token;
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
-    if (jj_3R_739()) return true;
+    if (jj_3R_748()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_739()) { jj_scanpos = xsp; break; }
+      if (jj_3R_748()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_997() {
+  private boolean jj_3_81() {
+    if (jj_3R_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1003() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_1002() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_181()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
+  private boolean jj_3R_184() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_681()) {
+    if (jj_3R_398()) {
+    jj_scanpos = xsp;
+    if (jj_3R_399()) {
     jj_scanpos = xsp;
-    if (jj_3R_682()) return true;
+    if (jj_3R_400()) return true;
     }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_401()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_996() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_995() {
+  private boolean jj_3R_1001() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
+  private boolean jj_3R_1000() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_689() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_993() {
+  private boolean jj_3R_999() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_992() {
+  private boolean jj_3R_998() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_688() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_587() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_381()) {
-    jj_scanpos = xsp;
-    if (jj_3R_382()) {
+    if (jj_3R_688()) {
     jj_scanpos = xsp;
-    if (jj_3R_383()) return true;
-    }
+    if (jj_3R_689()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_992()) {
+    if (jj_3R_998()) {
     jj_scanpos = xsp;
-    if (jj_3R_993()) {
+    if (jj_3R_999()) {
     jj_scanpos = xsp;
-    if (jj_3R_994()) {
+    if (jj_3R_1000()) {
     jj_scanpos = xsp;
-    if (jj_3R_995()) {
+    if (jj_3R_1001()) {
     jj_scanpos = xsp;
-    if (jj_3R_996()) {
+    if (jj_3R_1002()) {
     jj_scanpos = xsp;
-    if (jj_3R_997()) return true;
+    if (jj_3R_1003()) return true;
     }
     }
     }
@@ -26027,112 +26203,106 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_387() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_881() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_386() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3_78() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_879() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_877() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_178() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_378()) {
+    if (jj_3R_385()) {
     jj_scanpos = xsp;
-    if (jj_3R_379()) {
+    if (jj_3R_386()) {
     jj_scanpos = xsp;
-    if (jj_3R_380()) return true;
+    if (jj_3R_387()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_3R_157()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_570()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_738() {
+  private boolean jj_3R_747() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_868()) {
+    if (jj_3R_877()) {
     jj_scanpos = xsp;
-    if (jj_3R_869()) {
+    if (jj_3R_878()) {
     jj_scanpos = xsp;
-    if (jj_3R_870()) {
+    if (jj_3R_879()) {
     jj_scanpos = xsp;
-    if (jj_3R_871()) {
+    if (jj_3R_880()) {
     jj_scanpos = xsp;
-    if (jj_3R_872()) {
+    if (jj_3R_881()) {
     jj_scanpos = xsp;
-    if (jj_3R_873()) return true;
+    if (jj_3R_882()) return true;
     }
     }
     }
@@ -26140,197 +26310,231 @@ Token token;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_874()) { jj_scanpos = xsp; break; }
+      if (jj_3R_883()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_384() {
+    if (jj_3R_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_383() {
+    if (jj_scan_token(THIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_382() {
+    if (jj_3R_174()) return true;
+    return false;
+  }
+
   private boolean jj_3R_88() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_738()) jj_scanpos = xsp;
+    if (jj_3R_747()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_918() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_758()) return true;
+    if (jj_3R_769()) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_393()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_576() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
+  private boolean jj_3R_917() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
+  private boolean jj_3R_177() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_382()) {
+    jj_scanpos = xsp;
+    if (jj_3R_383()) {
+    jj_scanpos = xsp;
+    if (jj_3R_384()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_916() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_397() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_559()) { jj_scanpos = xsp; break; }
+      if (jj_3R_576()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_915() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_914() {
     if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_scan_token(DISTINCT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_903() {
+  private boolean jj_3R_912() {
     if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_911() {
+    if (jj_scan_token(EDGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
-    if (jj_scan_token(EDGE)) return true;
+  private boolean jj_3R_183() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_397()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
+  private boolean jj_3R_910() {
     if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_909() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_380() {
+    if (jj_3R_158()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_565()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_908() {
     if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
+  private boolean jj_3R_907() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_374()) {
-    jj_scanpos = xsp;
-    if (jj_3R_375()) return true;
-    }
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_376()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_906() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_379() {
+    if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_905() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_378() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_904() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_903() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_175() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_902() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_174() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_378()) {
+    jj_scanpos = xsp;
+    if (jj_3R_379()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_380()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_758() {
+  private boolean jj_3R_769() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_893()) {
+    if (jj_3R_902()) {
     jj_scanpos = xsp;
-    if (jj_3R_894()) {
+    if (jj_3R_903()) {
     jj_scanpos = xsp;
-    if (jj_3R_895()) {
+    if (jj_3R_904()) {
     jj_scanpos = xsp;
-    if (jj_3R_896()) {
+    if (jj_3R_905()) {
     jj_scanpos = xsp;
-    if (jj_3R_897()) {
+    if (jj_3R_906()) {
     jj_scanpos = xsp;
-    if (jj_3R_898()) {
+    if (jj_3R_907()) {
     jj_scanpos = xsp;
-    if (jj_3R_899()) {
+    if (jj_3R_908()) {
     jj_scanpos = xsp;
-    if (jj_3R_900()) {
+    if (jj_3R_909()) {
     jj_scanpos = xsp;
-    if (jj_3R_901()) {
+    if (jj_3R_910()) {
     jj_scanpos = xsp;
-    if (jj_3R_902()) {
+    if (jj_3R_911()) {
     jj_scanpos = xsp;
-    if (jj_3R_903()) {
+    if (jj_3R_912()) {
     jj_scanpos = xsp;
-    if (jj_3R_904()) {
+    if (jj_3R_913()) {
     jj_scanpos = xsp;
-    if (jj_3R_905()) {
+    if (jj_3R_914()) {
     jj_scanpos = xsp;
-    if (jj_3R_906()) {
+    if (jj_3R_915()) {
     jj_scanpos = xsp;
-    if (jj_3R_907()) {
+    if (jj_3R_916()) {
     jj_scanpos = xsp;
-    if (jj_3R_908()) return true;
+    if (jj_3R_917()) return true;
     }
     }
     }
@@ -26347,69 +26551,57 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_909()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_564() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+    if (jj_3R_918()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3_166() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3_165() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_176() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1077() {
-    if (jj_3R_1018()) return true;
+  private boolean jj_3R_1081() {
+    if (jj_3R_1024()) return true;
     return false;
   }
 
-  private boolean jj_3R_1076() {
-    if (jj_3R_1019()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1075() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_1080() {
+    if (jj_3R_1025()) return true;
     return false;
   }
 
-  private boolean jj_3R_388() {
-    if (jj_3R_562()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_563()) {
-    jj_scanpos = xsp;
-    if (jj_3R_564()) return true;
-    }
-    if (jj_3R_562()) return true;
+  private boolean jj_3R_1079() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_1074() {
+  private boolean jj_3R_1078() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_1065() {
+  private boolean jj_3R_1069() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1074()) {
+    if (jj_3R_1078()) {
     jj_scanpos = xsp;
-    if (jj_3R_1075()) {
+    if (jj_3R_1079()) {
     jj_scanpos = xsp;
-    if (jj_3R_1076()) {
+    if (jj_3R_1080()) {
     jj_scanpos = xsp;
-    if (jj_3R_1077()) {
+    if (jj_3R_1081()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(196)) return true;
+    if (jj_scan_token(198)) return true;
     }
     }
     }
@@ -26417,68 +26609,85 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_1018() {
+  private boolean jj_3R_570() {
+    if (jj_scan_token(ELLIPSIS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_569() {
+    if (jj_scan_token(RANGE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1024() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1065()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1069()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
+  private boolean jj_3R_392() {
+    if (jj_3R_568()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_569()) {
+    jj_scanpos = xsp;
+    if (jj_3R_570()) return true;
+    }
+    if (jj_3R_568()) return true;
     return false;
   }
 
-  private boolean jj_3_164() {
+  private boolean jj_3_165() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_1081() {
-    if (jj_3R_1018()) return true;
+  private boolean jj_3R_1085() {
+    if (jj_3R_1024()) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3R_1084() {
+    if (jj_3R_1025()) return true;
     return false;
   }
 
-  private boolean jj_3R_1080() {
-    if (jj_3R_1019()) return true;
+  private boolean jj_3R_1083() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_1079() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_391() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1078() {
+  private boolean jj_3R_1082() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_1066() {
+  private boolean jj_3R_1070() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1078()) {
+    if (jj_3R_1082()) {
     jj_scanpos = xsp;
-    if (jj_3R_1079()) {
+    if (jj_3R_1083()) {
     jj_scanpos = xsp;
-    if (jj_3R_1080()) {
+    if (jj_3R_1084()) {
     jj_scanpos = xsp;
-    if (jj_3R_1081()) {
+    if (jj_3R_1085()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(196)) return true;
+    if (jj_scan_token(198)) return true;
     }
     }
     }
@@ -26486,22 +26695,44 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_179() {
+  private boolean jj_3R_390() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1025() {
+    if (jj_scan_token(FOREACH)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(IN)) return true;
+    if (jj_3R_158()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1070()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_180() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_386()) {
+    if (jj_3R_390()) {
     jj_scanpos = xsp;
-    if (jj_3R_387()) {
+    if (jj_3R_391()) {
     jj_scanpos = xsp;
-    if (jj_3R_388()) return true;
+    if (jj_3R_392()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_392() {
+  private boolean jj_3R_396() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_391()) return true;
+    if (jj_3R_395()) return true;
     return false;
   }
 
@@ -26510,296 +26741,273 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_181() {
-    if (jj_3R_391()) return true;
+  private boolean jj_3R_182() {
+    if (jj_3R_395()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_392()) { jj_scanpos = xsp; break; }
+      if (jj_3R_396()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1019() {
-    if (jj_scan_token(FOREACH)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(IN)) return true;
-    if (jj_3R_157()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1066()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_117() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3_75() {
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_529() {
+    if (jj_scan_token(283)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_678() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_311() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_528()) {
+    jj_scanpos = xsp;
+    if (jj_3R_529()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_528() {
+    if (jj_scan_token(282)) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_677() {
+    if (jj_3R_173()) return true;
+    return false;
+  }
+
+  private boolean jj_3_73() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
   private boolean jj_3_72() {
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
+  private boolean jj_3R_568() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_670()) {
+    if (jj_3R_677()) {
     jj_scanpos = xsp;
-    if (jj_3R_671()) return true;
+    if (jj_3R_678()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_523() {
+  private boolean jj_3R_116() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_311()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_575() {
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_527() {
     if (jj_scan_token(281)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_574() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
+  private boolean jj_3R_310() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_522()) {
+    if (jj_3R_526()) {
     jj_scanpos = xsp;
-    if (jj_3R_523()) return true;
+    if (jj_3R_527()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_522() {
+  private boolean jj_3R_526() {
     if (jj_scan_token(280)) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
+  private boolean jj_3R_573() {
     if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_3R_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_391() {
+  private boolean jj_3R_395() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_567()) {
+    if (jj_3R_573()) {
     jj_scanpos = xsp;
-    if (jj_3R_568()) {
+    if (jj_3R_574()) {
     jj_scanpos = xsp;
-    if (jj_3R_569()) return true;
+    if (jj_3R_575()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_116() {
+  private boolean jj_3R_115() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_scan_token(DATABASE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_309()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_521() {
-    if (jj_scan_token(279)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_310()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_308() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_520()) {
-    jj_scanpos = xsp;
-    if (jj_3R_521()) return true;
-    }
+  private boolean jj_3R_960() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_829() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_954() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_828() {
+    if (jj_3R_561()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_959() {
+    if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
-    if (jj_3R_555()) return true;
+  private boolean jj_3R_113() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_953() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_525() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_761() {
+  private boolean jj_3R_772() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_818() {
+  private boolean jj_3R_827() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_953()) jj_scanpos = xsp;
-    if (jj_3R_157()) return true;
+    if (jj_3R_959()) jj_scanpos = xsp;
+    if (jj_3R_158()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_954()) jj_scanpos = xsp;
+    if (jj_3R_960()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_308()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_826() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_524() {
+    if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_671() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_817()) {
+    if (jj_3R_826()) {
     jj_scanpos = xsp;
-    if (jj_3R_818()) return true;
+    if (jj_3R_827()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_819()) jj_scanpos = xsp;
+    if (jj_3R_828()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_820()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_760() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_829()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_523() {
+    if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_scan_token(277)) return true;
+  private boolean jj_3R_771() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
+  private boolean jj_3R_522() {
     if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_521() {
     if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
+  private boolean jj_3R_520() {
     if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_664()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_515() {
-    if (jj_scan_token(273)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_514() {
-    if (jj_scan_token(272)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_307() {
+  private boolean jj_3R_309() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_513()) {
+    if (jj_3R_519()) {
     jj_scanpos = xsp;
-    if (jj_3R_514()) {
+    if (jj_3R_520()) {
     jj_scanpos = xsp;
-    if (jj_3R_515()) {
+    if (jj_3R_521()) {
     jj_scanpos = xsp;
-    if (jj_3R_516()) {
+    if (jj_3R_522()) {
     jj_scanpos = xsp;
-    if (jj_3R_517()) {
+    if (jj_3R_523()) {
     jj_scanpos = xsp;
-    if (jj_3R_518()) {
+    if (jj_3R_524()) {
     jj_scanpos = xsp;
-    if (jj_3R_519()) return true;
+    if (jj_3R_525()) return true;
     }
     }
     }
@@ -26809,21 +27017,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_scan_token(271)) return true;
+  private boolean jj_3R_519() {
+    if (jj_scan_token(273)) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_664()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_665()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_672() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_671()) return true;
     return false;
   }
 
@@ -26833,176 +27034,159 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_307()) { jj_scanpos = xsp; break; }
+      if (jj_3R_309()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_556()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_747() {
+  private boolean jj_3R_756() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_3R_555()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_170() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_561() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_671()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_369()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_370()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_672()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
   private boolean jj_3R_104() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_747()) jj_scanpos = xsp;
+    if (jj_3R_756()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_900() {
+    if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_891() {
-    if (jj_scan_token(NOLIMIT)) return true;
+  private boolean jj_3R_374() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_562()) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_561()) return true;
     return false;
   }
 
-  private boolean jj_3R_1015() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_899() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_618() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_170()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_761()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_1021() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_889() {
+  private boolean jj_3R_898() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_888() {
+  private boolean jj_3R_897() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_1014() {
+  private boolean jj_3R_1020() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_171() {
+    if (jj_3R_158()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_760()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_373()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3_71() {
+    if (jj_3R_171()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_627() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_171()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_617()) {
-    jj_scanpos = xsp;
-    if (jj_3R_618()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_772()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_887() {
+  private boolean jj_3R_896() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1014()) {
+    if (jj_3R_1020()) {
     jj_scanpos = xsp;
-    if (jj_3R_1015()) return true;
+    if (jj_3R_1021()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_886() {
+  private boolean jj_3R_895() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_667() {
-    if (jj_scan_token(SKIP2)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_626() {
+    if (jj_3R_171()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_771()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_894() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_666() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_668() {
-    if (jj_scan_token(LIMIT)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
+  private boolean jj_3R_755() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_884()) {
+    if (jj_3R_893()) {
     jj_scanpos = xsp;
-    if (jj_3R_885()) {
+    if (jj_3R_894()) {
     jj_scanpos = xsp;
-    if (jj_3R_886()) {
+    if (jj_3R_895()) {
     jj_scanpos = xsp;
-    if (jj_3R_887()) {
+    if (jj_3R_896()) {
     jj_scanpos = xsp;
-    if (jj_3R_888()) {
+    if (jj_3R_897()) {
     jj_scanpos = xsp;
-    if (jj_3R_889()) {
+    if (jj_3R_898()) {
     jj_scanpos = xsp;
-    if (jj_3R_890()) {
+    if (jj_3R_899()) {
     jj_scanpos = xsp;
-    if (jj_3R_891()) return true;
+    if (jj_3R_900()) return true;
     }
     }
     }
@@ -27013,127 +27197,147 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_893() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_102() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_746()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_471() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_666()) {
-    jj_scanpos = xsp;
-    if (jj_3R_667()) {
-    jj_scanpos = xsp;
-    if (jj_3R_668()) {
+    if (jj_3R_626()) {
     jj_scanpos = xsp;
-    if (jj_3R_669()) return true;
-    }
-    }
+    if (jj_3R_627()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_883() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_674() {
+    if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_1013() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_676() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
-    if (jj_scan_token(ASC)) return true;
-    return false;
+  private boolean jj_3R_102() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_755()) { jj_scanpos = xsp; break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_673() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_881() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_675() {
+    if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_1012() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_892() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_1019() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
-    if (jj_3R_558()) return true;
+  private boolean jj_3R_891() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_372() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_890() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_1018() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_564() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_673()) {
+    jj_scanpos = xsp;
+    if (jj_3R_674()) {
+    jj_scanpos = xsp;
+    if (jj_3R_675()) {
+    jj_scanpos = xsp;
+    if (jj_3R_676()) return true;
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_472() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_889() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1012()) {
+    if (jj_3R_1018()) {
     jj_scanpos = xsp;
-    if (jj_3R_1013()) return true;
+    if (jj_3R_1019()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_888() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_887() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
+  private boolean jj_3R_563() {
+    if (jj_scan_token(HOOK)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_750() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_877()) {
+    if (jj_3R_886()) {
     jj_scanpos = xsp;
-    if (jj_3R_878()) {
+    if (jj_3R_887()) {
     jj_scanpos = xsp;
-    if (jj_3R_879()) {
+    if (jj_3R_888()) {
     jj_scanpos = xsp;
-    if (jj_3R_880()) {
+    if (jj_3R_889()) {
     jj_scanpos = xsp;
-    if (jj_3R_881()) {
+    if (jj_3R_890()) {
     jj_scanpos = xsp;
-    if (jj_3R_882()) {
+    if (jj_3R_891()) {
     jj_scanpos = xsp;
-    if (jj_3R_883()) return true;
+    if (jj_3R_892()) return true;
     }
     }
     }
@@ -27143,664 +27347,688 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_886() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_372()) {
-    jj_scanpos = xsp;
-    if (jj_3R_373()) return true;
-    }
+  private boolean jj_3R_377() {
+    if (jj_3R_564()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_376() {
+    if (jj_3R_563()) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_3R_468()) return true;
+  private boolean jj_3R_173() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_376()) {
+    jj_scanpos = xsp;
+    if (jj_3R_377()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_3R_467()) return true;
+  private boolean jj_3R_749() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_262() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_261() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_260() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_466()) jj_scanpos = xsp;
+  private boolean jj_3R_259() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
   private boolean jj_3R_90() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_740()) jj_scanpos = xsp;
+    if (jj_3R_749()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_741()) { jj_scanpos = xsp; break; }
+      if (jj_3R_750()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_258() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_257() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_472()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_1077() {
+    if (jj_scan_token(FAIL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_324() {
+    if (jj_scan_token(CONSOLE)) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1068() {
+    if (jj_scan_token(FAIL)) return true;
+    return false;
+  }
+
   private boolean jj_3R_95() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_255()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_256()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_157()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_257()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_258()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_158()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_158()) return true;
     xsp = jj_scanpos;
     if (jj_3R_259()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_260()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_261()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_262()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_745() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_754() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_753() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_1073() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_323() {
+    if (jj_scan_token(SLEEP)) return true;
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3_164() {
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_923() {
+    if (jj_3R_1025()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_752() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
-    if (jj_scan_token(CONSOLE)) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_922() {
+    if (jj_3R_1024()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_751() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_1064() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_921() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
-    if (jj_scan_token(SLEEP)) return true;
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_770() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_920()) {
+    jj_scanpos = xsp;
+    if (jj_3R_921()) {
+    jj_scanpos = xsp;
+    if (jj_3R_922()) {
+    jj_scanpos = xsp;
+    if (jj_3R_923()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(198)) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_163() {
+  private boolean jj_3R_920() {
     if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
+  private boolean jj_3R_313() {
     if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_470()) return true;
+    if (jj_3R_476()) return true;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_742()) {
+    if (jj_3R_751()) {
     jj_scanpos = xsp;
-    if (jj_3R_743()) return true;
+    if (jj_3R_752()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
+    if (jj_3R_753()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_745()) jj_scanpos = xsp;
+    if (jj_3R_754()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_70() {
-    if (jj_3R_164()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_914() {
-    if (jj_3R_1019()) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
   private boolean jj_3_69() {
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_913() {
-    if (jj_3R_1018()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_912() {
-    if (jj_3R_322()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
+  private boolean jj_3R_325() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_181()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_911()) {
-    jj_scanpos = xsp;
-    if (jj_3R_912()) {
-    jj_scanpos = xsp;
-    if (jj_3R_913()) {
-    jj_scanpos = xsp;
-    if (jj_3R_914()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(196)) return true;
-    }
-    }
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_770()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3R_536() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
+  private boolean jj_3R_470() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_255() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
   private boolean jj_3_68() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
+  private boolean jj_3R_254() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_465()) return true;
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_253() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3R_91() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_759()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_250() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_464()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_530() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1072() {
+  private boolean jj_3R_1076() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
+  private boolean jj_3R_322() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_530()) jj_scanpos = xsp;
+    if (jj_3R_536()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_92() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_252() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_250()) {
-    jj_scanpos = xsp;
-    if (jj_3R_251()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_252()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_253()) jj_scanpos = xsp;
+    if (jj_3R_470()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1063() {
+  private boolean jj_3R_1067() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1062() {
+  private boolean jj_3R_1066() {
     if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1072()) {
+    if (jj_3R_1076()) {
     jj_scanpos = xsp;
-    if (jj_3R_1073()) return true;
+    if (jj_3R_1077()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1017() {
+  private boolean jj_3R_1023() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1063()) {
+    if (jj_3R_1067()) {
     jj_scanpos = xsp;
-    if (jj_3R_1064()) return true;
+    if (jj_3R_1068()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_321() {
     if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_254()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_1061() {
+  private boolean jj_3R_1065() {
     if (jj_3R_74()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_172()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_94() {
+  private boolean jj_3R_92() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VERTEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_252()) {
+    jj_scanpos = xsp;
+    if (jj_3R_253()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_254()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_255()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1016() {
+  private boolean jj_3R_1022() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    if (jj_3R_1061()) return true;
+    if (jj_3R_1065()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1061()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1065()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1062()) jj_scanpos = xsp;
+    if (jj_3R_1066()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_235()) return true;
+  private boolean jj_3R_256() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
+  private boolean jj_3R_919() {
     if (jj_scan_token(ELSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1016()) {
+    if (jj_3R_1022()) {
     jj_scanpos = xsp;
-    if (jj_3R_1017()) return true;
+    if (jj_3R_1023()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_93() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_910()) jj_scanpos = xsp;
+    if (jj_3R_256()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_365() {
-    if (jj_scan_token(CONTENT)) return true;
+  private boolean jj_3R_535() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_71()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_553()) {
-    jj_scanpos = xsp;
-    if (jj_3R_554()) return true;
-    }
+    if (jj_3R_919()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_560() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_317() {
+  private boolean jj_3R_94() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_559() {
+    if (jj_3R_237()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_320() {
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_529()) jj_scanpos = xsp;
+    if (jj_3R_535()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_162() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3_163() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
+  private boolean jj_3R_534() {
     if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_369() {
+    if (jj_scan_token(CONTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_559()) {
+    jj_scanpos = xsp;
+    if (jj_3R_560()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_161() {
-    if (jj_3R_236()) return true;
+  private boolean jj_3R_558() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_552()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3_162() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
+  private boolean jj_3R_319() {
     if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_528()) jj_scanpos = xsp;
+    if (jj_3R_534()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_616() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_625() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_615() {
+  private boolean jj_3R_624() {
     if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_670() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3_67() {
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_663()) { jj_scanpos = xsp; break; }
+      if (jj_3R_558()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_550() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
+  private boolean jj_3R_469() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) {
+    if (jj_3R_624()) {
     jj_scanpos = xsp;
-    if (jj_3R_616()) return true;
+    if (jj_3R_625()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3R_557() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_158()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_670()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_556() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_876() {
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(POLICY)) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_758()) return true;
+    if (jj_3R_769()) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
+  private boolean jj_3R_169() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_746() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_866()) {
+    if (jj_3R_875()) {
     jj_scanpos = xsp;
-    if (jj_3R_867()) return true;
+    if (jj_3R_876()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_875() {
     if (jj_scan_token(SET)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_758()) return true;
+    if (jj_3R_769()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_87() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(ROLE)) return true;
+    if (jj_3R_168()) return true;
+    Token xsp;
+    if (jj_3R_746()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_746()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
   private boolean jj_3_66() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_168()) { jj_scanpos = xsp; break; }
+      if (jj_3R_169()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_550()) { jj_scanpos = xsp; break; }
+      if (jj_3R_556()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_551()) { jj_scanpos = xsp; break; }
+      if (jj_3R_557()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_1052() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_86() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
   private boolean jj_3_64() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_997() {
+    if (jj_3R_168()) return true;
     Token xsp;
-    if (jj_3R_737()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_737()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1052()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_825() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3R_165() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_66()) {
     jj_scanpos = xsp;
     if (jj_3_67()) {
     jj_scanpos = xsp;
-    if (jj_3R_365()) return true;
+    if (jj_3R_369()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_3R_366()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_165() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_167() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
-  private boolean jj_3R_1048() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_166() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_874() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_997()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
   private boolean jj_3_63() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_991() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1048()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_873() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_969() {
-    if (jj_3R_366()) return true;
+  private boolean jj_3R_975() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
@@ -27808,516 +28036,463 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_165()) {
+    if (jj_3R_166()) {
     jj_scanpos = xsp;
-    if (jj_3R_166()) return true;
+    if (jj_3R_167()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_968() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_745() {
+    if (jj_scan_token(ROLE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_873()) {
+    jj_scanpos = xsp;
+    if (jj_3R_874()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_744() {
+    if (jj_3R_608()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_974() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_865() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_991()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_743() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_827() {
+  private boolean jj_3R_836() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_968()) {
+    if (jj_3R_974()) {
     jj_scanpos = xsp;
-    if (jj_3R_969()) return true;
+    if (jj_3R_975()) return true;
     }
     return false;
   }
 
   private boolean jj_3_62() {
-    if (jj_3R_164()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_864() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
   private boolean jj_3_61() {
-    if (jj_3R_163()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_686() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) jj_scanpos = xsp;
+    if (jj_3R_835()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) {
+    if (jj_3R_836()) {
     jj_scanpos = xsp;
     if (jj_3_65()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_736() {
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3R_683() {
+    if (jj_3R_170()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_85() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_864()) {
+    if (jj_3R_743()) {
     jj_scanpos = xsp;
-    if (jj_3R_865()) return true;
+    if (jj_3R_744()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_745()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_735() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_682() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_834()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_676() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_685() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_684() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_825()) jj_scanpos = xsp;
+  private boolean jj_3R_681() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_742() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_872() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_934() {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_925() {
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_871() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_85() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
+  private boolean jj_3R_741() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_734()) {
+    if (jj_3R_871()) {
     jj_scanpos = xsp;
-    if (jj_3R_735()) return true;
+    if (jj_3R_872()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_736()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_733() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_870() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
+  private boolean jj_3R_312() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) {
+    if (jj_3R_681()) {
     jj_scanpos = xsp;
-    if (jj_3R_675()) {
+    if (jj_3R_682()) {
     jj_scanpos = xsp;
-    if (jj_3R_676()) return true;
+    if (jj_3R_683()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_677()) jj_scanpos = xsp;
+    if (jj_3R_684()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_678()) jj_scanpos = xsp;
+    if (jj_3R_685()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_679()) jj_scanpos = xsp;
+    if (jj_3R_686()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_680()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_862() {
-    if (jj_scan_token(TRUE)) return true;
+    if (jj_3R_687()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_732() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
+  private boolean jj_3R_740() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_862()) {
-    jj_scanpos = xsp;
-    if (jj_3R_863()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_870()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_773() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_784() {
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_84() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_3R_608()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_861()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_740()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_741()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_742()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_792() {
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_925()) jj_scanpos = xsp;
+    if (jj_3R_934()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_924() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_933() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_3R_602()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_731()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_732()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_733()) jj_scanpos = xsp;
+  private boolean jj_3R_533() {
+    if (jj_3R_653()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_532() {
+    if (jj_scan_token(POLICY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_790() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_924()) jj_scanpos = xsp;
+    if (jj_3R_933()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_923() {
+  private boolean jj_3R_932() {
     if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_3R_644()) return true;
+  private boolean jj_3R_318() {
+    if (jj_scan_token(REVOKE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_532()) {
+    jj_scanpos = xsp;
+    if (jj_3R_533()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_769()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_920() {
+  private boolean jj_3R_929() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_922() {
+  private boolean jj_3R_931() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_scan_token(POLICY)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_919() {
+  private boolean jj_3R_928() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_490() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_918() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_531() {
+    if (jj_3R_653()) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_scan_token(REVOKE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_526()) {
-    jj_scanpos = xsp;
-    if (jj_3R_527()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_758()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_927() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_781()) return true;
+  private boolean jj_3R_530() {
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
-    if (jj_3R_644()) return true;
+  private boolean jj_3R_793() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_792()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_782() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_918()) jj_scanpos = xsp;
+    if (jj_3R_927()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_919()) {
+    if (jj_3R_928()) {
     jj_scanpos = xsp;
-    if (jj_3R_920()) {
+    if (jj_3R_929()) {
     jj_scanpos = xsp;
-    if (jj_3R_921()) {
+    if (jj_3R_930()) {
     jj_scanpos = xsp;
-    if (jj_3R_922()) {
+    if (jj_3R_931()) {
     jj_scanpos = xsp;
-    if (jj_3R_923()) return true;
-    }
+    if (jj_3R_932()) return true;
     }
     }
     }
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_780() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_779()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_524() {
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_634() {
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_781()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_782()) { jj_scanpos = xsp; break; }
     }
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
-    if (jj_scan_token(ADD)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_777() {
-    if (jj_scan_token(INCREMENT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_314() {
+  private boolean jj_3R_317() {
     if (jj_scan_token(GRANT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_524()) {
+    if (jj_3R_530()) {
     jj_scanpos = xsp;
-    if (jj_3R_525()) return true;
+    if (jj_3R_531()) return true;
     }
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_758()) return true;
+    if (jj_3R_769()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
-    if (jj_scan_token(CONTENT)) return true;
+  private boolean jj_3R_791() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_790()) return true;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_scan_token(MERGE)) return true;
+  private boolean jj_3R_802() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_643() {
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_3R_792()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_777()) {
-    jj_scanpos = xsp;
-    if (jj_3R_778()) return true;
-    }
-    if (jj_3R_779()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_780()) { jj_scanpos = xsp; break; }
+      if (jj_3R_793()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_791() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_789() {
+    if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_788() {
+    if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_774() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_773()) return true;
+  private boolean jj_3R_800() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
-    if (jj_scan_token(AFTER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_787() {
+  private boolean jj_3R_798() {
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_775()) {
-    jj_scanpos = xsp;
-    if (jj_3R_776()) return true;
-    }
-    if (jj_3R_235()) return true;
+  private boolean jj_3R_797() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_786() {
-    if (jj_scan_token(READ)) return true;
+  private boolean jj_3R_787() {
+    if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3R_796() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_772() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_771()) return true;
+  private boolean jj_3R_786() {
+    if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_631() {
-    if (jj_scan_token(PUT)) return true;
-    if (jj_3R_773()) return true;
+  private boolean jj_3R_642() {
     Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_788()) {
+    jj_scanpos = xsp;
+    if (jj_3R_789()) return true;
+    }
+    if (jj_3R_790()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_774()) { jj_scanpos = xsp; break; }
+      if (jj_3R_791()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_644() {
+  private boolean jj_3R_653() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_785()) {
+    if (jj_3R_796()) {
     jj_scanpos = xsp;
-    if (jj_3R_786()) {
+    if (jj_3R_797()) {
     jj_scanpos = xsp;
-    if (jj_3R_787()) {
+    if (jj_3R_798()) {
     jj_scanpos = xsp;
-    if (jj_3R_788()) {
+    if (jj_3R_799()) {
     jj_scanpos = xsp;
-    if (jj_3R_789()) {
+    if (jj_3R_800()) {
     jj_scanpos = xsp;
-    if (jj_3R_790()) {
+    if (jj_3R_801()) {
     jj_scanpos = xsp;
-    if (jj_3R_791()) return true;
+    if (jj_3R_802()) return true;
     }
     }
     }
@@ -28327,214 +28502,260 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_630() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_771()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_772()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_785() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_784()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_489() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_641() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_630()) {
-    jj_scanpos = xsp;
-    if (jj_3R_631()) {
-    jj_scanpos = xsp;
-    if (jj_3R_632()) {
-    jj_scanpos = xsp;
-    if (jj_3R_633()) {
+    if (jj_3R_786()) {
     jj_scanpos = xsp;
-    if (jj_3R_634()) return true;
-    }
-    }
-    }
+    if (jj_3R_787()) return true;
     }
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_783() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_782()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    if (jj_3R_481()) return true;
+  private boolean jj_3R_155() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3R_640() {
+    if (jj_scan_token(PUT)) return true;
+    if (jj_3R_784()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_785()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_488() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_468() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_639() {
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_782()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_783()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_274() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_738() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_739() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_737() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_730() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_477() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_639()) {
+    jj_scanpos = xsp;
+    if (jj_3R_640()) {
+    jj_scanpos = xsp;
+    if (jj_3R_641()) {
+    jj_scanpos = xsp;
+    if (jj_3R_642()) {
+    jj_scanpos = xsp;
+    if (jj_3R_643()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_486() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_736() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_495() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_735() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_277() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_scan_token(LOCK)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_486()) {
-    jj_scanpos = xsp;
-    if (jj_3R_487()) {
-    jj_scanpos = xsp;
-    if (jj_3R_488()) {
-    jj_scanpos = xsp;
-    if (jj_3R_489()) return true;
-    }
-    }
-    }
+  private boolean jj_3R_479() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_494() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+  private boolean jj_3R_276() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_493() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
-    if (jj_scan_token(RETURN)) return true;
+  private boolean jj_3R_492() {
+    if (jj_scan_token(RECORD)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_491() {
+    if (jj_3R_471()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_275() {
+    if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_492()) {
     jj_scanpos = xsp;
-    if (jj_3R_483()) {
+    if (jj_3R_493()) {
+    jj_scanpos = xsp;
+    if (jj_3R_494()) {
     jj_scanpos = xsp;
-    if (jj_3R_484()) return true;
+    if (jj_3R_495()) return true;
+    }
     }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_485()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_270() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_274() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_488() {
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
   private boolean jj_3R_83() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_726()) {
+    if (jj_3R_735()) {
     jj_scanpos = xsp;
-    if (jj_3R_727()) return true;
+    if (jj_3R_736()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_728()) {
+    if (jj_3R_737()) {
+    jj_scanpos = xsp;
+    if (jj_3R_738()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_739()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_768() {
+    if (jj_3R_901()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_273() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_488()) {
     jj_scanpos = xsp;
-    if (jj_3R_729()) return true;
+    if (jj_3R_489()) {
+    jj_scanpos = xsp;
+    if (jj_3R_490()) return true;
+    }
     }
     xsp = jj_scanpos;
-    if (jj_3R_730()) jj_scanpos = xsp;
+    if (jj_3R_491()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_757() {
-    if (jj_3R_892()) return true;
+  private boolean jj_3R_272() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_271() {
+    if (jj_3R_477()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_316() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_768()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
   private boolean jj_3R_97() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_261()) return true;
+    if (jj_3R_263()) return true;
     Token xsp;
-    if (jj_3R_269()) return true;
+    if (jj_3R_271()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_269()) { jj_scanpos = xsp; break; }
+      if (jj_3R_271()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_270()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_271()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_272()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_273()) jj_scanpos = xsp;
@@ -28542,153 +28763,172 @@ Token token;
     if (jj_3R_274()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_275()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_276()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_277()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_268() {
-    if (jj_3R_481()) return true;
+  private boolean jj_3R_270() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_267() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_269() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_480() {
+    if (jj_3R_471()) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
+  private boolean jj_3R_485() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_478() {
+  private boolean jj_3R_901() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_484() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_483() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_scan_token(OPTIMIZE)) return true;
-    if (jj_scan_token(DATABASE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_757()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_482() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_767() {
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_478() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_268() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_476()) {
+    if (jj_3R_482()) {
     jj_scanpos = xsp;
-    if (jj_3R_477()) {
+    if (jj_3R_483()) {
     jj_scanpos = xsp;
-    if (jj_3R_478()) {
+    if (jj_3R_484()) {
     jj_scanpos = xsp;
-    if (jj_3R_479()) return true;
+    if (jj_3R_485()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_267() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
+  private boolean jj_3R_266() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_472()) {
+    if (jj_3R_478()) {
     jj_scanpos = xsp;
-    if (jj_3R_473()) return true;
+    if (jj_3R_479()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_474()) jj_scanpos = xsp;
+    if (jj_3R_480()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3_161() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_263() {
+  private boolean jj_3R_112() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_161()) {
+    jj_scanpos = xsp;
+    if (jj_3R_767()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_765() {
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_265() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_3R_471()) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_764() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_160() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_766() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+  private boolean jj_3R_111() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_160()) {
+    if (jj_3R_764()) {
     jj_scanpos = xsp;
-    if (jj_3R_756()) return true;
+    if (jj_3R_765()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_766()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_96() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_261()) return true;
+    if (jj_3R_263()) return true;
     Token xsp;
-    if (jj_3R_262()) return true;
+    if (jj_3R_264()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_262()) { jj_scanpos = xsp; break; }
+      if (jj_3R_264()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_263()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_264()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_265()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_266()) jj_scanpos = xsp;
@@ -28696,555 +28936,551 @@ Token token;
     if (jj_3R_267()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_268()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_269()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_270()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_754() {
-    if (jj_3R_71()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_362() {
-    if (jj_3R_469()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_361() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_360() {
+  private boolean jj_3R_364() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_363() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_308() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_scan_token(DROP)) return true;
+  private boolean jj_3R_110() {
+    if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_753()) {
-    jj_scanpos = xsp;
-    if (jj_3R_754()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_755()) jj_scanpos = xsp;
+    if (jj_3R_308()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_163() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
+    if (jj_3R_363()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) jj_scanpos = xsp;
+    if (jj_3R_364()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_361()) jj_scanpos = xsp;
+    if (jj_3R_365()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_362()) jj_scanpos = xsp;
+    if (jj_3R_366()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_306() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_734() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_733() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_251() {
+    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_scan_token(WHERE)) return true;
+  private boolean jj_3R_359() {
     if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_358() {
+    if (jj_3R_486()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_357() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_481()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_82() {
+    if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_306()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+    if (jj_scan_token(258)) {
+    jj_scanpos = xsp;
+    if (jj_3R_251()) return true;
+    }
+    if (jj_3R_168()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_733()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_734()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_762() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
+  private boolean jj_3R_763() {
     if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_160() {
+  private boolean jj_3R_161() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_353()) jj_scanpos = xsp;
+    if (jj_3R_357()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_354()) jj_scanpos = xsp;
+    if (jj_3R_358()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_355()) jj_scanpos = xsp;
+    if (jj_3R_359()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_761() {
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3R_357() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
+  private boolean jj_3R_361() {
+    if (jj_3R_486()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_360() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_109() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(256)) {
+    if (jj_3R_761()) {
     jj_scanpos = xsp;
-    if (jj_3R_249()) return true;
+    if (jj_3R_762()) return true;
     }
-    if (jj_3R_167()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_724()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_725()) jj_scanpos = xsp;
+    if (jj_3R_763()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_751() {
+  private boolean jj_3R_760() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_750() {
-    if (jj_3R_546()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_162() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
+    if (jj_3R_360()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
+    if (jj_3R_361()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
+    if (jj_3R_362()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_109() {
-    if (jj_scan_token(DROP)) return true;
+  private boolean jj_3R_315() {
+    if (jj_scan_token(ANALYZE)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_750()) {
+    if (jj_3R_759()) {
     jj_scanpos = xsp;
-    if (jj_3R_751()) return true;
+    if (jj_3R_760()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_752()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_749() {
+  private boolean jj_3R_758() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
-    if (jj_3R_546()) return true;
+  private boolean jj_3R_757() {
+    if (jj_3R_552()) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_356() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_1047() {
+  private boolean jj_3R_1051() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_1046() {
+  private boolean jj_3R_1050() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
+  private boolean jj_3R_354() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
+  private boolean jj_3R_353() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
+  private boolean jj_3R_314() {
     if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_748()) {
+    if (jj_3R_757()) {
     jj_scanpos = xsp;
-    if (jj_3R_749()) return true;
+    if (jj_3R_758()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_352() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_990() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_996() {
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1046()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1050()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1047()) jj_scanpos = xsp;
+    if (jj_3R_1051()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_158() {
+  private boolean jj_3_159() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_869() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_158()) {
+    if (jj_3_159()) {
     jj_scanpos = xsp;
-    if (jj_3R_990()) return true;
+    if (jj_3R_996()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1045() {
+  private boolean jj_3R_1049() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_1044() {
+  private boolean jj_3R_1048() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_667() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_160() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_348()) jj_scanpos = xsp;
+    if (jj_3R_352()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_349()) jj_scanpos = xsp;
+    if (jj_3R_353()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_350()) jj_scanpos = xsp;
+    if (jj_3R_354()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_351()) jj_scanpos = xsp;
+    if (jj_3R_355()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_352()) jj_scanpos = xsp;
+    if (jj_3R_356()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_351() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_732() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_860()) jj_scanpos = xsp;
+    if (jj_3R_869()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_989() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_995() {
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1044()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1048()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1045()) jj_scanpos = xsp;
+    if (jj_3R_1049()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_551() {
+    if (jj_3R_172()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_660()) { jj_scanpos = xsp; break; }
+      if (jj_3R_667()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_157() {
+  private boolean jj_3_158() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3R_868() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_157()) {
+    if (jj_3_158()) {
     jj_scanpos = xsp;
-    if (jj_3R_989()) return true;
+    if (jj_3R_995()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_346() {
+  private boolean jj_3R_350() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_545()) jj_scanpos = xsp;
+    if (jj_3R_551()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_349() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
+  private boolean jj_3_160() {
     if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_859()) jj_scanpos = xsp;
+    if (jj_3R_868()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_858() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_867() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3_155() {
+  private boolean jj_3_156() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3_60() {
-    if (jj_3R_162()) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_1043() {
+  private boolean jj_3R_1047() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_988() {
+  private boolean jj_3R_994() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1042() {
+  private boolean jj_3R_1046() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
   private boolean jj_3_59() {
-    if (jj_3R_161()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_731() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_155()) {
+    if (jj_3_156()) {
     jj_scanpos = xsp;
-    if (jj_3R_858()) return true;
+    if (jj_3R_867()) return true;
     }
     return false;
   }
 
   private boolean jj_3_58() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_159() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_345()) {
+    if (jj_3R_349()) {
     jj_scanpos = xsp;
-    if (jj_3R_346()) return true;
+    if (jj_3R_350()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_347()) jj_scanpos = xsp;
+    if (jj_3R_351()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_987() {
+  private boolean jj_3R_993() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1042()) {
+    if (jj_3R_1046()) {
     jj_scanpos = xsp;
-    if (jj_3R_1043()) return true;
+    if (jj_3R_1047()) return true;
     }
     return false;
   }
 
   private boolean jj_3_57() {
-    if (jj_3R_159()) return true;
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_163()) return true;
     return false;
   }
 
   private boolean jj_3_56() {
-    if (jj_3R_158()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_161()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_992() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_246() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_248() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_3R_159()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_985() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_991() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_3R_158()) return true;
+  private boolean jj_3R_246() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
   private boolean jj_3R_77() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_244()) {
-    jj_scanpos = xsp;
-    if (jj_3R_245()) {
-    jj_scanpos = xsp;
     if (jj_3R_246()) {
     jj_scanpos = xsp;
     if (jj_3R_247()) {
     jj_scanpos = xsp;
-    if (jj_3R_248()) return true;
+    if (jj_3R_248()) {
+    jj_scanpos = xsp;
+    if (jj_3R_249()) {
+    jj_scanpos = xsp;
+    if (jj_3R_250()) return true;
     }
     }
     }
@@ -29252,88 +29488,88 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_866() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_985()) {
+    if (jj_3R_991()) {
     jj_scanpos = xsp;
-    if (jj_3R_986()) return true;
+    if (jj_3R_992()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_987()) jj_scanpos = xsp;
+    if (jj_3R_993()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_988()) jj_scanpos = xsp;
+    if (jj_3R_994()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_709() {
+  private boolean jj_3R_718() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_717() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_984() {
+  private boolean jj_3R_990() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_711() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_720() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_865() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
+  private boolean jj_3R_716() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_719() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_983() {
+  private boolean jj_3R_989() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_983()) {
+    if (jj_3R_989()) {
     jj_scanpos = xsp;
-    if (jj_3R_984()) return true;
+    if (jj_3R_990()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_715() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_714() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_713() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
@@ -29342,449 +29578,455 @@ Token token;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) jj_scanpos = xsp;
-    if (jj_3R_261()) return true;
+    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_263()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_708()) jj_scanpos = xsp;
+    if (jj_3R_717()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_709()) jj_scanpos = xsp;
+    if (jj_3R_718()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_710()) jj_scanpos = xsp;
+    if (jj_3R_719()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_711()) jj_scanpos = xsp;
+    if (jj_3R_720()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_703() {
+  private boolean jj_3R_712() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_236() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_235() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_967() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_973() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_972() {
+    if (jj_3R_661()) return true;
     return false;
   }
 
-  private boolean jj_3R_965() {
-    if (jj_3R_534()) return true;
+  private boolean jj_3R_971() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_970() {
+    if (jj_3R_539()) return true;
     return false;
   }
 
   private boolean jj_3R_75() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_261()) return true;
+    if (jj_3R_263()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_703()) jj_scanpos = xsp;
+    if (jj_3R_712()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_704()) jj_scanpos = xsp;
+    if (jj_3R_713()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
+    if (jj_3R_714()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
+    if (jj_3R_715()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_232() {
+  private boolean jj_3R_234() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_3R_532()) return true;
+  private boolean jj_3R_969() {
+    if (jj_3R_538()) return true;
     return false;
   }
 
-  private boolean jj_3R_1039() {
+  private boolean jj_3R_1043() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1038() {
-    if (jj_3R_555()) return true;
+  private boolean jj_3R_1042() {
+    if (jj_3R_561()) return true;
     return false;
   }
 
-  private boolean jj_3_156() {
+  private boolean jj_3_157() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_232()) jj_scanpos = xsp;
+    if (jj_3R_234()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_233()) {
+    if (jj_3R_235()) {
     jj_scanpos = xsp;
-    if (jj_3R_234()) return true;
+    if (jj_3R_236()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_855()) jj_scanpos = xsp;
+    if (jj_3R_864()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_865()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_857()) { jj_scanpos = xsp; break; }
+      if (jj_3R_866()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
+  private boolean jj_3R_968() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1038()) jj_scanpos = xsp;
+    if (jj_3R_1042()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1039()) jj_scanpos = xsp;
+    if (jj_3R_1043()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_81() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_546()) return true;
+    if (jj_3R_552()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_156()) {
+    if (jj_3_157()) {
     jj_scanpos = xsp;
-    if (jj_3R_722()) return true;
+    if (jj_3R_731()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_159()) {
+    if (jj_3_160()) {
     jj_scanpos = xsp;
-    if (jj_3R_723()) return true;
+    if (jj_3R_732()) return true;
     }
     return false;
   }
 
   private boolean jj_3_55() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_1037() {
-    if (jj_3R_555()) return true;
+  private boolean jj_3R_1041() {
+    if (jj_3R_561()) return true;
     return false;
   }
 
-  private boolean jj_3R_961() {
+  private boolean jj_3R_967() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_305() {
+  private boolean jj_3R_307() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1036() {
-    if (jj_3R_555()) return true;
+  private boolean jj_3R_1040() {
+    if (jj_3R_561()) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
+  private boolean jj_3R_306() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_966() {
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1037()) jj_scanpos = xsp;
+    if (jj_3R_1041()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_3R_167()) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_305() {
+    if (jj_3R_168()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3R_108() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_304()) jj_scanpos = xsp;
+    if (jj_3R_306()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_305()) jj_scanpos = xsp;
+    if (jj_3R_307()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_54() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1036()) jj_scanpos = xsp;
+    if (jj_3R_1040()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1035() {
+  private boolean jj_3R_1039() {
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_684()) return true;
+    if (jj_3R_691()) return true;
     return false;
   }
 
-  private boolean jj_3R_1034() {
-    if (jj_3R_684()) return true;
+  private boolean jj_3R_1038() {
+    if (jj_3R_691()) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
+  private boolean jj_3_155() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_959() {
+  private boolean jj_3R_965() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1034()) {
+    if (jj_3R_1038()) {
     jj_scanpos = xsp;
-    if (jj_3R_1035()) return true;
+    if (jj_3R_1039()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_588() {
+  private boolean jj_3R_594() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_684()) return true;
+    if (jj_3R_691()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_959()) { jj_scanpos = xsp; break; }
+      if (jj_3R_965()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
     if (jj_3_54()) {
     jj_scanpos = xsp;
-    if (jj_3R_960()) return true;
+    if (jj_3R_966()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_961()) jj_scanpos = xsp;
+    if (jj_3R_967()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_962()) { jj_scanpos = xsp; break; }
+      if (jj_3R_968()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_963()) jj_scanpos = xsp;
+    if (jj_3R_969()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_964()) jj_scanpos = xsp;
+    if (jj_3R_970()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_965()) jj_scanpos = xsp;
+    if (jj_3R_971()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_966()) jj_scanpos = xsp;
+    if (jj_3R_972()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_967()) jj_scanpos = xsp;
+    if (jj_3R_973()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_107() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_154()) {
+    if (jj_3_155()) {
     jj_scanpos = xsp;
-    if (jj_3R_303()) return true;
+    if (jj_3R_305()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1032() {
+  private boolean jj_3R_1036() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_1031() {
+  private boolean jj_3R_1035() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_982() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_988() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_958() {
+  private boolean jj_3R_964() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1031()) {
+    if (jj_3R_1035()) {
     jj_scanpos = xsp;
-    if (jj_3R_1032()) return true;
+    if (jj_3R_1036()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_957() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_963() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
+  private boolean jj_3R_962() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
+  private boolean jj_3R_730() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_853()) return true;
+    if (jj_3R_862()) return true;
     return false;
   }
 
-  private boolean jj_3R_1030() {
+  private boolean jj_3R_1034() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_828()) return true;
+    if (jj_3R_837()) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
+  private boolean jj_3R_961() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_719() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_728() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_853()) return true;
+    if (jj_3R_862()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) { jj_scanpos = xsp; break; }
+      if (jj_3R_863()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
-    if (jj_3R_828()) return true;
+  private boolean jj_3R_690() {
+    if (jj_3R_837()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1030()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1034()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_862() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_988()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_853() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_982()) jj_scanpos = xsp;
+  private boolean jj_3R_663() {
+    if (jj_3R_661()) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3_154() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3R_653() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_662() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_587() {
+  private boolean jj_3R_593() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_683()) jj_scanpos = xsp;
+    if (jj_3R_690()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_261()) return true;
+    if (jj_3R_263()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_955()) jj_scanpos = xsp;
+    if (jj_3R_961()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_956()) jj_scanpos = xsp;
+    if (jj_3R_962()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_957()) jj_scanpos = xsp;
+    if (jj_3R_963()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) jj_scanpos = xsp;
+    if (jj_3R_964()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_541() {
+  private boolean jj_3R_547() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
+  private boolean jj_3R_338() {
+    if (jj_scan_token(MEMORY)) return true;
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_337() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3R_546() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
+  private boolean jj_3R_336() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
+  private boolean jj_3R_545() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
+  private boolean jj_3R_544() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
@@ -29792,188 +30034,182 @@ Token token;
   private boolean jj_3R_80() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_153()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
+    if (jj_3_154()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_719()) jj_scanpos = xsp;
+    if (jj_3R_728()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_720()) jj_scanpos = xsp;
+    if (jj_3R_729()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_721()) jj_scanpos = xsp;
+    if (jj_3R_730()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1041() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_1045() {
+    if (jj_3R_661()) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_542() {
+    if (jj_3R_486()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_654()) jj_scanpos = xsp;
+    if (jj_3R_663()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_332() {
+  private boolean jj_3R_335() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_538()) {
+    if (jj_3R_544()) {
     jj_scanpos = xsp;
-    if (jj_3R_539()) {
+    if (jj_3R_545()) {
     jj_scanpos = xsp;
-    if (jj_3R_540()) {
+    if (jj_3R_546()) {
     jj_scanpos = xsp;
-    if (jj_3R_541()) return true;
+    if (jj_3R_547()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_331() {
-    if (jj_3R_481()) return true;
+  private boolean jj_3R_334() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
+  private boolean jj_3R_332() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_535()) {
+    if (jj_3R_541()) {
     jj_scanpos = xsp;
-    if (jj_3R_536()) return true;
+    if (jj_3R_542()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_541() {
+    if (jj_3R_661()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_653()) jj_scanpos = xsp;
+    if (jj_3R_662()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_330() {
-    if (jj_3R_537()) return true;
+  private boolean jj_3R_333() {
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3R_1040() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_1044() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_233() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
+  private boolean jj_3R_304() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_3R_534()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_327() {
-    if (jj_3R_533()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_3R_532()) return true;
+  private boolean jj_3R_330() {
+    if (jj_3R_539()) return true;
     return false;
   }
 
   private boolean jj_3R_106() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_302()) jj_scanpos = xsp;
+    if (jj_3R_304()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_475()) return true;
+  private boolean jj_3R_329() {
+    if (jj_3R_538()) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_328() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_3R_465()) return true;
+  private boolean jj_3R_327() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
+  private boolean jj_3R_303() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
+  private boolean jj_3R_326() {
+    if (jj_3R_471()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_302() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_516() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
   private boolean jj_3R_105() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_300()) jj_scanpos = xsp;
+    if (jj_3R_302()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_301()) jj_scanpos = xsp;
+    if (jj_3R_303()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_971() {
-    if (jj_3R_480()) return true;
+  private boolean jj_3R_977() {
+    if (jj_3R_486()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1041()) jj_scanpos = xsp;
+    if (jj_3R_1045()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_156() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_323()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_261()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_324()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_325()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_326()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_263()) return true;
     xsp = jj_scanpos;
     if (jj_3R_327()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -29990,287 +30226,303 @@ Token token;
     if (jj_3R_333()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_334()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_335()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_336()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_337()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_338()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_518() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_976() {
+    if (jj_3R_661()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1040()) jj_scanpos = xsp;
+    if (jj_3R_1044()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_840() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_970()) {
+    if (jj_3R_976()) {
     jj_scanpos = xsp;
-    if (jj_3R_971()) return true;
+    if (jj_3R_977()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_975() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_301() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_517() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_981() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_974() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_515() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_836() {
-    if (jj_scan_token(NOCACHE)) return true;
+  private boolean jj_3R_980() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_845() {
+    if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_844() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
+  private boolean jj_3R_979() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_972() {
+  private boolean jj_3R_978() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_300() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_511()) {
+    if (jj_3R_517()) {
     jj_scanpos = xsp;
-    if (jj_3R_512()) return true;
+    if (jj_3R_518()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_507() {
-    if (jj_scan_token(270)) return true;
+  private boolean jj_3R_513() {
+    if (jj_scan_token(272)) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3R_299() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_510()) {
+    if (jj_3R_516()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_512() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_972()) {
+    if (jj_3R_978()) {
     jj_scanpos = xsp;
-    if (jj_3R_973()) {
+    if (jj_3R_979()) {
     jj_scanpos = xsp;
-    if (jj_3R_974()) {
+    if (jj_3R_980()) {
     jj_scanpos = xsp;
-    if (jj_3R_975()) return true;
+    if (jj_3R_981()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_833() {
-    if (jj_3R_481()) return true;
+  private boolean jj_3R_842() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
-    if (jj_3R_537()) return true;
+  private boolean jj_3R_841() {
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_298() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_509()) {
+    if (jj_3R_515()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_505() {
+  private boolean jj_3R_511() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_3R_534()) return true;
+  private boolean jj_3R_839() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
-  private boolean jj_3R_829() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_838() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_53() {
-    if (jj_3R_156()) return true;
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_295() {
+  private boolean jj_3R_297() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_506()) {
+    if (jj_3R_512()) {
     jj_scanpos = xsp;
-    if (jj_3R_507()) {
+    if (jj_3R_513()) {
     jj_scanpos = xsp;
-    if (jj_3R_508()) return true;
+    if (jj_3R_514()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_366() {
+  private boolean jj_3R_370() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_465()) return true;
+    if (jj_3R_471()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_829()) jj_scanpos = xsp;
+    if (jj_3R_838()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_830()) jj_scanpos = xsp;
+    if (jj_3R_839()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_831()) jj_scanpos = xsp;
+    if (jj_3R_840()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
+    if (jj_3R_841()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_833()) jj_scanpos = xsp;
+    if (jj_3R_842()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) jj_scanpos = xsp;
+    if (jj_3R_843()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_835()) jj_scanpos = xsp;
+    if (jj_3R_844()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_836()) jj_scanpos = xsp;
+    if (jj_3R_845()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_52() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_588()) return true;
+  private boolean jj_3R_509() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_415() {
+    if (jj_3R_594()) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_508() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_414() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_409() {
-    if (jj_3R_366()) return true;
+  private boolean jj_3R_413() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
+  private boolean jj_3R_296() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_510()) {
     jj_scanpos = xsp;
-    if (jj_3R_505()) return true;
+    if (jj_3R_511()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_501() {
+  private boolean jj_3R_507() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_506() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
+  private boolean jj_3R_295() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_168()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_201() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_408()) {
+    if (jj_3R_412()) {
     jj_scanpos = xsp;
-    if (jj_3R_409()) {
+    if (jj_3R_413()) {
     jj_scanpos = xsp;
-    if (jj_3R_410()) {
+    if (jj_3R_414()) {
     jj_scanpos = xsp;
-    if (jj_3R_411()) {
+    if (jj_3R_415()) {
     jj_scanpos = xsp;
-    if (jj_3R_412()) return true;
+    if (jj_3R_416()) return true;
     }
     }
     }
@@ -30278,26 +30530,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_167()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_499() {
+  private boolean jj_3R_505() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) {
+    if (jj_3R_508()) {
     jj_scanpos = xsp;
-    if (jj_3R_503()) return true;
+    if (jj_3R_509()) return true;
     }
     return false;
   }
@@ -30308,28 +30552,28 @@ Token token;
   }
 
   private boolean jj_3_51() {
-    if (jj_3R_154()) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_461() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_467() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
+  private boolean jj_3R_504() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3R_650() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_641() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+  private boolean jj_3_48() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
@@ -30338,34 +30582,34 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_3R_463()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_291() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_500()) {
+    if (jj_3R_506()) {
     jj_scanpos = xsp;
-    if (jj_3R_501()) return true;
+    if (jj_3R_507()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_245() {
+    if (jj_3R_469()) return true;
+    return false;
+  }
+
   private boolean jj_3_46() {
     if (jj_3R_114()) return true;
     return false;
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_154() {
     if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_244() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
@@ -30374,120 +30618,120 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_462()) return true;
+  private boolean jj_3R_243() {
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3R_153() {
     if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
+  private boolean jj_3R_502() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
+  private boolean jj_3R_152() {
     if (jj_3R_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
+  private boolean jj_3R_151() {
     if (jj_3R_114()) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
+  private boolean jj_3R_292() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_498()) {
+    if (jj_3R_504()) {
     jj_scanpos = xsp;
-    if (jj_3R_499()) return true;
+    if (jj_3R_505()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_3R_113()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_495() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_501() {
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_641()) { jj_scanpos = xsp; break; }
+      if (jj_3R_650()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_148() {
-    if (jj_3R_322()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_113()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_325()) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
+  private boolean jj_3R_291() {
     if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_497()) return true;
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_324()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_323()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_318()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_500() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_317()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_321()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_499() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_320()) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_315()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_319()) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_142() {
+    if (jj_3R_318()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_649() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_314()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_317()) return true;
     return false;
   }
 
@@ -30496,33 +30740,33 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_313()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_316()) return true;
     return false;
   }
 
-  private boolean jj_3R_492() {
+  private boolean jj_3R_498() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_639()) {
+    if (jj_3R_648()) {
     jj_scanpos = xsp;
-    if (jj_3R_640()) return true;
+    if (jj_3R_649()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_648() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_290() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
+    if (jj_3R_501()) {
     jj_scanpos = xsp;
-    if (jj_3R_496()) return true;
+    if (jj_3R_502()) return true;
     }
     return false;
   }
@@ -30542,18 +30786,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_138() {
+  private boolean jj_3R_139() {
     if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3R_497() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
@@ -30562,13 +30806,18 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_138() {
+    if (jj_3R_315()) return true;
+    return false;
+  }
+
   private boolean jj_3_38() {
     if (jj_3R_106()) return true;
     return false;
   }
 
   private boolean jj_3R_137() {
-    if (jj_3R_312()) return true;
+    if (jj_3R_314()) return true;
     return false;
   }
 
@@ -30582,24 +30831,24 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_107()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_287() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_492()) jj_scanpos = xsp;
+    if (jj_3R_498()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_493()) {
+    if (jj_3R_499()) {
     jj_scanpos = xsp;
-    if (jj_3R_494()) return true;
+    if (jj_3R_500()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_135() {
+    if (jj_3R_107()) return true;
+    return false;
+  }
+
   private boolean jj_3_35() {
     if (jj_3R_103()) return true;
     return false;
@@ -30615,6 +30864,17 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_288() {
+    if (jj_scan_token(SHORTNAME)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_497()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(37)) return true;
+    }
+    return false;
+  }
+
   private boolean jj_3_33() {
     if (jj_3R_101()) return true;
     return false;
@@ -30625,19 +30885,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_286() {
-    if (jj_scan_token(SHORTNAME)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_491()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(37)) return true;
-    }
+  private boolean jj_3_32() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_287() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
@@ -30651,12 +30906,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
   private boolean jj_3_34() {
     if (jj_3R_102()) return true;
     return false;
@@ -30682,26 +30931,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_99()) return true;
-    return false;
-  }
-
-  private boolean jj_3_28() {
-    if (jj_3R_96()) return true;
-    return false;
-  }
-
   private boolean jj_3R_103() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_285()) {
-    jj_scanpos = xsp;
-    if (jj_3R_286()) {
-    jj_scanpos = xsp;
     if (jj_3R_287()) {
     jj_scanpos = xsp;
     if (jj_3R_288()) {
@@ -30724,7 +30959,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_297()) {
     jj_scanpos = xsp;
-    if (jj_3R_298()) return true;
+    if (jj_3R_298()) {
+    jj_scanpos = xsp;
+    if (jj_3R_299()) {
+    jj_scanpos = xsp;
+    if (jj_3R_300()) return true;
     }
     }
     }
@@ -30739,7 +30978,17 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_299()) jj_scanpos = xsp;
+    if (jj_3R_301()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_129() {
+    if (jj_3R_99()) return true;
+    return false;
+  }
+
+  private boolean jj_3_28() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
@@ -30753,19 +31002,26 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_727() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_237()) return true;
+    return false;
+  }
+
   private boolean jj_3R_127() {
-    if (jj_3R_311()) return true;
+    if (jj_3R_313()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_726() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_235()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
@@ -30774,10 +31030,9 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_717() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_861() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_71()) return true;
     return false;
   }
 
@@ -30791,12 +31046,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_852() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_71()) return true;
-    return false;
-  }
-
   private boolean jj_3_24() {
     if (jj_3R_92()) return true;
     return false;
@@ -30807,6 +31056,12 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_860() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
   private boolean jj_3_23() {
     if (jj_3R_91()) return true;
     return false;
@@ -30817,34 +31072,23 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_851() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_122() {
-    if (jj_3R_93()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_716() {
+  private boolean jj_3R_725() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_723() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_71()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_852()) { jj_scanpos = xsp; break; }
+      if (jj_3R_861()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_715() {
+  private boolean jj_3R_724() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_71()) return true;
     return false;
@@ -30853,40 +31097,45 @@ Token token;
   private boolean jj_3R_79() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_717()) jj_scanpos = xsp;
+    if (jj_3R_726()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_200()) return true;
+    if (jj_3R_201()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_718()) jj_scanpos = xsp;
+    if (jj_3R_727()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_122() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3R_121() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3R_722() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_851()) { jj_scanpos = xsp; break; }
+      if (jj_3R_860()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_120() {
+    if (jj_3R_91()) return true;
+    return false;
+  }
+
   private boolean jj_3_22() {
     if (jj_3R_90()) return true;
     return false;
@@ -30897,15 +31146,20 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_721() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
   private boolean jj_3_20() {
     if (jj_3R_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_665() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
@@ -30914,8 +31168,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_658() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_664() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
@@ -30924,36 +31178,31 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
   private boolean jj_3_17() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_84()) return true;
-    return false;
-  }
-
   private boolean jj_3R_78() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_712()) jj_scanpos = xsp;
+    if (jj_3R_721()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_713()) jj_scanpos = xsp;
+    if (jj_3R_722()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) jj_scanpos = xsp;
+    if (jj_3R_723()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_715()) jj_scanpos = xsp;
+    if (jj_3R_724()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_716()) jj_scanpos = xsp;
+    if (jj_3R_725()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_16() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
@@ -30972,50 +31221,50 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_80()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_544() {
+  private boolean jj_3R_550() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_657()) {
+    if (jj_3R_664()) {
     jj_scanpos = xsp;
-    if (jj_3R_658()) return true;
+    if (jj_3R_665()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_12() {
+    if (jj_3R_80()) return true;
+    return false;
+  }
+
   private boolean jj_3_11() {
     if (jj_3R_79()) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3R_549() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_647() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_638() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_119() {
+    if (jj_3R_312()) return true;
     return false;
   }
 
@@ -31024,56 +31273,70 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_76()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_337() {
+  private boolean jj_3R_341() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_542()) {
+    if (jj_3R_548()) {
     jj_scanpos = xsp;
-    if (jj_3R_543()) return true;
+    if (jj_3R_549()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_544()) { jj_scanpos = xsp; break; }
+      if (jj_3R_550()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_496() {
+    if (jj_3R_172()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_638()) { jj_scanpos = xsp; break; }
+      if (jj_3R_647()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3_7() {
+    if (jj_3R_75()) return true;
+    return false;
+  }
+
   private boolean jj_3R_118() {
-    if (jj_3R_200()) return true;
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
+  private boolean jj_3R_340() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_74()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_339() {
+    if (jj_3R_172()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_157() {
+    if (jj_scan_token(FIND)) return true;
+    if (jj_scan_token(REFERENCES)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_339()) {
+    jj_scanpos = xsp;
+    if (jj_3R_340()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_341()) jj_scanpos = xsp;
     return false;
   }
 
@@ -31156,16 +31419,16 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_137()) {
     jj_scanpos = xsp;
+    if (jj_3R_138()) {
+    jj_scanpos = xsp;
     if (jj_3_41()) {
     jj_scanpos = xsp;
-    if (jj_3R_138()) {
+    if (jj_3R_139()) {
     jj_scanpos = xsp;
     if (jj_3_43()) {
     jj_scanpos = xsp;
     if (jj_3_44()) {
     jj_scanpos = xsp;
-    if (jj_3R_139()) {
-    jj_scanpos = xsp;
     if (jj_3R_140()) {
     jj_scanpos = xsp;
     if (jj_3R_141()) {
@@ -31192,7 +31455,10 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_152()) {
     jj_scanpos = xsp;
-    if (jj_3R_153()) return true;
+    if (jj_3R_153()) {
+    jj_scanpos = xsp;
+    if (jj_3R_154()) return true;
+    }
     }
     }
     }
@@ -31252,17 +31518,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_156() {
-    if (jj_scan_token(FIND)) return true;
-    if (jj_scan_token(REFERENCES)) return true;
+  private boolean jj_3R_286() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) {
-    jj_scanpos = xsp;
-    if (jj_3R_336()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_337()) jj_scanpos = xsp;
+    if (jj_3R_496()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
@@ -31276,37 +31537,28 @@ Token token;
     xsp = jj_scanpos;
     if (jj_3_50()) {
     jj_scanpos = xsp;
-    if (jj_3R_241()) {
+    if (jj_3R_243()) {
     jj_scanpos = xsp;
-    if (jj_3R_242()) {
+    if (jj_3R_244()) {
     jj_scanpos = xsp;
-    if (jj_3R_243()) return true;
+    if (jj_3R_245()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_284() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_490()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_283() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_285() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_3R_461()) return true;
+  private boolean jj_3R_241() {
+    if (jj_3R_467()) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
+  private boolean jj_3R_240() {
     if (jj_3R_74()) return true;
     return false;
   }
@@ -31316,26 +31568,36 @@ Token token;
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_283()) {
+    if (jj_3R_285()) {
     jj_scanpos = xsp;
-    if (jj_3R_284()) return true;
+    if (jj_3R_286()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_283() {
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_282() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
   private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_238()) {
+    if (jj_3R_240()) {
     jj_scanpos = xsp;
-    if (jj_3R_239()) return true;
+    if (jj_3R_241()) return true;
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3R_284() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
@@ -31344,26 +31606,16 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_280() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_282() {
-    if (jj_scan_token(UNSAFE)) return true;
-    return false;
-  }
-
   private boolean jj_3_4() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
+  private boolean jj_3R_238() {
     if (jj_3R_74()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(196)) jj_scanpos = xsp;
+    if (jj_scan_token(198)) jj_scanpos = xsp;
     return false;
   }
 
@@ -31372,46 +31624,36 @@ Token token;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_280()) {
+    if (jj_3R_282()) {
     jj_scanpos = xsp;
-    if (jj_3R_281()) return true;
+    if (jj_3R_283()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_282()) jj_scanpos = xsp;
+    if (jj_3R_284()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_652() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_642() {
-    if (jj_3R_71()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_279() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_642()) {
-    jj_scanpos = xsp;
-    if (jj_3R_643()) return true;
-    }
+  private boolean jj_3R_651() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
+  private boolean jj_3R_279() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
@@ -31419,29 +31661,39 @@ Token token;
   private boolean jj_3R_99() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_278()) jj_scanpos = xsp;
+    if (jj_3R_280()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_279()) jj_scanpos = xsp;
+    if (jj_3R_281()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_503() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_651()) {
+    jj_scanpos = xsp;
+    if (jj_3R_652()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_276() {
+  private boolean jj_3R_278() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
+  private boolean jj_3R_242() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
   private boolean jj_3R_73() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) jj_scanpos = xsp;
+    if (jj_3R_242()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
@@ -31451,321 +31703,341 @@ Token token;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_276()) {
+    if (jj_3R_278()) {
     jj_scanpos = xsp;
-    if (jj_3R_277()) return true;
+    if (jj_3R_279()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_237() {
+  private boolean jj_3R_239() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
+  private boolean jj_3R_623() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
   private boolean jj_3R_71() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_237()) jj_scanpos = xsp;
+    if (jj_3R_239()) jj_scanpos = xsp;
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_3R_167()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_460() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_466() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_465() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) jj_scanpos = xsp;
+    if (jj_3R_623()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_232() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_459()) {
+    if (jj_3R_465()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(219)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_460()) jj_scanpos = xsp;
+    if (jj_3R_466()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_622() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_464() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_463() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_613()) jj_scanpos = xsp;
+    if (jj_3R_622()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
+  private boolean jj_3R_231() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_457()) {
+    if (jj_3R_463()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(219)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_458()) jj_scanpos = xsp;
+    if (jj_3R_464()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_612() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_621() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_462() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
+  private boolean jj_3R_461() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_612()) jj_scanpos = xsp;
+    if (jj_3R_621()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_230() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_455()) {
+    if (jj_3R_461()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(219)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_456()) jj_scanpos = xsp;
+    if (jj_3R_462()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_620() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_453() {
+  private boolean jj_3R_459() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_611()) jj_scanpos = xsp;
+    if (jj_3R_620()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
+  private boolean jj_3R_229() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_453()) {
+    if (jj_3R_459()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(219)) return true;
     }
-    if (jj_3R_452()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_1090() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_1094() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_1087() {
+  private boolean jj_3R_1091() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1090()) jj_scanpos = xsp;
+    if (jj_3R_1094()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1082() {
+  private boolean jj_3R_1086() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1087()) {
+    if (jj_3R_1091()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(219)) return true;
     }
-    if (jj_3R_452()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
+  private boolean jj_3R_457() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_609()) jj_scanpos = xsp;
+    if (jj_3R_618()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
+  private boolean jj_3R_228() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_451()) {
+    if (jj_3R_457()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(217)) return true;
+    if (jj_scan_token(219)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_452()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_981() {
+  private boolean jj_3R_987() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_980() {
+  private boolean jj_3R_986() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_857() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_980()) {
+    if (jj_3R_986()) {
     jj_scanpos = xsp;
-    if (jj_3R_981()) return true;
+    if (jj_3R_987()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_856() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_855() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_854() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_475()) return true;
+    if (jj_3R_481()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_979() {
+  private boolean jj_3R_985() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_978() {
+  private boolean jj_3R_984() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
+  private boolean jj_3R_852() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_171()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_977() {
+  private boolean jj_3R_983() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_982() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3R_851() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_978()) {
+    if (jj_3R_984()) {
     jj_scanpos = xsp;
-    if (jj_3R_979()) return true;
+    if (jj_3R_985()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_841() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_976()) {
+    if (jj_3R_982()) {
     jj_scanpos = xsp;
-    if (jj_3R_977()) return true;
+    if (jj_3R_983()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_849() {
+    if (jj_scan_token(CLASSES)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_711() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_710()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_848() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_168() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(257)) {
+    if (jj_scan_token(259)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(243)) {
+    if (jj_scan_token(245)) {
     jj_scanpos = xsp;
     if (jj_scan_token(28)) {
     jj_scanpos = xsp;
@@ -31781,7 +32053,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(39)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(254)) {
+    if (jj_scan_token(256)) {
     jj_scanpos = xsp;
     if (jj_scan_token(45)) {
     jj_scanpos = xsp;
@@ -31795,23 +32067,21 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(22)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(69)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(75)) {
+    if (jj_scan_token(70)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(77)) {
+    if (jj_scan_token(76)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(79)) {
+    if (jj_scan_token(78)) {
     jj_scanpos = xsp;
     if (jj_scan_token(80)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(74)) {
+    if (jj_scan_token(81)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(70)) {
+    if (jj_scan_token(75)) {
     jj_scanpos = xsp;
     if (jj_scan_token(71)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(81)) {
+    if (jj_scan_token(72)) {
     jj_scanpos = xsp;
     if (jj_scan_token(82)) {
     jj_scanpos = xsp;
@@ -31823,7 +32093,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(86)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(88)) {
+    if (jj_scan_token(87)) {
     jj_scanpos = xsp;
     if (jj_scan_token(89)) {
     jj_scanpos = xsp;
@@ -31839,11 +32109,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(95)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(76)) {
+    if (jj_scan_token(96)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(78)) {
+    if (jj_scan_token(77)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(96)) {
+    if (jj_scan_token(79)) {
     jj_scanpos = xsp;
     if (jj_scan_token(97)) {
     jj_scanpos = xsp;
@@ -31867,18 +32137,20 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(107)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(109)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(108)) {
     jj_scanpos = xsp;
     if (jj_scan_token(110)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(109)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(111)) {
     jj_scanpos = xsp;
     if (jj_scan_token(112)) {
     jj_scanpos = xsp;
     if (jj_scan_token(113)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(66)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(114)) {
     jj_scanpos = xsp;
     if (jj_scan_token(115)) {
@@ -31937,6 +32209,10 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(142)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(143)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(144)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(59)) {
     jj_scanpos = xsp;
     if (jj_scan_token(60)) {
@@ -31945,15 +32221,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(63)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(143)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(144)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(145)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(147)) {
+    if (jj_scan_token(146)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(148)) {
+    if (jj_scan_token(147)) {
     jj_scanpos = xsp;
     if (jj_scan_token(149)) {
     jj_scanpos = xsp;
@@ -31961,9 +32233,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(151)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(153)) {
+    if (jj_scan_token(152)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(154)) {
+    if (jj_scan_token(153)) {
     jj_scanpos = xsp;
     if (jj_scan_token(155)) {
     jj_scanpos = xsp;
@@ -31975,13 +32247,19 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(159)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(162)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(160)) {
     jj_scanpos = xsp;
     if (jj_scan_token(161)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(258)) return true;
+    if (jj_scan_token(164)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(162)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(163)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(260)) return true;
+    }
+    }
     }
     }
     }
@@ -32094,52 +32372,32 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_scan_token(CLASSES)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_702() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_701()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_839() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_701() {
+  private boolean jj_3R_710() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_839()) {
+    if (jj_3R_848()) {
     jj_scanpos = xsp;
-    if (jj_3R_840()) {
+    if (jj_3R_849()) {
     jj_scanpos = xsp;
-    if (jj_3R_841()) {
+    if (jj_3R_850()) {
     jj_scanpos = xsp;
-    if (jj_3R_842()) {
+    if (jj_3R_851()) {
     jj_scanpos = xsp;
-    if (jj_3R_843()) {
+    if (jj_3R_852()) {
     jj_scanpos = xsp;
-    if (jj_3R_844()) {
+    if (jj_3R_853()) {
     jj_scanpos = xsp;
-    if (jj_3R_845()) {
+    if (jj_3R_854()) {
     jj_scanpos = xsp;
-    if (jj_3R_846()) {
+    if (jj_3R_855()) {
     jj_scanpos = xsp;
-    if (jj_3R_847()) {
+    if (jj_3R_856()) {
     jj_scanpos = xsp;
-    if (jj_3R_848()) {
+    if (jj_3R_857()) {
     jj_scanpos = xsp;
-    if (jj_3R_849()) {
+    if (jj_3R_858()) {
     jj_scanpos = xsp;
-    if (jj_3R_850()) return true;
+    if (jj_3R_859()) return true;
     }
     }
     }
@@ -32154,128 +32412,128 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_701()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_710()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_702()) { jj_scanpos = xsp; break; }
+      if (jj_3R_711()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_602() {
+  private boolean jj_3R_608() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(185)) {
+    if (jj_scan_token(187)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(166)) return true;
+    if (jj_scan_token(168)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_153() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
   private boolean jj_3_152() {
-    if (jj_3R_230()) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3_150() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_151() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
+  private boolean jj_3R_458() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_610()) jj_scanpos = xsp;
+    if (jj_3R_619()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1084() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_1088() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_230()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_607() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_616() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_615() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
+  private boolean jj_3R_455() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_606()) {
+    if (jj_3R_615()) {
     jj_scanpos = xsp;
-    if (jj_3R_607()) {
+    if (jj_3R_616()) {
     jj_scanpos = xsp;
-    if (jj_3R_608()) return true;
+    if (jj_3R_617()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3_150() {
+    if (jj_3R_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
+  private boolean jj_3R_226() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_449()) return true;
+    if (jj_3R_455()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_449()) { jj_scanpos = xsp; break; }
+      if (jj_3R_455()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1084()) jj_scanpos = xsp;
+    if (jj_3R_1088()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1086() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_1090() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_1085() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3R_1089() {
+    if (jj_3R_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_371() {
+  private boolean jj_3R_375() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(165)) {
+    if (jj_scan_token(167)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(166)) return true;
+    if (jj_scan_token(168)) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
@@ -32287,143 +32545,143 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_227() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_456()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1089()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_1090()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_1093() {
+    if (jj_3R_458()) return true;
+    return false;
+  }
+
   private boolean jj_3_1() {
-    if (jj_scan_token(268)) return true;
+    if (jj_scan_token(270)) return true;
     if (jj_3R_71()) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_450()) return true;
+  private boolean jj_3R_456() {
+    if (jj_3R_174()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_1085()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1086()) jj_scanpos = xsp;
+    if (jj_3R_1093()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1089() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_1092() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_172() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_1()) {
     jj_scanpos = xsp;
     if (jj_3_2()) {
     jj_scanpos = xsp;
-    if (jj_3R_371()) return true;
+    if (jj_3R_375()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_450() {
-    if (jj_3R_173()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1089()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_1088() {
-    if (jj_3R_452()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1083() {
+  private boolean jj_3R_1087() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1088()) jj_scanpos = xsp;
+    if (jj_3R_1092()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_148() {
-    if (jj_3R_227()) return true;
+  private boolean jj_3_149() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_460() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3_147() {
-    if (jj_3R_226()) return true;
+  private boolean jj_3_148() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3R_1071() {
-    if (jj_3R_1083()) return true;
+  private boolean jj_3R_1075() {
+    if (jj_3R_1087()) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_183()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_454()) jj_scanpos = xsp;
+    if (jj_3R_460()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1070() {
-    if (jj_3R_227()) return true;
+  private boolean jj_3R_1074() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3R_1069() {
-    if (jj_3R_1082()) return true;
+  private boolean jj_3R_1073() {
+    if (jj_3R_1086()) return true;
     return false;
   }
 
-  private boolean jj_3R_1068() {
-    if (jj_3R_226()) return true;
+  private boolean jj_3R_1072() {
+    if (jj_3R_228()) return true;
     return false;
   }
 
-  private boolean jj_3_146() {
-    if (jj_3R_225()) return true;
+  private boolean jj_3_147() {
+    if (jj_3R_227()) return true;
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_224()) return true;
+  private boolean jj_3_146() {
+    if (jj_3R_226()) return true;
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3_145() {
+    if (jj_3R_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_1033() {
+  private boolean jj_3R_1037() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_144()) {
-    jj_scanpos = xsp;
     if (jj_3_145()) {
     jj_scanpos = xsp;
     if (jj_3_146()) {
     jj_scanpos = xsp;
-    if (jj_3R_1068()) {
+    if (jj_3_147()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1072()) {
     jj_scanpos = xsp;
-    if (jj_3R_1069()) {
+    if (jj_3R_1073()) {
     jj_scanpos = xsp;
-    if (jj_3R_1070()) {
+    if (jj_3R_1074()) {
     jj_scanpos = xsp;
-    if (jj_3R_1071()) return true;
+    if (jj_3R_1075()) return true;
     }
     }
     }
@@ -32433,834 +32691,834 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_1029() {
+  private boolean jj_3R_1033() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
+  private boolean jj_3R_958() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
-    if (jj_3R_452()) return true;
+  private boolean jj_3R_691() {
+    if (jj_3R_458()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1033()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1037()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_951() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_957() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
-  private boolean jj_3R_950() {
+  private boolean jj_3R_956() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_955() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_814() {
+  private boolean jj_3R_823() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_949()) {
+    if (jj_3R_955()) {
     jj_scanpos = xsp;
-    if (jj_3R_950()) {
+    if (jj_3R_956()) {
     jj_scanpos = xsp;
-    if (jj_3R_951()) {
+    if (jj_3R_957()) {
     jj_scanpos = xsp;
-    if (jj_3R_952()) return true;
+    if (jj_3R_958()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
+  private boolean jj_3R_613() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_812() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_821() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_820() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_810() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_819() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_666() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_810()) {
+    if (jj_3R_819()) {
     jj_scanpos = xsp;
-    if (jj_3R_811()) {
+    if (jj_3R_820()) {
     jj_scanpos = xsp;
-    if (jj_3R_812()) {
+    if (jj_3R_821()) {
     jj_scanpos = xsp;
-    if (jj_3R_813()) return true;
+    if (jj_3R_822()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_814()) { jj_scanpos = xsp; break; }
+      if (jj_3R_823()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_143() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3_144() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
+  private boolean jj_3R_237() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_659()) jj_scanpos = xsp;
+    if (jj_3R_666()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1067() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1071() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_828() {
-    if (jj_3R_581()) return true;
+  private boolean jj_3R_837() {
+    if (jj_3R_587()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1067()) jj_scanpos = xsp;
+    if (jj_3R_1071()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_948() {
+  private boolean jj_3R_614() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1029()) jj_scanpos = xsp;
+    if (jj_3R_1033()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1028() {
+  private boolean jj_3R_709() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_1027() {
+  private boolean jj_3R_708() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_946() {
+  private boolean jj_3R_612() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1027()) {
+    if (jj_3R_708()) {
     jj_scanpos = xsp;
-    if (jj_3R_1028()) return true;
+    if (jj_3R_709()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_454() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_946()) jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
+    if (jj_3R_612()) jj_scanpos = xsp;
+    if (jj_3R_168()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_947()) jj_scanpos = xsp;
+    if (jj_3R_613()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_948()) { jj_scanpos = xsp; break; }
+      if (jj_3R_614()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_453() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3R_224() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_808()) {
+    if (jj_3R_453()) {
     jj_scanpos = xsp;
-    if (jj_3R_809()) return true;
+    if (jj_3R_454()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_656() {
-    if (jj_3R_655()) return true;
+  private boolean jj_3_143() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_543() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_655()) return true;
+    if (jj_3R_224()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_656()) { jj_scanpos = xsp; break; }
+      if (jj_3_143()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_566() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_560()) { jj_scanpos = xsp; break; }
+      if (jj_3R_566()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_175() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_377()) jj_scanpos = xsp;
+    if (jj_3R_381()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_473() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_474() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_646() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_783()) {
+    if (jj_3R_794()) {
     jj_scanpos = xsp;
-    if (jj_3R_784()) return true;
+    if (jj_3R_795()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_783() {
+  private boolean jj_3R_794() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_71()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_637()) jj_scanpos = xsp;
+    if (jj_3R_646()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_629() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_619() {
+  private boolean jj_3R_628() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_945() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_954() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
+  private boolean jj_3R_953() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_475() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_619()) {
+    if (jj_3R_628()) {
     jj_scanpos = xsp;
-    if (jj_3R_620()) return true;
+    if (jj_3R_629()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_943() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_952() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_951() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_818() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_944()) {
+    if (jj_3R_953()) {
     jj_scanpos = xsp;
-    if (jj_3R_945()) return true;
+    if (jj_3R_954()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_1026() {
+  private boolean jj_3R_1032() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_817() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_942()) {
+    if (jj_3R_951()) {
     jj_scanpos = xsp;
-    if (jj_3R_943()) return true;
+    if (jj_3R_952()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_652() {
+  private boolean jj_3R_661() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_806()) {
+    if (jj_3R_817()) {
     jj_scanpos = xsp;
-    if (jj_3R_807()) return true;
+    if (jj_3R_818()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_636() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_645() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_635() {
+  private boolean jj_3R_644() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_1023() {
+  private boolean jj_3R_1029() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
+    if (jj_3R_644()) {
     jj_scanpos = xsp;
-    if (jj_3R_636()) return true;
+    if (jj_3R_645()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_660() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_656() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_540() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_167()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_651()) { jj_scanpos = xsp; break; }
+      if (jj_3R_660()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1024() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1030() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
+  private boolean jj_3R_948() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_938() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_950() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_947() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_1025() {
+  private boolean jj_3R_1031() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
+  private boolean jj_3R_949() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1025()) {
+    if (jj_3R_1031()) {
     jj_scanpos = xsp;
-    if (jj_3R_1026()) return true;
+    if (jj_3R_1032()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_931() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_946() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1030()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_937() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1024()) jj_scanpos = xsp;
+  private boolean jj_3R_940() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_538() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_647()) { jj_scanpos = xsp; break; }
+      if (jj_3R_656()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_1021() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_1027() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_934() {
+  private boolean jj_3R_943() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_933() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_945() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_942() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_1022() {
+  private boolean jj_3R_1028() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_935() {
+  private boolean jj_3R_944() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1022()) {
+    if (jj_3R_1028()) {
     jj_scanpos = xsp;
-    if (jj_3R_1023()) return true;
+    if (jj_3R_1029()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_816() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_937()) {
+    if (jj_3R_946()) {
     jj_scanpos = xsp;
-    if (jj_3R_938()) {
+    if (jj_3R_947()) {
     jj_scanpos = xsp;
-    if (jj_3R_939()) return true;
+    if (jj_3R_948()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_940()) jj_scanpos = xsp;
+    if (jj_3R_949()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_941()) jj_scanpos = xsp;
+    if (jj_3R_950()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_928() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_941() {
+    if (jj_3R_168()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1027()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_932() {
-    if (jj_3R_167()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_1021()) jj_scanpos = xsp;
+  private boolean jj_3R_937() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_815() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_932()) {
+    if (jj_3R_941()) {
     jj_scanpos = xsp;
-    if (jj_3R_933()) {
+    if (jj_3R_942()) {
     jj_scanpos = xsp;
-    if (jj_3R_934()) return true;
+    if (jj_3R_943()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_935()) jj_scanpos = xsp;
+    if (jj_3R_944()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_936()) jj_scanpos = xsp;
+    if (jj_3R_945()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_659() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_804()) {
+    if (jj_3R_815()) {
     jj_scanpos = xsp;
-    if (jj_3R_805()) return true;
+    if (jj_3R_816()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_929() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_938() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_812() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_811() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_813() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_930()) {
+    if (jj_3R_939()) {
     jj_scanpos = xsp;
-    if (jj_3R_931()) return true;
+    if (jj_3R_940()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_930() {
+  private boolean jj_3R_939() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_810() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_929()) jj_scanpos = xsp;
+    if (jj_3R_938()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_926() {
-    if (jj_3R_183()) return true;
+  private boolean jj_3R_935() {
+    if (jj_3R_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_807() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_806() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_809() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_808() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_927()) {
+    if (jj_3R_936()) {
     jj_scanpos = xsp;
-    if (jj_3R_928()) return true;
+    if (jj_3R_937()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_927() {
+  private boolean jj_3R_936() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
+  private boolean jj_3R_658() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_799()) {
+    if (jj_3R_810()) {
     jj_scanpos = xsp;
-    if (jj_3R_800()) {
+    if (jj_3R_811()) {
     jj_scanpos = xsp;
-    if (jj_3R_801()) return true;
+    if (jj_3R_812()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_802()) jj_scanpos = xsp;
+    if (jj_3R_813()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_803()) jj_scanpos = xsp;
+    if (jj_3R_814()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_805() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_926()) jj_scanpos = xsp;
+    if (jj_3R_935()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_657() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) {
+    if (jj_3R_805()) {
     jj_scanpos = xsp;
-    if (jj_3R_795()) {
+    if (jj_3R_806()) {
     jj_scanpos = xsp;
-    if (jj_3R_796()) return true;
+    if (jj_3R_807()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_808()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) jj_scanpos = xsp;
+    if (jj_3R_809()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_539() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_648()) {
+    if (jj_3R_657()) {
     jj_scanpos = xsp;
-    if (jj_3R_649()) return true;
+    if (jj_3R_658()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_650()) { jj_scanpos = xsp; break; }
+      if (jj_3R_659()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_142() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_447() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_446() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_445() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3_141() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_440()) {
+    if (jj_3R_444()) {
     jj_scanpos = xsp;
-    if (jj_3R_441()) {
+    if (jj_3R_445()) {
     jj_scanpos = xsp;
-    if (jj_3R_442()) {
+    if (jj_3R_446()) {
     jj_scanpos = xsp;
-    if (jj_3R_443()) return true;
+    if (jj_3R_447()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_443() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_139() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_438() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_442() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_140()) {
     jj_scanpos = xsp;
-    if (jj_3R_439()) return true;
+    if (jj_3R_443()) return true;
     }
     return false;
   }
 
   private boolean jj_3_138() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_135() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_138()) {
     jj_scanpos = xsp;
-    if (jj_3R_438()) return true;
+    if (jj_3R_442()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_437() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_366()) return true;
+  private boolean jj_3R_223() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
   private boolean jj_3_137() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_222() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
@@ -33268,54 +33526,54 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_221()) {
+    if (jj_3R_222()) {
     jj_scanpos = xsp;
-    if (jj_3R_222()) return true;
+    if (jj_3R_223()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_132() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_431()) return true;
+    if (jj_3R_435()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_136()) {
     jj_scanpos = xsp;
     if (jj_3_137()) {
     jj_scanpos = xsp;
-    if (jj_3R_433()) return true;
+    if (jj_3R_437()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_366()) return true;
+  private boolean jj_3R_221() {
+    if (jj_3R_370()) return true;
     return false;
   }
 
   private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_173()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_220() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
@@ -33323,198 +33581,218 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_219()) {
+    if (jj_3R_220()) {
     jj_scanpos = xsp;
-    if (jj_3R_220()) return true;
+    if (jj_3R_221()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_131() {
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_157()) return true;
-    if (jj_3R_431()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_158()) return true;
+    if (jj_3R_435()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_133()) {
     jj_scanpos = xsp;
     if (jj_3_134()) {
     jj_scanpos = xsp;
-    if (jj_3R_432()) return true;
+    if (jj_3R_436()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_431() {
+  private boolean jj_3R_435() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_439() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
   private boolean jj_3_130() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_180()) return true;
+    if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_212() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_130()) {
     jj_scanpos = xsp;
-    if (jj_3R_435()) return true;
+    if (jj_3R_439()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_207() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_204() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_205() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_707() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_700()) { jj_scanpos = xsp; break; }
+      if (jj_3R_707()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_706() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_158()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_610() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_699()) { jj_scanpos = xsp; break; }
+      if (jj_3R_706()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
+  private boolean jj_3R_449() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_604()) jj_scanpos = xsp;
+    if (jj_3R_610()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_605()) jj_scanpos = xsp;
+    if (jj_3R_611()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_609() {
+    if (jj_3R_158()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_698()) { jj_scanpos = xsp; break; }
+      if (jj_3R_705()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_444() {
-    if (jj_3R_434()) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_438()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_603()) jj_scanpos = xsp;
+    if (jj_3R_609()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
+  private boolean jj_3R_218() {
     if (jj_scan_token(KEY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_444()) {
+    if (jj_3R_448()) {
     jj_scanpos = xsp;
-    if (jj_3R_445()) return true;
+    if (jj_3R_449()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_447() {
-    if (jj_3R_602()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_608()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_450() {
+    if (jj_3R_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3_129() {
+    if (jj_3R_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_219() {
+    if (jj_3R_158()) return true;
+    if (jj_scan_token(INSTANCEOF)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_450()) {
+    jj_scanpos = xsp;
+    if (jj_3R_451()) {
+    jj_scanpos = xsp;
+    if (jj_3R_452()) return true;
+    }
+    }
     return false;
   }
 
@@ -33528,7 +33806,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[442];
+  final private int[] jj_la1 = new int[443];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -33550,33 +33828,33 @@ Token token;
       jj_la1_init_8();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0xfd49f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0x98000,0x98000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x10000000,0x10000000,0x0,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfd49f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfd49f800,0x1000000,0xfd49f800,0x1000000,0xfc67c800,0x0,0x18000,0x0,0x18000,0x10000000,0x18000,0x0,0x18000,0x18000,0x0,0x18000,0x10000000,0x10000000,};
+      jj_la1_0 = new int[] {0x0,0x0,0xfd49f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0x98000,0x98000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x10000000,0x10000000,0x0,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfd49f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfd49f800,0x1000000,0xfd49f800,0x1000000,0xfc67c800,0x0,0x18000,0x0,0x18000,0x10000000,0x18000,0x0,0x18000,0x18000,0x0,0x18000,0x10000000,0x10000000,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0xdc8821a3,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x2,0x2,0x0,0x4080000,0x0,0x8,0x0,0x0,0x0,0x2000000,0xd88021a3,0xdc8821a3,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xdc8821a3,0x0,0xdc8821a3,0x0,0xd8802183,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x300000,0x0,0x300000,0x2,0x2,};
+      jj_la1_1 = new int[] {0x0,0x0,0xdc8821a3,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x2,0x2,0x0,0x4080000,0x0,0x8,0x0,0x0,0x0,0x2000000,0xd88021a3,0xdc8821a3,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xdc8821a3,0x0,0xdc8821a3,0x0,0xd8802183,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x0,0x300000,0x300000,0x0,0x300000,0x2,0x2,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0xfefff9c4,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x4,0x0,0xfefff9c4,0x400,0x0,0x0,0x30,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x1c0,0x0,0x0,0x1c0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0x1c0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0xfefff9c4,0x0,0xfefff9c4,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5400,0xfefff9c4,0x0,0x0,0x5400,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0x0,0x600000,0x1000000,0x1,0xfefff9c4,0x1,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0x0,0x0,0x8000000,0x0,0x0,0x10000000,0x20000000,0x0,0x0,0xfefff9c4,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0xfefff9c4,0x0,0xfefff9c4,0xfefff9c4,0xfefff9c4,0xfefff9c4,0xa000a000,0x1,0x0,0x1,0x0,0xfefff9c4,0x0,0x0,0x1,0xfefff9c4,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0x0,0x0,0xfefff9c4,0xfefff9c4,0x0,0x0,0xfefff9c4,0xfefff9c4,0x0,0x0,0xfefff9c4,0xfefff9c4,0xfefff9c4,0xfefff9c4,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0xfefff9c4,0x0,0x0,0x0,0x0,0x42880000,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0xfefff9c4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x8000,0x1840000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x10000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x200000,0x1e000000,0x1e000000,0x1e000000,0x0,0x40000000,0x0,0x80000000,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x1c48100,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x6000000,0x0,0x6000000,0x0,0x6000000,0x0,0x6000000,0x6000000,0x0,0x6000000,0x0,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x30000,0x6100000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x4000,0x0,0xffffffff,0x0,0x0,0x4000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x4000,0x0,0xffffffff,0x0,0x0,0x4000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x1ff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x800,0x0,0xffffffff,0x0,0x0,0x4000,0x0,0xffffffff,0x0,0x0,0x4000,0xffffffff,0xffffffff,0x0,0x1000,0xffffffff,0xffffffff,0x0,0x1000,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x40000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x800000,0x78000000,0x78000000,0x78000000,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x7130200,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x18000000,0x0,0x18000000,0x0,0x18000000,0x0,0x18000000,0x18000000,0x0,0x18000000,0x0,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0xffffffff,0x1000010,0x0,0xfefbffff,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x2000000,0x0,0x61e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x20000,0xfeffffff,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8c010000,0xfefbffff,0x0,0x0,0x8c010000,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0xfefbffff,0xfefbffff,0x0,0x0,0x10,0x0,0x10,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x10,0x0,0x10,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0xfefbffff,0xfefbffff,0xfefbffff,0x10,0x800,0x10,0x0,0x0,0xfefbffff,0x10,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x20000000,0x0,0x0,0x100,0x208061e,0xc0,0x0,0xc0,0xc0,0x20,0x0,0xfeffffff,0xffffffff,0x1000010,0x10,0x8000,0x0,0x8000,0x8000,0x0,0x8000,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x1000010,0xffffffff,0x1000010,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_4 = new int[] {0x0,0x0,0xffffffff,0x4000040,0x0,0xfbefffff,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x8000000,0x0,0x1878,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0xc000,0x0,0x0,0x0,0x0,0x0,0x80000,0xfbffffff,0x0,0x0,0xc000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30040000,0xfbefffff,0x0,0x0,0x30040000,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0xfbefffff,0xfbefffff,0x0,0x0,0x40,0x0,0x40,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0x40,0x0,0x40,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0xfbefffff,0xfbefffff,0xfbefffff,0xfbefffff,0xfbefffff,0x40,0x2000,0x40,0x0,0x0,0xfbefffff,0x40,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x2,0x4,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x80000000,0x0,0x0,0x400,0x8201878,0x300,0x0,0x300,0x300,0x80,0x0,0xfbffffff,0xffffffff,0x4000040,0x40,0x20000,0x0,0x20000,0x20000,0x0,0x20000,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x4000040,0xffffffff,0x4000040,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x60,0x0,0x7308805f,0x0,0x2000040,0x7,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x40000000,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0xc008000,0x7,0x0,0x7308805f,0x0,0x7308805f,0x8,0x0,0x0,0x0,0x30000000,0x0,0x0,0x30000000,0x0,0x0,0x7308805f,0x3000040,0x308805f,0x0,0x40000000,0x0,0x0,0x0,0x0,0x8000,0x0,0x40000000,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x30000000,0x0,0x0,0x0,0x0,0x3000047,0x0,0x7308805f,0x0,0x7308805f,0x0,0x7308805f,0x0,0x0,0x4308805f,0x0,0x4308805f,0x3000040,0x0,0x8017,0x0,0x0,0x0,0x0,0x8017,0x0,0x0,0x0,0x40008017,0x0,0x0,0x8017,0x0,0x0,0x0,0x0,0x8017,0x0,0x0,0x0,0x40008017,0x0,0x0,0x8000,0x8000,0x8000,0x0,0x8000,0x0,0x0,0x0,0x7308805f,0x7,0x8000,0x0,0x0,0x0,0x0,0x7,0x3000057,0x0,0x3000057,0x3000057,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x30000000,0x0,0x7,0x0,0x7,0x0,0x7,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x0,0x8000,0x8000,0x40008000,0x7,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x7,0x0,0x7,0x30000000,0x8007,0x8007,0x30000000,0x2000047,0x7,0x7,0x8007,0x4,0x0,0x0,0x0,0x0,0x7,0x0,0x40000000,0x0,0x7,0x0,0x0,0x0,0x17,0x0,0x0,0x0,0x0,0x17,0x0,0x0,0x0,0x7,0x7,0x0,0x0,0x7,0x7,0x0,0x0,0x7,0x7,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x7,0x0,0x17,0x17,0x0,0x0,0x2,0x2,0x0,0x0,0x30000000,0x0,0x0,0x2000047,0x0,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x7308805f,0x0,0x0,0x0,0x30000000,0x0,0x0,0x30000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x7308805f,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_5 = new int[] {0x180,0x0,0xcc22017f,0x0,0x8000100,0x1f,0x0,0x0,0x0,0xcc22017f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0x0,0x0,0x0,0x0,0x30020000,0x1f,0x0,0xcc22017f,0x0,0xcc22017f,0x20,0x0,0x0,0x0,0xc0000000,0x0,0x0,0xc0000000,0x0,0x0,0xcc22017f,0xc000100,0xc22017f,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x1f,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0xc0000000,0x0,0x0,0x0,0x0,0xc00011f,0x0,0xcc22017f,0x0,0xcc22017f,0x0,0xcc22017f,0x0,0x0,0xc22017f,0x0,0xc22017f,0xc000100,0x0,0x2005f,0x0,0x0,0x0,0x0,0x2005f,0x0,0x0,0x0,0x2005f,0x0,0x0,0x2005f,0x0,0x0,0x0,0x0,0x2005f,0x0,0x0,0x0,0x2005f,0x0,0x0,0x20000,0x20000,0x20000,0x0,0x20000,0x0,0x0,0x0,0xcc22017f,0x20000,0x0,0x0,0x0,0x0,0x1f,0xc00015f,0x0,0xc00015f,0xc00015f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2001f,0x0,0xc0000000,0x2,0x1f,0x0,0x1f,0x0,0x1f,0x0,0x1f,0x0,0x0,0x1f,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x2001f,0x0,0x0,0x20000,0x20000,0x20000,0x1f,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x1f,0x0,0x1f,0xc0000000,0x2001f,0x2001f,0xc0000000,0x800011f,0x1f,0x1f,0x2001f,0x10,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x5f,0x0,0x0,0x0,0x0,0x5f,0x0,0x0,0x0,0x1f,0x1f,0x0,0x0,0x1f,0x1f,0x0,0x0,0x1f,0x1f,0x1f,0x1f,0x1f,0x0,0x0,0x0,0x0,0x0,0x2001f,0x0,0x1f,0x0,0x5f,0x5f,0x0,0x0,0x8,0x8,0x0,0x0,0xc0000000,0x0,0x0,0x800011f,0x0,0x1f,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0xcc22017f,0x0,0x0,0x0,0xc0000000,0x0,0x0,0xc0000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcc22017f,0x0,0xcc22017f,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x1,0x18030015,0x10,0x0,0x0,0x8000000,0x8000000,0x10,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x10000004,0x0,0x0,0x0,0x0,0x0,0x20,0x1,0x20000,0x20000,0x0,0x20,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x8000001,0x8000005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x0,0x0,0x20,0x20,0x0,0x44,0x400,0x44,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x20,0x20,0x20,0x30001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x20,0x20,0x0,0x20000,0x0,0x20,0x4000,0x10000000,0x18034005,0x20000,0x0,0x20,0x0,0x30000,0x0,0x20,0x18030005,0x20,0x18030005,0x0,0x10000000,0x4,0x40,0x0,0x1,0x400000,0x0,0x1,0xfc000000,0x18030005,0x0,0x18030004,0x20,0x0,0x20,0x30000,0x20020,0x20020,0x8000001,0x4,0x30000,0x0,0x0,0x20,0x0,0x0,0x8000040,0x8000040,0x0,0x0,0x0,0x0,0x18030005,0x0,0xbc3c00,0xc00,0x0,0xbc3c00,0x0,0x20,0x18030005,0x20,0x18030005,0x20,0x18030005,0xbc3c00,0x0,0x18030004,0x0,0x18030004,0x30000,0x44,0x8000001,0x0,0x0,0x0,0x44,0x8000001,0x0,0x0,0x0,0x8000001,0x20,0x44,0x8000001,0x0,0x0,0x0,0x44,0x8000001,0x0,0x0,0x0,0x8000001,0x20,0x20,0x8030000,0x8030000,0x8030000,0x0,0x8030000,0x0,0x0,0x20,0x18030005,0x10000004,0x18000000,0x4,0x10000000,0x40,0x10000000,0x10000004,0x0,0x20,0x0,0x0,0xa001040,0x1000,0x40,0x1,0x1,0x1,0x1,0xa001000,0x1,0x20,0x0,0x8000000,0x0,0x0,0x0,0x0,0xa000000,0x0,0xa000000,0x0,0xa000000,0x0,0xa000000,0x1,0x0,0xa000000,0x1,0x0,0xa000000,0x1,0x0,0x0,0x0,0x8000000,0x0,0x20,0x8000001,0x8000005,0x8000001,0x0,0x20,0x0,0x4,0x0,0x20,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0xc000000,0xc000000,0x0,0x20,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x10000000,0x8000000,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x18030005,0x18030015,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030015,0x10,0x18030015,0x10,0x10000000,0x40,0x0,0x20,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,};
+      jj_la1_6 = new int[] {0x0,0x4,0x600c0055,0x40,0x0,0x0,0x20000000,0x20000000,0x40,0x600c0015,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0015,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x40000010,0x0,0x0,0x0,0x0,0x0,0x80,0x4,0x80000,0x80000,0x0,0x80,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x20000004,0x20000014,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0015,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0015,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x0,0x0,0x80,0x80,0x0,0x110,0x1000,0x110,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x80,0x80,0x80,0x80,0x80,0xc0004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0xc0000,0x0,0x80,0x80,0x0,0x80000,0x0,0x80,0x10000,0x40000000,0x600d0015,0x80000,0x0,0x80,0x0,0xc0000,0x0,0x80,0x600c0015,0x80,0x600c0015,0x0,0x40000000,0x10,0x100,0x0,0x4,0x1000000,0x0,0x4,0xf0000000,0x600c0015,0x0,0x600c0010,0x80,0x1,0x80,0xc0000,0x80080,0x80080,0x20000004,0x10,0xc0001,0x0,0x0,0x80,0x0,0x0,0x20000100,0x20000100,0x0,0x0,0x0,0x0,0x600c0015,0x0,0x2f0f000,0x3000,0x0,0x2f0f000,0x0,0x80,0x600c0015,0x80,0x600c0015,0x80,0x600c0015,0x2f0f000,0x0,0x600c0011,0x0,0x600c0011,0xc0000,0x110,0x20000004,0x0,0x0,0x0,0x110,0x20000004,0x0,0x0,0x0,0x20000005,0x80,0x110,0x20000004,0x0,0x0,0x0,0x110,0x20000004,0x0,0x0,0x0,0x20000005,0x80,0x80,0x200c0000,0x200c0000,0x200c0000,0x0,0x200c0000,0x0,0x0,0x80,0x600c0015,0x60000000,0x10,0x40000000,0x100,0x40000000,0x40000010,0x0,0x80,0x0,0x0,0x28004100,0x4000,0x100,0x4,0x4,0x4,0x4,0x28004000,0x4,0x80,0x0,0x20000000,0x0,0x0,0x0,0x0,0x28000000,0x0,0x28000000,0x0,0x28000000,0x0,0x28000000,0x4,0x0,0x28000000,0x4,0x0,0x28000000,0x4,0x0,0x0,0x0,0x20000000,0x0,0x80,0x20000004,0x20000014,0x20000005,0x0,0x80,0x0,0x10,0x0,0x80,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x30000000,0x30000000,0x0,0x80,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x40000000,0x40000000,0x40000000,0x0,0x0,0x0,0x0,0x40000000,0x20000000,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x600c0015,0x600c0055,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c0055,0x40,0x600c0055,0x40,0x40000000,0x100,0x0,0x80,0x0,0x0,0x0,0x80,0x0,0x0,0x80,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x78,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x30000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc007,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400c0000,0x0,0x4100000,0x0,0x40000,0x41c0000,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x4500000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x40000000,0x0,0x0,0x0,0x40080000,0x40000000,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x40080000,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x4f980000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0xc0000,0x0,0x200000,0x0,0x200000,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3001f,0x200000,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x300000,0x0,0x10400000,0x0,0x100000,0x10700000,0x200000,0x0,0x200000,0x0,0x200000,0x0,0x200000,0x11400000,0x0,0x200000,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x0,0x200000,0x0,0x200000,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x200000,0x0,0x200000,0x200000,0x0,0x200000,0x200000,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x200000,0x200000,0x0,0x0,0x200000,0x200000,0x0,0x0,0x200000,0x200000,0x200000,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x200000,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x200000,0x0,0x3e600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x1006,0x0,0x0,0x6,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x186,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x180,0x0,0x0,0x1,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x1006,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x181,0x200,0x6,0x180,0x0,0x6,0x2000,0x0,0x0,0x70,0x78,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x1006,0x0,0x1006,0x0,0x1006,0x0,0x0,0x6,0x0,0x6,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x1006,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x181,0x6,0x180,0x0,0x181,0x6,0x0,0x6,0x0,0x6,0x0,0x6,0x0,0x0,0x6,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x1000,0x1000,0x1000,0x186,0x0,0x186,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x6,0x0,0x6,0x0,0x6,0x6,0x0,0x4006,0x6,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x6,0x0,0x0,0x6,0x6,0x0,0x0,0x6,0x6,0x2006,0x2006,0x0,0x1,0x0,0x0,0x0,0x6,0x0,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3f8000,0x3f8000,0xc00000,0xc00000,0x3000000,0x3000000,0x1006,0x0,0x1006,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x4019,0x0,0x0,0x19,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x619,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x4,0x0,0x600,0x0,0x0,0x4,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x4019,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x0,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x604,0x800,0x19,0x600,0x0,0x19,0x8000,0x0,0x0,0x1c0,0x1e0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x4019,0x0,0x4019,0x0,0x4019,0x0,0x0,0x19,0x0,0x19,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x4019,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x0,0x0,0x0,0x0,0x0,0x19,0x19,0x0,0x19,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x604,0x19,0x600,0x0,0x604,0x19,0x0,0x19,0x0,0x19,0x0,0x19,0x0,0x0,0x19,0x0,0x0,0x19,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x0,0x4000,0x4000,0x4000,0x619,0x0,0x619,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x19,0x0,0x0,0x19,0x0,0x19,0x0,0x19,0x19,0x0,0x10019,0x19,0x19,0x19,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x0,0x0,0x19,0x0,0x0,0x0,0x19,0x1,0x0,0x0,0x0,0x19,0x1,0x0,0x0,0x19,0x19,0x0,0x0,0x19,0x19,0x0,0x0,0x19,0x19,0x8019,0x8019,0x8019,0x0,0x4,0x0,0x0,0x0,0x19,0x0,0x19,0x0,0x19,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19,0x0,0x19,0x19,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019,0x4019,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfe0000,0xfe0000,0x3000000,0x3000000,0xc000000,0xc000000,0x4019,0x0,0x4019,0x0,0x1d,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[165];
+  final private JJCalls[] jj_2_rtns = new JJCalls[166];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -33586,7 +33864,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33597,7 +33875,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33607,7 +33885,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33618,7 +33896,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 442; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 443; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -33730,12 +34008,12 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[282];
+    boolean[] la1tokens = new boolean[284];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 442; i++) {
+    for (int i = 0; i < 443; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -33768,7 +34046,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 282; i++) {
+    for (int i = 0; i < 284; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -33795,7 +34073,7 @@ Token token;
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 165; i++) {
+    for (int i = 0; i < 166; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -33967,6 +34245,7 @@ Token token;
             case 162: jj_3_163(); break;
             case 163: jj_3_164(); break;
             case 164: jj_3_165(); break;
+            case 165: jj_3_166(); break;
           }
         }
         p = p.next;
@@ -125,409 +125,413 @@ public interface OrientSqlConstants {
   /** RegularExpression Id. */
   int PARALLEL = 65;
   /** RegularExpression Id. */
-  int STRATEGY = 66;
+  int MEMORY = 66;
   /** RegularExpression Id. */
-  int DEPTH_FIRST = 67;
+  int STRATEGY = 67;
   /** RegularExpression Id. */
-  int BREADTH_FIRST = 68;
+  int DEPTH_FIRST = 68;
   /** RegularExpression Id. */
-  int LUCENE = 69;
+  int BREADTH_FIRST = 69;
   /** RegularExpression Id. */
-  int NEAR = 70;
+  int LUCENE = 70;
   /** RegularExpression Id. */
-  int WITHIN = 71;
+  int NEAR = 71;
   /** RegularExpression Id. */
-  int UNWIND = 72;
+  int WITHIN = 72;
   /** RegularExpression Id. */
-  int MAXDEPTH = 73;
+  int UNWIND = 73;
   /** RegularExpression Id. */
-  int MINDEPTH = 74;
+  int MAXDEPTH = 74;
   /** RegularExpression Id. */
-  int CLASS = 75;
+  int MINDEPTH = 75;
   /** RegularExpression Id. */
-  int SUPERCLASS = 76;
+  int CLASS = 76;
   /** RegularExpression Id. */
-  int CLASSES = 77;
+  int SUPERCLASS = 77;
   /** RegularExpression Id. */
-  int SUPERCLASSES = 78;
+  int CLASSES = 78;
   /** RegularExpression Id. */
-  int VIEW = 79;
+  int SUPERCLASSES = 79;
   /** RegularExpression Id. */
-  int UPDATABLE = 80;
+  int VIEW = 80;
   /** RegularExpression Id. */
-  int EXCEPTION = 81;
+  int UPDATABLE = 81;
   /** RegularExpression Id. */
-  int PROFILE = 82;
+  int EXCEPTION = 82;
   /** RegularExpression Id. */
-  int STORAGE = 83;
+  int PROFILE = 83;
   /** RegularExpression Id. */
-  int ON = 84;
+  int STORAGE = 84;
   /** RegularExpression Id. */
-  int OFF = 85;
+  int ON = 85;
   /** RegularExpression Id. */
-  int TRUNCATE = 86;
+  int OFF = 86;
   /** RegularExpression Id. */
-  int POLYMORPHIC = 87;
+  int TRUNCATE = 87;
   /** RegularExpression Id. */
-  int FIND = 88;
+  int POLYMORPHIC = 88;
   /** RegularExpression Id. */
-  int REFERENCES = 89;
+  int FIND = 89;
   /** RegularExpression Id. */
-  int EXTENDS = 90;
+  int REFERENCES = 90;
   /** RegularExpression Id. */
-  int CLUSTERS = 91;
+  int EXTENDS = 91;
   /** RegularExpression Id. */
-  int ABSTRACT = 92;
+  int CLUSTERS = 92;
   /** RegularExpression Id. */
-  int ALTER = 93;
+  int ABSTRACT = 93;
   /** RegularExpression Id. */
-  int NAME = 94;
+  int ALTER = 94;
   /** RegularExpression Id. */
-  int SHORTNAME = 95;
+  int NAME = 95;
   /** RegularExpression Id. */
-  int OVERSIZE = 96;
+  int SHORTNAME = 96;
   /** RegularExpression Id. */
-  int STRICTMODE = 97;
+  int OVERSIZE = 97;
   /** RegularExpression Id. */
-  int ADDCLUSTER = 98;
+  int STRICTMODE = 98;
   /** RegularExpression Id. */
-  int REMOVECLUSTER = 99;
+  int ADDCLUSTER = 99;
   /** RegularExpression Id. */
-  int CUSTOM = 100;
+  int REMOVECLUSTER = 100;
   /** RegularExpression Id. */
-  int CLUSTERSELECTION = 101;
+  int CUSTOM = 101;
   /** RegularExpression Id. */
-  int DESCRIPTION = 102;
+  int CLUSTERSELECTION = 102;
   /** RegularExpression Id. */
-  int ENCRYPTION = 103;
+  int DESCRIPTION = 103;
   /** RegularExpression Id. */
-  int DROP = 104;
+  int ENCRYPTION = 104;
   /** RegularExpression Id. */
-  int PROPERTY = 105;
+  int DROP = 105;
   /** RegularExpression Id. */
-  int FORCE = 106;
+  int PROPERTY = 106;
   /** RegularExpression Id. */
-  int METADATA = 107;
+  int FORCE = 107;
   /** RegularExpression Id. */
-  int INDEX = 108;
+  int METADATA = 108;
   /** RegularExpression Id. */
-  int COLLATE = 109;
+  int INDEX = 109;
   /** RegularExpression Id. */
-  int ENGINE = 110;
+  int COLLATE = 110;
   /** RegularExpression Id. */
-  int REBUILD = 111;
+  int ENGINE = 111;
   /** RegularExpression Id. */
-  int ID = 112;
+  int REBUILD = 112;
   /** RegularExpression Id. */
-  int DATABASE = 113;
+  int ANALYZE = 113;
   /** RegularExpression Id. */
-  int OPTIMIZE = 114;
+  int ID = 114;
   /** RegularExpression Id. */
-  int LINK = 115;
+  int DATABASE = 115;
   /** RegularExpression Id. */
-  int TYPE = 116;
+  int OPTIMIZE = 116;
   /** RegularExpression Id. */
-  int INVERSE = 117;
+  int LINK = 117;
   /** RegularExpression Id. */
-  int EXPLAIN = 118;
+  int TYPE = 118;
   /** RegularExpression Id. */
-  int GRANT = 119;
+  int INVERSE = 119;
   /** RegularExpression Id. */
-  int REVOKE = 120;
+  int EXPLAIN = 120;
   /** RegularExpression Id. */
-  int READ = 121;
+  int GRANT = 121;
   /** RegularExpression Id. */
-  int EXECUTE = 122;
+  int REVOKE = 122;
   /** RegularExpression Id. */
-  int ALL = 123;
+  int READ = 123;
   /** RegularExpression Id. */
-  int NONE = 124;
+  int EXECUTE = 124;
   /** RegularExpression Id. */
-  int FUNCTION = 125;
+  int ALL = 125;
   /** RegularExpression Id. */
-  int PARAMETERS = 126;
+  int NONE = 126;
   /** RegularExpression Id. */
-  int IDEMPOTENT = 127;
+  int FUNCTION = 127;
   /** RegularExpression Id. */
-  int LANGUAGE = 128;
+  int PARAMETERS = 128;
   /** RegularExpression Id. */
-  int BEGIN = 129;
+  int IDEMPOTENT = 129;
   /** RegularExpression Id. */
-  int COMMIT = 130;
+  int LANGUAGE = 130;
   /** RegularExpression Id. */
-  int ROLLBACK = 131;
+  int BEGIN = 131;
   /** RegularExpression Id. */
-  int IF = 132;
+  int COMMIT = 132;
   /** RegularExpression Id. */
-  int ELSE = 133;
+  int ROLLBACK = 133;
   /** RegularExpression Id. */
-  int CONTINUE = 134;
+  int IF = 134;
   /** RegularExpression Id. */
-  int FAIL = 135;
+  int ELSE = 135;
   /** RegularExpression Id. */
-  int ISOLATION = 136;
+  int CONTINUE = 136;
   /** RegularExpression Id. */
-  int SLEEP = 137;
+  int FAIL = 137;
   /** RegularExpression Id. */
-  int CONSOLE = 138;
+  int ISOLATION = 138;
   /** RegularExpression Id. */
-  int BLOB = 139;
+  int SLEEP = 139;
   /** RegularExpression Id. */
-  int SHARED = 140;
+  int CONSOLE = 140;
   /** RegularExpression Id. */
-  int DEFAULT_ = 141;
+  int BLOB = 141;
   /** RegularExpression Id. */
-  int SEQUENCE = 142;
+  int SHARED = 142;
   /** RegularExpression Id. */
-  int START = 143;
+  int DEFAULT_ = 143;
   /** RegularExpression Id. */
-  int OPTIONAL = 144;
+  int SEQUENCE = 144;
   /** RegularExpression Id. */
-  int COUNT = 145;
+  int START = 145;
   /** RegularExpression Id. */
-  int DISTINCT = 146;
+  int OPTIONAL = 146;
   /** RegularExpression Id. */
-  int HA = 147;
+  int COUNT = 147;
   /** RegularExpression Id. */
-  int STATUS = 148;
+  int DISTINCT = 148;
   /** RegularExpression Id. */
-  int SERVER = 149;
+  int HA = 149;
   /** RegularExpression Id. */
-  int SYNC = 150;
+  int STATUS = 150;
   /** RegularExpression Id. */
-  int EXISTS = 151;
+  int SERVER = 151;
   /** RegularExpression Id. */
-  int FOREACH = 152;
+  int SYNC = 152;
   /** RegularExpression Id. */
-  int MOVE = 153;
+  int EXISTS = 153;
   /** RegularExpression Id. */
-  int DEPTH_ALIAS = 154;
+  int FOREACH = 154;
   /** RegularExpression Id. */
-  int PATH_ALIAS = 155;
+  int MOVE = 155;
   /** RegularExpression Id. */
-  int IDENTIFIED = 156;
+  int DEPTH_ALIAS = 156;
   /** RegularExpression Id. */
-  int ROLE = 157;
+  int PATH_ALIAS = 157;
   /** RegularExpression Id. */
-  int USER = 158;
+  int IDENTIFIED = 158;
   /** RegularExpression Id. */
-  int RID = 159;
+  int ROLE = 159;
   /** RegularExpression Id. */
-  int SECURITY = 160;
+  int USER = 160;
   /** RegularExpression Id. */
-  int POLICY = 161;
+  int RID = 161;
   /** RegularExpression Id. */
-  int DEFAULTCLUSTER = 162;
+  int SECURITY = 162;
   /** RegularExpression Id. */
-  int THIS = 163;
+  int POLICY = 163;
   /** RegularExpression Id. */
-  int RECORD_ATTRIBUTE = 164;
+  int DEFAULTCLUSTER = 164;
   /** RegularExpression Id. */
-  int RID_ATTR = 165;
+  int THIS = 165;
   /** RegularExpression Id. */
-  int RID_STRING = 166;
+  int RECORD_ATTRIBUTE = 166;
   /** RegularExpression Id. */
-  int CLASS_ATTR = 167;
+  int RID_ATTR = 167;
   /** RegularExpression Id. */
-  int VERSION_ATTR = 168;
+  int RID_STRING = 168;
   /** RegularExpression Id. */
-  int SIZE_ATTR = 169;
+  int CLASS_ATTR = 169;
   /** RegularExpression Id. */
-  int TYPE_ATTR = 170;
+  int VERSION_ATTR = 170;
   /** RegularExpression Id. */
-  int RAW_ATTR = 171;
+  int SIZE_ATTR = 171;
   /** RegularExpression Id. */
-  int RID_ID_ATTR = 172;
+  int TYPE_ATTR = 172;
   /** RegularExpression Id. */
-  int RID_POS_ATTR = 173;
+  int RAW_ATTR = 173;
   /** RegularExpression Id. */
-  int FIELDS_ATTR = 174;
+  int RID_ID_ATTR = 174;
   /** RegularExpression Id. */
-  int INTEGER_LITERAL = 175;
+  int RID_POS_ATTR = 175;
   /** RegularExpression Id. */
-  int DECIMAL_LITERAL = 176;
+  int FIELDS_ATTR = 176;
   /** RegularExpression Id. */
-  int HEX_LITERAL = 177;
+  int INTEGER_LITERAL = 177;
   /** RegularExpression Id. */
-  int OCTAL_LITERAL = 178;
+  int DECIMAL_LITERAL = 178;
   /** RegularExpression Id. */
-  int FLOATING_POINT_LITERAL = 179;
+  int HEX_LITERAL = 179;
   /** RegularExpression Id. */
-  int DECIMAL_FLOATING_POINT_LITERAL = 180;
+  int OCTAL_LITERAL = 180;
   /** RegularExpression Id. */
-  int DECIMAL_EXPONENT = 181;
+  int FLOATING_POINT_LITERAL = 181;
   /** RegularExpression Id. */
-  int HEXADECIMAL_FLOATING_POINT_LITERAL = 182;
+  int DECIMAL_FLOATING_POINT_LITERAL = 182;
   /** RegularExpression Id. */
-  int HEXADECIMAL_EXPONENT = 183;
+  int DECIMAL_EXPONENT = 183;
   /** RegularExpression Id. */
-  int CHARACTER_LITERAL = 184;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 184;
   /** RegularExpression Id. */
-  int STRING_LITERAL = 185;
+  int HEXADECIMAL_EXPONENT = 185;
   /** RegularExpression Id. */
-  int INTEGER_RANGE = 186;
+  int CHARACTER_LITERAL = 186;
   /** RegularExpression Id. */
-  int ELLIPSIS_INTEGER_RANGE = 187;
+  int STRING_LITERAL = 187;
   /** RegularExpression Id. */
-  int TRUE = 188;
+  int INTEGER_RANGE = 188;
   /** RegularExpression Id. */
-  int FALSE = 189;
+  int ELLIPSIS_INTEGER_RANGE = 189;
   /** RegularExpression Id. */
-  int LPAREN = 190;
+  int TRUE = 190;
   /** RegularExpression Id. */
-  int RPAREN = 191;
+  int FALSE = 191;
   /** RegularExpression Id. */
-  int LBRACE = 192;
+  int LPAREN = 192;
   /** RegularExpression Id. */
-  int RBRACE = 193;
+  int RPAREN = 193;
   /** RegularExpression Id. */
-  int LBRACKET = 194;
+  int LBRACE = 194;
   /** RegularExpression Id. */
-  int RBRACKET = 195;
+  int RBRACE = 195;
   /** RegularExpression Id. */
-  int SEMICOLON = 196;
+  int LBRACKET = 196;
   /** RegularExpression Id. */
-  int COMMA = 197;
+  int RBRACKET = 197;
   /** RegularExpression Id. */
-  int DOT = 198;
+  int SEMICOLON = 198;
   /** RegularExpression Id. */
-  int AT = 199;
+  int COMMA = 199;
   /** RegularExpression Id. */
-  int DOLLAR = 200;
+  int DOT = 200;
   /** RegularExpression Id. */
-  int BACKTICK = 201;
+  int AT = 201;
   /** RegularExpression Id. */
-  int EQ = 202;
+  int DOLLAR = 202;
   /** RegularExpression Id. */
-  int EQEQ = 203;
+  int BACKTICK = 203;
   /** RegularExpression Id. */
-  int LT = 204;
+  int EQ = 204;
   /** RegularExpression Id. */
-  int GT = 205;
+  int EQEQ = 205;
   /** RegularExpression Id. */
-  int BANG = 206;
+  int LT = 206;
   /** RegularExpression Id. */
-  int TILDE = 207;
+  int GT = 207;
   /** RegularExpression Id. */
-  int HOOK = 208;
+  int BANG = 208;
   /** RegularExpression Id. */
-  int COLON = 209;
+  int TILDE = 209;
   /** RegularExpression Id. */
-  int LE = 210;
+  int HOOK = 210;
   /** RegularExpression Id. */
-  int GE = 211;
+  int COLON = 211;
   /** RegularExpression Id. */
-  int NE = 212;
+  int LE = 212;
   /** RegularExpression Id. */
-  int NEQ = 213;
+  int GE = 213;
   /** RegularExpression Id. */
-  int SC_OR = 214;
+  int NE = 214;
   /** RegularExpression Id. */
-  int SC_AND = 215;
+  int NEQ = 215;
   /** RegularExpression Id. */
-  int INCR = 216;
+  int SC_OR = 216;
   /** RegularExpression Id. */
-  int DECR = 217;
+  int SC_AND = 217;
   /** RegularExpression Id. */
-  int PLUS = 218;
+  int INCR = 218;
   /** RegularExpression Id. */
-  int MINUS = 219;
+  int DECR = 219;
   /** RegularExpression Id. */
-  int STAR = 220;
+  int PLUS = 220;
   /** RegularExpression Id. */
-  int SLASH = 221;
+  int MINUS = 221;
   /** RegularExpression Id. */
-  int BIT_AND = 222;
+  int STAR = 222;
   /** RegularExpression Id. */
-  int BIT_OR = 223;
+  int SLASH = 223;
   /** RegularExpression Id. */
-  int XOR = 224;
+  int BIT_AND = 224;
   /** RegularExpression Id. */
-  int REM = 225;
+  int BIT_OR = 225;
   /** RegularExpression Id. */
-  int LSHIFT = 226;
+  int XOR = 226;
   /** RegularExpression Id. */
-  int PLUSASSIGN = 227;
+  int REM = 227;
   /** RegularExpression Id. */
-  int MINUSASSIGN = 228;
+  int LSHIFT = 228;
   /** RegularExpression Id. */
-  int STARASSIGN = 229;
+  int PLUSASSIGN = 229;
   /** RegularExpression Id. */
-  int SLASHASSIGN = 230;
+  int MINUSASSIGN = 230;
   /** RegularExpression Id. */
-  int ANDASSIGN = 231;
+  int STARASSIGN = 231;
   /** RegularExpression Id. */
-  int ORASSIGN = 232;
+  int SLASHASSIGN = 232;
   /** RegularExpression Id. */
-  int XORASSIGN = 233;
+  int ANDASSIGN = 233;
   /** RegularExpression Id. */
-  int REMASSIGN = 234;
+  int ORASSIGN = 234;
   /** RegularExpression Id. */
-  int LSHIFTASSIGN = 235;
+  int XORASSIGN = 235;
   /** RegularExpression Id. */
-  int RSIGNEDSHIFTASSIGN = 236;
+  int REMASSIGN = 236;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFTASSIGN = 237;
+  int LSHIFTASSIGN = 237;
   /** RegularExpression Id. */
-  int RSHIFT = 238;
+  int RSIGNEDSHIFTASSIGN = 238;
   /** RegularExpression Id. */
-  int RUNSIGNEDSHIFT = 239;
+  int RUNSIGNEDSHIFTASSIGN = 239;
   /** RegularExpression Id. */
-  int ELLIPSIS = 240;
+  int RSHIFT = 240;
   /** RegularExpression Id. */
-  int RANGE = 241;
+  int RUNSIGNEDSHIFT = 241;
   /** RegularExpression Id. */
-  int NOT = 242;
+  int ELLIPSIS = 242;
   /** RegularExpression Id. */
-  int IN = 243;
+  int RANGE = 243;
   /** RegularExpression Id. */
-  int LIKE = 244;
+  int NOT = 244;
   /** RegularExpression Id. */
-  int IS = 245;
+  int IN = 245;
   /** RegularExpression Id. */
-  int BETWEEN = 246;
+  int LIKE = 246;
   /** RegularExpression Id. */
-  int CONTAINS = 247;
+  int IS = 247;
   /** RegularExpression Id. */
-  int CONTAINSALL = 248;
+  int BETWEEN = 248;
   /** RegularExpression Id. */
-  int CONTAINSANY = 249;
+  int CONTAINS = 249;
   /** RegularExpression Id. */
-  int CONTAINSKEY = 250;
+  int CONTAINSALL = 250;
   /** RegularExpression Id. */
-  int CONTAINSVALUE = 251;
+  int CONTAINSANY = 251;
   /** RegularExpression Id. */
-  int CONTAINSTEXT = 252;
+  int CONTAINSKEY = 252;
   /** RegularExpression Id. */
-  int MATCHES = 253;
+  int CONTAINSVALUE = 253;
   /** RegularExpression Id. */
-  int KEY = 254;
+  int CONTAINSTEXT = 254;
   /** RegularExpression Id. */
-  int INSTANCEOF = 255;
+  int MATCHES = 255;
   /** RegularExpression Id. */
-  int CLUSTER = 256;
+  int KEY = 256;
   /** RegularExpression Id. */
-  int IDENTIFIER = 257;
+  int INSTANCEOF = 257;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 258;
+  int CLUSTER = 258;
   /** RegularExpression Id. */
-  int INDEX_COLON = 259;
+  int IDENTIFIER = 259;
   /** RegularExpression Id. */
-  int INDEXVALUES_IDENTIFIER = 260;
+  int QUOTED_IDENTIFIER = 260;
   /** RegularExpression Id. */
-  int INDEXVALUESASC_IDENTIFIER = 261;
+  int INDEX_COLON = 261;
   /** RegularExpression Id. */
-  int INDEXVALUESDESC_IDENTIFIER = 262;
+  int INDEXVALUES_IDENTIFIER = 262;
   /** RegularExpression Id. */
-  int CLUSTER_IDENTIFIER = 263;
+  int INDEXVALUESASC_IDENTIFIER = 263;
   /** RegularExpression Id. */
-  int CLUSTER_NUMBER_IDENTIFIER = 264;
+  int INDEXVALUESDESC_IDENTIFIER = 264;
   /** RegularExpression Id. */
-  int METADATA_IDENTIFIER = 265;
+  int CLUSTER_IDENTIFIER = 265;
   /** RegularExpression Id. */
-  int LETTER = 266;
+  int CLUSTER_NUMBER_IDENTIFIER = 266;
   /** RegularExpression Id. */
-  int PART_LETTER = 267;
+  int METADATA_IDENTIFIER = 267;
+  /** RegularExpression Id. */
+  int LETTER = 268;
+  /** RegularExpression Id. */
+  int PART_LETTER = 269;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -604,6 +608,7 @@ public interface OrientSqlConstants {
     "<NOCYCLE>",
     "<UNSAFE>",
     "<PARALLEL>",
+    "<MEMORY>",
     "<STRATEGY>",
     "<DEPTH_FIRST>",
     "<BREADTH_FIRST>",
@@ -650,6 +655,7 @@ public interface OrientSqlConstants {
     "<COLLATE>",
     "<ENGINE>",
     "<REBUILD>",
+    "<ANALYZE>",
     "<ID>",
     "<DATABASE>",
     "<OPTIMIZE>",
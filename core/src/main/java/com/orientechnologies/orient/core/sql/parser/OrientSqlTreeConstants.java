@@ -163,44 +163,45 @@ public interface OrientSqlTreeConstants
   public int JJTDROPPROPERTYSTATEMENT = 157;
   public int JJTCREATEINDEXSTATEMENT = 158;
   public int JJTREBUILDINDEXSTATEMENT = 159;
-  public int JJTDROPINDEXSTATEMENT = 160;
-  public int JJTCREATECLUSTERSTATEMENT = 161;
-  public int JJTALTERCLUSTERSTATEMENT = 162;
-  public int JJTDROPCLUSTERSTATEMENT = 163;
-  public int JJTALTERDATABASESTATEMENT = 164;
-  public int JJTCOMMANDLINEOPTION = 165;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 166;
-  public int JJTCREATELINKSTATEMENT = 167;
-  public int JJTEXPLAINSTATEMENT = 168;
-  public int JJTPROFILESTATEMENT = 169;
-  public int JJTPERMISSION = 170;
-  public int JJTGRANTSTATEMENT = 171;
-  public int JJTREVOKESTATEMENT = 172;
-  public int JJTCREATEFUNCTIONSTATEMENT = 173;
-  public int JJTCREATEUSERSTATEMENT = 174;
-  public int JJTDROPUSERSTATEMENT = 175;
-  public int JJTALTERROLESTATEMENT = 176;
-  public int JJTLETSTATEMENT = 177;
-  public int JJTBEGINSTATEMENT = 178;
-  public int JJTCOMMITSTATEMENT = 179;
-  public int JJTROLLBACKSTATEMENT = 180;
-  public int JJTRETURNSTATEMENT = 181;
-  public int JJTIFSTATEMENT = 182;
-  public int JJTSLEEPSTATEMENT = 183;
-  public int JJTCONSOLESTATEMENT = 184;
-  public int JJTCREATESEQUENCESTATEMENT = 185;
-  public int JJTALTERSEQUENCESTATEMENT = 186;
-  public int JJTDROPSEQUENCESTATEMENT = 187;
-  public int JJTHASTATUSSTATEMENT = 188;
-  public int JJTHAREMOVESERVERSTATEMENT = 189;
-  public int JJTHASYNCDATABASESTATEMENT = 190;
-  public int JJTHASYNCCLUSTERSTATEMENT = 191;
-  public int JJTHASETSTATEMENT = 192;
-  public int JJTFOREACHBLOCK = 193;
-  public int JJTWHILEBLOCK = 194;
-  public int JJTSECURITYRESOURCESEGMENT = 195;
-  public int JJTCREATESECURITYPOLICYSTATEMENT = 196;
-  public int JJTALTERSECURITYPOLICYSTATEMENT = 197;
+  public int JJTANALYZEINDEXSTATEMENT = 160;
+  public int JJTDROPINDEXSTATEMENT = 161;
+  public int JJTCREATECLUSTERSTATEMENT = 162;
+  public int JJTALTERCLUSTERSTATEMENT = 163;
+  public int JJTDROPCLUSTERSTATEMENT = 164;
+  public int JJTALTERDATABASESTATEMENT = 165;
+  public int JJTCOMMANDLINEOPTION = 166;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 167;
+  public int JJTCREATELINKSTATEMENT = 168;
+  public int JJTEXPLAINSTATEMENT = 169;
+  public int JJTPROFILESTATEMENT = 170;
+  public int JJTPERMISSION = 171;
+  public int JJTGRANTSTATEMENT = 172;
+  public int JJTREVOKESTATEMENT = 173;
+  public int JJTCREATEFUNCTIONSTATEMENT = 174;
+  public int JJTCREATEUSERSTATEMENT = 175;
+  public int JJTDROPUSERSTATEMENT = 176;
+  public int JJTALTERROLESTATEMENT = 177;
+  public int JJTLETSTATEMENT = 178;
+  public int JJTBEGINSTATEMENT = 179;
+  public int JJTCOMMITSTATEMENT = 180;
+  public int JJTROLLBACKSTATEMENT = 181;
+  public int JJTRETURNSTATEMENT = 182;
+  public int JJTIFSTATEMENT = 183;
+  public int JJTSLEEPSTATEMENT = 184;
+  public int JJTCONSOLESTATEMENT = 185;
+  public int JJTCREATESEQUENCESTATEMENT = 186;
+  public int JJTALTERSEQUENCESTATEMENT = 187;
+  public int JJTDROPSEQUENCESTATEMENT = 188;
+  public int JJTHASTATUSSTATEMENT = 189;
+  public int JJTHAREMOVESERVERSTATEMENT = 190;
+  public int JJTHASYNCDATABASESTATEMENT = 191;
+  public int JJTHASYNCCLUSTERSTATEMENT = 192;
+  public int JJTHASETSTATEMENT = 193;
+  public int JJTFOREACHBLOCK = 194;
+  public int JJTWHILEBLOCK = 195;
+  public int JJTSECURITYRESOURCESEGMENT = 196;
+  public int JJTCREATESECURITYPOLICYSTATEMENT = 197;
+  public int JJTALTERSECURITYPOLICYSTATEMENT = 198;
 
 
   public String[] jjtNodeName = {
@@ -364,6 +365,7 @@ public interface OrientSqlTreeConstants
     "DropPropertyStatement",
     "CreateIndexStatement",
     "RebuildIndexStatement",
+    "AnalyzeIndexStatement",
     "DropIndexStatement",
     "CreateClusterStatement",
     "AlterClusterStatement",
@@ -404,4 +406,4 @@ public interface OrientSqlTreeConstants
     "AlterSecurityPolicyStatement",
   };
 }
-/* JavaCC - OriginalChecksum=062a52560d036d76d5ab04f25f713340 (do not edit this line) */
+/* JavaCC - OriginalChecksum=94ac7e2122c8df8b9b2191e191b44213 (do not edit this line) */
@@ -0,0 +1,74 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache;
+
+/**
+ * Hint for the {@link OReadCache} that pages are read by current thread as part of the scan of big amount of data, for example
+ * during database export, index rebuild or full scan of the class by query. Pages which are loaded in scan mode are kept in
+ * small probationary ring of the cache and are not promoted into the main part of the cache, so scan does not evict hot pages.
+ * <p>
+ * Scan mode may be switched on for the whole database session by
+ * {@link com.orientechnologies.orient.core.db.ODatabaseSession#setScanHint(boolean)} or for the block of code enclosed by calls
+ * of {@link #enter()} and {@link #exit()} which may be nested. Read cache implementations are free to ignore this hint.
+ */
+public final class OCacheScanMode {
+  private static final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+  private OCacheScanMode() {
+  }
+
+  /**
+   * Switches on scan mode for the current thread till the {@link #exit()} is called.
+   */
+  public static void enter() {
+    state.get().depth++;
+  }
+
+  /**
+   * Reverts the last call of {@link #enter()}.
+   */
+  public static void exit() {
+    final State st = state.get();
+    assert st.depth > 0;
+
+    st.depth--;
+  }
+
+  /**
+   * @return <code>true</code> if pages are read by the current thread in scan mode.
+   */
+  public static boolean isActive() {
+    final State st = state.get();
+    return st.sessionHint || st.depth > 0;
+  }
+
+  /**
+   * Sets scan hint of the database session which is active on the current thread.
+   */
+  public static void setSessionHint(final boolean sessionHint) {
+    state.get().sessionHint = sessionHint;
+  }
+
+  private static final class State {
+    private int     depth;
+    private boolean sessionHint;
+  }
+}
@@ -77,4 +77,19 @@ public interface OReadCache {
   void closeStorage(OWriteCache writeCache) throws IOException;
 
   void changeMaximumAmountOfMemory(long calculateReadCacheMaxMemory);
+
+  /**
+   * Stores keys of pages of the storage which are hot in cache, so they may be loaded back after restart of the storage by
+   * {@link #loadCacheState(OWriteCache)}. Implementations which do not keep pages in memory may ignore this call.
+   *
+   * @param writeCache Write cache of the storage which state is stored.
+   */
+  void storeCacheState(OWriteCache writeCache);
+
+  /**
+   * Asynchronously loads pages which were stored by {@link #storeCacheState(OWriteCache)}, if any, back into the cache.
+   *
+   * @param writeCache Write cache of the storage which state is loaded.
+   */
+  void loadCacheState(OWriteCache writeCache);
 }
@@ -101,6 +101,17 @@ public interface OWriteCache {
 
   OCachePointer load(long fileId, long startPageIndex, OModifiableBoolean cacheHit, boolean verifyChecksums) throws IOException;
 
+  /**
+   * Loads page which is read ahead by read cache. Page may be allocated but still not written to the file, so unlike {@link
+   * #load(long, long, OModifiableBoolean, boolean)} page which does not pass verification of checksum is not reported as broken,
+   * <code>null</code> is returned instead. Such page is verified and reported once it is requested by regular read.
+   *
+   * @return page or <code>null</code> if page is absent or does not pass verification
+   */
+  default OCachePointer loadForPrefetch(long fileId, long pageIndex, boolean verifyChecksums) throws IOException {
+    return load(fileId, pageIndex, new OModifiableBoolean(), verifyChecksums);
+  }
+
   void flush(long fileId);
 
   void flush();
@@ -2,22 +2,41 @@ package com.orientechnologies.orient.core.storage.cache.chm;
 
 import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.storage.cache.*;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.BoundedBuffer;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.Buffer;
 import com.orientechnologies.orient.core.storage.cache.chm.writequeue.MPSCLinkedQueue;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
@@ -32,15 +51,55 @@ import java.util.concurrent.locks.ReentrantLock;
  * processing. But that is true only for threads which cause loading of additional pages from write cache to disk cache. Window
  * TinyLFU policy is used as cache eviction policy because it prevents usage of ghost entries and as result considerably decrease
  * usage of heap memory.
+ * <p>
+ * If sequential read of pages of the file is detected, following pages are asynchronously prefetched from write cache. Such pages
+ * are added to the cache with low priority, they are not counted by frequency sketch till they are really accessed, so full scans
+ * do not displace frequently used pages. Checksums of prefetched pages are verified if they are verified for the page which caused
+ * read-ahead, pages which do not pass verification are left to be loaded and reported by regular reads.
+ * <p>
+ * Pages which are read in {@link OCacheScanMode} are kept in small probationary ring of the cache and are not promoted into its
+ * main part till they are read outside of scan.
+ * <p>
+ * Keys of hot pages of the storage may be stored into {@link #CACHE_STATE_FILE} ordered by their frequency, so after restart of
+ * the storage the most frequently used pages are loaded back in background. Pages are loaded in file order, so disk is read
+ * sequentially.
  */
 public final class AsyncReadCache implements OReadCache {
   private static final int NCPU                   = Runtime.getRuntime().availableProcessors();
   private static final int WRITE_BUFFER_MAX_BATCH = 128 * ceilingPowerOfTwo(NCPU);
 
+  public static final String CACHE_STATE_EXTENSION = ".stt";
+
+  /**
+   * Name of the file which contains keys of hot pages of the storage, it is placed in the root directory of the storage.
+   */
+  public static final String  CACHE_STATE_FILE     = "cache" + CACHE_STATE_EXTENSION;
+  private static final String CACHE_STATE_TMP_FILE = "cache-tmp" + CACHE_STATE_EXTENSION;
+  private static final int    CACHE_STATE_VERSION  = 1;
+
+  /**
+   * Maximum amount of pages which are loaded by single prefetch request during warm up of the cache.
+   */
+  private static final int WARM_UP_MAX_RUN = 64;
+
+  /**
+   * Executor which is used to prefetch pages, if queue of prefetch requests is full new requests are discarded.
+   */
+  private static final ExecutorService prefetchExecutor;
+
+  static {
+    final OThreadPoolExecutorWithLogging executor = new OThreadPoolExecutorWithLogging(NCPU, NCPU, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(1024), new PrefetchThreadFactory(), new ThreadPoolExecutor.DiscardPolicy());
+    executor.allowCoreThreadTimeOut(true);
+
+    prefetchExecutor = executor;
+  }
+
   private final ConcurrentHashMap<PageKey, OCacheEntry> data;
   private final Lock                                    evictionLock = new ReentrantLock();
 
   private final WTinyLFUPolicy policy;
+  private final Admittor       admittor;
 
   private final Buffer<OCacheEntry>       readBuffer  = new BoundedBuffer<>();
   private final MPSCLinkedQueue<Runnable> writeBuffer = new MPSCLinkedQueue<>();
@@ -52,6 +111,15 @@ public final class AsyncReadCache implements OReadCache {
   private final LongAdder requests = new LongAdder();
   private final LongAdder hits     = new LongAdder();
 
+  private final int                                    readAheadMaxPages;
+  private final ConcurrentHashMap<Long, ReadAheadState> readAheadStates = new ConcurrentHashMap<>();
+  private final LongAdder                              prefetchedPages = new LongAdder();
+
+  /**
+   * Flags of cancellation of warm up of the cache, one per storage which state is being loaded.
+   */
+  private final ConcurrentHashMap<Integer, AtomicBoolean> warmUps = new ConcurrentHashMap<>();
+
   /**
    * Status which indicates whether flush of buffers should be performed or may be delayed.
    */
@@ -63,15 +131,26 @@ public final class AsyncReadCache implements OReadCache {
 
   public AsyncReadCache(final OByteBufferPool bufferPool, final long maxCacheSizeInBytes, final int pageSize,
       final boolean trackHitRate) {
+    this(bufferPool, maxCacheSizeInBytes, pageSize, trackHitRate, 0);
+  }
+
+  /**
+   * @param readAheadMaxPages Maximum amount of pages which are prefetched once sequential read of file pages is detected, 0 means
+   *                          that read-ahead is switched off.
+   */
+  public AsyncReadCache(final OByteBufferPool bufferPool, final long maxCacheSizeInBytes, final int pageSize,
+      final boolean trackHitRate, final int readAheadMaxPages) {
     evictionLock.lock();
     try {
       this.pageSize = pageSize;
       this.bufferPool = bufferPool;
+      this.readAheadMaxPages = readAheadMaxPages;
 
       this.trackHitRate = trackHitRate;
       this.maxCacheSize = (int) (maxCacheSizeInBytes / pageSize);
       this.data = new ConcurrentHashMap<>(this.maxCacheSize);
-      policy = new WTinyLFUPolicy(data, new FrequencySketch(), cacheSize);
+      admittor = new FrequencySketch();
+      policy = new WTinyLFUPolicy(data, admittor, cacheSize);
       policy.setMaxSize(this.maxCacheSize);
     } finally {
       evictionLock.unlock();
@@ -92,7 +171,7 @@ public final class AsyncReadCache implements OReadCache {
   @Override
   public final OCacheEntry loadForWrite(final long fileId, final long pageIndex, final boolean checkPinnedPages,
       final OWriteCache writeCache, final boolean verifyChecksums, final OLogSequenceNumber startLSN) {
-    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, false);
 
     if (cacheEntry != null) {
       cacheEntry.acquireExclusiveLock();
@@ -105,11 +184,80 @@ public final class AsyncReadCache implements OReadCache {
   @Override
   public final OCacheEntry loadForRead(final long fileId, final long pageIndex, final boolean checkPinnedPages,
       final OWriteCache writeCache, final boolean verifyChecksums) {
-    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final boolean scan = OCacheScanMode.isActive();
+    final OCacheEntry cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, scan);
+
+    if (readAheadMaxPages > 0 && cacheEntry != null) {
+      readAhead(cacheEntry.getFileId(), (int) pageIndex, writeCache, verifyChecksums, scan);
+    }
+
+    return cacheEntry;
+  }
+
+  private void readAhead(final long fileId, final int pageIndex, final OWriteCache writeCache, final boolean verifyChecksums,
+      final boolean scan) {
+    ReadAheadState state = readAheadStates.get(fileId);
+    if (state == null) {
+      state = readAheadStates.computeIfAbsent(fileId, (id) -> new ReadAheadState(readAheadMaxPages));
+    }
+
+    final ORawPair<Integer, Integer> range = state.onPageRead(pageIndex);
+    if (range != null) {
+      final ReadAheadState prefetchState = state;
+      prefetchExecutor.execute(
+          () -> prefetch(prefetchState, fileId, range.getFirst(), range.getSecond(), writeCache, verifyChecksums, scan));
+    }
+  }
+
+  private void prefetch(final ReadAheadState state, final long fileId, final int startPageIndex, final int pagesCount,
+      final OWriteCache writeCache, final boolean verifyChecksums, final boolean scan) {
+    if (!state.startPrefetch()) {
+      return;
+    }
+
+    try {
+      for (int pageIndex = startPageIndex; pageIndex < startPageIndex + pagesCount; pageIndex++) {
+        final PageKey pageKey = new PageKey(fileId, pageIndex);
+        if (data.containsKey(pageKey)) {
+          continue;
+        }
+
+        final OCachePointer pointer = writeCache.loadForPrefetch(fileId, pageIndex, verifyChecksums);
+        //end of file is reached or page is not written yet
+        if (pointer == null) {
+          break;
+        }
+
+        final OCacheEntry cacheEntry = new OCacheEntryImpl(fileId, pageIndex, pointer);
+        if (data.putIfAbsent(pageKey, cacheEntry) == null) {
+          cacheSize.incrementAndGet();
+          prefetchedPages.increment();
+
+          if (scan) {
+            afterScanAdd(cacheEntry);
+          } else {
+            afterWrite(() -> policy.onPrefetch(cacheEntry));
+          }
+        } else {
+          pointer.decrementReadersReferrer();
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      OLogManager.instance().debug(this, "Error during prefetch of pages of file with id %d", e, fileId);
+    } finally {
+      state.endPrefetch();
+    }
+  }
+
+  /**
+   * @return Amount of pages which were added to the cache by read-ahead or by warm up of the cache.
+   */
+  public long getPrefetchedPagesCount() {
+    return prefetchedPages.sum();
   }
 
   private OCacheEntry doLoad(final long extFileId, final int pageIndex, final OWriteCache writeCache,
-      final boolean verifyChecksums) {
+      final boolean verifyChecksums, final boolean scan) {
     final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
     final PageKey pageKey = new PageKey(fileId, pageIndex);
 
@@ -126,7 +274,10 @@ public final class AsyncReadCache implements OReadCache {
 
       if (cacheEntry != null) {
         if (cacheEntry.acquireEntry()) {
-          afterRead(cacheEntry);
+          //pages accessed by scan are neither promoted nor counted by admittor
+          if (!scan) {
+            afterRead(cacheEntry);
+          }
 
           if (trackHitRate) {
             hits.increment();
@@ -167,9 +318,15 @@ public final class AsyncReadCache implements OReadCache {
               hits.increment();
             }
 
-            afterRead(cacheEntry);
+            if (!scan) {
+              afterRead(cacheEntry);
+            }
           } else {
-            afterAdd(cacheEntry);
+            if (scan) {
+              afterScanAdd(cacheEntry);
+            } else {
+              afterAdd(cacheEntry);
+            }
 
             try {
               writeCache.checkCacheOverflow();
@@ -187,14 +344,21 @@ public final class AsyncReadCache implements OReadCache {
   private OCacheEntry addNewPagePointerToTheCache(final long fileId, final int pageIndex) {
     final PageKey pageKey = new PageKey(fileId, pageIndex);
 
-    final OPointer pointer = bufferPool.acquireDirect(true);
+    final OPointer pointer = bufferPool.acquireDirect(true, Intention.READ_CACHE);
     final OCachePointer cachePointer = new OCachePointer(pointer, bufferPool, fileId, pageIndex);
     cachePointer.incrementReadersReferrer();
 
     final OCacheEntry cacheEntry = new OCacheEntryImpl(fileId, pageIndex, cachePointer);
     cacheEntry.acquireEntry();
 
-    final OCacheEntry oldCacheEntry = data.putIfAbsent(pageKey, cacheEntry);
+    OCacheEntry oldCacheEntry = data.putIfAbsent(pageKey, cacheEntry);
+    if (oldCacheEntry != null && readAheadMaxPages > 0) {
+      //page may be prefetched after space for it was allocated in write cache but before it was added to the read cache,
+      //such page does not contain any data and is replaced
+      removePrefetchedPage(pageKey, oldCacheEntry);
+      oldCacheEntry = data.putIfAbsent(pageKey, cacheEntry);
+    }
+
     if (oldCacheEntry != null) {
       throw new IllegalStateException("Page  " + fileId + ":" + pageIndex + " was allocated in other thread");
     }
@@ -204,6 +368,21 @@ public final class AsyncReadCache implements OReadCache {
     return cacheEntry;
   }
 
+  private void removePrefetchedPage(final PageKey pageKey, final OCacheEntry cacheEntry) {
+    evictionLock.lock();
+    try {
+      emptyBuffers();
+
+      if (cacheEntry.freeze()) {
+        data.remove(pageKey, cacheEntry);
+        policy.onRemove(cacheEntry);
+        cacheSize.decrementAndGet();
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
   @Override
   public final void changeMaximumAmountOfMemory(final long maxMemory) {
     evictionLock.lock();
@@ -283,6 +462,10 @@ public final class AsyncReadCache implements OReadCache {
     afterWrite(() -> policy.onAdd(entry));
   }
 
+  private void afterScanAdd(final OCacheEntry entry) {
+    afterWrite(() -> policy.onScanAdd(entry));
+  }
+
   private void afterWrite(final Runnable command) {
     writeBuffer.offer(command);
 
@@ -383,6 +566,16 @@ public final class AsyncReadCache implements OReadCache {
 
   @Override
   public final void clear() {
+    for (final AtomicBoolean warmUp : warmUps.values()) {
+      warmUp.set(true);
+    }
+    warmUps.clear();
+
+    for (final ReadAheadState state : readAheadStates.values()) {
+      state.close();
+    }
+    readAheadStates.clear();
+
     evictionLock.lock();
     try {
       emptyBuffers();
@@ -432,6 +625,8 @@ public final class AsyncReadCache implements OReadCache {
 
   @Override
   public final void deleteStorage(final OWriteCache writeCache) throws IOException {
+    cancelWarmUp(writeCache);
+
     final Collection<Long> files = writeCache.files().values();
     final List<ORawPair<Long, Integer>> filledUpTo = new ArrayList<>(1024);
     for (final long fileId : files) {
@@ -447,6 +642,8 @@ public final class AsyncReadCache implements OReadCache {
 
   @Override
   public final void closeStorage(final OWriteCache writeCache) throws IOException {
+    cancelWarmUp(writeCache);
+
     final Collection<Long> files = writeCache.files().values();
     final List<ORawPair<Long, Integer>> filledUpTo = new ArrayList<>(1024);
     for (final long fileId : files) {
@@ -460,7 +657,139 @@ public final class AsyncReadCache implements OReadCache {
     writeCache.close();
   }
 
+  @Override
+  public void storeCacheState(final OWriteCache writeCache) {
+    final int storageId = writeCache.getId();
+
+    //frequencies are read without lock, they may be slightly outdated but that is acceptable for the hint
+    final List<ORawPair<PageKey, Integer>> pages = new ArrayList<>();
+    for (final PageKey pageKey : data.keySet()) {
+      if (OAbstractWriteCache.extractStorageId(pageKey.getFileId()) == storageId) {
+        final int frequency = admittor.frequency(PageKey.hashCode(pageKey.getFileId(), pageKey.getPageIndex()));
+        pages.add(new ORawPair<>(pageKey, frequency));
+      }
+    }
+
+    pages.sort((first, second) -> Integer.compare(second.getSecond(), first.getSecond()));
+
+    final Path stateFile = writeCache.getRootDirectory().resolve(CACHE_STATE_FILE);
+    final Path tmpStateFile = writeCache.getRootDirectory().resolve(CACHE_STATE_TMP_FILE);
+    try {
+      try (final DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpStateFile)))) {
+        stream.writeInt(CACHE_STATE_VERSION);
+        stream.writeInt(pages.size());
+
+        for (final ORawPair<PageKey, Integer> page : pages) {
+          stream.writeInt(OAbstractWriteCache.extractFileId(page.getFirst().getFileId()));
+          stream.writeInt(page.getFirst().getPageIndex());
+        }
+      }
+
+      //state file is either old or new one but never partially written
+      Files.move(tmpStateFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      OLogManager.instance().warn(this, "Can not store state of disk cache into file %s", e, stateFile);
+    }
+  }
+
+  @Override
+  public void loadCacheState(final OWriteCache writeCache) {
+    final Path stateFile = writeCache.getRootDirectory().resolve(CACHE_STATE_FILE);
+    if (!Files.exists(stateFile)) {
+      return;
+    }
+
+    //cache is shared between storages, so only free part of it is filled
+    final int freeSpace = maxCacheSize - cacheSize.get();
+    if (freeSpace <= 0) {
+      return;
+    }
+
+    final int storageId = writeCache.getId();
+    final List<PageKey> pages = new ArrayList<>();
+    try (final DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile)))) {
+      if (stream.readInt() != CACHE_STATE_VERSION) {
+        return;
+      }
+
+      //pages are stored in order of their frequency, so the hottest pages are loaded if there is not enough space
+      final int pagesCount = Math.min(stream.readInt(), freeSpace);
+      for (int i = 0; i < pagesCount; i++) {
+        final int fileId = stream.readInt();
+        final int pageIndex = stream.readInt();
+
+        pages.add(new PageKey(OAbstractWriteCache.composeFileId(storageId, fileId), pageIndex));
+      }
+    } catch (final IOException e) {
+      OLogManager.instance().warn(this, "Can not load state of disk cache from file %s", e, stateFile);
+      return;
+    }
+
+    if (pages.isEmpty()) {
+      return;
+    }
+
+    pages.sort(Comparator.comparingLong(PageKey::getFileId).thenComparingInt(PageKey::getPageIndex));
+
+    final AtomicBoolean cancelled = new AtomicBoolean();
+    final AtomicBoolean previous = warmUps.put(storageId, cancelled);
+    if (previous != null) {
+      previous.set(true);
+    }
+
+    prefetchExecutor.execute(() -> warmUp(storageId, pages, writeCache, cancelled));
+  }
+
+  private void warmUp(final int storageId, final List<PageKey> pages, final OWriteCache writeCache, final AtomicBoolean cancelled) {
+    try {
+      int runStart = 0;
+      for (int i = 1; i <= pages.size(); i++) {
+        if (i < pages.size() && i - runStart < WARM_UP_MAX_RUN) {
+          final PageKey prevPage = pages.get(i - 1);
+          final PageKey page = pages.get(i);
+
+          if (page.getFileId() == prevPage.getFileId() && page.getPageIndex() == prevPage.getPageIndex() + 1) {
+            continue;
+          }
+        }
+
+        //cache is already filled by regular reads
+        if (cancelled.get() || cacheSize.get() >= maxCacheSize) {
+          return;
+        }
+
+        final PageKey firstPage = pages.get(runStart);
+        final long fileId = firstPage.getFileId();
+
+        //file may be deleted since the moment when state was stored
+        if (writeCache.exists(fileId)) {
+          //read-ahead state guards against adding of pages of file which is closed concurrently
+          final ReadAheadState state = readAheadStates.computeIfAbsent(fileId, (id) -> new ReadAheadState(readAheadMaxPages));
+          //checksums are verified as they are verified by reads of durable components
+          prefetch(state, fileId, firstPage.getPageIndex(), i - runStart, writeCache, true, false);
+        }
+
+        runStart = i;
+      }
+    } finally {
+      warmUps.remove(storageId, cancelled);
+    }
+  }
+
+  private void cancelWarmUp(final OWriteCache writeCache) {
+    final AtomicBoolean warmUp = warmUps.remove(writeCache.getId());
+    if (warmUp != null) {
+      warmUp.set(true);
+    }
+  }
+
   private void clearFile(final long fileId, final int filledUpTo, final OWriteCache writeCache) {
+    //wait till the end of prefetch of file pages, otherwise pages may be added back after they are removed
+    final ReadAheadState readAheadState = readAheadStates.remove(fileId);
+    if (readAheadState != null) {
+      readAheadState.close();
+    }
+
     evictionLock.lock();
     try {
       emptyBuffers();
@@ -539,6 +868,19 @@ public final class AsyncReadCache implements OReadCache {
     abstract boolean shouldBeDrained(boolean readBufferOverflow);
   }
 
+  private static final class PrefetchThreadFactory implements ThreadFactory {
+    @Override
+    public final Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+
+      thread.setDaemon(true);
+      thread.setName("OrientDB Read Cache Prefetch Task");
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+
+      return thread;
+    }
+  }
+
   @SuppressWarnings("SameParameterValue")
   private static int ceilingPowerOfTwo(final int x) {
     // From Hacker's Delight, Chapter 3, Harry S. Warren Jr.
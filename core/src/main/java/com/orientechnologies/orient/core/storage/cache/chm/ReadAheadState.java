@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+import com.orientechnologies.common.util.ORawPair;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Detector of sequential reads of pages of single file. Once several pages are read one after another, range of pages which
+ * follow them is requested to be prefetched. Size of this range (read-ahead window) is doubled on each prefetch till it reaches
+ * maximum value and is reset once sequential pattern is broken.
+ * <p>
+ * Detection is only a hint, so if state is already updated by other thread page read is skipped instead of waiting on the lock.
+ */
+final class ReadAheadState {
+  private static final int SEQUENTIAL_READS_THRESHOLD = 2;
+  private static final int MIN_WINDOW                 = 4;
+
+  private final int maxWindow;
+
+  private final Lock detectorLock = new ReentrantLock();
+  private final Lock prefetchLock = new ReentrantLock();
+
+  private volatile int lastPageIndex = -1;
+
+  /**
+   * Protected by {@link #detectorLock}
+   */
+  private int sequentialReads;
+
+  /**
+   * Protected by {@link #detectorLock}
+   */
+  private int window;
+
+  /**
+   * Index of the page which follows the last prefetched page. Protected by {@link #detectorLock}
+   */
+  private int prefetchedTill;
+
+  /**
+   * Protected by {@link #prefetchLock}
+   */
+  private boolean closed;
+
+  ReadAheadState(final int maxWindow) {
+    this.maxWindow = maxWindow;
+    this.window = Math.min(MIN_WINDOW, maxWindow);
+  }
+
+  /**
+   * @param pageIndex Index of page which was read.
+   *
+   * @return Index of the first page and amount of pages which should be prefetched or <code>null</code> if prefetch is not
+   * needed.
+   */
+  ORawPair<Integer, Integer> onPageRead(final int pageIndex) {
+    //several records are read from the same page
+    if (pageIndex == lastPageIndex) {
+      return null;
+    }
+
+    if (!detectorLock.tryLock()) {
+      return null;
+    }
+
+    try {
+      final int prevPageIndex = lastPageIndex;
+      lastPageIndex = pageIndex;
+
+      if (pageIndex != prevPageIndex + 1) {
+        sequentialReads = 0;
+        prefetchedTill = 0;
+        window = Math.min(MIN_WINDOW, maxWindow);
+
+        return null;
+      }
+
+      sequentialReads++;
+      if (sequentialReads < SEQUENTIAL_READS_THRESHOLD) {
+        return null;
+      }
+
+      //start next prefetch once half of the previous window is consumed, so IO is overlapped with processing of pages
+      if (pageIndex + window / 2 < prefetchedTill) {
+        return null;
+      }
+
+      final int startPageIndex = Math.max(pageIndex + 1, prefetchedTill);
+      final int endPageIndex = pageIndex + 1 + window;
+
+      prefetchedTill = endPageIndex;
+      window = Math.min(window * 2, maxWindow);
+
+      if (startPageIndex >= endPageIndex) {
+        return null;
+      }
+
+      return new ORawPair<>(startPageIndex, endPageIndex - startPageIndex);
+    } finally {
+      detectorLock.unlock();
+    }
+  }
+
+  /**
+   * Acquires prefetch lock, {@link #endPrefetch()} should be called if prefetch is allowed.
+   *
+   * @return <code>false</code> if file is closed and prefetch should not be performed.
+   */
+  boolean startPrefetch() {
+    prefetchLock.lock();
+    if (closed) {
+      prefetchLock.unlock();
+      return false;
+    }
+
+    return true;
+  }
+
+  void endPrefetch() {
+    prefetchLock.unlock();
+  }
+
+  /**
+   * Waits till the end of prefetch which is in progress and prohibits all following prefetches of file pages.
+   */
+  void close() {
+    prefetchLock.lock();
+    try {
+      closed = true;
+    } finally {
+      prefetchLock.unlock();
+    }
+  }
+}
@@ -9,10 +9,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Window TinyLFU eviction policy https://arxiv.org/pdf/1512.00727.pdf.
+ * <p>
+ * Pages which are loaded by scans are kept in separate small FIFO ring which takes part of the eden space. Such pages are not
+ * counted by admittor and are not promoted into the main part of the cache till they are accessed outside of scan.
+ *
+ * @see com.orientechnologies.orient.core.storage.cache.OCacheScanMode
  */
 final class WTinyLFUPolicy {
   private static final int EDEN_PERCENT         = 20;
   private static final int PROBATIONARY_PERCENT = 20;
+  private static final int SCAN_PERCENT_OF_EDEN = 25;
 
   private volatile int                                     maxSize;
   private final    ConcurrentHashMap<PageKey, OCacheEntry> data;
@@ -23,10 +29,12 @@ final class WTinyLFUPolicy {
   private final LRUList eden       = new LRUList();
   private final LRUList probation  = new LRUList();
   private final LRUList protection = new LRUList();
+  private final LRUList scan       = new LRUList();
 
   private int maxEdenSize;
   private int maxProtectedSize;
   private int maxSecondLevelSize;
+  private int maxScanSize;
 
   WTinyLFUPolicy(final ConcurrentHashMap<PageKey, OCacheEntry> data, final Admittor admittor, final AtomicInteger cacheSize) {
     this.data = data;
@@ -35,7 +43,7 @@ final class WTinyLFUPolicy {
   }
 
   public void setMaxSize(final int maxSize) {
-    if (eden.size() + protection.size() + probation.size() > maxSize) {
+    if (eden.size() + protection.size() + probation.size() + scan.size() > maxSize) {
       throw new IllegalStateException(
           "Can set maximum cache size to " + maxSize + " because current cache size is bigger than requested");
     }
@@ -67,6 +75,12 @@ final class WTinyLFUPolicy {
         protection.moveToTheTail(cacheEntry);
       } else if (eden.contains(cacheEntry)) {
         eden.moveToTheTail(cacheEntry);
+      } else if (scan.contains(cacheEntry)) {
+        //page loaded by scan is accessed by regular read, so it is admitted as new page
+        scan.remove(cacheEntry);
+        eden.moveToTheTail(cacheEntry);
+
+        purgeEden();
       }
     }
 
@@ -93,8 +107,79 @@ final class WTinyLFUPolicy {
     assert probation.size() + protection.size() <= maxSecondLevelSize;
   }
 
+  /**
+   * Adds page which was prefetched by read-ahead. Frequency of such page is not incremented till the page is really accessed, so
+   * during eviction from eden it does not displace pages which were accessed at least once.
+   */
+  void onPrefetch(final OCacheEntry cacheEntry) {
+    if (cacheEntry.isAlive()) {
+      assert !eden.contains(cacheEntry);
+      assert !probation.contains(cacheEntry);
+      assert !protection.contains(cacheEntry);
+
+      eden.moveToTheTail(cacheEntry);
+
+      purgeEden();
+    }
+
+    assert eden.size() <= maxEdenSize;
+    assert protection.size() <= maxProtectedSize;
+    assert probation.size() + protection.size() <= maxSecondLevelSize;
+  }
+
+  /**
+   * Adds page which was loaded by scan. Such page is placed into the scan ring and frequency of the page is not incremented.
+   * Pages of the ring which are in use can not be evicted, so the ring may exceed its limit till they are released, extra pages
+   * are evicted by the following scans.
+   */
+  void onScanAdd(final OCacheEntry cacheEntry) {
+    if (cacheEntry.isAlive()) {
+      assert !eden.contains(cacheEntry);
+      assert !probation.contains(cacheEntry);
+      assert !protection.contains(cacheEntry);
+      assert !scan.contains(cacheEntry);
+
+      scan.moveToTheTail(cacheEntry);
+
+      purgeScan();
+      purgeEden();
+    }
+
+    assert protection.size() <= maxProtectedSize;
+    assert probation.size() + protection.size() <= maxSecondLevelSize;
+  }
+
+  private void purgeScan() {
+    //pages which are in use are moved back to the ring, so the number of attempts is limited to avoid infinite loop
+    int attempts = scan.size();
+
+    while (scan.size() > maxScanSize && attempts > 0) {
+      attempts--;
+
+      final OCacheEntry victim = scan.poll();
+      assert victim != null;
+
+      if (victim.freeze()) {
+        final boolean removed = data.remove(new PageKey(victim.getFileId(), (int) victim.getPageIndex()), victim);
+        victim.makeDead();
+
+        if (removed) {
+          cacheSize.decrementAndGet();
+        }
+
+        final OCachePointer pointer = victim.getCachePointer();
+
+        pointer.decrementReadersReferrer();
+        victim.clearCachePointer();
+      } else {
+        scan.moveToTheTail(victim);
+      }
+    }
+  }
+
   private void purgeEden() {
-    while (eden.size() > maxEdenSize) {
+    //scan ring takes part of eden space
+    while (eden.size() > 0 && eden.size() + scan.size() > maxEdenSize) {
       final OCacheEntry candidate = eden.poll();
       assert candidate != null;
 
@@ -160,6 +245,8 @@ final class WTinyLFUPolicy {
       protection.remove(cacheEntry);
     } else if (eden.contains(cacheEntry)) {
       eden.remove(cacheEntry);
+    } else if (scan.contains(cacheEntry)) {
+      scan.remove(cacheEntry);
     }
 
     cacheEntry.makeDead();
@@ -173,6 +260,7 @@ final class WTinyLFUPolicy {
     maxEdenSize = maxSize * EDEN_PERCENT / 100;
     maxProtectedSize = maxSize - maxEdenSize - (maxSize - maxEdenSize) * PROBATIONARY_PERCENT / 100;
     maxSecondLevelSize = maxSize - maxEdenSize;
+    maxScanSize = Math.max(1, maxEdenSize * SCAN_PERCENT_OF_EDEN / 100);
   }
 
   Iterator<OCacheEntry> eden() {
@@ -187,14 +275,19 @@ final class WTinyLFUPolicy {
     return probation.iterator();
   }
 
+  Iterator<OCacheEntry> scan() {
+    return scan.iterator();
+  }
+
   void assertSize() {
-    assert eden.size() + probation.size() + protection.size() == cacheSize.get() && data.size() == cacheSize.get()
+    assert eden.size() + probation.size() + protection.size() + scan.size() == cacheSize.get() && data.size() == cacheSize.get()
         && cacheSize.get() <= maxSize;
   }
 
   void assertConsistency() {
     for (final OCacheEntry cacheEntry : data.values()) {
-      assert eden.contains(cacheEntry) || protection.contains(cacheEntry) || probation.contains(cacheEntry);
+      assert eden.contains(cacheEntry) || protection.contains(cacheEntry) || probation.contains(cacheEntry) || scan
+          .contains(cacheEntry);
     }
 
     int counter = 0;
@@ -213,6 +306,11 @@ final class WTinyLFUPolicy {
       counter++;
     }
 
+    for (final OCacheEntry cacheEntry : scan) {
+      assert data.get(new PageKey(cacheEntry.getFileId(), (int) cacheEntry.getPageIndex())) == cacheEntry;
+      counter++;
+    }
+
     assert counter == data.size();
   }
 }
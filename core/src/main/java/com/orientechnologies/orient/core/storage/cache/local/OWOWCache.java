@@ -27,6 +27,7 @@ import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.concur.lock.OReadersWriterSpinLock;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
@@ -287,6 +288,16 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
    */
   private final LongAdder cacheOverflowCountSum = new LongAdder();
 
+  /**
+   * Amount of continuous extents of pages which were written to the data files during flush of write cache
+   */
+  private final LongAdder flushedExtentsCount = new LongAdder();
+
+  /**
+   * Amount of pages which were written to the data files as part of continuous extents during flush of write cache
+   */
+  private final LongAdder flushedExtentsPages = new LongAdder();
+
   /**
    * Serialized is used to encode/decode names of files are managed by write cache.
    */
@@ -367,6 +378,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
   private final int chunkSize;
 
+  /**
+   * Maximum amount of adjacent pages which are merged into single extent and written to the data file by single write operation.
+   */
+  private final int maxFlushExtentSize;
+
   private final    long      pagesFlushInterval;
   private volatile boolean   stopFlush;
   private volatile Future<?> flushFuture;
@@ -414,6 +430,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       this.id = id;
       this.files = files;
       this.chunkSize = CHUNK_SIZE / pageSize;
+      this.maxFlushExtentSize = Math
+          .max(1, OGlobalConfiguration.DISK_WRITE_CACHE_MAX_FLUSH_EXTENT_SIZE.getValueAsInteger() * 1024 / pageSize);
 
       this.pageSize = pageSize;
       this.writeAheadLog = writeAheadLog;
@@ -1088,6 +1106,16 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
   @Override
   public OCachePointer load(final long fileId, final long startPageIndex, final OModifiableBoolean cacheHit,
       final boolean verifyChecksums) throws IOException {
+    return load(fileId, startPageIndex, cacheHit, verifyChecksums, true);
+  }
+
+  @Override
+  public OCachePointer loadForPrefetch(final long fileId, final long pageIndex, final boolean verifyChecksums) throws IOException {
+    return load(fileId, pageIndex, new OModifiableBoolean(), verifyChecksums, false);
+  }
+
+  private OCachePointer load(final long fileId, final long startPageIndex, final OModifiableBoolean cacheHit,
+      final boolean verifyChecksums, final boolean reportBrokenPages) throws IOException {
     final int intId = extractFileId(fileId);
     filesLock.acquireReadLock();
     try {
@@ -1101,7 +1129,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       if (pagePointer == null) {
         try {
           //load requested page and preload requested amount of pages
-          final OCachePointer filePagePointer = loadFileContent(intId, startPageIndex, verifyChecksums);
+          final OCachePointer filePagePointer = loadFileContent(intId, startPageIndex, verifyChecksums, reportBrokenPages);
           if (filePagePointer != null) {
             filePagePointer.incrementReadersReferrer();
           }
@@ -1487,7 +1515,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
         final byte[] data = new byte[pageSize];
 
-        final OPointer pointer = bufferPool.acquireDirect(true);
+        final OPointer pointer = bufferPool.acquireDirect(true, Intention.WRITE_CACHE);
         try {
           final ByteBuffer byteBuffer = pointer.getNativeByteBuffer();
           fileClassic.read(pos, byteBuffer, true);
@@ -1642,6 +1670,19 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     return exclusiveWriteCacheSize.get();
   }
 
+  /**
+   * @return Average size in bytes of continuous extents of pages which are written to the data files during flush of write cache,
+   * or <code>0</code> if nothing was flushed yet.
+   */
+  public long getAverageFlushExtentSize() {
+    final long extents = flushedExtentsCount.sum();
+    if (extents == 0) {
+      return 0;
+    }
+
+    return flushedExtentsPages.sum() * pageSize / extents;
+  }
+
   private static void openFile(final OFile fileClassic) {
     if (fileClassic.exists()) {
       if (!fileClassic.isOpen()) {
@@ -2035,8 +2076,12 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     }
   }
 
-  private OCachePointer loadFileContent(final int internalFileId, final long pageIndex, final boolean verifyChecksums)
-      throws IOException {
+  /**
+   * @param reportBrokenPages if <code>false</code> page which does not pass verification is not reported as broken but
+   *                          <code>null</code> is returned instead
+   */
+  private OCachePointer loadFileContent(final int internalFileId, final long pageIndex, final boolean verifyChecksums,
+      final boolean reportBrokenPages) throws IOException {
     final long fileId = composeFileId(id, internalFileId);
     try {
       final OClosableEntry<Long, OFile> entry = files.acquire(fileId);
@@ -2051,7 +2096,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
         //if page is not stored in the file may be page is stored in double write log
         if (fileClassic.getFileSize() >= pageEndPosition) {
-          OPointer pointer = bufferPool.acquireDirect(true);
+          OPointer pointer = bufferPool.acquireDirect(true, Intention.READ_CACHE);
           ByteBuffer buffer = pointer.getNativeByteBuffer();
 
           assert buffer.position() == 0;
@@ -2066,6 +2111,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
               final OPointer doubleWritePointer = doubleWriteLog.loadPage(internalFileId, (int) pageIndex, bufferPool);
 
               if (doubleWritePointer == null) {
+                if (!reportBrokenPages) {
+                  bufferPool.release(pointer);
+                  return null;
+                }
                 assertPageIsBroken(pageIndex, fileId, pointer);
               } else {
                 bufferPool.release(pointer);
@@ -2075,6 +2124,10 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
                 pointer = doubleWritePointer;
 
                 if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+                  if (!reportBrokenPages) {
+                    bufferPool.release(pointer);
+                    return null;
+                  }
                   assertPageIsBroken(pageIndex, fileId, pointer);
                 }
               }
@@ -2091,7 +2144,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
             if (verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
                 || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
-              if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+              if (!verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex) && reportBrokenPages) {
                 assertPageIsBroken(pageIndex, fileId, pointer);
               }
             }
@@ -2680,7 +2733,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             throw new IllegalStateException("Last page index is -1");
           }
 
-          if (lastFileId != pageKey.fileId || lastPageIndex != pageKey.pageIndex - 1) {
+          if (lastFileId != pageKey.fileId || lastPageIndex != pageKey.pageIndex - 1 || chunk.size() >= maxFlushExtentSize) {
             if (!chunk.isEmpty()) {
               chunks.add(chunk);
               chunksSize += chunk.size();
@@ -2705,7 +2758,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           final long version;
           final OLogSequenceNumber fullLogLSN;
 
-          final OPointer directPointer = bufferPool.acquireDirect(false);
+          final OPointer directPointer = bufferPool.acquireDirect(false, Intention.WRITE_CACHE);
           final ByteBuffer copy = directPointer.getNativeByteBuffer();
           assert copy.position() == 0;
           try {
@@ -2813,7 +2866,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
         flushedPages += chunk.size();
 
-        final OPointer containerPointer = ODirectMemoryAllocator.instance().allocate(chunk.size() * pageSize, -1, false);
+        flushedExtentsCount.increment();
+        flushedExtentsPages.add(chunk.size());
+
+        final OPointer containerPointer = ODirectMemoryAllocator.instance()
+            .allocate(chunk.size() * pageSize, -1, false, Intention.WRITE_CACHE);
         final ByteBuffer containerBuffer = containerPointer.getNativeByteBuffer();
         assert containerBuffer.position() == 0;
 
@@ -2992,7 +3049,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           if (pointer.tryAcquireSharedLock()) {
             final OLogSequenceNumber fullLSN;
 
-            final OPointer directPointer = bufferPool.acquireDirect(false);
+            final OPointer directPointer = bufferPool.acquireDirect(false, Intention.WRITE_CACHE);
             final ByteBuffer copy = directPointer.getNativeByteBuffer();
             assert copy.position() == 0;
             try {
@@ -3023,7 +3080,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             if (chunk.isEmpty()) {
               chunk.add(new OQuarto<>(version, copy, directPointer, pointer));
             } else {
-              if (lastFileId != pointer.getFileId() || lastPageIndex != pointer.getPageIndex() - 1) {
+              if (lastFileId != pointer.getFileId() || lastPageIndex != pointer.getPageIndex() - 1
+                  || chunk.size() >= maxFlushExtentSize) {
                 chunks.add(chunk);
                 chunksSize += chunk.size();
                 chunk = new ArrayList<>();
@@ -3127,6 +3185,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       OLogSequenceNumber maxLSN = null;
 
       final List<List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>>> chunks = new ArrayList<>(chunkSize);
+      List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk = new ArrayList<>();
+
+      int chunksSize = 0;
+      PageKey lastPageKey = null;
+
       for (final PageKey pageKey : pagesToFlush) {
         if (fileIdSet.contains(pageKey.fileId)) {
           final OCachePointer pagePointer = writeCachePages.get(pageKey);
@@ -3138,7 +3201,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             try {
               final ByteBuffer buffer = pagePointer.getBufferDuplicate();
 
-              final OPointer directPointer = bufferPool.acquireDirect(false);
+              final OPointer directPointer = bufferPool.acquireDirect(false, Intention.WRITE_CACHE);
               final ByteBuffer copy = directPointer.getNativeByteBuffer();
               assert copy.position() == 0;
 
@@ -3152,7 +3215,19 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
                 maxLSN = endLSN;
               }
 
-              chunks.add(Collections.singletonList(new OQuarto<>(pagePointer.getVersion(), copy, directPointer, pagePointer)));
+              //pages are sorted by file id and page index, so adjacent pages are merged into single extent
+              if (lastPageKey == null || lastPageKey.fileId != pageKey.fileId || lastPageKey.pageIndex != pageKey.pageIndex - 1
+                  || chunk.size() >= maxFlushExtentSize) {
+                if (!chunk.isEmpty()) {
+                  chunks.add(chunk);
+                  chunksSize += chunk.size();
+                  chunk = new ArrayList<>();
+                }
+              }
+
+              chunk.add(new OQuarto<>(pagePointer.getVersion(), copy, directPointer, pagePointer));
+              lastPageKey = pageKey;
+
               removeFromDirtyPages(pageKey);
             } finally {
               pagePointer.releaseSharedLock();
@@ -3161,13 +3236,18 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             pageLock.unlock();
           }
 
-          if (chunks.size() >= 4 * chunkSize) {
+          if (chunksSize >= 4 * chunkSize) {
             flushPages(chunks, maxLSN);
             chunks.clear();
+            chunksSize = 0;
           }
         }
       }
 
+      if (!chunk.isEmpty()) {
+        chunks.add(chunk);
+      }
+
       flushPages(chunks, maxLSN);
 
       if (callFsync) {
@@ -27,6 +27,7 @@ import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.concur.lock.OReadersWriterSpinLock;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOException;
@@ -1426,7 +1427,7 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
 
         final byte[] data = new byte[pageSize];
 
-        final OPointer pointer = bufferPool.acquireDirect(true);
+        final OPointer pointer = bufferPool.acquireDirect(true, Intention.WRITE_CACHE);
         try {
           final ByteBuffer byteBuffer = pointer.getNativeByteBuffer();
           fileClassic.read(pos, byteBuffer, true);
@@ -1979,7 +1980,8 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
 
   private OCachePointer loadFileContent(final int internalFileId, final long fileId, final long pageIndex, final int pagesToRead)
       throws IOException {
-    final OPointer pointer = ODirectMemoryAllocator.instance().allocate(pagesToRead * pagesToRead, -1, false);
+    final OPointer pointer = ODirectMemoryAllocator.instance()
+        .allocate(pagesToRead * pagesToRead, -1, false, Intention.READ_CACHE);
     try {
       final ByteBuffer buffer = pointer.getNativeByteBuffer();
 
@@ -2011,7 +2013,7 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
       final int contentSize = buffer.getInt(PAGE_CONTENT_SIZE_OFFSET);
       final long flags = 0xFF_FF_FF_FFL & buffer.getInt(PAGE_FLAGS_OFFSET);
 
-      final OPointer bufferPointer = bufferPool.acquireDirect(true);
+      final OPointer bufferPointer = bufferPool.acquireDirect(true, Intention.READ_CACHE);
       final ByteBuffer pageBuffer = bufferPointer.getNativeByteBuffer();
 
       buffer.limit(PAGE_CONTENT_OFFSET + contentSize);
@@ -2639,7 +2641,7 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
           final long version;
           final OLogSequenceNumber fullLogLSN;
 
-          final OPointer directPointer = bufferPool.acquireDirect(false);
+          final OPointer directPointer = bufferPool.acquireDirect(false, Intention.WRITE_CACHE);
           final ByteBuffer copy = directPointer.getNativeByteBuffer();
           assert copy.position() == 0;
           try {
@@ -2743,7 +2745,8 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
 
         flushedPages += chunk.size();
 
-        final OPointer containerPointer = ODirectMemoryAllocator.instance().allocate(chunk.size() * pageSize, -1, false);
+        final OPointer containerPointer = ODirectMemoryAllocator.instance()
+            .allocate(chunk.size() * pageSize, -1, false, Intention.WRITE_CACHE);
         final ByteBuffer containerBuffer = containerPointer.getNativeByteBuffer();
         assert containerBuffer.position() == 0;
 
@@ -2889,7 +2892,7 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
         if (pointer.tryAcquireSharedLock()) {
           final OLogSequenceNumber fullLSN;
 
-          final OPointer directPointer = bufferPool.acquireDirect(false);
+          final OPointer directPointer = bufferPool.acquireDirect(false, Intention.WRITE_CACHE);
           final ByteBuffer copy = directPointer.getNativeByteBuffer();
           assert copy.position() == 0;
           try {
@@ -2960,7 +2963,7 @@ public final class AppendOnlyCompressedWriteCache extends OAbstractWriteCache
             try {
               final ByteBuffer buffer = pagePointer.getBufferDuplicate();
 
-              final OPointer directPointer = bufferPool.acquireDirect(false);
+              final OPointer directPointer = bufferPool.acquireDirect(false, Intention.WRITE_CACHE);
               final ByteBuffer copy = directPointer.getNativeByteBuffer();
               assert copy.position() == 0;
 
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.storage.cache.local.doublewritelog;
 
 import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
@@ -142,7 +143,7 @@ public class DoubleWriteLogGL implements DoubleWriteLog {
       }
 
       sizeToAllocate += buffers.length * 3 * OIntegerSerializer.INT_SIZE;
-      final OPointer pageContainer = ALLOCATOR.allocate(sizeToAllocate, -1, false);
+      final OPointer pageContainer = ALLOCATOR.allocate(sizeToAllocate, -1, false, Intention.DOUBLE_WRITE_LOG);
 
       try {
         final ByteBuffer containerBuffer;
@@ -155,7 +156,8 @@ public class DoubleWriteLogGL implements DoubleWriteLog {
           buffer.rewind();
 
           final int maxCompressedLength = LZ_4_COMPRESSOR.maxCompressedLength(buffer.limit());
-          final OPointer compressedPointer = ODirectMemoryAllocator.instance().allocate(maxCompressedLength, -1, false);
+          final OPointer compressedPointer = ODirectMemoryAllocator.instance()
+              .allocate(maxCompressedLength, -1, false, Intention.DOUBLE_WRITE_LOG);
           try {
             final ByteBuffer compressedBuffer = compressedPointer.getNativeByteBuffer();
             LZ_4_COMPRESSOR.compress(buffer, compressedBuffer);
@@ -286,7 +288,7 @@ public class DoubleWriteLogGL implements DoubleWriteLog {
                 pagesBuffer.position(pagePosition);
                 pagesBuffer.limit(pagePosition + pageSize);
 
-                final OPointer pointer = bufferPool.acquireDirect(false);
+                final OPointer pointer = bufferPool.acquireDirect(false, Intention.READ_CACHE);
                 final ByteBuffer pageBuffer = pointer.getNativeByteBuffer();
                 assert pageBuffer.position() == 0;
                 pageBuffer.put(pagesBuffer);
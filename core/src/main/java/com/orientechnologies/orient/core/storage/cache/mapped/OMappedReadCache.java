@@ -0,0 +1,222 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cache.mapped;
+
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.*;
+import com.orientechnologies.orient.core.storage.fs.OFile;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read cache which is used when storage is opened in memory mapped read-only mode. Data files are mapped into memory on first
+ * access and each loaded page is a zero-copy read-only view of the mapped region, so data are neither copied into direct memory
+ * nor kept in the cache, operating system page cache is used instead. Write cache is used only to resolve names and sizes of
+ * files, no pages are loaded from or stored into it.
+ * <p>
+ * Any operation which changes content of files is prohibited and {@link OStorageException} is thrown in such case.
+ */
+public final class OMappedReadCache implements OReadCache {
+  /**
+   * Maximum size of single mapped region, files which are bigger than this value are mapped by several regions.
+   */
+  private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+  private final ConcurrentHashMap<Long, MappedFile> files = new ConcurrentHashMap<>();
+
+  private final int pageSize;
+  private final int pagesPerSegment;
+
+  public OMappedReadCache(final int pageSize) {
+    this.pageSize = pageSize;
+    this.pagesPerSegment = Math.max(1, MAX_SEGMENT_SIZE / pageSize);
+  }
+
+  @Override
+  public long addFile(final String fileName, final OWriteCache writeCache) {
+    throw readOnlyException("add file " + fileName);
+  }
+
+  @Override
+  public long addFile(final String fileName, final long fileId, final OWriteCache writeCache) {
+    throw readOnlyException("add file " + fileName);
+  }
+
+  @Override
+  public OCacheEntry loadForWrite(final long fileId, final long pageIndex, final boolean checkPinnedPages,
+      final OWriteCache writeCache, final boolean verifyChecksums, final OLogSequenceNumber startLSN) {
+    throw readOnlyException("load page " + pageIndex + " of file " + fileId + " for write");
+  }
+
+  @Override
+  public OCacheEntry loadForRead(long fileId, final long pageIndex, final boolean checkPinnedPages, final OWriteCache writeCache,
+      final boolean verifyChecksums) {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    final MappedFile mappedFile = files.computeIfAbsent(fileId, (id) -> mapFile(id, writeCache));
+    final ByteBuffer page = mappedFile.page(pageIndex);
+    if (page == null) {
+      return null;
+    }
+
+    final OCachePointer cachePointer = new OCachePointer(new OPointer(page), null, fileId, (int) pageIndex);
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(fileId, (int) pageIndex, cachePointer);
+    cacheEntry.acquireEntry();
+
+    return cacheEntry;
+  }
+
+  @Override
+  public void releaseFromRead(final OCacheEntry cacheEntry, final OWriteCache writeCache) {
+    cacheEntry.releaseEntry();
+  }
+
+  @Override
+  public void releaseFromWrite(final OCacheEntry cacheEntry, final OWriteCache writeCache, final boolean changed) {
+    throw readOnlyException("release page " + cacheEntry.getPageIndex() + " of file " + cacheEntry.getFileId() + " from write");
+  }
+
+  @Override
+  public OCacheEntry allocateNewPage(final long fileId, final OWriteCache writeCache, final OLogSequenceNumber startLSN) {
+    throw readOnlyException("allocate new page in file " + fileId);
+  }
+
+  /**
+   * @return Always <code>0</code> because pages are not cached, memory of mapped files is managed by operating system.
+   */
+  @Override
+  public long getUsedMemory() {
+    return 0;
+  }
+
+  @Override
+  public void clear() {
+    files.clear();
+  }
+
+  @Override
+  public void truncateFile(final long fileId, final OWriteCache writeCache) {
+    throw readOnlyException("truncate file " + fileId);
+  }
+
+  @Override
+  public void closeFile(long fileId, final boolean flush, final OWriteCache writeCache) {
+    fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
+
+    files.remove(fileId);
+    writeCache.close(fileId, flush);
+  }
+
+  @Override
+  public void deleteFile(final long fileId, final OWriteCache writeCache) {
+    throw readOnlyException("delete file " + fileId);
+  }
+
+  @Override
+  public void deleteStorage(final OWriteCache writeCache) throws IOException {
+    files.clear();
+    writeCache.delete();
+  }
+
+  @Override
+  public void closeStorage(final OWriteCache writeCache) throws IOException {
+    files.clear();
+    writeCache.close();
+  }
+
+  @Override
+  public void changeMaximumAmountOfMemory(final long calculateReadCacheMaxMemory) {
+    //memory of mapped files is managed by operating system
+  }
+
+  @Override
+  public void storeCacheState(final OWriteCache writeCache) {
+    //pages are not cached
+  }
+
+  @Override
+  public void loadCacheState(final OWriteCache writeCache) {
+    //pages are not cached
+  }
+
+  private MappedFile mapFile(final long fileId, final OWriteCache writeCache) {
+    final String fileName = writeCache.nativeFileNameById(fileId);
+    if (fileName == null) {
+      throw new OStorageException("File with id " + fileId + " is not registered in storage");
+    }
+
+    final Path path = writeCache.getRootDirectory().resolve(fileName);
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long pages = Math.max(0, channel.size() - OFile.HEADER_SIZE) / pageSize;
+      final int segmentsCount = (int) ((pages + pagesPerSegment - 1) / pagesPerSegment);
+
+      //mapping stays valid after channel is closed
+      final MappedByteBuffer[] segments = new MappedByteBuffer[segmentsCount];
+      for (int i = 0; i < segmentsCount; i++) {
+        final long firstPage = (long) i * pagesPerSegment;
+        final long segmentPages = Math.min(pagesPerSegment, pages - firstPage);
+
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, OFile.HEADER_SIZE + firstPage * pageSize, segmentPages * pageSize);
+      }
+
+      return new MappedFile(segments, pages);
+    } catch (final IOException e) {
+      throw OException.wrapException(new OStorageException("Error during mapping of file " + path + " into memory"), e);
+    }
+  }
+
+  private static OStorageException readOnlyException(final String operation) {
+    return new OStorageException("Can not " + operation + ", storage is opened in memory mapped read-only mode");
+  }
+
+  private final class MappedFile {
+    private final MappedByteBuffer[] segments;
+    private final long               pages;
+
+    private MappedFile(final MappedByteBuffer[] segments, final long pages) {
+      this.segments = segments;
+      this.pages = pages;
+    }
+
+    private ByteBuffer page(final long pageIndex) {
+      if (pageIndex >= pages) {
+        return null;
+      }
+
+      final ByteBuffer segment = segments[(int) (pageIndex / pagesPerSegment)].duplicate();
+      final int offset = (int) (pageIndex % pagesPerSegment) * pageSize;
+
+      segment.position(offset);
+      segment.limit(offset + pageSize);
+
+      return segment.slice();
+    }
+  }
+}
@@ -298,6 +298,38 @@ public final class OClusterPage extends ODurablePage {
     return oldRecord;
   }
 
+  /**
+   * Overwrites part of the record in place, size of the record is not changed. Only passed in bytes are written to the page, so
+   * only they are logged in WAL.
+   *
+   * @return bytes which were stored in the record before the update
+   */
+  public byte[] updateRecordPart(final int entryIndex, final int offset, final byte[] value, final int recordVersion) {
+    final int entryIndexPosition = PAGE_INDEXES_OFFSET + entryIndex * INDEX_ITEM_SIZE;
+
+    final int oldRecordVersion = getIntValue(entryIndexPosition + OIntegerSerializer.INT_SIZE);
+
+    if (recordVersion != -1) {
+      setIntValue(entryIndexPosition + OIntegerSerializer.INT_SIZE, recordVersion);
+    }
+
+    final int entryPosition = getIntValue(entryIndexPosition) & POSITION_MASK;
+    if (!insideRecordBounds(entryPosition, offset, value.length)) {
+      throw new IllegalStateException(
+          "Updated part of the record is out of record bounds. Record length = " + getIntValue(
+              entryPosition + 2 * OIntegerSerializer.INT_SIZE) + ", offset = " + offset + ", length of updated part = "
+              + value.length);
+    }
+
+    final int valuePosition = entryPosition + 3 * OIntegerSerializer.INT_SIZE + offset;
+    final byte[] oldValue = getBinaryValue(valuePosition, value.length);
+    setBinaryValue(valuePosition, value);
+
+    addPageOperation(new ClusterPageUpdateRecordPartPO(entryIndex, offset, recordVersion, value, oldRecordVersion, oldValue));
+
+    return oldValue;
+  }
+
   public int getRecordVersion(int position) {
     int indexesLength = getIntValue(PAGE_INDEXES_LENGTH_OFFSET);
     if (position >= indexesLength) {
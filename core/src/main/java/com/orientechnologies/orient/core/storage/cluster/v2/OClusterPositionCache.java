@@ -0,0 +1,194 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
+import com.orientechnologies.common.directmemory.OPointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Off-heap cache of mapping of cluster positions to pointers of the first pages of records, which allows to skip lookup in
+ * cluster position map on read of record by RID.
+ * <p>
+ * Cache is an open addressing hash table of fixed size allocated by {@link ODirectMemoryAllocator}. Table is split on buckets of
+ * {@link #BUCKET_SIZE} slots, each slot contains cluster position (incremented by one, so zero means empty slot) and page
+ * pointer. Entry may be placed in any slot of the bucket chosen by hash of position. If bucket is full, entry evicts one of the
+ * entries of the bucket, so size of the cache is always bounded. Buckets are protected by striped {@link StampedLock}s, so reads
+ * are lock free in absence of concurrent modifications.
+ * <p>
+ * Cache does not track atomic operations, so it should be populated only by reads which are performed outside of atomic
+ * operation and entries should be invalidated by each operation which changes position of record.
+ */
+final class OClusterPositionCache {
+  private static final int SLOT_SIZE   = 2 * Long.BYTES;
+  private static final int BUCKET_SIZE = 8;
+  private static final int STRIPES     = 64;
+
+  private final ODirectMemoryAllocator allocator = ODirectMemoryAllocator.instance();
+
+  private final OPointer    pointer;
+  private final ByteBuffer  table;
+  private final int         bucketMask;
+  private final StampedLock[] locks = new StampedLock[STRIPES];
+
+  /**
+   * @param maxSize Maximum size of the table in bytes, real size is rounded down to the power of two.
+   */
+  OClusterPositionCache(final int maxSize) {
+    final int buckets = Integer.highestOneBit(Math.max(1, maxSize / (SLOT_SIZE * BUCKET_SIZE)));
+
+    pointer = allocator.allocate(buckets * BUCKET_SIZE * SLOT_SIZE, -1, true, Intention.CLUSTER_POSITION_CACHE);
+    table = pointer.getNativeByteBuffer().duplicate().order(ByteOrder.nativeOrder());
+    bucketMask = buckets - 1;
+
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new StampedLock();
+    }
+  }
+
+  /**
+   * @return Pointer to the first page of the record (see {@link OPaginatedClusterV2}) or <code>-1</code> if position is absent
+   * in cache.
+   */
+  long get(final long clusterPosition) {
+    final long key = clusterPosition + 1;
+    final int bucket = bucket(key);
+    final StampedLock lock = locks[bucket & (STRIPES - 1)];
+
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      final long pagePointer = find(bucket, key);
+      if (lock.validate(stamp)) {
+        return pagePointer;
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return find(bucket, key);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  void put(final long clusterPosition, final long pagePointer) {
+    final long key = clusterPosition + 1;
+    final int bucket = bucket(key);
+    final StampedLock lock = locks[bucket & (STRIPES - 1)];
+
+    final long stamp = lock.writeLock();
+    try {
+      final int bucketOffset = bucket * BUCKET_SIZE * SLOT_SIZE;
+
+      int freeSlot = -1;
+      for (int i = 0; i < BUCKET_SIZE; i++) {
+        final int slotOffset = bucketOffset + i * SLOT_SIZE;
+        final long slotKey = table.getLong(slotOffset);
+
+        if (slotKey == key) {
+          table.putLong(slotOffset + Long.BYTES, pagePointer);
+          return;
+        }
+
+        if (slotKey == 0 && freeSlot < 0) {
+          freeSlot = i;
+        }
+      }
+
+      if (freeSlot < 0) {
+        //evict entry which is chosen by key, so eviction is spread uniformly between slots of the bucket
+        freeSlot = (int) ((key >>> 32) ^ key) & (BUCKET_SIZE - 1);
+      }
+
+      final int slotOffset = bucketOffset + freeSlot * SLOT_SIZE;
+      table.putLong(slotOffset, key);
+      table.putLong(slotOffset + Long.BYTES, pagePointer);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  void remove(final long clusterPosition) {
+    final long key = clusterPosition + 1;
+    final int bucket = bucket(key);
+    final StampedLock lock = locks[bucket & (STRIPES - 1)];
+
+    final long stamp = lock.writeLock();
+    try {
+      final int bucketOffset = bucket * BUCKET_SIZE * SLOT_SIZE;
+      for (int i = 0; i < BUCKET_SIZE; i++) {
+        final int slotOffset = bucketOffset + i * SLOT_SIZE;
+        if (table.getLong(slotOffset) == key) {
+          table.putLong(slotOffset, 0);
+          table.putLong(slotOffset + Long.BYTES, 0);
+          return;
+        }
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Removes all entries from the cache.
+   */
+  void clear() {
+    for (final StampedLock lock : locks) {
+      lock.asWriteLock().lock();
+    }
+    try {
+      pointer.clear();
+    } finally {
+      for (final StampedLock lock : locks) {
+        lock.asWriteLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * Releases memory of the cache, cache can not be used after this call.
+   */
+  void free() {
+    allocator.deallocate(pointer);
+  }
+
+  private long find(final int bucket, final long key) {
+    final int bucketOffset = bucket * BUCKET_SIZE * SLOT_SIZE;
+    for (int i = 0; i < BUCKET_SIZE; i++) {
+      final int slotOffset = bucketOffset + i * SLOT_SIZE;
+      if (table.getLong(slotOffset) == key) {
+        return table.getLong(slotOffset + Long.BYTES);
+      }
+    }
+
+    return -1;
+  }
+
+  private int bucket(final long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    hash ^= hash >>> 32;
+    return (int) hash & bucketMask;
+  }
+}
@@ -60,6 +60,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   private static final int     STATE_ENTRY_INDEX = 0;
   private static final int     BINARY_VERSION    = 2;
   private final        boolean addRidMetadata    = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
+  private final        boolean inPlaceUpdate     = OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.getValueAsBoolean();
 
   private static final int DISK_PAGE_SIZE           = DISK_CACHE_PAGE_SIZE.getValueAsInteger();
   private static final int LOWEST_FREELIST_BOUNDARY = PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
@@ -68,12 +69,23 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
   private static final int RECORD_POSITION_MASK     = 0xFFFF;
   private static final int ONE_KB                   = 1024;
 
+  /**
+   * Changed ranges of record which are separated by less than this amount of equal bytes are written as single range, so WAL is
+   * not flooded by tiny records.
+   */
+  private static final int IN_PLACE_UPDATE_RANGES_GAP = 16;
+
   private final    boolean                 systemCluster;
   private final    OClusterPositionMapV2   clusterPositionMap;
   private volatile int                     id;
   private          long                    fileId;
   private          ORecordConflictStrategy recordConflictStrategy;
 
+  /**
+   * Cache of pointers to the first pages of records, <code>null</code> if cache is disabled or cluster is closed.
+   */
+  private OClusterPositionCache positionCache;
+
   private static final class AddEntryResult {
     private final long pageIndex;
     private final int  pagePosition;
@@ -181,6 +193,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         initCusterState(atomicOperation);
 
         clusterPositionMap.create(atomicOperation);
+        initPositionCache();
 
         atomicOperation.addComponentOperation(new OPaginatedClusterCreateCO(getName(), id));
       } finally {
@@ -201,6 +214,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
       final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
       fileId = openFile(atomicOperation, getFullName());
       clusterPositionMap.open(atomicOperation);
+      initPositionCache();
     } finally {
       releaseExclusiveLock();
     }
@@ -221,6 +235,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
       readCache.closeFile(fileId, flush, writeCache);
       clusterPositionMap.close(flush);
+      freePositionCache();
     } finally {
       releaseExclusiveLock();
     }
@@ -243,6 +258,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         deleteFile(atomicOperation, fileId);
 
         clusterPositionMap.delete(atomicOperation);
+        freePositionCache();
 
         atomicOperation.addComponentOperation(new OPaginatedClusterDeleteCO(getName(), id));
       } finally {
@@ -256,6 +272,38 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
     }
   }
 
+  private void initPositionCache() {
+    freePositionCache();
+
+    final int positionCacheSize = OGlobalConfiguration.STORAGE_CLUSTER_POSITION_CACHE_SIZE.getValueAsInteger() * ONE_KB;
+    if (positionCacheSize > 0) {
+      positionCache = new OClusterPositionCache(positionCacheSize);
+    }
+  }
+
+  private void freePositionCache() {
+    if (positionCache != null) {
+      positionCache.free();
+      positionCache = null;
+    }
+  }
+
+  /**
+   * Removes position of record from the cache of positions. Should be called each time record is moved or removed inside of
+   * atomic operation.
+   * <p>
+   * Readers put positions into the cache holding read lock of atomic operations manager (see {@link #readRecord(long, int)}), so
+   * exclusive lock of atomic operation is acquired before removal and held till the operation is committed or rolled back.
+   * Otherwise reader which passes between removal and commit could put not yet changed position back into the cache and
+   * return deleted record or content of reused slot.
+   */
+  private void invalidatePosition(final long clusterPosition) {
+    if (positionCache != null) {
+      acquireAtomicExclusiveLock();
+      positionCache.remove(clusterPosition);
+    }
+  }
+
   @Override
   public boolean isSystemCluster() {
     return systemCluster;
@@ -338,6 +386,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
           final long clusterPosition;
           if (allocatedPosition != null) {
+            invalidatePosition(allocatedPosition.clusterPosition);
             clusterPositionMap.update(allocatedPosition.clusterPosition,
                 new OClusterPositionMapBucket.PositionEntry(addEntryResult.pageIndex, addEntryResult.pagePosition),
                 atomicOperation);
@@ -353,18 +402,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
           return createPhysicalPosition(recordType, clusterPosition, addEntryResult.recordVersion);
         } else {
-          final int entrySize = content.length + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
-
-          int fullEntryPosition = 0;
-          final byte[] fullEntry = new byte[entrySize];
-
-          fullEntry[fullEntryPosition] = recordType;
-          fullEntryPosition++;
-
-          OIntegerSerializer.INSTANCE.serializeNative(content.length, fullEntry, fullEntryPosition);
-          fullEntryPosition += OIntegerSerializer.INT_SIZE;
-
-          System.arraycopy(content, 0, fullEntry, fullEntryPosition, content.length);
+          final int entryHeaderSize = OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
+          final int entrySize = content.length + entryHeaderSize;
 
           long prevPageRecordPointer = -1;
           long firstPageIndex = -1;
@@ -378,8 +417,15 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
           int recordsSizeDiff = 0;
 
           do {
+            //chunks are cut directly from the record content, entry header is written only into the first chunk
             final byte[] entryContent = new byte[to - from + OByteSerializer.BYTE_SIZE + OLongSerializer.LONG_SIZE];
-            System.arraycopy(fullEntry, from, entryContent, 0, to - from);
+            if (from == 0) {
+              entryContent[0] = recordType;
+              OIntegerSerializer.INSTANCE.serializeNative(content.length, entryContent, OByteSerializer.BYTE_SIZE);
+              System.arraycopy(content, 0, entryContent, entryHeaderSize, to - entryHeaderSize);
+            } else {
+              System.arraycopy(content, from - entryHeaderSize, entryContent, 0, to - from);
+            }
 
             if (from > 0) {
               entryContent[entryContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] = 0;
@@ -415,8 +461,8 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
             prevPageRecordPointer = addedPagePointer;
             from = to;
             to = to + (OClusterPage.MAX_RECORD_SIZE - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE);
-            if (to > fullEntry.length) {
-              to = fullEntry.length;
+            if (to > entrySize) {
+              to = entrySize;
             }
 
           } while (from < to);
@@ -424,6 +470,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
           updateClusterState(1, recordsSizeDiff, atomicOperation);
           final long clusterPosition;
           if (allocatedPosition != null) {
+            invalidatePosition(allocatedPosition.clusterPosition);
             clusterPositionMap.update(allocatedPosition.clusterPosition,
                 new OClusterPositionMapBucket.PositionEntry(firstPageIndex, firstPagePosition), atomicOperation);
             clusterPosition = allocatedPosition.clusterPosition;
@@ -494,12 +541,25 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
       try {
         final OAtomicOperation atomicOperation = OAtomicOperationsManager.getCurrentOperation();
 
+        //cache contains only committed state, so it can not be used inside of atomic operation
+        final OClusterPositionCache cache = atomicOperation == null ? positionCache : null;
+        if (cache != null) {
+          final long pagePointer = cache.get(clusterPosition);
+          if (pagePointer >= 0) {
+            return internalReadRecord(clusterPosition, getPageIndex(pagePointer), getRecordPosition(pagePointer), pageCount, null);
+          }
+        }
+
         final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap
             .get(clusterPosition, pageCount, atomicOperation);
         if (positionEntry == null) {
           return null;
         }
 
+        if (cache != null) {
+          cache.put(clusterPosition, createPagePointer(positionEntry.getPageIndex(), positionEntry.getRecordPosition()));
+        }
+
         return internalReadRecord(clusterPosition, positionEntry.getPageIndex(), positionEntry.getRecordPosition(), pageCount,
             atomicOperation);
       } finally {
@@ -672,6 +732,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
         updateClusterState(-1, -removedContentSize, atomicOperation);
 
+        invalidatePosition(clusterPosition);
         clusterPositionMap.remove(clusterPosition, atomicOperation);
         addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
 
@@ -716,6 +777,11 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
           return;
         }
 
+        if (inPlaceUpdate && updateRecordInPlace(clusterPosition, positionEntry, content, recordVersion, recordType,
+            atomicOperation)) {
+          return;
+        }
+
         final List<byte[]> oldChunks = new ArrayList<>(2);
         int oldRecordVersion = -1;
         int oldContentSize = 0;
@@ -955,6 +1021,7 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
         assert newRecordPosition >= 0;
 
         if (newPageIndex != positionEntry.getPageIndex() || newRecordPosition != positionEntry.getRecordPosition()) {
+          invalidatePosition(clusterPosition);
           clusterPositionMap.update(clusterPosition, new OClusterPositionMapBucket.PositionEntry(newPageIndex, newRecordPosition),
               atomicOperation);
         }
@@ -993,6 +1060,82 @@ public final class OPaginatedClusterV2 extends OPaginatedCluster {
 
   }
 
+  /**
+   * Updates record which occupies single page entry without relocation of the record, if neither size nor type of the record are
+   * changed. Only ranges of bytes which differ from the stored content are written to the page, so update of a single field of a
+   * big document produces WAL records proportional to the size of the change rather than to the size of the document.
+   *
+   * @return <code>true</code> if record was updated, <code>false</code> if record has to be rewritten.
+   */
+  private boolean updateRecordInPlace(final long clusterPosition, final OClusterPositionMapBucket.PositionEntry positionEntry,
+      final byte[] content, final int recordVersion, final byte recordType, final OAtomicOperation atomicOperation)
+      throws IOException {
+    final int entryContentLength = getEntryContentLength(content.length);
+    if (entryContentLength >= OClusterPage.MAX_RECORD_SIZE) {
+      return false;
+    }
+
+    final int contentOffset = OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE;
+    final byte[] oldRecordContent;
+    final int oldRecordVersion;
+
+    final OCacheEntry cacheEntry = loadPageForWrite(atomicOperation, fileId, positionEntry.getPageIndex(), false, true);
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry);
+      final int recordPosition = positionEntry.getRecordPosition();
+
+      if (localPage.isDeleted(recordPosition)) {
+        throw new OPaginatedClusterException("Record with rid " + new ORecordId(id, clusterPosition) + " was deleted", this);
+      }
+
+      if (localPage.getRecordSize(recordPosition) != entryContentLength
+          || localPage.getRecordByteValue(recordPosition, 0) != recordType
+          || localPage.getRecordLongValue(recordPosition, -OLongSerializer.LONG_SIZE) >= 0) {
+        return false;
+      }
+
+      oldRecordVersion = localPage.getRecordVersion(recordPosition);
+      oldRecordContent = localPage.getRecordBinaryValue(recordPosition, contentOffset, content.length);
+
+      boolean updated = false;
+      int index = 0;
+      while (index < content.length) {
+        if (content[index] == oldRecordContent[index]) {
+          index++;
+          continue;
+        }
+
+        final int start = index;
+        int end = index + 1;
+        index = end;
+        while (index < content.length && index - end < IN_PLACE_UPDATE_RANGES_GAP) {
+          if (content[index] != oldRecordContent[index]) {
+            end = index + 1;
+          }
+          index++;
+        }
+
+        localPage.updateRecordPart(recordPosition, contentOffset + start, Arrays.copyOfRange(content, start, end), recordVersion);
+        updated = true;
+      }
+
+      if (!updated) {
+        //content is the same, only version of the record is changed
+        localPage.updateRecordPart(recordPosition, contentOffset, new byte[0], recordVersion);
+      }
+    } finally {
+      releasePageFromWrite(atomicOperation, cacheEntry);
+    }
+
+    addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
+
+    atomicOperation.addComponentOperation(
+        new OPaginatedClusterUpdateRecordCO(id, clusterPosition, content, recordVersion, recordType, oldRecordContent,
+            oldRecordVersion, recordType));
+
+    return true;
+  }
+
   @Override
   public long getTombstonesCount() {
     return 0;
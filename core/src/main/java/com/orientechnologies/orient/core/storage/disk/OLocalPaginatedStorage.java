@@ -30,6 +30,8 @@ import com.orientechnologies.common.parser.OSystemVariableResolver;
 import com.orientechnologies.common.serialization.types.OStringSerializer;
 import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.compression.impl.OZIPCompressionUtil;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
@@ -38,10 +40,12 @@ import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.chm.AsyncReadCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLog;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogGL;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogNoOP;
+import com.orientechnologies.orient.core.storage.cache.mapped.OMappedReadCache;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMap;
 import com.orientechnologies.orient.core.storage.config.OClusterBasedStorageConfiguration;
 import com.orientechnologies.orient.core.storage.fs.OFile;
@@ -49,6 +53,7 @@ import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedSt
 import com.orientechnologies.orient.core.storage.impl.local.OStorageConfigurationSegment;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OPaginatedStorageDirtyFlag;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALGroupCommit;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
@@ -83,6 +88,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
 
   private static final String[] ALL_FILE_EXTENSIONS = { ".cm", ".ocf", ".pls", ".pcl", ".oda", ".odh", ".otx", ".ocs", ".oef",
       ".oem", ".oet", ".fl", IV_EXT, CASDiskWriteAheadLog.WAL_SEGMENT_EXTENSION, CASDiskWriteAheadLog.MASTER_RECORD_EXTENSION,
+      CASDiskWriteAheadLog.WAL_COMPRESSED_SEGMENT_EXTENSION,
       OHashTableIndexEngine.BUCKET_FILE_EXTENSION, OHashTableIndexEngine.METADATA_FILE_EXTENSION,
       OHashTableIndexEngine.TREE_FILE_EXTENSION, OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
       OClusterPositionMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION, OIndexRIDContainer.INDEX_FILE_EXTENSION,
@@ -90,7 +96,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       OClusterBasedStorageConfiguration.MAP_FILE_EXTENSION, OClusterBasedStorageConfiguration.DATA_FILE_EXTENSION,
       OClusterBasedStorageConfiguration.TREE_DATA_FILE_EXTENSION, OClusterBasedStorageConfiguration.TREE_NULL_FILE_EXTENSION,
       OCellBTreeMultiValueIndexEngine.DATA_FILE_EXTENSION, OCellBTreeMultiValueIndexEngine.M_CONTAINER_EXTENSION,
-      DoubleWriteLogGL.EXTENSION };
+      DoubleWriteLogGL.EXTENSION, AsyncReadCache.CACHE_STATE_EXTENSION };
 
   private static final int ONE_KB = 1024;
 
@@ -111,12 +117,23 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
   private final OClosableLinkedContainer<Long, OFile> files;
 
   private Future<?> fuzzyCheckpointTask;
+  private Future<?> cacheStateTask;
+
+  private boolean keepCacheState;
 
   private final long walMaxSegSize;
   private final long doubleWriteLogMaxSegSize;
 
   private final AtomicReference<Future<Void>> segmentAppender = new AtomicReference<>();
 
+  /**
+   * Read cache shared between all disk based storages, it is replaced by {@link OMappedReadCache} if storage is opened in memory
+   * mapped read-only mode.
+   */
+  private final OReadCache diskReadCache;
+
+  private volatile boolean memoryMappedReadOnly;
+
   protected volatile byte[] iv;
 
   public OLocalPaginatedStorage(final String name, final String filePath, final String mode, final int id,
@@ -128,6 +145,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     this.files = files;
     this.doubleWriteLogMaxSegSize = doubleWriteLogMaxSegSize;
     this.readCache = readCache;
+    this.diskReadCache = readCache;
 
     final String sp = OSystemVariableResolver.resolveSystemVariables(OFileUtils.getPath(new java.io.File(url).getPath()));
 
@@ -414,6 +432,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       dirtyFlag.create();
       dirtyFlag.makeDirty();
     }
+
+    if (memoryMappedReadOnly && dirtyFlag.isDirty()) {
+      throw new OStorageException("Storage '" + name + "' was not closed properly and can not be opened in memory mapped "
+          + "read-only mode because WAL is not available in this mode. Open storage in normal mode to restore its data first");
+    }
   }
 
   @Override
@@ -444,6 +467,14 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       fuzzyCheckpointTask.cancel(false);
     }
 
+    if (cacheStateTask != null) {
+      cacheStateTask.cancel(false);
+    }
+
+    if (keepCacheState) {
+      readCache.storeCacheState(writeCache);
+    }
+
     return params;
   }
 
@@ -523,6 +554,10 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
 
   @Override
   protected void makeStorageDirty() throws IOException {
+    if (memoryMappedReadOnly) {
+      checkReadOnlyConditions();
+    }
+
     dirtyFlag.makeDirty();
   }
 
@@ -536,6 +571,11 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     return dirtyFlag.isDirty();
   }
 
+  @Override
+  protected boolean isMemoryMappedReadOnly() {
+    return memoryMappedReadOnly;
+  }
+
   @Override
   protected boolean isWriteAllowedDuringIncrementalBackup() {
     return true;
@@ -598,7 +638,16 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     final String aesKeyEncoded = contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_ENCRYPTION_KEY);
     final byte[] aesKey = aesKeyEncoded == null ? null : Base64.getDecoder().decode(aesKeyEncoded);
 
-    if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.USE_WAL)) {
+    //mode is applied only when existing storage is opened, storage is always created using disk cache
+    memoryMappedReadOnly = contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_OPEN_MEMORY_MAPPED_READ_ONLY) && exists();
+    if (memoryMappedReadOnly && aesKey != null) {
+      throw new OStorageException(
+          "Encrypted storage '" + name + "' can not be opened in memory mapped read-only mode, because pages are stored encrypted");
+    }
+
+    if (memoryMappedReadOnly) {
+      writeAheadLog = null;
+    } else if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.USE_WAL)) {
       fuzzyCheckpointTask = fuzzyCheckpointExecutor.scheduleWithFixedDelay(new PeriodicFuzzyCheckpoint(),
           contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL),
           contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL), TimeUnit.SECONDS);
@@ -627,6 +676,18 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       writeAheadLog = diskWriteAheadLog;
       writeAheadLog.addFullCheckpointListener(this);
 
+      //encrypted data can not be compressed
+      final String segmentCompression = contextConfiguration.getValueAsString(OGlobalConfiguration.WAL_SEGMENT_COMPRESSION);
+      if (aesKey == null && segmentCompression != null && !segmentCompression.equals(ONothingCompression.NAME)) {
+        diskWriteAheadLog.setSegmentCompression(OCompressionFactory.INSTANCE.getCompression(segmentCompression, null));
+      }
+
+      if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_SYNC_ON_COMMIT)) {
+        walGroupCommit = new OWALGroupCommit(diskWriteAheadLog, name,
+            TimeUnit.MICROSECONDS.toNanos(contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_WINDOW)),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_BATCH));
+      }
+
       diskWriteAheadLog.addSegmentOverflowListener((segment) -> {
         if (status != STATUS.OPEN) {
           return;
@@ -672,6 +733,26 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     wowCache.addPageIsBrokenListener(this);
 
     writeCache = wowCache;
+
+    if (memoryMappedReadOnly) {
+      readCache = new OMappedReadCache(pageSize);
+    } else {
+      readCache = diskReadCache;
+    }
+
+    keepCacheState = !memoryMappedReadOnly && contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE);
+    if (keepCacheState) {
+      final int cacheStateInterval = contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_KEEP_DISK_CACHE_STATE_INTERVAL);
+      cacheStateTask = fuzzyCheckpointExecutor.scheduleWithFixedDelay(new PeriodicCacheStateStore(), cacheStateInterval,
+          cacheStateInterval, TimeUnit.SECONDS);
+    }
+  }
+
+  @Override
+  protected void postOpenSteps() {
+    if (keepCacheState) {
+      readCache.loadCacheState(writeCache);
+    }
   }
 
   public static boolean exists(final Path path) {
@@ -706,6 +787,19 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
     }
   }
 
+  private final class PeriodicCacheStateStore implements Runnable {
+    @Override
+    public void run() {
+      try {
+        if (status == STATUS.OPEN) {
+          readCache.storeCacheState(writeCache);
+        }
+      } catch (final RuntimeException e) {
+        OLogManager.instance().error(this, "Error during store of disk cache state", e);
+      }
+    }
+  }
+
   private final class SegmentAdder implements Callable<Void> {
     private final long                 segment;
     private final CASDiskWriteAheadLog wal;
@@ -172,6 +172,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected volatile OWriteAheadLog          writeAheadLog;
   private            OStorageRecoverListener recoverListener;
 
+  /**
+   * Group commit which makes transactions durable once they are committed, <code>null</code> if commits are not forced to the
+   * disk.
+   */
+  protected volatile OWALGroupCommit walGroupCommit;
+
   protected volatile OReadCache  readCache;
   protected volatile OWriteCache writeCache;
 
@@ -321,6 +327,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
         status = STATUS.OPEN;
 
+        postOpenSteps();
+
         final String cs = configuration.getConflictStrategy();
         if (cs != null) {
           // SET THE CONFLICT STORAGE STRATEGY FROM THE LOADED CONFIGURATION
@@ -335,6 +343,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           //ignore
         }
 
+        try {
+          closeWALGroupCommit();
+        } catch (final Exception ee) {
+          //ignore
+        }
+
         try {
           if (writeAheadLog != null) {
             writeAheadLog.close();
@@ -1575,6 +1589,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return writeAheadLog;
   }
 
+  public OWALGroupCommit getWALGroupCommit() {
+    return walGroupCommit;
+  }
+
   @Override
   public final OStorageOperationResult<Boolean> deleteRecord(final ORecordId rid, final int version, final int mode,
       final ORecordCallback<Boolean> callback) {
@@ -1915,6 +1933,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>(8);
+      OLogSequenceNumber commitLSN = null;
       stateLock.acquireReadLock();
       try {
         if (modificationLock) {
@@ -2020,7 +2039,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             if (rollback) {
               rollback(transaction);
             } else {
-              endStorageTx(transaction, recordOperations);
+              commitLSN = endStorageTx(transaction, recordOperations);
             }
 
             this.transaction.set(null);
@@ -2053,6 +2072,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         }
       }
 
+      //wait for durability of transaction after all locks are released, so concurrent commits may join the same flush of WAL
+      final OWALGroupCommit groupCommit = walGroupCommit;
+      if (groupCommit != null && commitLSN != null) {
+        groupCommit.commit(commitLSN);
+      }
+
       if (OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
             .debug(this, "%d Committed transaction %d on database '%s' (result=%s)", Thread.currentThread().getId(),
@@ -4470,6 +4495,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected final void postCreateSteps() {
   }
 
+  @SuppressWarnings("EmptyMethod")
+  protected void postOpenSteps() {
+  }
+
   protected void preCreateSteps() throws IOException {
   }
 
@@ -4489,6 +4518,14 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   protected void postDeleteSteps() {
   }
 
+  private void closeWALGroupCommit() {
+    final OWALGroupCommit groupCommit = walGroupCommit;
+    if (groupCommit != null) {
+      walGroupCommit = null;
+      groupCommit.close();
+    }
+  }
+
   protected void makeStorageDirty() throws IOException {
   }
 
@@ -4499,6 +4536,16 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return false;
   }
 
+  /**
+   * @return <code>true</code> if storage is opened in memory mapped read-only mode, in which any modification operations are
+   * prohibited.
+   *
+   * @see OGlobalConfiguration#STORAGE_OPEN_MEMORY_MAPPED_READ_ONLY
+   */
+  protected boolean isMemoryMappedReadOnly() {
+    return false;
+  }
+
   private ORawBuffer readRecordIfNotLatest(final OCluster cluster, final ORecordId rid, final int recordVersion)
       throws ORecordNotFoundException {
     checkOpenness();
@@ -4578,13 +4625,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  private void endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
+  private OLogSequenceNumber endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
       throws IOException {
-    atomicOperationsManager.endAtomicOperation(false);
+    final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(false);
     assert OAtomicOperationsManager.getCurrentOperation() == null;
 
     OTransactionAbstract.updateCacheFromEntries(txi.getDatabase(), recordOperations, true);
     txCommit.incrementAndGet();
+
+    return lsn;
   }
 
   private void startStorageTx(final OTransactionInternal clientTx) throws IOException {
@@ -5188,6 +5237,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         }
 
+        closeWALGroupCommit();
+
         if (writeAheadLog != null) {
           if (onDelete) {
             writeAheadLog.delete();
@@ -5616,6 +5667,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       final int reportBatchSize = OGlobalConfiguration.WAL_REPORT_AFTER_OPERATIONS_DURING_RESTORE.getValueAsInteger();
       final Map<OOperationUnitId, List<OWALRecord>> operationUnits = new HashMap<>(1024);
 
+      final int restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+      final OWALParallelRestore parallelRestore =
+          restoreThreads > 1 ? new OWALParallelRestore(readCache, writeCache, name, restoreThreads) : null;
+
+      final long startTime = System.currentTimeMillis();
       long lastReportTime = 0;
 
       try {
@@ -5631,7 +5687,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               // in case of data restore from fuzzy checkpoint part of operations may be already flushed to the disk
               if (atomicUnit != null) {
                 atomicUnit.add(walRecord);
-                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+                restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, parallelRestore);
               }
 
             } else if (walRecord instanceof OAtomicUnitStartRecord) {
@@ -5674,12 +5730,19 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
               OLogManager.instance()
                   .infoNoDb(this, "%d operations were processed, current LSN is %s last LSN is %s", recordsProcessed, lsn,
                       writeAheadLog.end());
+              notifyRecoverProgress(recordsProcessed, logSequenceNumber, writeAheadLog, startTime);
               lastReportTime = currentTime;
             }
           }
 
           records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
         }
+
+        if (parallelRestore != null) {
+          parallelRestore.awaitCompletion();
+        }
+
+        notifyRecoverProgress(recordsProcessed, logSequenceNumber, writeAheadLog, startTime);
       } catch (final OWALPageBrokenException e) {
         OLogManager.instance()
             .errorNoDb(this, "Data restore was paused because broken WAL page was found. The rest of changes will be rolled back.",
@@ -5690,6 +5753,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
                 + " Please report issue about this exception to bug tracker and provide WAL files which are backed up in 'wal_backup' directory.",
             e);
         backUpWAL(e);
+      } finally {
+        if (parallelRestore != null) {
+          parallelRestore.close();
+        }
       }
 
       if (atLeastOnePageUpdate.getValue()) {
@@ -5702,6 +5769,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  private void notifyRecoverProgress(final long recordsProcessed, final OLogSequenceNumber currentLSN,
+      final OWriteAheadLog writeAheadLog, final long startTime) {
+    final OStorageRecoverListener listener = recoverListener;
+    if (listener != null) {
+      final long elapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+      listener.onStorageRecoverProgress(recordsProcessed, currentLSN, writeAheadLog.end(), recordsProcessed * 1000 / elapsedTime);
+    }
+  }
+
   private void backUpWAL(final Exception e) {
     try {
       final File rootDir = new File(configuration.getDirectory());
@@ -5778,9 +5854,22 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   @SuppressWarnings("WeakerAccess")
   protected final void restoreAtomicUnit(final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+  }
+
+  /**
+   * @param parallelRestore If not <code>null</code> page changes are applied asynchronously by workers of passed in instance,
+   *                        changes of set of files are performed once all previously submitted page changes are applied.
+   */
+  private void restoreAtomicUnit(final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate,
+      final OWALParallelRestore parallelRestore) throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     for (final OWALRecord walRecord : atomicUnit) {
+      if (parallelRestore != null && (walRecord instanceof OFileDeletedWALRecord || walRecord instanceof OFileCreatedWALRecord)) {
+        parallelRestore.awaitCompletion();
+      }
+
       if (walRecord instanceof OFileDeletedWALRecord) {
         final OFileDeletedWALRecord fileDeletedWALRecord = (OFileDeletedWALRecord) walRecord;
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
@@ -5811,6 +5900,12 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
 
+        if (parallelRestore != null) {
+          parallelRestore.submit(fileId, updatePageRecord);
+          atLeastOnePageUpdate.setValue(true);
+          continue;
+        }
+
         OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
         if (cacheEntry == null) {
           do {
@@ -5892,6 +5987,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
   }
 
   public final void checkReadOnlyConditions() {
+    if (isMemoryMappedReadOnly()) {
+      throw new OStorageException(
+          "Storage '" + name + "' is opened in memory mapped read-only mode. Any modification operations are prohibited");
+    }
+
     if (dataFlushException != null) {
       throw OException.wrapException(new OStorageException(
               "Error in data flush background thread, please restart database and send full stack trace inside of bug report"),
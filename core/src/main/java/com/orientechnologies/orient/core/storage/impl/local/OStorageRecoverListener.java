@@ -1,5 +1,7 @@
 package com.orientechnologies.orient.core.storage.impl.local;
 
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+
 /**
  * Allows listeners to be notified in case of recovering is started at storage open.
  * 
@@ -7,4 +9,16 @@ package com.orientechnologies.orient.core.storage.impl.local;
  */
 public interface OStorageRecoverListener {
   void onStorageRecover();
+
+  /**
+   * Called periodically during restore of data from WAL and once restore is completed.
+   *
+   * @param recordsProcessed Amount of WAL records processed since the start of restore.
+   * @param currentLSN       LSN of the last processed record.
+   * @param endLSN           LSN of the last record of WAL.
+   * @param recordsPerSecond Average amount of records processed per second since the start of restore.
+   */
+  default void onStorageRecoverProgress(final long recordsProcessed, final OLogSequenceNumber currentLSN,
+      final OLogSequenceNumber endLSN, final long recordsPerSecond) {
+  }
 }
@@ -0,0 +1,276 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies page updates restored from WAL on the pool of worker threads. Updates are partitioned between workers by file id and
+ * page index and each worker applies updates in order of submission, so changes of the single page are applied in the same order
+ * as they were logged in WAL. Operations which change set of files of storage should be performed only once all submitted updates
+ * are applied, see {@link #awaitCompletion()}.
+ * <p>
+ * If one of the updates can not be applied, the rest of updates are skipped and error is thrown by the following call of
+ * {@link #submit(long, OUpdatePageRecord)} or {@link #awaitCompletion()}.
+ */
+final class OWALParallelRestore implements AutoCloseable {
+  private static final int QUEUE_CAPACITY = 4 * 1024;
+
+  private static final PageUpdate STOP = new PageUpdate(-1, null);
+
+  private final OReadCache  readCache;
+  private final OWriteCache writeCache;
+
+  private final Worker[] workers;
+
+  /**
+   * Serializes allocation of new pages, otherwise workers which restore different pages at the end of the same file would
+   * allocate pages requested by each other.
+   */
+  private final Lock allocationLock = new ReentrantLock();
+
+  private final AtomicLong                 inFlight = new AtomicLong();
+  private final AtomicReference<Throwable> error    = new AtomicReference<>();
+
+  private final Lock      completionLock = new ReentrantLock();
+  private final Condition completed      = completionLock.newCondition();
+
+  OWALParallelRestore(final OReadCache readCache, final OWriteCache writeCache, final String storageName, final int threads) {
+    this.readCache = readCache;
+    this.writeCache = writeCache;
+
+    workers = new Worker[threads];
+    for (int i = 0; i < threads; i++) {
+      final Worker worker = new Worker();
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, worker);
+      thread.setDaemon(true);
+      thread.setName("OrientDB WAL Restore Worker (" + storageName + ") #" + i);
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+
+      worker.thread = thread;
+      workers[i] = worker;
+
+      thread.start();
+    }
+  }
+
+  /**
+   * Schedules page update for restore.
+   *
+   * @param fileId           External id of file to which page belongs.
+   * @param updatePageRecord Changes of the page.
+   */
+  void submit(final long fileId, final OUpdatePageRecord updatePageRecord) {
+    checkError();
+
+    final long pageIndex = updatePageRecord.getPageIndex();
+    final long hash = writeCache.internalFileId(fileId) * 31 + pageIndex;
+    final Worker worker = workers[Math.floorMod(Long.hashCode(hash ^ (hash >>> 17)), workers.length)];
+
+    inFlight.incrementAndGet();
+    final PageUpdate pageUpdate = new PageUpdate(fileId, updatePageRecord);
+    try {
+      while (!worker.queue.offer(pageUpdate, 100, TimeUnit.MILLISECONDS)) {
+        checkError();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Restore of data from WAL was interrupted"), e);
+    }
+  }
+
+  /**
+   * Waits till all submitted page updates are applied.
+   */
+  void awaitCompletion() {
+    completionLock.lock();
+    try {
+      while (inFlight.get() > 0 && error.get() == null) {
+        completed.awaitUninterruptibly();
+      }
+    } finally {
+      completionLock.unlock();
+    }
+
+    checkError();
+  }
+
+  /**
+   * Waits till all submitted page updates are applied and stops worker threads. Workers which were stopped by unexpected error
+   * do not drain their queues, so they are not waited for.
+   */
+  @Override
+  public void close() {
+    try {
+      for (final Worker worker : workers) {
+        while (!worker.queue.offer(STOP, 100, TimeUnit.MILLISECONDS)) {
+          if (!worker.thread.isAlive()) {
+            break;
+          }
+        }
+      }
+
+      for (final Worker worker : workers) {
+        worker.thread.join();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Waiting for WAL restore workers was interrupted"), e);
+    }
+  }
+
+  private void signalCompletion() {
+    completionLock.lock();
+    try {
+      completed.signalAll();
+    } finally {
+      completionLock.unlock();
+    }
+  }
+
+  private void checkError() {
+    final Throwable throwable = error.get();
+    if (throwable != null) {
+      if (throwable instanceof RuntimeException) {
+        throw (RuntimeException) throwable;
+      }
+
+      throw OException.wrapException(new OStorageException("Error during restore of data from WAL"), throwable);
+    }
+  }
+
+  /**
+   * Applies changes of the page which were logged in WAL. If page does not exist yet, file is extended till requested page.
+   *
+   * @param fileId External id of file to which page belongs.
+   */
+  private void restorePage(final long fileId, final OUpdatePageRecord updatePageRecord) throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+    if (cacheEntry == null) {
+      allocationLock.lock();
+      try {
+        //page could be allocated by other thread which restores page with bigger index
+        cacheEntry = readCache.loadForWrite(fileId, pageIndex, true, writeCache, false, null);
+
+        if (cacheEntry == null) {
+          do {
+            if (cacheEntry != null) {
+              readCache.releaseFromWrite(cacheEntry, writeCache, true);
+            }
+
+            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+          } while (cacheEntry.getPageIndex() != pageIndex);
+        }
+      } finally {
+        allocationLock.unlock();
+      }
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      durablePage.restoreChanges(updatePageRecord.getChanges());
+      durablePage.setLsn(updatePageRecord.getLsn());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
+  private static final class PageUpdate {
+    private final long              fileId;
+    private final OUpdatePageRecord record;
+
+    private PageUpdate(final long fileId, final OUpdatePageRecord record) {
+      this.fileId = fileId;
+      this.record = record;
+    }
+  }
+
+  private final class Worker implements Runnable {
+    private final BlockingQueue<PageUpdate> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private       Thread                    thread;
+
+    @Override
+    public void run() {
+      try {
+        applyUpdates();
+      } catch (final RuntimeException | Error e) {
+        //worker is stopped, so its updates are never applied and submitters and waiters should not wait for them
+        error.compareAndSet(null, e);
+        signalCompletion();
+
+        throw e;
+      }
+    }
+
+    private void applyUpdates() {
+      while (true) {
+        final PageUpdate pageUpdate;
+        try {
+          pageUpdate = queue.take();
+        } catch (final InterruptedException e) {
+          error.compareAndSet(null, e);
+          signalCompletion();
+
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        if (pageUpdate == STOP) {
+          return;
+        }
+
+        try {
+          //once error is happened the rest of updates are skipped
+          if (error.get() == null) {
+            restorePage(pageUpdate.fileId, pageUpdate.record);
+          }
+        } catch (final IOException | RuntimeException e) {
+          error.compareAndSet(null, e);
+        } finally {
+          if (inFlight.decrementAndGet() == 0) {
+            signalCompletion();
+          }
+        }
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.atomicope
 
 import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.concur.lock.OOneEntryPerKeyLockManager;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.OOrientListenerAbstract;
@@ -131,6 +132,8 @@ public class OAtomicOperationsManager {
    * #freezeAtomicOperations(Class, String)} method. If mentioned above method is called then execution of current method will be
    * stopped till call of {@link #releaseAtomicOperations(long)} method or exception will be thrown. Concrete behaviour depends on
    * real values of parameters of {@link #freezeAtomicOperations(Class, String)} method.
+   * <p>Start of atomic operation is also delayed for a short time if components which buffer written data consume more direct
+   * memory than allowed by their soft budgets, see {@link ODirectMemoryAllocator#applyBackpressure()}.
    *
    * @param trackNonTxOperations If this flag set to <code>true</code> then special record {@link ONonTxOperationPerformedWALRecord}
    *                             will be added to WAL in case of atomic operation is started outside of active storage transaction.
@@ -152,6 +155,8 @@ public class OAtomicOperationsManager {
       return operation;
     }
 
+    ODirectMemoryAllocator.instance().applyBackpressure();
+
     atomicOperationsCount.increment();
 
     while (freezeRequests.get() > 0) {
@@ -0,0 +1,274 @@
+/*
+ *
+ *  *  Copyright 2010-2019 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.profiler.OPowerOfTwoHistogram;
+import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit of transactions. Threads which commit transactions register LSN of the last record of transaction and park till
+ * WAL is forced to the disk. Single flusher thread waits for the first pending commit, then waits till either group commit
+ * window is over or maximum amount of commits is pending and forces WAL to the disk once for all of them. All commits which were
+ * registered before the flush is started are released together once flush is completed.
+ * <p>
+ * If WAL can not be flushed, all commits of the batch fail with {@link OStorageException}. If flusher thread is stopped by
+ * unexpected error, all pending and following commits fail with {@link OStorageException} instead of waiting for flush which
+ * never happens.
+ */
+public final class OWALGroupCommit {
+  private final OWriteAheadLog writeAheadLog;
+  private final long           windowNanos;
+  private final int            maxBatchSize;
+
+  private final Lock      lock           = new ReentrantLock();
+  private final Condition flushRequested = lock.newCondition();
+  private final Condition flushCompleted = lock.newCondition();
+
+  /**
+   * Amount of commits which wait for the next flush. Protected by {@link #lock}.
+   */
+  private int pendingCommits;
+
+  /**
+   * Number of the flush which is going to be started next. Protected by {@link #lock}.
+   */
+  private long nextFlush = 1;
+
+  /**
+   * Number of the last completed flush. Protected by {@link #lock}.
+   */
+  private long completedFlush;
+
+  /**
+   * Number of the last failed flush. Protected by {@link #lock}.
+   */
+  private long      failedFlush;
+  private Throwable flushError;
+
+  /**
+   * Error which stopped flusher thread. Protected by {@link #lock}.
+   */
+  private Throwable flusherError;
+
+  /**
+   * Protected by {@link #lock}.
+   */
+  private boolean closed;
+
+  private final OPowerOfTwoHistogram batchSizeHistogram = new OPowerOfTwoHistogram();
+  private final OPowerOfTwoHistogram waitTimeHistogram  = new OPowerOfTwoHistogram();
+
+  private final Thread flusher;
+
+  /**
+   * @param windowNanos  Maximum time which flusher waits for other commits once first commit of the batch is registered.
+   * @param maxBatchSize Amount of pending commits which causes flush before window is over.
+   */
+  public OWALGroupCommit(final OWriteAheadLog writeAheadLog, final String storageName, final long windowNanos,
+      final int maxBatchSize) {
+    this.writeAheadLog = writeAheadLog;
+    this.windowNanos = windowNanos;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+
+    flusher = new Thread(OStorageAbstract.storageThreadGroup, this::flushLoop);
+    flusher.setDaemon(true);
+    flusher.setName("OrientDB WAL Group Commit Flusher (" + storageName + ")");
+    flusher.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+    flusher.start();
+  }
+
+  /**
+   * Waits till all WAL records up to passed in LSN are forced to the disk. If group commit is closed, method returns
+   * immediately, because WAL is flushed during close of the storage.
+   *
+   * @param lsn LSN of the last record of committed transaction.
+   */
+  public void commit(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber flushedLSN = writeAheadLog.getFlushedLsn();
+    if (flushedLSN != null && flushedLSN.compareTo(lsn) >= 0) {
+      waitTimeHistogram.record(0);
+      return;
+    }
+
+    final long start = System.nanoTime();
+
+    lock.lock();
+    try {
+      if (flusherError != null) {
+        throw OException.wrapException(new OStorageException("Transaction is committed but WAL group commit is stopped"),
+            flusherError);
+      }
+
+      if (closed) {
+        return;
+      }
+
+      //flush which is started after this moment covers record of current transaction
+      final long flush = nextFlush;
+
+      pendingCommits++;
+      if (pendingCommits == 1 || pendingCommits >= maxBatchSize) {
+        flushRequested.signal();
+      }
+
+      //flusher processes all registered commits before it is stopped
+      while (completedFlush < flush && flusherError == null) {
+        flushCompleted.awaitUninterruptibly();
+      }
+
+      if (completedFlush < flush) {
+        throw OException.wrapException(new OStorageException("Transaction is committed but WAL group commit is stopped"),
+            flusherError);
+      }
+
+      if (failedFlush == flush) {
+        throw OException.wrapException(new OStorageException("Transaction is committed but WAL can not be forced to the disk"),
+            flushError);
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    waitTimeHistogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+  }
+
+  private void flushLoop() {
+    try {
+      doFlushLoop();
+    } catch (final RuntimeException | Error e) {
+      lock.lock();
+      try {
+        flusherError = e;
+        flushCompleted.signalAll();
+      } finally {
+        lock.unlock();
+      }
+
+      throw e;
+    }
+  }
+
+  private void doFlushLoop() {
+    while (true) {
+      final long flush;
+      final int batchSize;
+
+      lock.lock();
+      try {
+        while (pendingCommits == 0 && !closed) {
+          flushRequested.awaitUninterruptibly();
+        }
+
+        if (pendingCommits == 0) {
+          return;
+        }
+
+        //give other commits a chance to join the batch
+        long remaining = windowNanos;
+        while (pendingCommits < maxBatchSize && remaining > 0 && !closed) {
+          try {
+            remaining = flushRequested.awaitNanos(remaining);
+          } catch (final InterruptedException e) {
+            //interruption status is not restored, otherwise it closes channels of WAL segments during the flush,
+            //flusher stays alive and forces WAL for current batch without waiting for the rest of the window
+            OLogManager.instance().warnNoDb(this, "Group commit flusher was interrupted, WAL is flushed immediately");
+            break;
+          }
+        }
+
+        flush = nextFlush;
+        nextFlush++;
+
+        batchSize = pendingCommits;
+        pendingCommits = 0;
+      } finally {
+        lock.unlock();
+      }
+
+      Throwable error = null;
+      try {
+        writeAheadLog.flush();
+      } catch (final RuntimeException e) {
+        OLogManager.instance().errorNoDb(this, "Error during flush of WAL by group commit", e);
+        error = e;
+      }
+
+      batchSizeHistogram.record(batchSize);
+
+      lock.lock();
+      try {
+        completedFlush = flush;
+        if (error != null) {
+          failedFlush = flush;
+          flushError = error;
+        }
+
+        flushCompleted.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Flushes WAL for all pending commits and stops flusher thread.
+   */
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      flushRequested.signal();
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      flusher.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Waiting for group commit flusher was interrupted"), e);
+    }
+  }
+
+  /**
+   * @return Histogram of amount of commits which were made durable by single flush of WAL.
+   */
+  public OPowerOfTwoHistogram getBatchSizeHistogram() {
+    return batchSizeHistogram;
+  }
+
+  /**
+   * @return Histogram of time (in microseconds) which commits spent waiting for flush of WAL.
+   */
+  public OPowerOfTwoHistogram getWaitTimeHistogram() {
+    return waitTimeHistogram;
+  }
+}
@@ -310,6 +310,9 @@ public final class OWALRecordsFactory {
     case CLUSTER_PAGE_SET_RECORD_LONG_VALUE_PO:
       walRecord = new ClusterPageSetRecordLongValuePO();
       break;
+    case CLUSTER_PAGE_UPDATE_RECORD_PART_PO:
+      walRecord = new ClusterPageUpdateRecordPartPO();
+      break;
     case PAGINATED_CLUSTER_STATE_V0_SET_SIZE_PO:
       walRecord = new PaginatedClusterStateV0SetSizePO();
       break;
@@ -35,8 +35,9 @@ import java.util.Map;
  * @since 6/25/14
  */
 public interface OWriteAheadLog {
-  String MASTER_RECORD_EXTENSION = ".wmr";
-  String WAL_SEGMENT_EXTENSION   = ".wal";
+  String MASTER_RECORD_EXTENSION          = ".wmr";
+  String WAL_SEGMENT_EXTENSION            = ".wal";
+  String WAL_COMPRESSED_SEGMENT_EXTENSION = ".cwal";
 
   OLogSequenceNumber logFuzzyCheckPointStart(OLogSequenceNumber flushedLsn) throws IOException;
 
@@ -219,4 +219,6 @@ public final class WALRecordTypes {
 
   public static final int LOCAL_HASH_TABLE_V2_DIRECTORY_FIRST_PAGE_SET_TREE_SIZE_PO = 183;
   public static final int LOCAL_HASH_TABLE_V2_DIRECTORY_FIRST_PAGE_SET_TOMBSTONE_PO = 184;
+
+  public static final int CLUSTER_PAGE_UPDATE_RECORD_PART_PO = 185;
 }
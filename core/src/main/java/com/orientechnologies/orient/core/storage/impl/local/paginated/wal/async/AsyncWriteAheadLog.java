@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.async
 
 import com.orientechnologies.common.concur.lock.ScalableRWLock;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
@@ -299,11 +300,11 @@ public final class AsyncWriteAheadLog implements OWriteAheadLog {
 
     this.commitDelay = commitDelay;
 
-    writeBufferPointerOne = allocator.allocate(bufferSize1, blockSize, false);
+    writeBufferPointerOne = allocator.allocate(bufferSize1, blockSize, false, Intention.WAL);
     writeBufferOne = writeBufferPointerOne.getNativeByteBuffer().order(ByteOrder.nativeOrder());
     assert writeBufferOne.position() == 0;
 
-    writeBufferPointerTwo = allocator.allocate(bufferSize1, blockSize, false);
+    writeBufferPointerTwo = allocator.allocate(bufferSize1, blockSize, false, Intention.WAL);
     writeBufferTwo = writeBufferPointerTwo.getNativeByteBuffer().order(ByteOrder.nativeOrder());
     assert writeBufferTwo.position() == 0;
 
@@ -666,7 +667,7 @@ public final class AsyncWriteAheadLog implements OWriteAheadLog {
 
               final OPointer ptr;
               if (allowDirectIO) {
-                ptr = allocator.allocate(pageSize, blockSize, false);
+                ptr = allocator.allocate(pageSize, blockSize, false, Intention.WAL);
               } else {
                 ptr = null;
               }
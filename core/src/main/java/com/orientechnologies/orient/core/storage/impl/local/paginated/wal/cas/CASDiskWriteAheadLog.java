@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
 
 import com.orientechnologies.common.concur.lock.ScalableRWLock;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
@@ -13,6 +14,7 @@ import com.orientechnologies.common.thread.OThreadPoolExecutorWithLogging;
 import com.orientechnologies.common.types.OModifiableLong;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
+import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.exception.OInvalidStorageEncryptionKeyException;
 import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -39,7 +41,9 @@ import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.InvalidAlgorithmParameterException;
@@ -47,6 +51,7 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -70,8 +75,16 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private static final int MASTER_RECORD_SIZE = 20;
   private static final int BATCH_READ_SIZE    = 4 * 1024;
 
+  /**
+   * Size of uncompressed chunk of WAL segment which is compressed as single unit.
+   */
+  private static final int COMPRESSION_CHUNK_SIZE = 1024 * 1024;
+
+  private static final String COMPRESSION_TMP_EXTENSION = ".tmp";
+
   private static final OScheduledThreadPoolExecutorWithLogging commitExecutor;
   private static final OThreadPoolExecutorWithLogging          writeExecutor;
+  private static final OThreadPoolExecutorWithLogging          compressionExecutor;
 
   static {
     commitExecutor = new OScheduledThreadPoolExecutorWithLogging(1, r -> {
@@ -90,6 +103,14 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       return thread;
     });
 
+    compressionExecutor = new OThreadPoolExecutorWithLogging(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+      final Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setName("OrientDB WAL Segment Compression Task");
+      thread.setUncaughtExceptionHandler(new OUncaughtExceptionHandler());
+      return thread;
+    });
+
     commitExecutor.setMaximumPoolSize(1);
   }
 
@@ -120,6 +141,15 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final AtomicReference<OLogSequenceNumber> end      = new AtomicReference<>();
   private final ConcurrentSkipListSet<Long>         segments = new ConcurrentSkipListSet<>();
 
+  /**
+   * Segments which are stored in compressed form, subset of {@link #segments}.
+   */
+  private final ConcurrentSkipListSet<Long> compressedSegments = new ConcurrentSkipListSet<>();
+
+  private volatile OCompression segmentCompression;
+  private final    AtomicBoolean compressionScheduled = new AtomicBoolean();
+  private volatile Future<?>     compressionFuture;
+
   private final FileStore fileStore;
   private final Path      walLocation;
   private final String    storageName;
@@ -309,11 +339,11 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
     this.commitDelay = commitDelay;
 
-    writeBufferPointerOne = allocator.allocate(bufferSize1, blockSize, false);
+    writeBufferPointerOne = allocator.allocate(bufferSize1, blockSize, false, Intention.WAL);
     writeBufferOne = writeBufferPointerOne.getNativeByteBuffer().order(ByteOrder.nativeOrder());
     assert writeBufferOne.position() == 0;
 
-    writeBufferPointerTwo = allocator.allocate(bufferSize1, blockSize, false);
+    writeBufferPointerTwo = allocator.allocate(bufferSize1, blockSize, false, Intention.WAL);
     writeBufferTwo = writeBufferPointerTwo.getNativeByteBuffer().order(ByteOrder.nativeOrder());
     assert writeBufferTwo.position() == 0;
 
@@ -448,16 +478,42 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       throw new IllegalStateException(
           "Location passed in WAL does not exist, or IO error was happened. DB cannot work in durable mode in such case");
 
+    final List<Path> compressedFiles = new ArrayList<>();
     walFiles.forEach((Path path) -> {
-      segments.add(extractSegmentId(path.getFileName().toString()));
-      walSize.increment(path.toFile().length());
+      if (path.getFileName().toString().endsWith(WAL_COMPRESSED_SEGMENT_EXTENSION)) {
+        compressedFiles.add(path);
+      } else {
+        segments.add(extractSegmentId(path.getFileName().toString()));
+        walSize.increment(path.toFile().length());
+      }
     });
 
+    for (final Path path : compressedFiles) {
+      final long segment = extractSegmentId(path.getFileName().toString());
+
+      //storage was closed after compressed copy is created but before original segment was removed
+      if (segments.contains(segment)) {
+        Files.delete(path);
+      } else {
+        segments.add(segment);
+        compressedSegments.add(segment);
+        walSize.increment(path.toFile().length());
+      }
+    }
+
+    try (final Stream<Path> tmpFiles = Files.find(walLocation, 1,
+        (Path path, BasicFileAttributes attributes) -> path.getFileName().toString()
+            .endsWith(WAL_COMPRESSED_SEGMENT_EXTENSION + COMPRESSION_TMP_EXTENSION))) {
+      for (final Path path : (Iterable<Path>) tmpFiles::iterator) {
+        Files.delete(path);
+      }
+    }
+
     return walSize.value;
   }
 
   private static long extractSegmentId(final String name) {
-    final Matcher matcher = Pattern.compile("^.*\\.(\\d+)\\.wal$").matcher(name);
+    final Matcher matcher = Pattern.compile("^.*\\.(\\d+)\\.c?wal$").matcher(name);
 
     final boolean matches = matcher.find();
     assert matches;
@@ -475,11 +531,12 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     name = name.toLowerCase(locale);
     storageName = storageName.toLowerCase(locale);
 
-    if (!name.endsWith(".wal"))
+    final int extensionLength = segmentExtensionLength(name);
+    if (extensionLength < 0)
       return false;
 
     final int walOrderStartIndex = name.indexOf('.');
-    if (walOrderStartIndex == name.length() - 4)
+    if (walOrderStartIndex == name.length() - extensionLength)
       return false;
 
     final String walStorageName = name.substring(0, walOrderStartIndex);
@@ -501,11 +558,12 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private static boolean validateSimpleName(String name, final Locale locale) {
     name = name.toLowerCase(locale);
 
-    if (!name.endsWith(".wal"))
+    final int extensionLength = segmentExtensionLength(name);
+    if (extensionLength < 0)
       return false;
 
     final int walOrderStartIndex = name.indexOf('.');
-    if (walOrderStartIndex == name.length() - 4)
+    if (walOrderStartIndex == name.length() - extensionLength)
       return false;
 
     final int walOrderEndIndex = name.indexOf('.', walOrderStartIndex + 1);
@@ -520,6 +578,21 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     return true;
   }
 
+  /**
+   * @return Length of extension of WAL segment file or <code>-1</code> if passed in name is not a name of WAL segment.
+   */
+  private static int segmentExtensionLength(final String name) {
+    if (name.endsWith(WAL_SEGMENT_EXTENSION)) {
+      return WAL_SEGMENT_EXTENSION.length();
+    }
+
+    if (name.endsWith(WAL_COMPRESSED_SEGMENT_EXTENSION)) {
+      return WAL_COMPRESSED_SEGMENT_EXTENSION.length();
+    }
+
+    return -1;
+  }
+
   private static Path calculateWalPath(final Path storagePath, final Path walPath) {
     if (walPath == null)
       return storagePath;
@@ -656,11 +729,11 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
         segment = segmentsIterator.next();
 
         final String segmentName = getSegmentName(segment);
-        final Path segmentPath = walLocation.resolve(segmentName);
+        final OWALFile segmentFile = openSegmentForRead(segment);
 
-        if (Files.exists(segmentPath)) {
-          try (final OWALFile file = OWALFile.createReadWALFile(segmentPath, allowDirectIO, blockSize)) {
-            long chSize = Files.size(segmentPath);
+        if (segmentFile != null) {
+          try (final OWALFile file = segmentFile) {
+            long chSize = file.size();
             final WrittenUpTo written = this.writtenUpTo.get();
 
             if (segment == written.lsn.getSegment()) {
@@ -678,7 +751,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
               final OPointer ptr;
               if (allowDirectIO) {
-                ptr = allocator.allocate(pageSize, blockSize, false);
+                ptr = allocator.allocate(pageSize, blockSize, false, Intention.WAL);
               } else {
                 ptr = null;
               }
@@ -787,6 +860,29 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     return result;
   }
 
+  /**
+   * Opens segment for read, segment may be stored either as is or in compressed form.
+   *
+   * @return File of segment or <code>null</code> if segment does not exist.
+   */
+  private OWALFile openSegmentForRead(final long segment) throws IOException {
+    final Path segmentPath = walLocation.resolve(getSegmentName(segment));
+    if (Files.exists(segmentPath)) {
+      try {
+        return OWALFile.createReadWALFile(segmentPath, allowDirectIO, blockSize);
+      } catch (final NoSuchFileException e) {
+        //segment was compressed concurrently
+      }
+    }
+
+    final Path compressedSegmentPath = walLocation.resolve(getCompressedSegmentName(segment));
+    if (Files.exists(compressedSegmentPath)) {
+      return OWALCompressedFile.open(compressedSegmentPath);
+    }
+
+    return null;
+  }
+
   public List<WriteableWALRecord> next(final OLogSequenceNumber lsn, final int limit) throws IOException {
     addCutTillLimit(lsn);
     try {
@@ -925,6 +1021,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       final String segmentName = getSegmentName(segment);
       final Path segmentPath = walLocation.resolve(segmentName);
       Files.deleteIfExists(segmentPath);
+      Files.deleteIfExists(walLocation.resolve(getCompressedSegmentName(segment)));
     }
   }
 
@@ -1167,14 +1264,15 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
           if (segment < segmentId) {
             segmentIterator.remove();
 
-            final String segmentName = getSegmentName(segment);
-            final Path segmentPath = walLocation.resolve(segmentName);
+            final Path segmentPath = segmentPath(segment);
             if (Files.exists(segmentPath)) {
               final long length = Files.size(segmentPath);
               Files.delete(segmentPath);
               logSize.addAndGet(-length);
               removed = true;
             }
+
+            compressedSegments.remove(segment);
           } else {
             break;
           }
@@ -1241,8 +1339,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     final List<String> result = new ArrayList<>();
 
     for (final long segment : segments) {
-      final String segmentName = getSegmentName(segment);
-      final Path segmentPath = walLocation.resolve(segmentName);
+      final Path segmentPath = segmentPath(segment);
 
       if (Files.exists(segmentPath)) {
         result.add(segmentPath.toAbsolutePath().toString());
@@ -1293,8 +1390,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
     for (final long segment : segments.tailSet(fromSegment)) {
       if (segment < maxSegment) {
-        final String segmentName = getSegmentName(segment);
-        final Path segmentPath = walLocation.resolve(segmentName);
+        final Path segmentPath = segmentPath(segment);
 
         final File segFile = segmentPath.toFile();
         if (segFile.exists()) {
@@ -1350,6 +1446,16 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
     stopWrite = true;
 
+    final Future<?> cf = compressionFuture;
+    if (cf != null) {
+      try {
+        cf.get();
+      } catch (InterruptedException | ExecutionException e) {
+        throw OException.wrapException(new OStorageException("Error during compression of WAL segments in storage " + storageName),
+            e);
+      }
+    }
+
     if (recordsWriterFuture != null) {
       try {
         recordsWriterFuture.get();
@@ -1406,6 +1512,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     walFile.close();
     masterRecordLSNHolder.close();
     segments.clear();
+    compressedSegments.clear();
     fileCloseQueue.clear();
 
     allocator.deallocate(writeBufferPointerOne);
@@ -1762,6 +1869,115 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     return storageName + "." + segment + WAL_SEGMENT_EXTENSION;
   }
 
+  private String getCompressedSegmentName(final long segment) {
+    return storageName + "." + segment + WAL_COMPRESSED_SEGMENT_EXTENSION;
+  }
+
+  /**
+   * @return Path to the file of segment which takes into account whether segment is compressed or not.
+   */
+  private Path segmentPath(final long segment) {
+    if (compressedSegments.contains(segment)) {
+      return walLocation.resolve(getCompressedSegmentName(segment));
+    }
+
+    return walLocation.resolve(getSegmentName(segment));
+  }
+
+  /**
+   * Switches on background compression of segments which are not active any more. Segments are compressed only once all their
+   * records are forced to the disk. Compressed segments are read transparently by {@link #read(OLogSequenceNumber, int)} and
+   * {@link #next(OLogSequenceNumber, int)}.
+   *
+   * @param compression Compression method or <code>null</code> if segments should not be compressed.
+   */
+  public void setSegmentCompression(final OCompression compression) {
+    this.segmentCompression = compression;
+  }
+
+  private void scheduleSegmentsCompression(final OLogSequenceNumber flushedLSN) {
+    if (segmentCompression == null || stopWrite || flushedLSN == null) {
+      return;
+    }
+
+    final long tillSegment = flushedLSN.getSegment();
+    final Long firstSegment = segments.ceiling(Long.MIN_VALUE);
+    if (firstSegment == null || firstSegment >= tillSegment || compressedSegments.containsAll(segments.headSet(tillSegment))) {
+      return;
+    }
+
+    if (compressionScheduled.compareAndSet(false, true)) {
+      compressionFuture = compressionExecutor.submit(() -> {
+        try {
+          for (final long segment : segments.headSet(tillSegment)) {
+            if (stopWrite) {
+              return;
+            }
+
+            if (!compressedSegments.contains(segment)) {
+              compressSegment(segment);
+            }
+          }
+        } finally {
+          compressionScheduled.set(false);
+        }
+      });
+    }
+  }
+
+  private void compressSegment(final long segment) {
+    final OCompression compression = segmentCompression;
+    if (compression == null) {
+      return;
+    }
+
+    final Path segmentPath = walLocation.resolve(getSegmentName(segment));
+    final Path compressedSegmentPath = walLocation.resolve(getCompressedSegmentName(segment));
+    final Path tmpPath = walLocation.resolve(getCompressedSegmentName(segment) + COMPRESSION_TMP_EXTENSION);
+
+    try {
+      if (!Files.exists(segmentPath)) {
+        return;
+      }
+
+      final long segmentSize = Files.size(segmentPath);
+      if (!OWALCompressedFile.compress(segmentPath, tmpPath, compression, COMPRESSION_CHUNK_SIZE, () -> stopWrite)) {
+        Files.deleteIfExists(tmpPath);
+        return;
+      }
+
+      cuttingLock.lock();
+      try {
+        //segment could be removed while it was compressed
+        if (!segments.contains(segment) || stopWrite) {
+          Files.deleteIfExists(tmpPath);
+          return;
+        }
+
+        Files.move(tmpPath, compressedSegmentPath, StandardCopyOption.ATOMIC_MOVE);
+        try {
+          Files.delete(segmentPath);
+        } catch (final IOException e) {
+          Files.delete(compressedSegmentPath);
+          throw e;
+        }
+
+        compressedSegments.add(segment);
+        logSize.addAndGet(Files.size(compressedSegmentPath) - segmentSize);
+      } finally {
+        cuttingLock.unlock();
+      }
+    } catch (final IOException | RuntimeException e) {
+      OLogManager.instance().errorNoDb(this, "Error during compression of WAL segment %d of storage %s", e, segment, storageName);
+
+      try {
+        Files.deleteIfExists(tmpPath);
+      } catch (final IOException ioe) {
+        OLogManager.instance().errorNoDb(this, "Can not delete temporary file %s", ioe, tmpPath);
+      }
+    }
+  }
+
   private final class RecordsWriter implements Runnable {
     private final boolean forceSync;
     private final boolean fullWrite;
@@ -2059,6 +2275,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
                 flushedLSN = writtenUpTo.get().lsn;
 
                 fireEventsFor(flushedLSN);
+                scheduleSegmentsCompression(flushedLSN);
 
                 if (printPerformanceStatistic) {
                   final long endTs = System.nanoTime();
@@ -0,0 +1,223 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
+
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Read only view of WAL segment which was compressed after it became inactive. Content of segment is split on chunks of the same
+ * size which are compressed independently, so any position of the segment can be read by decompression of single chunk.
+ * <p>
+ * File format: header (magic number, size of uncompressed segment, size of chunk, position of chunk index, name of compression
+ * method), compressed chunks each of which is prefixed by its length, chunk index (amount of chunks and positions of chunks).
+ */
+public final class OWALCompressedFile implements OWALFile {
+  private static final long MAGIC_NUMBER = 0x4F57414C435A4950L;
+
+  private static final int INDEX_POSITION_OFFSET = 2 * OLongSerializer.LONG_SIZE + OIntegerSerializer.INT_SIZE;
+  private static final int NAME_OFFSET           = INDEX_POSITION_OFFSET + OLongSerializer.LONG_SIZE;
+
+  private final FileChannel  channel;
+  private final OCompression compression;
+  private final long         size;
+  private final int          chunkSize;
+  private final long[]       chunkPositions;
+
+  private long position;
+
+  private int    loadedChunk = -1;
+  private byte[] chunk;
+
+  private OWALCompressedFile(final FileChannel channel, final OCompression compression, final long size, final int chunkSize,
+      final long[] chunkPositions) {
+    this.channel = channel;
+    this.compression = compression;
+    this.size = size;
+    this.chunkSize = chunkSize;
+    this.chunkPositions = chunkPositions;
+  }
+
+  /**
+   * Opens compressed segment for read.
+   */
+  static OWALCompressedFile open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      final ByteBuffer header = ByteBuffer.allocate(NAME_OFFSET + OIntegerSerializer.INT_SIZE);
+      OIOUtils.readByteBuffer(header, channel, 0, true);
+      header.position(0);
+
+      if (header.getLong() != MAGIC_NUMBER) {
+        throw new IOException("File " + path + " is not a compressed WAL segment");
+      }
+
+      final long size = header.getLong();
+      final int chunkSize = header.getInt();
+      final long indexPosition = header.getLong();
+      final int nameLength = header.getInt();
+
+      final ByteBuffer name = ByteBuffer.allocate(nameLength);
+      OIOUtils.readByteBuffer(name, channel, NAME_OFFSET + OIntegerSerializer.INT_SIZE, true);
+      final OCompression compression = OCompressionFactory.INSTANCE
+          .getCompression(new String(name.array(), StandardCharsets.UTF_8), null);
+
+      final ByteBuffer chunksCount = ByteBuffer.allocate(OIntegerSerializer.INT_SIZE);
+      OIOUtils.readByteBuffer(chunksCount, channel, indexPosition, true);
+
+      final long[] chunkPositions = new long[chunksCount.getInt(0)];
+      final ByteBuffer index = ByteBuffer.allocate(chunkPositions.length * OLongSerializer.LONG_SIZE);
+      OIOUtils.readByteBuffer(index, channel, indexPosition + OIntegerSerializer.INT_SIZE, true);
+      index.position(0);
+
+      for (int i = 0; i < chunkPositions.length; i++) {
+        chunkPositions[i] = index.getLong();
+      }
+
+      return new OWALCompressedFile(channel, compression, size, chunkSize, chunkPositions);
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Compresses content of WAL segment into the new file.
+   *
+   * @param stop Called before compression of each chunk, if it returns <code>true</code> compression is aborted.
+   *
+   * @return <code>true</code> if segment is compressed and <code>false</code> if compression was aborted.
+   */
+  static boolean compress(final Path segment, final Path destination, final OCompression compression, final int chunkSize,
+      final BooleanSupplier stop) throws IOException {
+    try (final FileChannel source = FileChannel.open(segment, StandardOpenOption.READ)) {
+      try (final FileChannel target = FileChannel
+          .open(destination, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+        final long size = source.size();
+        final int chunksCount = (int) ((size + chunkSize - 1) / chunkSize);
+        final byte[] name = compression.name().getBytes(StandardCharsets.UTF_8);
+
+        final ByteBuffer header = ByteBuffer.allocate(NAME_OFFSET + OIntegerSerializer.INT_SIZE + name.length);
+        header.putLong(MAGIC_NUMBER);
+        header.putLong(size);
+        header.putInt(chunkSize);
+        header.putLong(-1);
+        header.putInt(name.length);
+        header.put(name);
+        header.flip();
+        OIOUtils.writeByteBuffer(header, target, 0);
+
+        long targetPosition = header.limit();
+
+        final ByteBuffer index = ByteBuffer.allocate(OIntegerSerializer.INT_SIZE + chunksCount * OLongSerializer.LONG_SIZE);
+        index.putInt(chunksCount);
+
+        final ByteBuffer content = ByteBuffer.allocate(chunkSize);
+        for (int i = 0; i < chunksCount; i++) {
+          if (stop.getAsBoolean()) {
+            return false;
+          }
+
+          final long sourcePosition = (long) i * chunkSize;
+          content.clear();
+          content.limit((int) Math.min(chunkSize, size - sourcePosition));
+          OIOUtils.readByteBuffer(content, source, sourcePosition, true);
+
+          final byte[] compressed = compression.compress(content.array(), 0, content.limit());
+          final ByteBuffer compressedChunk = ByteBuffer.allocate(OIntegerSerializer.INT_SIZE + compressed.length);
+          compressedChunk.putInt(compressed.length);
+          compressedChunk.put(compressed);
+          compressedChunk.flip();
+
+          index.putLong(targetPosition);
+          OIOUtils.writeByteBuffer(compressedChunk, target, targetPosition);
+          targetPosition += compressedChunk.limit();
+        }
+
+        index.flip();
+        OIOUtils.writeByteBuffer(index, target, targetPosition);
+
+        final ByteBuffer indexPosition = ByteBuffer.allocate(OLongSerializer.LONG_SIZE);
+        indexPosition.putLong(0, targetPosition);
+        OIOUtils.writeByteBuffer(indexPosition, target, INDEX_POSITION_OFFSET);
+
+        target.force(true);
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public void position(final long position) {
+    this.position = position;
+  }
+
+  @Override
+  public void readBuffer(final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (position >= size) {
+        throw new EOFException("End of file is reached");
+      }
+
+      final int chunkIndex = (int) (position / chunkSize);
+      if (chunkIndex != loadedChunk) {
+        loadChunk(chunkIndex);
+      }
+
+      final int chunkOffset = (int) (position - (long) chunkIndex * chunkSize);
+      final int bytesToCopy = Math.min(buffer.remaining(), chunk.length - chunkOffset);
+
+      buffer.put(chunk, chunkOffset, bytesToCopy);
+      position += bytesToCopy;
+    }
+  }
+
+  private void loadChunk(final int chunkIndex) throws IOException {
+    final long chunkPosition = chunkPositions[chunkIndex];
+
+    final ByteBuffer length = ByteBuffer.allocate(OIntegerSerializer.INT_SIZE);
+    OIOUtils.readByteBuffer(length, channel, chunkPosition, true);
+
+    final ByteBuffer compressed = ByteBuffer.allocate(length.getInt(0));
+    OIOUtils.readByteBuffer(compressed, channel, chunkPosition + OIntegerSerializer.INT_SIZE, true);
+
+    chunk = compression.uncompress(compressed.array());
+    loadedChunk = chunkIndex;
+  }
+
+  @Override
+  public void force(final boolean forceMetadata) {
+    throw new UnsupportedOperationException("Compressed WAL segment is read only");
+  }
+
+  @Override
+  public int write(final ByteBuffer buffer) {
+    throw new UnsupportedOperationException("Compressed WAL segment is read only");
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
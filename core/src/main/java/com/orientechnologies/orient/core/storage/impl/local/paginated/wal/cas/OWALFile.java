@@ -23,6 +23,8 @@ public interface OWALFile extends Closeable {
 
   void readBuffer(ByteBuffer buffer) throws IOException;
 
+  long size() throws IOException;
+
   static OWALFile createWriteWALFile(Path path, boolean allowDirectIO, int blockSize) throws IOException {
     if (allowDirectIO) {
       try {
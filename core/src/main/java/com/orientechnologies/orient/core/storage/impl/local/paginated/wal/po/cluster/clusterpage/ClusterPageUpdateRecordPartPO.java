@@ -0,0 +1,113 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.cluster.clusterpage;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.WALRecordTypes;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.po.PageOperationRecord;
+
+import java.nio.ByteBuffer;
+
+public final class ClusterPageUpdateRecordPartPO extends PageOperationRecord {
+  private int recordPosition;
+  private int offset;
+
+  private int    recordVersion;
+  private byte[] value;
+
+  private int    oldRecordVersion;
+  private byte[] oldValue;
+
+  public ClusterPageUpdateRecordPartPO() {
+  }
+
+  public ClusterPageUpdateRecordPartPO(int recordPosition, int offset, int recordVersion, byte[] value, int oldRecordVersion,
+      byte[] oldValue) {
+    this.recordPosition = recordPosition;
+    this.offset = offset;
+    this.recordVersion = recordVersion;
+    this.value = value;
+    this.oldRecordVersion = oldRecordVersion;
+    this.oldValue = oldValue;
+  }
+
+  public int getRecordPosition() {
+    return recordPosition;
+  }
+
+  public int getOffset() {
+    return offset;
+  }
+
+  public int getRecordVersion() {
+    return recordVersion;
+  }
+
+  public byte[] getValue() {
+    return value;
+  }
+
+  public int getOldRecordVersion() {
+    return oldRecordVersion;
+  }
+
+  public byte[] getOldValue() {
+    return oldValue;
+  }
+
+  @Override
+  public void redo(OCacheEntry cacheEntry) {
+    final OClusterPage clusterPage = new OClusterPage(cacheEntry);
+    clusterPage.updateRecordPart(recordPosition, offset, value, recordVersion);
+  }
+
+  @Override
+  public void undo(OCacheEntry cacheEntry) {
+    final OClusterPage clusterPage = new OClusterPage(cacheEntry);
+    clusterPage.updateRecordPart(recordPosition, offset, oldValue, oldRecordVersion);
+  }
+
+  @Override
+  public int getId() {
+    return WALRecordTypes.CLUSTER_PAGE_UPDATE_RECORD_PART_PO;
+  }
+
+  @Override
+  public int serializedSize() {
+    return super.serializedSize() + 6 * OIntegerSerializer.INT_SIZE + value.length + oldValue.length;
+  }
+
+  @Override
+  protected void serializeToByteBuffer(ByteBuffer buffer) {
+    super.serializeToByteBuffer(buffer);
+
+    buffer.putInt(recordPosition);
+    buffer.putInt(offset);
+
+    buffer.putInt(recordVersion);
+    buffer.putInt(value.length);
+    buffer.put(value);
+
+    buffer.putInt(oldRecordVersion);
+    buffer.putInt(oldValue.length);
+    buffer.put(oldValue);
+  }
+
+  @Override
+  protected void deserializeFromByteBuffer(ByteBuffer buffer) {
+    super.deserializeFromByteBuffer(buffer);
+
+    recordPosition = buffer.getInt();
+    offset = buffer.getInt();
+
+    recordVersion = buffer.getInt();
+    int len = buffer.getInt();
+    value = new byte[len];
+    buffer.get(value);
+
+    oldRecordVersion = buffer.getInt();
+    len = buffer.getInt();
+    oldValue = new byte[len];
+    buffer.get(oldValue);
+  }
+}
@@ -29,6 +29,7 @@ import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALGroupCommit;
 
 import javax.management.*;
 import java.lang.management.ManagementFactory;
@@ -185,6 +186,24 @@ public class OPerformanceStatisticManager {
    */
   private long writeCacheOverflowCount = -1;
 
+  /**
+   * Average size of continuous extent of pages which is written to the disk during flush of write cache. Value is updated on demand
+   * if monitoring is switched on. Supported only for disk based storage.
+   */
+  private long writeCacheAverageFlushExtentSize = -1;
+
+  /**
+   * Average amount of transactions which are made durable by single flush of WAL. Value is updated on demand if monitoring is
+   * switched on. Supported only if group commit is used.
+   */
+  private long walGroupCommitAverageBatchSize = -1;
+
+  /**
+   * Average time in microseconds which transaction spends waiting for flush of WAL. Value is updated on demand if monitoring is
+   * switched on. Supported only if group commit is used.
+   */
+  private long walGroupCommitAverageWaitTime = -1;
+
   /**
    * Instance of storage to which performance manager belongs to.
    */
@@ -900,6 +919,72 @@ public class OPerformanceStatisticManager {
     }
   }
 
+  /**
+   * @return Average size in bytes of continuous extent of pages which is written to the disk during flush of write cache, or
+   * <code>-1</code> if this value is undefined.
+   */
+  public long getWriteCacheAverageFlushExtentSize() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OWOWCache cache = getWowCache();
+        if (cache != null) {
+          writeCacheAverageFlushExtentSize = cache.getAverageFlushExtentSize();
+        }
+
+        return writeCacheAverageFlushExtentSize;
+      } else {
+        return writeCacheAverageFlushExtentSize;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Average amount of transactions which are made durable by single flush of WAL, or <code>-1</code> if this value is
+   * undefined.
+   */
+  public long getWALGroupCommitAverageBatchSize() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OWALGroupCommit groupCommit = storage.getWALGroupCommit();
+        if (groupCommit != null) {
+          walGroupCommitAverageBatchSize = groupCommit.getBatchSizeHistogram().getMean();
+        }
+
+        return walGroupCommitAverageBatchSize;
+      } else {
+        return walGroupCommitAverageBatchSize;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return Average time in microseconds which transaction spends waiting for flush of WAL, or <code>-1</code> if this value is
+   * undefined.
+   */
+  public long getWALGroupCommitAverageWaitTime() {
+    switchLock.acquireReadLock();
+    try {
+      if (enabled) {
+        final OWALGroupCommit groupCommit = storage.getWALGroupCommit();
+        if (groupCommit != null) {
+          walGroupCommitAverageWaitTime = groupCommit.getWaitTimeHistogram().getMean();
+        }
+
+        return walGroupCommitAverageWaitTime;
+      } else {
+        return walGroupCommitAverageWaitTime;
+      }
+    } finally {
+      switchLock.releaseReadLock();
+    }
+  }
+
   /**
    * @return time which is spent on logging of single record or <code>-1</code> if value is undefined.
    */
@@ -135,6 +135,11 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
    */
   private static final String WRITE_CACHE_OVERFLOW_COUNT = "writeCacheOverflowCount";
 
+  /**
+   * Name of "writeCacheAverageFlushExtentSize" performance attribute
+   */
+  private static final String WRITE_CACHE_AVERAGE_FLUSH_EXTENT_SIZE = "writeCacheAverageFlushExtentSize";
+
   /**
    * Name of "walSize" performance attribute
    */
@@ -145,6 +150,16 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
    */
   private static final String WAL_CACHE_OVERFLOW_COUNT = "walCacheOverflowCount";
 
+  /**
+   * Name of "walGroupCommitAverageBatchSize" performance attribute
+   */
+  private static final String WAL_GROUP_COMMIT_AVERAGE_BATCH_SIZE = "walGroupCommitAverageBatchSize";
+
+  /**
+   * Name of "walGroupCommitAverageWaitTime" performance attribute
+   */
+  private static final String WAL_GROUP_COMMIT_AVERAGE_WAIT_TIME = "walGroupCommitAverageWaitTime";
+
   /**
    * Name of "walLogTime" performance attribute
    */
@@ -292,6 +307,24 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
       else
         throwComponentsAreNotSupported(WAL_CACHE_OVERFLOW_COUNT);
       break;
+    case WRITE_CACHE_AVERAGE_FLUSH_EXTENT_SIZE:
+      if (componentName == null)
+        return manager.getWriteCacheAverageFlushExtentSize();
+      else
+        throwComponentsAreNotSupported(WRITE_CACHE_AVERAGE_FLUSH_EXTENT_SIZE);
+      break;
+    case WAL_GROUP_COMMIT_AVERAGE_BATCH_SIZE:
+      if (componentName == null)
+        return manager.getWALGroupCommitAverageBatchSize();
+      else
+        throwComponentsAreNotSupported(WAL_GROUP_COMMIT_AVERAGE_BATCH_SIZE);
+      break;
+    case WAL_GROUP_COMMIT_AVERAGE_WAIT_TIME:
+      if (componentName == null)
+        return manager.getWALGroupCommitAverageWaitTime();
+      else
+        throwComponentsAreNotSupported(WAL_GROUP_COMMIT_AVERAGE_WAIT_TIME);
+      break;
     case WAL_LOG_TIME:
       if (componentName == null)
         return manager.getWALLogRecordTime();
@@ -431,9 +464,12 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     populateWriteCacheSize(performanceAttributes);
     populateExclusiveWriteCacheSize(performanceAttributes);
     populateWriteCacheOverflowCount(performanceAttributes);
+    populateWriteCacheAverageFlushExtentSize(performanceAttributes);
 
     populateWALSize(performanceAttributes);
     populateWALCacheOverflowCount(performanceAttributes);
+    populateWALGroupCommitAverageBatchSize(performanceAttributes);
+    populateWALGroupCommitAverageWaitTime(performanceAttributes);
     populateWALLogTime(performanceAttributes);
     populateWALEndAOLogTime(performanceAttributes);
     populateWALStartAOLogTime(performanceAttributes);
@@ -569,6 +605,14 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     performanceAttributes.add(writeCacheOverflowCount);
   }
 
+  private void populateWriteCacheAverageFlushExtentSize(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo averageFlushExtentSize = new ModelMBeanAttributeInfo(WRITE_CACHE_AVERAGE_FLUSH_EXTENT_SIZE,
+        long.class.getName(), "Average size in bytes of continuous extent of pages written to the disk during flush of write cache",
+        true, false, false);
+
+    performanceAttributes.add(averageFlushExtentSize);
+  }
+
   private void populateWALSize(List<MBeanAttributeInfo> performanceAttributes) {
     final MBeanAttributeInfo walSize = new ModelMBeanAttributeInfo(WAL_SIZE, long.class.getName(), "WAL size in bytes", true, false,
         false);
@@ -583,6 +627,20 @@ public class OPerformanceStatisticManagerMBean implements DynamicMBean {
     performanceAttributes.add(walCacheOverflowCount);
   }
 
+  private void populateWALGroupCommitAverageBatchSize(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo averageBatchSize = new ModelMBeanAttributeInfo(WAL_GROUP_COMMIT_AVERAGE_BATCH_SIZE,
+        long.class.getName(), "Average amount of transactions which are made durable by single flush of WAL", true, false, false);
+
+    performanceAttributes.add(averageBatchSize);
+  }
+
+  private void populateWALGroupCommitAverageWaitTime(List<MBeanAttributeInfo> performanceAttributes) {
+    final MBeanAttributeInfo averageWaitTime = new ModelMBeanAttributeInfo(WAL_GROUP_COMMIT_AVERAGE_WAIT_TIME, long.class.getName(),
+        "Average time in microseconds which transaction spends waiting for flush of WAL", true, false, false);
+
+    performanceAttributes.add(averageWaitTime);
+  }
+
   private void populateWALLogTime(List<MBeanAttributeInfo> performanceAttributes) {
     final MBeanAttributeInfo walLogTime = new ModelMBeanAttributeInfo(WAL_LOG_TIME, long.class.getName(),
         "Time which is spent to log single record in WAL", true, false, false);
@@ -21,6 +21,7 @@
 package com.orientechnologies.orient.core.storage.memory;
 
 import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OCommonConst;
@@ -418,6 +419,16 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
   public void changeMaximumAmountOfMemory(final long calculateReadCacheMaxMemory) {
   }
 
+  @Override
+  public void storeCacheState(final OWriteCache writeCache) {
+    //all pages are kept in memory
+  }
+
+  @Override
+  public void loadCacheState(final OWriteCache writeCache) {
+    //all pages are kept in memory
+  }
+
   @Override
   public final OPageDataVerificationError[] checkStoredPages(final OCommandOutputListener commandOutputListener) {
     return OCommonConst.EMPTY_PAGE_DATA_VERIFICATION_ARRAY;
@@ -514,7 +525,7 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
           }
 
           final OByteBufferPool bufferPool = OByteBufferPool.instance(null);
-          final OPointer pointer = bufferPool.acquireDirect(true);
+          final OPointer pointer = bufferPool.acquireDirect(true, Intention.READ_CACHE);
 
           final OCachePointer cachePointer = new OCachePointer(pointer, bufferPool, id, (int) index);
           cachePointer.incrementReferrer();
@@ -157,6 +157,104 @@ public class OByteBufferPoolTest {
     byteBufferPool.checkMemoryLeaks();
   }
 
+  @Test
+  public void testStripedPool() {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(42, allocator, 16, 1, 2);
+
+    Assert.assertEquals(1, byteBufferPool.getStripesCount());
+
+    final List<OPointer> pointers = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      pointers.add(byteBufferPool.acquireDirect(false));
+    }
+
+    Assert.assertEquals(0, byteBufferPool.getPoolSize());
+    Assert.assertEquals(6 * 42, allocator.getMemoryConsumption());
+
+    for (OPointer pointer : pointers) {
+      byteBufferPool.release(pointer);
+    }
+    pointers.clear();
+
+    Assert.assertEquals(6, byteBufferPool.getPoolSize());
+    Assert.assertEquals(2, byteBufferPool.getSharedPoolSize());
+    Assert.assertArrayEquals(new int[] { 4 }, byteBufferPool.getStripesPoolSize());
+    Assert.assertEquals(6 * 42, allocator.getMemoryConsumption());
+
+    for (int i = 0; i < 5; i++) {
+      final OPointer pointer = byteBufferPool.acquireDirect(true);
+      assertBufferIsClear(pointer.getNativeByteBuffer());
+      pointers.add(pointer);
+    }
+
+    Assert.assertEquals(1, byteBufferPool.getPoolSize());
+    Assert.assertEquals(0, byteBufferPool.getSharedPoolSize());
+    Assert.assertEquals(6 * 42, allocator.getMemoryConsumption());
+
+    Assert.assertArrayEquals(new long[] { 11 }, byteBufferPool.getStripesAcquiredPages());
+    Assert.assertArrayEquals(new long[] { 6 }, byteBufferPool.getStripesAllocatedPages());
+    Assert.assertArrayEquals(new long[] { 6 }, byteBufferPool.getStripesReleasedPages());
+
+    for (OPointer pointer : pointers) {
+      byteBufferPool.release(pointer);
+    }
+
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertEquals(0, byteBufferPool.getPoolSize());
+
+    byteBufferPool.checkMemoryLeaks();
+  }
+
+  @Test
+  public void testStripedPoolLimit() {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(42, allocator, 8, 1, 2);
+
+    final List<OPointer> pointers = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      pointers.add(byteBufferPool.acquireDirect(false));
+    }
+
+    for (OPointer pointer : pointers) {
+      byteBufferPool.release(pointer);
+    }
+
+    Assert.assertEquals(8, byteBufferPool.getPoolSize());
+    Assert.assertEquals(8 * 42, allocator.getMemoryConsumption());
+
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    byteBufferPool.checkMemoryLeaks();
+  }
+
+  @Test
+  public void testPagesAreAccountedToIntention() {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(42, allocator, 2);
+
+    final OPointer pointer = byteBufferPool.acquireDirect(false, ODirectMemoryAllocator.Intention.READ_CACHE);
+    Assert.assertEquals(42, allocator.getMemoryConsumption(ODirectMemoryAllocator.Intention.READ_CACHE));
+
+    byteBufferPool.release(pointer);
+    Assert.assertEquals(0, allocator.getMemoryConsumption(ODirectMemoryAllocator.Intention.READ_CACHE));
+    Assert.assertEquals(42, allocator.getMemoryConsumption(ODirectMemoryAllocator.Intention.PAGE_POOL));
+
+    final OPointer walPointer = byteBufferPool.acquireDirect(false, ODirectMemoryAllocator.Intention.WAL);
+    Assert.assertEquals(0, allocator.getMemoryConsumption(ODirectMemoryAllocator.Intention.PAGE_POOL));
+    Assert.assertEquals(42, allocator.getMemoryConsumption(ODirectMemoryAllocator.Intention.WAL));
+
+    byteBufferPool.release(walPointer);
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertEquals(0, allocator.getMemoryConsumption(ODirectMemoryAllocator.Intention.PAGE_POOL));
+    byteBufferPool.checkMemoryLeaks();
+  }
+
   @Test
   @Ignore
   public void mtTest() throws Exception {
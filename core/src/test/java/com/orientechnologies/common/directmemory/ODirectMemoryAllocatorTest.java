@@ -1,5 +1,7 @@
 package com.orientechnologies.common.directmemory;
 
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator.Intention;
+import com.orientechnologies.common.exception.ODirectMemoryAllocationFailedException;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -62,4 +64,66 @@ public class ODirectMemoryAllocatorTest {
       Assert.assertTrue(true);
     }
   }
+
+  @Test
+  public void testConsumptionIsTrackedPerIntention() {
+    final ODirectMemoryAllocator directMemoryAllocator = new ODirectMemoryAllocator();
+    final OPointer walPointer = directMemoryAllocator.allocate(42, -1, false, Intention.WAL);
+    final OPointer otherPointer = directMemoryAllocator.allocate(10, -1, false);
+
+    Assert.assertEquals(52, directMemoryAllocator.getMemoryConsumption());
+    Assert.assertEquals(42, directMemoryAllocator.getMemoryConsumption(Intention.WAL));
+    Assert.assertEquals(10, directMemoryAllocator.getMemoryConsumption(Intention.OTHER));
+    Assert.assertEquals(Long.valueOf(42), directMemoryAllocator.getMemoryConsumptionByIntention().get("WAL"));
+
+    directMemoryAllocator.changeIntention(otherPointer, Intention.READ_CACHE);
+    Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption(Intention.OTHER));
+    Assert.assertEquals(10, directMemoryAllocator.getMemoryConsumption(Intention.READ_CACHE));
+
+    directMemoryAllocator.deallocate(walPointer);
+    directMemoryAllocator.deallocate(otherPointer);
+
+    Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption());
+    Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption(Intention.WAL));
+    Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption(Intention.READ_CACHE));
+  }
+
+  @Test
+  public void testHardBudget() {
+    final ODirectMemoryAllocator directMemoryAllocator = new ODirectMemoryAllocator();
+    directMemoryAllocator.setHardBudget(Intention.WAL, 64);
+
+    final OPointer pointer = directMemoryAllocator.allocate(42, -1, false, Intention.WAL);
+    try {
+      directMemoryAllocator.allocate(42, -1, false, Intention.WAL);
+      Assert.fail();
+    } catch (ODirectMemoryAllocationFailedException e) {
+      Assert.assertEquals(1, directMemoryAllocator.getHardBudgetRejections());
+    }
+
+    final OPointer otherPointer = directMemoryAllocator.allocate(42, -1, false, Intention.READ_CACHE);
+
+    directMemoryAllocator.deallocate(pointer);
+    directMemoryAllocator.deallocate(otherPointer);
+
+    Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption());
+  }
+
+  @Test
+  public void testBackpressureIsLimitedByMaxWait() {
+    final ODirectMemoryAllocator directMemoryAllocator = new ODirectMemoryAllocator();
+    directMemoryAllocator.applyBackpressure();
+    Assert.assertEquals(0, directMemoryAllocator.getBackpressureDelays());
+
+    directMemoryAllocator.setSoftBudget(Intention.WRITE_CACHE, 16);
+    final OPointer pointer = directMemoryAllocator.allocate(42, -1, false, Intention.WRITE_CACHE);
+
+    directMemoryAllocator.applyBackpressure();
+    Assert.assertEquals(1, directMemoryAllocator.getBackpressureDelays());
+
+    directMemoryAllocator.deallocate(pointer);
+
+    directMemoryAllocator.applyBackpressure();
+    Assert.assertEquals(1, directMemoryAllocator.getBackpressureDelays());
+  }
 }
@@ -0,0 +1,93 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OIndexStatisticsTest {
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + OIndexStatisticsTest.class.getSimpleName()).create();
+
+    OClass clazz = db.getMetadata().getSchema().createClass("Measure");
+    clazz.createProperty("kind", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    clazz.createProperty("value", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument document = new ODocument("Measure");
+      document.field("kind", i < 500 ? 0 : i % 10);
+      document.field("value", i);
+      db.save(document);
+    }
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testHistogram() {
+    OIndexStatistics statistics = db.getMetadata().getIndexManagerInternal().analyzeIndex("Measure.kind");
+
+    Assert.assertEquals(1000, statistics.getKeyCount());
+    Assert.assertEquals(10, statistics.getDistinctCount());
+    Assert.assertTrue(statistics.getBucketsCount() > 0);
+
+    Assert.assertEquals(0.55, statistics.equalsSelectivity(0), 0.001);
+    Assert.assertEquals(0.05, statistics.equalsSelectivity(7), 0.001);
+    Assert.assertEquals(0.0, statistics.equalsSelectivity(42), 0.0);
+    Assert.assertEquals(0.45, statistics.rangeSelectivity(0, false, null, false), 0.001);
+    Assert.assertEquals(0.1, statistics.fullKeySelectivity(), 0.001);
+  }
+
+  @Test
+  public void testRangeEstimation() {
+    OIndexStatistics statistics = db.getMetadata().getIndexManagerInternal().analyzeIndex("Measure.value");
+
+    Assert.assertEquals(1000, statistics.getDistinctCount());
+    Assert.assertEquals(0.25, statistics.rangeSelectivity(100, true, 350, false), 0.02);
+    Assert.assertEquals(0.1, statistics.rangeSelectivity(null, false, 100, false), 0.02);
+    Assert.assertEquals(0.001, statistics.equalsSelectivity(500), 0.001);
+  }
+
+  @Test
+  public void testStatisticsAreStoredInConfiguration() {
+    db.getMetadata().getIndexManagerInternal().analyzeIndex("Measure.kind");
+
+    OIndexInternal<?> index = db.getMetadata().getIndexManagerInternal().getIndex(db, "Measure.kind").getInternal();
+    ODocument config = index.getConfiguration().field(OIndexInternal.STATISTICS);
+    Assert.assertNotNull(config);
+
+    OIndexStatistics statistics = OIndexStatistics.fromDocument(config);
+    Assert.assertEquals(1000, statistics.getKeyCount());
+    Assert.assertEquals(10, statistics.getDistinctCount());
+    Assert.assertEquals(index.getStatistics().getBucketsCount(), statistics.getBucketsCount());
+    Assert.assertEquals(0.55, statistics.equalsSelectivity(0), 0.001);
+  }
+
+  @Test
+  public void testPlannerPrefersSelectiveIndex() {
+    db.getMetadata().getIndexManagerInternal().analyzeIndex("Measure.kind");
+    db.getMetadata().getIndexManagerInternal().analyzeIndex("Measure.value");
+
+    try (OResultSet result = db.query("select from Measure where kind = 0 and value = 10")) {
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals(10, (int) result.next().getProperty("value"));
+      Assert.assertFalse(result.hasNext());
+
+      OExecutionPlan plan = result.getExecutionPlan().get();
+      Assert.assertTrue(plan.prettyPrint(0, 2).contains("Measure.value"));
+      Assert.assertFalse(plan.prettyPrint(0, 2).contains("Measure.kind"));
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.orientechnologies.orient.core.serialization.serializer.binary.impl;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.metadata.schema.ORecordLayout;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+public class ORecordSerializerBinaryV2Test {
+  private ODatabaseDocumentTx     db;
+  private ORecordSerializerBinary serializer;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + ORecordSerializerBinaryV2Test.class.getSimpleName()).create();
+
+    OClass strict = db.getMetadata().getSchema().createClass("Strict");
+    strict.createProperty("name", OType.STRING);
+    strict.createProperty("flag", OType.BOOLEAN);
+    strict.createProperty("small", OType.SHORT);
+    strict.createProperty("counter", OType.INTEGER);
+    strict.createProperty("big", OType.LONG);
+    strict.createProperty("ratio", OType.FLOAT);
+    strict.createProperty("amount", OType.DOUBLE);
+    strict.createProperty("decimal", OType.DECIMAL);
+    strict.createProperty("created", OType.DATETIME);
+    strict.createProperty("link", OType.LINK);
+    strict.createProperty("tags", OType.EMBEDDEDLIST, OType.STRING);
+    strict.createProperty("optional", OType.INTEGER);
+    strict.setStrictMode(true);
+
+    db.getMetadata().getSchema().createClass("Schemaless");
+
+    serializer = new ORecordSerializerBinary((byte) 2);
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    ODocument document = createDocument();
+
+    byte[] stream = serializer.toStream(document);
+    Assert.assertEquals(2, stream[0]);
+
+    ODocument result = (ODocument) serializer.fromStream(stream, new ODocument("Strict"), null);
+    assertSameContent(document, result);
+    Assert.assertFalse(result.containsField("optional"));
+    Assert.assertEquals(new HashSet<>(Arrays.asList(document.fieldNames())),
+        new HashSet<>(Arrays.asList(serializer.getFieldNames(new ODocument("Strict"), stream))));
+  }
+
+  @Test
+  public void testNullValues() {
+    ODocument document = new ODocument("Strict");
+    document.field("name", (Object) null);
+    document.field("counter", (Object) null);
+    document.field("amount", 42.5d);
+
+    byte[] stream = serializer.toStream(document);
+    Assert.assertEquals(2, stream[0]);
+
+    ODocument result = (ODocument) serializer.fromStream(stream, new ODocument("Strict"), null);
+    Assert.assertTrue(result.containsField("name"));
+    Assert.assertTrue(result.containsField("counter"));
+    Assert.assertNull(result.field("name"));
+    Assert.assertNull(result.field("counter"));
+    Assert.assertEquals(42.5d, (double) result.field("amount"), 0.0);
+  }
+
+  @Test
+  public void testPartialDeserialization() {
+    ODocument document = createDocument();
+    byte[] stream = serializer.toStream(document);
+
+    ODocument result = (ODocument) serializer.fromStream(stream, new ODocument("Strict"), new String[] { "counter", "tags" });
+    Assert.assertEquals(document.<Object>field("counter"), result.field("counter"));
+    Assert.assertEquals(document.<Object>field("tags"), result.field("tags"));
+  }
+
+  @Test
+  public void testBinaryResult() {
+    ODocument document = createDocument();
+    byte[] stream = serializer.toStream(document);
+
+    OResult result = serializer.getBinaryResult(db, stream, new ORecordId(-1, -1));
+    Assert.assertEquals(document.<Object>field("name"), result.getProperty("name"));
+    Assert.assertEquals(document.<Object>field("counter"), result.getProperty("counter"));
+    Assert.assertEquals(document.<Object>field("big"), result.getProperty("big"));
+    Assert.assertEquals(document.<Object>field("link"), result.getProperty("link"));
+    Assert.assertNull(result.getProperty("optional"));
+  }
+
+  @Test
+  public void testSavedRecordsAreReadable() {
+    OGlobalConfiguration.DB_DOCUMENT_SERIALIZER_FIXED_LAYOUT.setValue(true);
+    try {
+      ODocument document = createDocument();
+      db.save(document);
+      db.getLocalCache().clear();
+
+      ODocument loaded = db.load(document.getIdentity());
+      assertSameContent(document, loaded);
+
+      Assert.assertEquals(1, db.query("select from Strict where counter = 42 and name = 'name'").stream().count());
+      Assert.assertEquals(0, db.query("select from Strict where counter > 42").stream().count());
+    } finally {
+      OGlobalConfiguration.DB_DOCUMENT_SERIALIZER_FIXED_LAYOUT.setValue(false);
+    }
+  }
+
+  @Test
+  public void testRecordsAreReadableAfterClassChange() {
+    final ORecordLayout oldLayout = getLayout();
+    Assert.assertNotNull(oldLayout);
+    Assert.assertTrue(oldLayout.indexOf("counter") >= 0);
+    Assert.assertEquals(-1, oldLayout.indexOf("extra"));
+
+    ODocument oldDocument = createDocument();
+    byte[] oldStream = serializer.toStream(oldDocument);
+
+    db.getMetadata().getSchema().getClass("Strict").createProperty("extra", OType.STRING);
+    final ORecordLayout newLayout = getLayout();
+    Assert.assertNotEquals(oldLayout.getId(), newLayout.getId());
+
+    ODocument newDocument = createDocument();
+    newDocument.field("extra", "extra");
+    byte[] newStream = serializer.toStream(newDocument);
+    Assert.assertEquals(2, newStream[0]);
+
+    ODocument oldResult = (ODocument) serializer.fromStream(oldStream, new ODocument("Strict"), null);
+    assertSameContent(oldDocument, oldResult);
+    Assert.assertFalse(oldResult.containsField("extra"));
+
+    ODocument newResult = (ODocument) serializer.fromStream(newStream, new ODocument("Strict"), null);
+    assertSameContent(newDocument, newResult);
+  }
+
+  @Test
+  public void testLayoutsAreStoredInSchema() {
+    final ORecordLayout layout = getLayout();
+    ODocument document = createDocument();
+    byte[] stream = serializer.toStream(document);
+
+    db.getMetadata().reload();
+
+    final ORecordLayout reloaded = getLayout();
+    Assert.assertEquals(layout.getId(), reloaded.getId());
+    Assert.assertEquals(layout.count(), reloaded.count());
+    for (int i = 0; i < layout.count(); i++) {
+      Assert.assertEquals(layout.getName(i), reloaded.getName(i));
+      Assert.assertEquals(layout.getType(i), reloaded.getType(i));
+    }
+
+    assertSameContent(document, (ODocument) serializer.fromStream(stream, new ODocument("Strict"), null));
+  }
+
+  @Test
+  public void testFallbackToPreviousVersion() {
+    ODocument schemaless = new ODocument("Schemaless");
+    schemaless.field("name", "name");
+    byte[] stream = serializer.toStream(schemaless);
+    Assert.assertEquals(1, stream[0]);
+    Assert.assertEquals("name", ((ODocument) serializer.fromStream(stream, new ODocument("Schemaless"), null)).field("name"));
+
+    ODocument undeclared = new ODocument("Strict");
+    undeclared.field("counter", 42);
+    undeclared.field("undeclared", "value");
+    Assert.assertEquals(1, serializer.toStream(undeclared)[0]);
+  }
+
+  private ORecordLayout getLayout() {
+    return ((OImmutableClass) db.getMetadata().getImmutableSchemaSnapshot().getClass("Strict")).getRecordLayout();
+  }
+
+  private ODocument createDocument() {
+    ODocument document = new ODocument("Strict");
+    document.field("name", "name");
+    document.field("flag", true);
+    document.field("small", (short) 12);
+    document.field("counter", 42);
+    document.field("big", Long.MAX_VALUE - 1);
+    document.field("ratio", 0.5f);
+    document.field("amount", 1234.5678d);
+    document.field("decimal", new BigDecimal("12345678901234567890.123"));
+    document.field("created", new Date(1_500_000_000_000L));
+    document.field("link", new ORecordId(10, 20));
+    document.field("tags", Arrays.asList("first", "second"));
+    return document;
+  }
+
+  private static void assertSameContent(ODocument expected, ODocument actual) {
+    for (String field : expected.fieldNames()) {
+      Object expectedValue = expected.field(field);
+      Object actualValue = actual.field(field);
+      if (expectedValue instanceof List) {
+        Assert.assertEquals(field, expectedValue, actualValue);
+      } else if (expectedValue instanceof ORecordId) {
+        Assert.assertEquals(field, expectedValue, ((OIdentifiable) actualValue).getIdentity());
+      } else {
+        Assert.assertEquals(field, expectedValue, actualValue);
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.orientechnologies.orient.core.serialization.serializer.record.binary;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OBytesContainerPoolTest {
+
+  @Test
+  public void testSizeClasses() {
+    OBytesContainerPool pool = new OBytesContainerPool(1024, 2);
+
+    Assert.assertEquals(64, pool.acquire(1).length);
+    Assert.assertEquals(64, pool.acquire(64).length);
+    Assert.assertEquals(128, pool.acquire(65).length);
+    Assert.assertEquals(1024, pool.acquire(1000).length);
+    Assert.assertEquals(1025, pool.acquire(1025).length);
+  }
+
+  @Test
+  public void testBuffersAreReusedAndCleared() {
+    OBytesContainerPool pool = new OBytesContainerPool(1024, 2);
+
+    byte[] buffer = pool.acquire(100);
+    buffer[10] = 42;
+    pool.release(buffer);
+    Assert.assertEquals(1, pool.pooledBuffers());
+
+    byte[] reused = pool.acquire(128);
+    Assert.assertSame(buffer, reused);
+    Assert.assertEquals(0, reused[10]);
+    Assert.assertEquals(0, pool.pooledBuffers());
+  }
+
+  @Test
+  public void testPoolLimits() {
+    OBytesContainerPool pool = new OBytesContainerPool(1024, 2);
+
+    pool.release(new byte[256]);
+    pool.release(new byte[256]);
+    pool.release(new byte[256]);
+    pool.release(new byte[2048]);
+    pool.release(new byte[100]);
+    Assert.assertEquals(2, pool.pooledBuffers());
+
+    OBytesContainerPool disabled = new OBytesContainerPool(0, 2);
+    disabled.release(new byte[64]);
+    Assert.assertEquals(0, disabled.pooledBuffers());
+    Assert.assertEquals(10, disabled.acquire(10).length);
+  }
+
+  @Test
+  public void testPooledContainer() {
+    BytesContainer container = BytesContainer.pooled();
+    for (int i = 0; i < 1000; i++) {
+      int pos = container.alloc(1);
+      container.bytes[pos] = (byte) i;
+    }
+
+    byte[] content = container.fitBytes();
+    Assert.assertNotSame(container.bytes, content);
+    Assert.assertEquals(1000, content.length);
+    for (int i = 0; i < 1000; i++) {
+      Assert.assertEquals((byte) i, content[i]);
+    }
+
+    container.release();
+    Assert.assertNull(container.bytes);
+  }
+}
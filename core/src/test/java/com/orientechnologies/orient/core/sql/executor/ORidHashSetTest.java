@@ -0,0 +1,112 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class ORidHashSetTest {
+  @Test
+  public void testPackUnpack() {
+    ORID[] rids = new ORID[] { new ORecordId(0, 0), new ORecordId(12, 100), new ORecordId(Short.MAX_VALUE, (1L << 47) - 1),
+        new ORecordId(-1, -1), new ORecordId(-1, -2), new ORecordId(5, -42) };
+
+    for (ORID rid : rids) {
+      long packed = OPackedRid.pack(rid);
+      Assert.assertNotEquals(OPackedRid.NULL, packed);
+      Assert.assertEquals(rid, OPackedRid.unpack(packed));
+    }
+
+    Assert.assertNull(OPackedRid.unpack(OPackedRid.NULL));
+    Assert.assertFalse(OPackedRid.isPackable(null));
+    Assert.assertFalse(OPackedRid.isPackable(new ORecordId(12, 1L << 47)));
+  }
+
+  @Test
+  public void testAddContainsRemove() {
+    ORidHashSet set = new ORidHashSet();
+    ORID rid = new ORecordId(12, 100);
+
+    Assert.assertFalse(set.contains(rid));
+    Assert.assertTrue(set.add(rid));
+    Assert.assertFalse(set.add(new ORecordId(12, 100)));
+    Assert.assertTrue(set.contains(rid));
+    Assert.assertEquals(1, set.size());
+
+    Assert.assertFalse(set.contains("#12:100"));
+    Assert.assertFalse(set.remove(new ORecordId(12, 101)));
+    Assert.assertTrue(set.remove(rid));
+    Assert.assertFalse(set.contains(rid));
+    Assert.assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void testTemporaryRids() {
+    ORidHashSet set = new ORidHashSet();
+    set.add(new ORecordId(-1, -2));
+    set.add(new ORecordId(-1, -3));
+
+    Assert.assertTrue(set.contains(new ORecordId(-1, -2)));
+    Assert.assertTrue(set.contains(new ORecordId(-1, -3)));
+    Assert.assertFalse(set.contains(new ORecordId(-1, -4)));
+  }
+
+  @Test
+  public void testRandomOperations() {
+    ORidHashSet set = new ORidHashSet();
+    Set<ORID> expected = new HashSet<>();
+
+    long seed = System.nanoTime();
+    Random random = new Random(seed);
+
+    for (int i = 0; i < 100_000; i++) {
+      ORID rid = new ORecordId(random.nextInt(8), random.nextInt(50_000));
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals("seed " + seed, expected.remove(rid), set.remove(rid));
+      } else {
+        Assert.assertEquals("seed " + seed, expected.add(rid), set.add(rid));
+      }
+    }
+
+    Assert.assertEquals("seed " + seed, expected.size(), set.size());
+    for (ORID rid : expected) {
+      Assert.assertTrue("seed " + seed, set.contains(rid));
+    }
+
+    Set<ORID> iterated = new HashSet<>();
+    for (ORID rid : set) {
+      Assert.assertTrue("seed " + seed, iterated.add(rid));
+    }
+    Assert.assertEquals("seed " + seed, expected, iterated);
+
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertFalse(set.iterator().hasNext());
+  }
+
+  @Test
+  public void testLongMap() {
+    ORidLongMap map = new ORidLongMap();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      Assert.assertEquals(OPackedRid.NULL, map.put(OPackedRid.pack(3, i), i * 2L));
+    }
+    Assert.assertEquals(2 * 21L, map.put(OPackedRid.pack(3, 21), 1));
+
+    Assert.assertEquals(10_000, map.size());
+    Assert.assertEquals(1, map.get(OPackedRid.pack(3, 21)));
+    Assert.assertEquals(2 * 9_999L, map.get(OPackedRid.pack(3, 9_999)));
+    Assert.assertEquals(OPackedRid.NULL, map.get(OPackedRid.pack(4, 21)));
+    Assert.assertTrue(map.containsKey(new ORecordId(3, random.nextInt(10_000))));
+    Assert.assertFalse(map.containsKey(new ORecordId(3, 10_000)));
+
+    map.clear();
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertEquals(OPackedRid.NULL, map.get(OPackedRid.pack(3, 21)));
+  }
+}
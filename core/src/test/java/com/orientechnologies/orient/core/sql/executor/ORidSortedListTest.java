@@ -0,0 +1,99 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class ORidSortedListTest {
+  @Test
+  public void testSortedDistinctRids() {
+    ORidSortedList list = new ORidSortedList(2);
+    list.add(new ORecordId(12, 100));
+    list.add(new ORecordId(-1, -2));
+    list.add(new ORecordId(12, -5));
+    list.add(new ORecordId(3, 7));
+    list.add(new ORecordId(12, 100));
+    list.add(new ORecordId(-1, -3));
+
+    List<ORID> expected = Arrays.asList(new ORecordId(-1, -3), new ORecordId(-1, -2), new ORecordId(3, 7), new ORecordId(12, -5),
+        new ORecordId(12, 100));
+    Assert.assertEquals(expected, new ArrayList<>(list));
+    Assert.assertEquals(5, list.size());
+
+    Assert.assertTrue(list.contains(new ORecordId(12, -5)));
+    Assert.assertFalse(list.contains(new ORecordId(12, 5)));
+    Assert.assertFalse(list.contains("#12:100"));
+    Assert.assertEquals(2, list.indexOf(new ORecordId(3, 7)));
+    Assert.assertEquals(OPackedRid.pack(12, 100), list.getPacked(4));
+
+    list.clear();
+    Assert.assertTrue(list.isEmpty());
+    Assert.assertFalse(list.iterator().hasNext());
+  }
+
+  @Test
+  public void testOf() {
+    OResultInternal result = new OResultInternal();
+    result.setProperty("name", "projection");
+
+    ORidSortedList list = ORidSortedList.of(
+        Arrays.asList(new ORecordId(5, 1), null, "#5:2", result, new ORecordId(12, 1L << 47), new ORecordId(4, 1)));
+    Assert.assertEquals(Arrays.asList(new ORecordId(4, 1), new ORecordId(5, 1)), list);
+    Assert.assertSame(list, ORidSortedList.of(list));
+  }
+
+  @Test
+  public void testIntersect() {
+    ORidSortedList left = new ORidSortedList();
+    ORidSortedList right = new ORidSortedList();
+    for (int i = 0; i < 1_000; i++) {
+      left.add(OPackedRid.pack(i % 3, i));
+      right.add(OPackedRid.pack(i % 3, 2 * i));
+    }
+
+    List<ORID> expected = new ArrayList<>();
+    for (int i = 0; i < 1_000; i += 2) {
+      if (i % 3 == (i / 2) % 3) {
+        expected.add(new ORecordId(i % 3, i));
+      }
+    }
+    Collections.sort(expected);
+
+    Assert.assertEquals(expected, left.intersect(right));
+    Assert.assertEquals(expected, right.intersect(left));
+    Assert.assertTrue(left.intersect(new ORidSortedList()).isEmpty());
+  }
+
+  @Test
+  public void testRandomRids() {
+    ORidSortedList list = new ORidSortedList();
+    TreeSet<ORID> expected = new TreeSet<>();
+
+    long seed = System.nanoTime();
+    Random random = new Random(seed);
+
+    for (int i = 0; i < 100_000; i++) {
+      ORID rid = new ORecordId(random.nextInt(8) - 1, random.nextInt(50_000) - 1_000);
+      expected.add(rid);
+      list.add(rid);
+
+      if (random.nextInt(10_000) == 0) {
+        Assert.assertEquals("seed " + seed, expected.size(), list.size());
+      }
+    }
+
+    Assert.assertEquals("seed " + seed, new ArrayList<>(expected), list);
+    for (int i = 0; i < 1_000; i++) {
+      ORID rid = new ORecordId(random.nextInt(8) - 1, random.nextInt(50_000) - 1_000);
+      Assert.assertEquals("seed " + seed, expected.contains(rid), list.contains(rid));
+    }
+  }
+}
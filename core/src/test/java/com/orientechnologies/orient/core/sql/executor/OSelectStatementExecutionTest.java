@@ -706,6 +706,225 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testParallelAggregation() {
+    //groups of partial aggregation are kept in heap, so GROUP BY is aggregated in parallel only without memory budget
+    Long oldBudget = OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValueAsLong();
+    Long oldMinimumRecords = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(0);
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(0);
+
+      String className = "testParallelAggregation";
+      db.getMetadata().getSchema().createClass(className, 4);
+      for (int i = 0; i < 100; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("type", "type" + (i % 3));
+        doc.setProperty("val", i);
+        doc.save();
+      }
+
+      OResultSet result = db.query(
+          "select count(*) as count, sum(val) as sum, avg(val) as avg, min(val) as min, max(val) as max, type from " + className
+              + " where val >= 10 group by type");
+      printExecutionPlan(result);
+      Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("MERGE PARTIAL"));
+
+      Set<String> types = new HashSet<>();
+      while (result.hasNext()) {
+        OResult item = result.next();
+        String type = item.getProperty("type");
+        Assert.assertTrue(types.add(type));
+
+        int remainder = Integer.parseInt(type.substring("type".length()));
+        long count = 0;
+        int sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 10; i < 100; i++) {
+          if (i % 3 == remainder) {
+            count++;
+            sum += i;
+            min = Math.min(min, i);
+            max = Math.max(max, i);
+          }
+        }
+        Assert.assertEquals(count, (long) item.getProperty("count"));
+        Assert.assertEquals(sum, (int) item.getProperty("sum"));
+        Assert.assertEquals(sum / (int) count, (int) item.getProperty("avg"));
+        Assert.assertEquals(min, (int) item.getProperty("min"));
+        Assert.assertEquals(max, (int) item.getProperty("max"));
+      }
+      Assert.assertEquals(3, types.size());
+      result.close();
+
+      String query = "select count(*) as count, sum(val) as sum, min(val) as min, max(val) as max, type from " + className
+          + " group by type";
+      Assert.assertEquals(aggregate(query, false), aggregate(query, true));
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(oldBudget);
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(oldMinimumRecords);
+    }
+  }
+
+  @Test
+  public void testParallelAggregationNoGroupBy() {
+    Long oldMinimumRecords = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(0);
+
+      String className = "testParallelAggregationNoGroupBy";
+      db.getMetadata().getSchema().createClass(className, 4);
+      for (int i = 0; i < 100; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("val", i);
+        doc.save();
+      }
+
+      String query =
+          "select count(*) as count, sum(val) as sum, min(val) as min, max(val) as max from " + className + " where val >= 10";
+      try (OResultSet result = db.query(query)) {
+        Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("MERGE PARTIAL"));
+
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertEquals(90L, (long) item.getProperty("count"));
+        Assert.assertEquals(4905, (int) item.getProperty("sum"));
+        Assert.assertEquals(10, (int) item.getProperty("min"));
+        Assert.assertEquals(99, (int) item.getProperty("max"));
+        Assert.assertFalse(result.hasNext());
+      }
+
+      Assert.assertEquals(aggregate(query, false), aggregate(query, true));
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(oldMinimumRecords);
+    }
+  }
+
+  @Test
+  public void testParallelAggregationEmptyClass() {
+    Long oldMinimumRecords = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(1);
+
+      String className = "testParallelAggregationEmptyClass";
+      db.getMetadata().getSchema().createClass(className, 4);
+
+      String query = "select count(*) as count, sum(val) as sum from " + className;
+      try (OResultSet result = db.query(query)) {
+        Assert.assertFalse(result.getExecutionPlan().get().prettyPrint(0, 2).contains("MERGE PARTIAL"));
+
+        while (result.hasNext()) {
+          Assert.assertEquals(0L, (long) result.next().getProperty("count"));
+        }
+      }
+
+      Assert.assertEquals(aggregate(query, false), aggregate(query, true));
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(oldMinimumRecords);
+    }
+  }
+
+  @Test
+  public void testParallelAggregationBelowMinimumRecords() {
+    Long oldMinimumRecords = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(1000);
+
+      String className = "testParallelAggregationBelowMinimumRecords";
+      db.getMetadata().getSchema().createClass(className, 4);
+      for (int i = 0; i < 100; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("val", i);
+        doc.save();
+      }
+
+      try (OResultSet result = db.query("select count(*) as count, sum(val) as sum from " + className)) {
+        Assert.assertFalse(result.getExecutionPlan().get().prettyPrint(0, 2).contains("MERGE PARTIAL"));
+
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertEquals(100L, (long) item.getProperty("count"));
+        Assert.assertEquals(4950, (int) item.getProperty("sum"));
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(oldMinimumRecords);
+    }
+  }
+
+  /**
+   * Executes aggregation query with parallel aggregation switched on or off.
+   *
+   * @return properties of result rows keyed by the "type" property, which is <code>null</code> if query has no GROUP BY
+   */
+  private Map<Object, Map<String, Object>> aggregate(String query, boolean parallel) {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION.getValueAsBoolean();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION.setValue(parallel);
+
+      Map<Object, Map<String, Object>> rows = new HashMap<>();
+      try (OResultSet result = db.query(query)) {
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Map<String, Object> row = new HashMap<>();
+          for (String name : item.getPropertyNames()) {
+            row.put(name, item.getProperty(name));
+          }
+          Assert.assertNull(rows.put(item.getProperty("type"), row));
+        }
+      }
+      return rows;
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION.setValue(oldValue);
+    }
+  }
+
+  @Test
+  public void testParallelAggregationGroupByWithMemoryBudget() {
+    Boolean oldValue = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION.getValueAsBoolean();
+    Long oldBudget = OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValueAsLong();
+    Long oldMinimumRecords = OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION.setValue(true);
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(0);
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(0);
+
+      String className = "testParallelAggregationGroupByWithMemoryBudget";
+      db.getMetadata().getSchema().createClass(className, 4);
+      for (int i = 0; i < 500; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("type", "type" + (i % 100));
+        doc.setProperty("val", i);
+        doc.save();
+      }
+
+      try (OResultSet result = db
+          .query("select type, count(*) as count, sum(val) as sum from " + className + " group by type memory 2000")) {
+        Set<String> types = new HashSet<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          String type = item.getProperty("type");
+          Assert.assertTrue(types.add(type));
+
+          int remainder = Integer.parseInt(type.substring("type".length()));
+          Assert.assertEquals(5L, (long) item.getProperty("count"));
+          Assert.assertEquals(5 * remainder + 1000, (int) item.getProperty("sum"));
+        }
+        Assert.assertEquals(100, types.size());
+
+        //groups of partial and merge phases do not fit in the budget, so records of new groups are aggregated from partitions
+        String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+        Assert.assertTrue(plan.contains("MERGE PARTIAL"));
+        Assert.assertTrue(plan.contains("partitions on disk"));
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION.setValue(oldValue);
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(oldBudget);
+      OGlobalConfiguration.QUERY_PARALLEL_AGGREGATION_MINIMUM_RECORDS.setValue(oldMinimumRecords);
+    }
+  }
+
   @Test
   public void testAggregateSumNoGroupByInProjection() {
     String className = "testAggregateSumNoGroupByInProjection";
@@ -3577,4 +3796,298 @@ public class OSelectStatementExecutionTest {
       OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
     }
   }
+
+  @Test
+  public void testOrderBySpilledToDisk() {
+    Long oldValue = OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(2000);
+
+      String className = "testOrderBySpilledToDisk";
+      db.getMetadata().getSchema().createClass(className);
+      for (int i = 0; i < 200; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("name", "name" + ((i * 37) % 200));
+        doc.setProperty("counter", (i * 37) % 200);
+        doc.save();
+      }
+
+      try (OResultSet result = db.query("select from " + className + " order by counter")) {
+        for (int i = 0; i < 200; i++) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertTrue(item.isElement());
+          Assert.assertEquals(i, (int) item.getProperty("counter"));
+          Assert.assertEquals("name" + i, item.getProperty("name"));
+        }
+        Assert.assertFalse(result.hasNext());
+        Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("sorted runs on disk"));
+      }
+
+      try (OResultSet result = db.query("select name, counter * 2 as twice from " + className + " order by counter desc")) {
+        for (int i = 199; i >= 0; i--) {
+          Assert.assertTrue(result.hasNext());
+          OResult item = result.next();
+          Assert.assertEquals("name" + i, item.getProperty("name"));
+          Assert.assertEquals(i * 2, ((Number) item.getProperty("twice")).intValue());
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(oldValue);
+    }
+  }
+
+  @Test
+  public void testOrderByMergesSpilledRunsInPasses() {
+    String className = "testOrderByMergesSpilledRunsInPasses";
+    db.getMetadata().getSchema().createClass(className);
+    int records = OrderByStep.MAX_MERGED_RUNS * 5;
+    for (int i = 0; i < records; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("counter", (i * 37) % records);
+      doc.save();
+    }
+
+    //every result exceeds the budget, so each of them is moved to its own sorted run
+    try (OResultSet result = db.query("select from " + className + " order by counter memory 1")) {
+      for (int i = 0; i < records; i++) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals(i, (int) result.next().getProperty("counter"));
+      }
+      Assert.assertFalse(result.hasNext());
+      Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("sorted runs on disk: " + records));
+    }
+  }
+
+  @Test
+  public void testOrderBySpilledRecordsDeletedWhileFetched() {
+    String className = "testOrderBySpilledRecordsDeletedWhileFetched";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("counter", (i * 37) % 100);
+      doc.save();
+    }
+
+    try (OResultSet result = db.query("select from " + className + " order by counter memory 2000")) {
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals(0, (int) result.next().getProperty("counter"));
+
+      db.command("delete from " + className).close();
+
+      //results keep content of the records which was read before they were deleted
+      for (int i = 1; i < 100; i++) {
+        Assert.assertTrue(result.hasNext());
+        OResult item = result.next();
+        Assert.assertTrue(item.isElement());
+        Assert.assertEquals(i, (int) item.getProperty("counter"));
+      }
+      Assert.assertFalse(result.hasNext());
+      Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("sorted runs on disk"));
+    }
+  }
+
+  @Test
+  public void testOrderByLimitKeepsBestResults() {
+    String className = "testOrderByLimitKeepsBestResults";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("counter", (i * 37) % 100);
+      doc.save();
+    }
+
+    try (OResultSet result = db.query("select from " + className + " order by counter desc skip 5 limit 10")) {
+      for (int i = 94; i > 84; i--) {
+        Assert.assertTrue(result.hasNext());
+        Assert.assertEquals(i, (int) result.next().getProperty("counter"));
+      }
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testDistinctSpilledToDisk() {
+    String className = "testDistinctSpilledToDisk";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 500; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + ((i * 37) % 250));
+      doc.save();
+    }
+
+    try (OResultSet result = db.query("select distinct(name) as name from " + className + " memory 2000")) {
+      Set<String> names = new HashSet<>();
+      while (result.hasNext()) {
+        Assert.assertTrue(names.add(result.next().getProperty("name")));
+      }
+      Assert.assertEquals(250, names.size());
+      Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("partitions on disk"));
+    }
+  }
+
+  @Test
+  public void testDistinctWithOrderByKeepsOrder() {
+    String className = "testDistinctWithOrderByKeepsOrder";
+    db.getMetadata().getSchema().createClass(className);
+    for (int i = 0; i < 500; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + ((i * 37) % 250));
+      doc.save();
+    }
+
+    try (OResultSet result = db
+        .query("select distinct(name) as name from " + className + " order by name desc memory 2000")) {
+      Set<String> names = new HashSet<>();
+      String previous = null;
+      while (result.hasNext()) {
+        String name = result.next().getProperty("name");
+        Assert.assertTrue(names.add(name));
+        if (previous != null) {
+          Assert.assertTrue(previous.compareTo(name) > 0);
+        }
+        previous = name;
+      }
+      Assert.assertEquals(250, names.size());
+      Assert.assertFalse(result.getExecutionPlan().get().prettyPrint(0, 2).contains("partitions on disk"));
+    }
+  }
+
+  @Test
+  public void testGroupBySpilledToDisk() {
+    Long oldValue = OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValueAsLong();
+    try {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(2000);
+
+      String className = "testGroupBySpilledToDisk";
+      db.getMetadata().getSchema().createClass(className, 1);
+      for (int i = 0; i < 500; i++) {
+        ODocument doc = db.newInstance(className);
+        doc.setProperty("type", "type" + (i % 100));
+        doc.setProperty("val", i);
+        doc.save();
+      }
+
+      try (OResultSet result = db
+          .query("select type, count(*) as count, sum(val) as sum from " + className + " group by type")) {
+        Set<String> types = new HashSet<>();
+        while (result.hasNext()) {
+          OResult item = result.next();
+          String type = item.getProperty("type");
+          Assert.assertTrue(types.add(type));
+
+          int remainder = Integer.parseInt(type.substring("type".length()));
+          Assert.assertEquals(5L, (long) item.getProperty("count"));
+          Assert.assertEquals(5 * remainder + 1000, (int) item.getProperty("sum"));
+        }
+        Assert.assertEquals(100, types.size());
+        Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("partitions on disk"));
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(oldValue);
+    }
+  }
+
+  @Test
+  public void testSimpleConditionsOnSerializedRecords() {
+    String className = "testSimpleConditionsOnSerializedRecords";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("surname", OType.STRING).setCollate("ci");
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + (i % 10));
+      doc.setProperty("surname", i % 2 == 0 ? "SMITH" : "jones");
+      doc.setProperty("counter", i);
+      doc.setProperty("amount", i / 2.0d);
+      if (i % 5 != 0) {
+        doc.setProperty("optional", i);
+      }
+      doc.setProperty("list", Arrays.asList(i, i + 1));
+      doc.save();
+    }
+    db.getLocalCache().clear();
+
+    assertCount(10, "select from " + className + " where name = 'name3'");
+    assertCount(10, "select from " + className + " where 'name3' = name");
+    assertCount(10, "select from " + className + " where counter < 10");
+    assertCount(10, "select from " + className + " where 10 > counter");
+    assertCount(11, "select from " + className + " where counter <= 10");
+    assertCount(89, "select from " + className + " where counter > 10");
+    assertCount(90, "select from " + className + " where counter >= 10");
+    assertCount(11, "select from " + className + " where counter between 10 and 20");
+    assertCount(3, "select from " + className + " where counter in [1, 2, 3, 1000]");
+    assertCount(20, "select from " + className + " where name in ['name1', 'name2']");
+    assertCount(20, "select from " + className + " where optional is null");
+    assertCount(80, "select from " + className + " where optional is not null");
+    assertCount(50, "select from " + className + " where surname = 'smith'");
+    assertCount(5, "select from " + className + " where amount < 2.5");
+    assertCount(10, "select from " + className + " where name = 'name3' and surname = 'Jones'");
+    assertCount(1, "select from " + className + " where counter = ? and name = ?", 13, "name3");
+    assertCount(1, "select from " + className + " where list contains 42 and counter < 42");
+    assertCount(0, "select from " + className + " where name = 'name3' and counter = 4");
+  }
+
+  @Test
+  public void testProjectedFieldsReadFromSerializedRecords() {
+    String className = "testProjectedFieldsReadFromSerializedRecords";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING).setCollate("ci");
+
+    ODocument linked = db.newInstance(className);
+    linked.setProperty("name", "linked");
+    linked.save();
+
+    for (int i = 0; i < 20; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.setProperty("surname", i % 2 == 0 ? "SMITH" : "jones");
+      doc.setProperty("counter", i);
+      if (i % 5 != 0) {
+        doc.setProperty("optional", i);
+      }
+      doc.setProperty("link", linked.getIdentity());
+      doc.setProperty("list", Arrays.asList(i, i + 1));
+      doc.save();
+    }
+    db.getLocalCache().clear();
+
+    try (OResultSet result = db.query("select name, counter, optional, link from " + className + " where counter < 10")) {
+      int count = 0;
+      while (result.hasNext()) {
+        OResult item = result.next();
+        int counter = item.getProperty("counter");
+        Assert.assertEquals("name" + counter, item.getProperty("name"));
+        Assert.assertEquals(counter % 5 != 0 ? Integer.valueOf(counter) : null, item.getProperty("optional"));
+        Assert.assertEquals(linked.getIdentity(), item.getProperty("link"));
+        count++;
+      }
+      Assert.assertEquals(10, count);
+    }
+
+    try (OResultSet result = db.query("select name, list from " + className + " where surname = 'Smith' and counter >= 10")) {
+      int count = 0;
+      while (result.hasNext()) {
+        OResult item = result.next();
+        List<Integer> list = item.getProperty("list");
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("name" + list.get(0), item.getProperty("name"));
+        Assert.assertEquals(0, list.get(0) % 2);
+        count++;
+      }
+      Assert.assertEquals(5, count);
+    }
+
+    try (OResultSet result = db.query("select counter from " + className + " where optional is null and counter < 100")) {
+      Assert.assertEquals(4, result.stream().count());
+    }
+  }
+
+  private void assertCount(int expected, String query, Object... args) {
+    try (OResultSet result = db.query(query, args)) {
+      Assert.assertEquals(query, expected, result.stream().count());
+    }
+  }
 }
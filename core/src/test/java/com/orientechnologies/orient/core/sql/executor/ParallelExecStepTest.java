@@ -1,13 +1,22 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Created by luigidellaquila on 26/07/16.
@@ -34,4 +43,291 @@ public class ParallelExecStepTest {
     plan.getSteps().add(new FetchFromRidsStep(Collections.singleton(new ORecordId(12, 100)), ctx,false));
 
   }
+
+  @Test
+  public void testAllResultsOfSubPlansAreReturned() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ParallelExecStepTest").create();
+    try {
+      OBasicCommandContext ctx = new OBasicCommandContext();
+      ctx.setDatabase(db);
+
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ParallelExecStep(createSubPlans(ctx, 8, 1000, -1), ctx, false));
+
+      Set<Integer> values = new HashSet<>();
+      OResultSet resultSet;
+      while ((resultSet = plan.fetchNext(100)).hasNext()) {
+        while (resultSet.hasNext()) {
+          Assert.assertTrue(values.add(resultSet.next().getProperty("value")));
+        }
+      }
+      plan.close();
+
+      Assert.assertEquals(8000, values.size());
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testFailureOfSubPlanIsPropagated() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ParallelExecStepTest").create();
+    try {
+      OBasicCommandContext ctx = new OBasicCommandContext();
+      ctx.setDatabase(db);
+
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ParallelExecStep(createSubPlans(ctx, 8, 1000, 5), ctx, false));
+
+      try {
+        OResultSet resultSet;
+        while ((resultSet = plan.fetchNext(100)).hasNext()) {
+          while (resultSet.hasNext()) {
+            resultSet.next();
+          }
+        }
+        Assert.fail();
+      } catch (OCommandExecutionException e) {
+        Assert.assertTrue(e.getMessage().startsWith("sub-plan 5 failed"));
+      }
+      plan.close();
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testTimeoutReturnWhileWaitingForWorkers() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ParallelExecStepTest").create();
+    try {
+      OBasicCommandContext ctx = new OBasicCommandContext();
+      ctx.setDatabase(db);
+
+      List<ODatabaseDocumentInternal> workerDatabases = new CopyOnWriteArrayList<>();
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ParallelExecStep(createSlowSubPlans(ctx, 4, 1000, workerDatabases), ctx, false));
+
+      ctx.beginExecution(100, OCommandContext.TIMEOUT_STRATEGY.RETURN);
+
+      int fetched = 0;
+      OResultSet resultSet;
+      while ((resultSet = plan.fetchNext(10)).hasNext()) {
+        while (resultSet.hasNext()) {
+          resultSet.next();
+          fetched++;
+        }
+      }
+
+      //results of the sub-plan executed by current thread are returned, workers are too slow to complete before timeout
+      Assert.assertTrue(fetched >= 1000);
+      Assert.assertTrue(fetched < 4000);
+
+      plan.close();
+      assertWorkersStopped(workerDatabases);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testTimeoutExceptionWhileWaitingForWorkers() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ParallelExecStepTest").create();
+    try {
+      OBasicCommandContext ctx = new OBasicCommandContext();
+      ctx.setDatabase(db);
+
+      List<ODatabaseDocumentInternal> workerDatabases = new CopyOnWriteArrayList<>();
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ParallelExecStep(createSlowSubPlans(ctx, 4, 1000, workerDatabases), ctx, false));
+
+      ctx.beginExecution(100, OCommandContext.TIMEOUT_STRATEGY.EXCEPTION);
+
+      try {
+        OResultSet resultSet;
+        while ((resultSet = plan.fetchNext(10)).hasNext()) {
+          while (resultSet.hasNext()) {
+            resultSet.next();
+          }
+        }
+        Assert.fail();
+      } catch (OTimeoutException e) {
+        //expected
+      }
+
+      plan.close();
+      assertWorkersStopped(workerDatabases);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testCloseBeforeResultsAreDrained() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ParallelExecStepTest").create();
+    try {
+      OBasicCommandContext ctx = new OBasicCommandContext();
+      ctx.setDatabase(db);
+
+      List<ODatabaseDocumentInternal> workerDatabases = new CopyOnWriteArrayList<>();
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ParallelExecStep(createSlowSubPlans(ctx, 4, 1000, workerDatabases), ctx, false));
+
+      int fetched = 0;
+      while (fetched < 500) {
+        OResultSet resultSet = plan.fetchNext(10);
+        Assert.assertTrue(resultSet.hasNext());
+        while (resultSet.hasNext()) {
+          resultSet.next();
+          fetched++;
+        }
+      }
+      Assert.assertFalse(workerDatabases.isEmpty());
+
+      plan.close();
+      assertWorkersStopped(workerDatabases);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testSubPlansAreNotExecutedInParallelWhileSchemaIsLocked() {
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ParallelExecStepTest").create();
+    try {
+      OBasicCommandContext ctx = new OBasicCommandContext();
+      ctx.setDatabase(db);
+
+      List<ODatabaseDocumentInternal> workerDatabases = new CopyOnWriteArrayList<>();
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ParallelExecStep(createSlowSubPlans(ctx, 4, 100, workerDatabases), ctx, false));
+
+      //workers would wait for schema lock, while current thread waits for their results
+      OSchemaShared schema = db.getSharedContext().getSchema();
+      schema.acquireSchemaWriteLock(db);
+      try {
+        int fetched = 0;
+        OResultSet resultSet;
+        while ((resultSet = plan.fetchNext(10)).hasNext()) {
+          while (resultSet.hasNext()) {
+            resultSet.next();
+            fetched++;
+          }
+        }
+        plan.close();
+
+        Assert.assertEquals(400, fetched);
+        Assert.assertTrue(workerDatabases.isEmpty());
+      } finally {
+        schema.releaseSchemaWriteLock(db, false);
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
+  private static void assertWorkersStopped(List<ODatabaseDocumentInternal> workerDatabases) {
+    //session of worker is closed once it is stopped
+    long deadline = System.currentTimeMillis() + 10_000;
+    for (ODatabaseDocumentInternal workerDatabase : workerDatabases) {
+      while (!workerDatabase.isClosed() && System.currentTimeMillis() < deadline) {
+        try {
+          Thread.sleep(10);
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      Assert.assertTrue(workerDatabase.isClosed());
+    }
+  }
+
+  private static List<OInternalExecutionPlan> createSubPlans(OCommandContext ctx, int plans, int records, int failingPlan) {
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (int i = 0; i < plans; i++) {
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new GenerateValuesStep(i, records, i == failingPlan, ctx));
+      subPlans.add(plan);
+    }
+    return subPlans;
+  }
+
+  /**
+   * Sub-plans executed by current thread wait 1 ms before each batch of results, so workers have time to claim the rest of them,
+   * while copies of them executed by workers wait much longer.
+   */
+  private static List<OInternalExecutionPlan> createSlowSubPlans(OCommandContext ctx, int plans, int records,
+      List<ODatabaseDocumentInternal> workerDatabases) {
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (int i = 0; i < plans; i++) {
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new GenerateValuesStep(i, records, false, 1, workerDatabases, ctx));
+      subPlans.add(plan);
+    }
+    return subPlans;
+  }
+
+  private static class GenerateValuesStep extends AbstractExecutionStep {
+    private static final long WORKER_DELAY = 50;
+
+    private final int                             plan;
+    private final int                             records;
+    private final boolean                         fail;
+    private final long                            delay;
+    private final List<ODatabaseDocumentInternal> workerDatabases;
+
+    private int generated = 0;
+
+    GenerateValuesStep(int plan, int records, boolean fail, OCommandContext ctx) {
+      this(plan, records, fail, 0, null, ctx);
+    }
+
+    GenerateValuesStep(int plan, int records, boolean fail, long delay, List<ODatabaseDocumentInternal> workerDatabases,
+        OCommandContext ctx) {
+      super(ctx, false);
+      this.plan = plan;
+      this.records = records;
+      this.fail = fail;
+      this.delay = delay;
+      this.workerDatabases = workerDatabases;
+    }
+
+    @Override
+    public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+      if (delay > 0) {
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+
+      OInternalResultSet result = new OInternalResultSet();
+      while (generated < records && result.size() < nRecords) {
+        if (fail && generated == records / 2) {
+          throw new OCommandExecutionException("sub-plan " + plan + " failed");
+        }
+
+        OResultInternal item = new OResultInternal();
+        item.setProperty("value", plan * records + generated);
+        result.add(item);
+        generated++;
+      }
+      return result;
+    }
+
+    @Override
+    public boolean canBeCached() {
+      return true;
+    }
+
+    @Override
+    public OExecutionStep copy(OCommandContext ctx) {
+      if (workerDatabases == null) {
+        return new GenerateValuesStep(plan, records, fail, delay, null, ctx);
+      }
+
+      //sub-plans are copied only by workers
+      workerDatabases.add((ODatabaseDocumentInternal) ctx.getDatabase());
+      return new GenerateValuesStep(plan, records, fail, WORKER_DELAY, workerDatabases, ctx);
+    }
+  }
 }
@@ -0,0 +1,16 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+public class OAnalyzeIndexStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("ANALYZE INDEX *");
+    checkRightSyntax("ANALYZE INDEX Foo");
+    checkRightSyntax("analyze index Foo");
+    checkRightSyntax("ANALYZE INDEX Foo.bar");
+    checkRightSyntax("ANALYZE INDEX Foo.bar.baz");
+    checkWrongSyntax("ANALYZE INDEX Foo.bar foo");
+  }
+
+}
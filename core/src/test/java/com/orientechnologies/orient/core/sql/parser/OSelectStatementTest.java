@@ -558,6 +558,7 @@ public class OSelectStatementTest {
     checkRightSyntax("select `nocache` from foo where `nocache` = 'bar'");
     checkRightSyntax("select `unsafe` from foo where `unsafe` = 'bar'");
     checkRightSyntax("select `parallel` from foo where `parallel` = 'bar'");
+    checkRightSyntax("select `memory` from foo where `memory` = 'bar'");
     checkRightSyntax("select `strategy` from foo where `strategy` = 'bar'");
     checkRightSyntax("select `depth_first` from foo where `depth_first` = 'bar'");
     checkRightSyntax("select `breadth_first` from foo where `breadth_first` = 'bar'");
@@ -783,6 +784,21 @@ public class OSelectStatementTest {
     checkWrongSyntax("select from V order by foo asc collate ");
   }
 
+  @Test
+  public void testMemoryBudget() {
+    checkRightSyntax("select distinct(name) from V memory 1048576");
+    checkRightSyntax("select name, count(*) from V group by name timeout 1000 parallel nocache MEMORY 1048576");
+    checkRightSyntax("select memory from V where memory > 10 memory 1024");
+    checkRightSyntax("select from V fetchplan *:1 memory 1024");
+    checkRightSyntax("select from V fetchplan memory:1 memory 1024");
+
+    OSelectStatement statement = (OSelectStatement) checkRightSyntax("select from V order by name memory 1024");
+    Assert.assertEquals(Long.valueOf(1024), statement.getMemoryBudget());
+
+    checkWrongSyntax("select from V memory");
+    checkWrongSyntax("select from V memory foo");
+  }
+
   protected OrientSql getParserFor(String string) {
     InputStream is = new ByteArrayInputStream(string.getBytes());
     OrientSql osql = new OrientSql(is);
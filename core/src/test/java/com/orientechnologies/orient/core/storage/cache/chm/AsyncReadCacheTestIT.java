@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.storage.cache.chm;
 import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
 import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
@@ -17,7 +18,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -156,6 +159,104 @@ public class AsyncReadCacheTestIT {
     readCache.assertSize();
   }
 
+  @Test
+  public void testReadAheadOfSequentialReads() throws Exception {
+    final int pageSize = 4 * 1024;
+
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 256);
+    final long maxMemory = 64 * 1024 * 1024;
+
+    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true, 16);
+    final OWriteCache writeCache = new MockedWriteCache(byteBufferPool);
+
+    for (int pageIndex = 0; pageIndex < 8; pageIndex++) {
+      final OCacheEntry cacheEntry = readCache.loadForRead(1, pageIndex, false, writeCache, true);
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+
+    final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (readCache.getPrefetchedPagesCount() == 0 && System.nanoTime() < end) {
+      Thread.sleep(10);
+    }
+
+    Assert.assertTrue(readCache.getPrefetchedPagesCount() > 0);
+
+    readCache.clear();
+    readCache.assertSize();
+    Assert.assertEquals(0, readCache.getUsedMemory());
+  }
+
+  @Test
+  public void testNoReadAheadOfRandomReads() {
+    final int pageSize = 4 * 1024;
+
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 256);
+    final long maxMemory = 64 * 1024 * 1024;
+
+    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true, 16);
+    final OWriteCache writeCache = new MockedWriteCache(byteBufferPool);
+
+    final int[] pages = new int[] { 100, 7, 55, 3, 80, 12, 99, 4 };
+    for (final int pageIndex : pages) {
+      final OCacheEntry cacheEntry = readCache.loadForRead(1, pageIndex, false, writeCache, true);
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+
+    readCache.clear();
+    Assert.assertEquals(0, readCache.getPrefetchedPagesCount());
+    readCache.assertSize();
+  }
+
+  @Test
+  public void testStoreAndLoadCacheState() throws Exception {
+    final int pageSize = 4 * 1024;
+
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(pageSize, allocator, 256);
+    final long maxMemory = 64 * 1024 * 1024;
+
+    final String buildDirectory = System.getProperty("buildDirectory", "./target");
+    final Path rootDirectory = Paths.get(buildDirectory, AsyncReadCacheTestIT.class.getSimpleName());
+    OFileUtils.deleteRecursively(rootDirectory.toFile());
+    Files.createDirectories(rootDirectory);
+
+    final OWriteCache writeCache = new CacheStateWriteCache(byteBufferPool, rootDirectory);
+
+    final AsyncReadCache readCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true);
+    for (int pageIndex = 0; pageIndex < 20; pageIndex++) {
+      final OCacheEntry cacheEntry = readCache.loadForRead(1, pageIndex, false, writeCache, true);
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+
+    for (int pageIndex = 100; pageIndex < 110; pageIndex++) {
+      final OCacheEntry cacheEntry = readCache.loadForRead(2, pageIndex, false, writeCache, true);
+      readCache.releaseFromRead(cacheEntry, writeCache);
+    }
+
+    readCache.storeCacheState(writeCache);
+    readCache.clear();
+
+    Assert.assertTrue(Files.exists(rootDirectory.resolve(AsyncReadCache.CACHE_STATE_FILE)));
+
+    final AsyncReadCache restoredCache = new AsyncReadCache(byteBufferPool, maxMemory, pageSize, true);
+    restoredCache.loadCacheState(writeCache);
+
+    final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (restoredCache.getPrefetchedPagesCount() < 30 && System.nanoTime() < end) {
+      Thread.sleep(10);
+    }
+
+    Assert.assertEquals(30, restoredCache.getPrefetchedPagesCount());
+    Assert.assertEquals(30L * pageSize, restoredCache.getUsedMemory());
+
+    restoredCache.clear();
+    restoredCache.assertSize();
+
+    OFileUtils.deleteRecursively(rootDirectory.toFile());
+  }
+
   private static final class PageWriter implements Callable<Void> {
     private final int         fileLimit;
     private final int         pageLimit;
@@ -290,7 +391,7 @@ public class AsyncReadCacheTestIT {
     }
   }
 
-  private static final class MockedWriteCache implements OWriteCache {
+  private static class MockedWriteCache implements OWriteCache {
     private final OByteBufferPool byteBufferPool;
 
     MockedWriteCache(final OByteBufferPool byteBufferPool) {
@@ -679,4 +780,26 @@ public class AsyncReadCacheTestIT {
     }
   }
 
+  /**
+   * Write cache which keeps state of the read cache in the given directory and reports all the files as existing ones, so pages
+   * of the stored state are loaded back.
+   */
+  private static final class CacheStateWriteCache extends MockedWriteCache {
+    private final Path rootDirectory;
+
+    CacheStateWriteCache(final OByteBufferPool byteBufferPool, final Path rootDirectory) {
+      super(byteBufferPool);
+      this.rootDirectory = rootDirectory;
+    }
+
+    @Override
+    public boolean exists(final long fileId) {
+      return true;
+    }
+
+    @Override
+    public Path getRootDirectory() {
+      return rootDirectory;
+    }
+  }
 }
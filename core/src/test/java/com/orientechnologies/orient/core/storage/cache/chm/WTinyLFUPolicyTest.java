@@ -654,6 +654,118 @@ public class WTinyLFUPolicyTest {
     clearPointers(wTinyLFU);
   }
 
+  @Test
+  public void testScanDoesNotEvictHotPages() {
+    ODirectMemoryAllocator memoryAllocator = new ODirectMemoryAllocator();
+    OByteBufferPool pool = new OByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, OCacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(100);
+
+    OCacheEntry[] cacheEntries = new OCacheEntry[120];
+    OCachePointer[] cachePointers = new OCachePointer[120];
+
+    generateEntries(cacheEntries, cachePointers, pool);
+
+    for (int i = 0; i < 20; i++) {
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      cacheSize.incrementAndGet();
+      wTinyLFU.onAdd(cacheEntries[i]);
+    }
+
+    for (int i = 0; i < 20; i++) {
+      wTinyLFU.onAccess(cacheEntries[i]);
+    }
+
+    for (int i = 20; i < 120; i++) {
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      cacheSize.incrementAndGet();
+      wTinyLFU.onScanAdd(cacheEntries[i]);
+    }
+
+    //scan ring takes 25% of eden which is 20% of the cache
+    Assert.assertEquals(25, cacheSize.get());
+    Assert.assertEquals(25, data.size());
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[115], cacheEntries[116], cacheEntries[117], cacheEntries[118],
+        cacheEntries[119] }, toArray(wTinyLFU.scan()));
+
+    for (int i = 0; i < 20; i++) {
+      Assert.assertTrue(cacheEntries[i].isAlive());
+      Assert.assertSame(cacheEntries[i], data.get(new PageKey(1, i)));
+    }
+
+    for (int i = 20; i < 115; i++) {
+      Assert.assertTrue(cacheEntries[i].isDead());
+    }
+
+    //page loaded by scan and accessed by regular read is admitted into the main part of the cache
+    wTinyLFU.onAccess(cacheEntries[119]);
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[115], cacheEntries[116], cacheEntries[117], cacheEntries[118] },
+        toArray(wTinyLFU.scan()));
+    Assert.assertTrue(cacheEntries[119].isAlive());
+
+    clearPointers(wTinyLFU);
+    Mockito.<Object>reset(admittor);
+  }
+
+  @Test
+  public void testScanRingWithAcquiredPages() {
+    ODirectMemoryAllocator memoryAllocator = new ODirectMemoryAllocator();
+    OByteBufferPool pool = new OByteBufferPool(1, memoryAllocator, 0);
+
+    ConcurrentHashMap<PageKey, OCacheEntry> data = new ConcurrentHashMap<>();
+    Admittor admittor = mock(Admittor.class);
+
+    AtomicInteger cacheSize = new AtomicInteger();
+    WTinyLFUPolicy wTinyLFU = new WTinyLFUPolicy(data, admittor, cacheSize);
+    wTinyLFU.setMaxSize(100);
+
+    OCacheEntry[] cacheEntries = new OCacheEntry[8];
+    OCachePointer[] cachePointers = new OCachePointer[8];
+
+    generateEntries(cacheEntries, cachePointers, pool);
+
+    //pages which are in use can not be evicted, so the ring grows over its limit of 5 pages
+    for (int i = 0; i < 7; i++) {
+      cacheEntries[i].acquireEntry();
+
+      data.put(new PageKey(1, i), cacheEntries[i]);
+      cacheSize.incrementAndGet();
+      wTinyLFU.onScanAdd(cacheEntries[i]);
+    }
+
+    Assert.assertEquals(7, cacheSize.get());
+    Assert.assertEquals(7, data.size());
+    for (int i = 0; i < 7; i++) {
+      Assert.assertTrue(cacheEntries[i].isAlive());
+    }
+
+    for (int i = 0; i < 7; i++) {
+      cacheEntries[i].releaseEntry();
+    }
+
+    //once pages are released, extra pages are evicted by the next scan
+    data.put(new PageKey(1, 7), cacheEntries[7]);
+    cacheSize.incrementAndGet();
+    wTinyLFU.onScanAdd(cacheEntries[7]);
+
+    Assert.assertEquals(5, cacheSize.get());
+    Assert.assertEquals(5, data.size());
+    Assert.assertArrayEquals(new OCacheEntry[] { cacheEntries[3], cacheEntries[4], cacheEntries[5], cacheEntries[6],
+        cacheEntries[7] }, toArray(wTinyLFU.scan()));
+
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(cacheEntries[i].isDead());
+    }
+
+    clearPointers(wTinyLFU);
+    Mockito.<Object>reset(admittor);
+  }
+
   private static OCacheEntry[] toArray(Iterator<OCacheEntry> iterator) {
     final List<OCacheEntry> entries = new ArrayList<>();
     while (iterator.hasNext()) {
@@ -679,6 +791,7 @@ public class WTinyLFUPolicyTest {
     clearQueue(policy.eden());
     clearQueue(policy.probation());
     clearQueue(policy.protection());
+    clearQueue(policy.scan());
   }
 
   private static void clearQueue(final Iterator<OCacheEntry> iterator) {
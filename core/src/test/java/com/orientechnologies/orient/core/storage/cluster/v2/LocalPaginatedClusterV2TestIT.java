@@ -6,12 +6,20 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
 import com.orientechnologies.orient.core.storage.cluster.LocalPaginatedClusterAbstract;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import org.assertj.core.api.Assertions;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
 
 public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract {
   @BeforeClass
@@ -38,4 +46,141 @@ public class LocalPaginatedClusterV2TestIT extends LocalPaginatedClusterAbstract
     paginatedCluster.configure(42, "paginatedClusterTest");
     paginatedCluster.create();
   }
+
+  @Test
+  public void testUpdateSameSizeRecordInPlace() throws IOException {
+    final Random random = new Random(42);
+    final byte[] record = new byte[1000];
+    random.nextBytes(record);
+
+    final OPhysicalPosition physicalPosition = paginatedCluster.createRecord(record, 1, (byte) 1, null);
+
+    final byte[] updatedRecord = Arrays.copyOf(record, record.length);
+    updatedRecord[0]++;
+    updatedRecord[10]++;
+    for (int i = 500; i < 520; i++) {
+      updatedRecord[i]++;
+    }
+    updatedRecord[updatedRecord.length - 1]++;
+
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.startAtomicOperation((String) null, false);
+    paginatedCluster.updateRecord(physicalPosition.clusterPosition, updatedRecord, 2, (byte) 1);
+    atomicOperationsManager.endAtomicOperation(false);
+
+    ORawBuffer rawBuffer = paginatedCluster.readRecord(physicalPosition.clusterPosition, false);
+    Assert.assertNotNull(rawBuffer);
+    Assert.assertEquals(2, rawBuffer.version);
+    Assertions.assertThat(rawBuffer.buffer).isEqualTo(updatedRecord);
+    Assert.assertEquals(1, rawBuffer.recordType);
+
+    //only version of the record is changed
+    paginatedCluster.updateRecord(physicalPosition.clusterPosition, updatedRecord, 3, (byte) 1);
+
+    rawBuffer = paginatedCluster.readRecord(physicalPosition.clusterPosition, false);
+    Assert.assertNotNull(rawBuffer);
+    Assert.assertEquals(3, rawBuffer.version);
+    Assertions.assertThat(rawBuffer.buffer).isEqualTo(updatedRecord);
+    Assert.assertEquals(1, rawBuffer.recordType);
+  }
+
+  @Test
+  public void testUpdateSameSizeRecordInPlaceRollback() throws IOException {
+    final Random random = new Random(42);
+    final byte[] record = new byte[1000];
+    random.nextBytes(record);
+
+    final OPhysicalPosition physicalPosition = paginatedCluster.createRecord(record, 1, (byte) 1, null);
+
+    final byte[] updatedRecord = Arrays.copyOf(record, record.length);
+    for (int i = 0; i < updatedRecord.length; i += 100) {
+      updatedRecord[i]++;
+    }
+
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.startAtomicOperation((String) null, false);
+    paginatedCluster.updateRecord(physicalPosition.clusterPosition, updatedRecord, 2, (byte) 1);
+    atomicOperationsManager.endAtomicOperation(true);
+
+    final ORawBuffer rawBuffer = paginatedCluster.readRecord(physicalPosition.clusterPosition, false);
+    Assert.assertNotNull(rawBuffer);
+    Assert.assertEquals(1, rawBuffer.version);
+    Assertions.assertThat(rawBuffer.buffer).isEqualTo(record);
+    Assert.assertEquals(1, rawBuffer.recordType);
+  }
+
+  @Test
+  public void testUpdateSameSizeRecordWithOtherType() throws IOException {
+    final byte[] record = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 0 };
+    final OPhysicalPosition physicalPosition = paginatedCluster.createRecord(record, 1, (byte) 1, null);
+
+    final byte[] updatedRecord = new byte[] { 1, 2, 3, 4, 5, 0, 9, 8, 7, 6 };
+    paginatedCluster.updateRecord(physicalPosition.clusterPosition, updatedRecord, 2, (byte) 2);
+
+    final ORawBuffer rawBuffer = paginatedCluster.readRecord(physicalPosition.clusterPosition, false);
+    Assert.assertNotNull(rawBuffer);
+    Assert.assertEquals(2, rawBuffer.version);
+    Assertions.assertThat(rawBuffer.buffer).isEqualTo(updatedRecord);
+    Assert.assertEquals(2, rawBuffer.recordType);
+  }
+
+  @Test
+  public void testUpdateSameSizeRecordsInPlaceAndByRewrite() throws IOException {
+    final Object inPlaceUpdate = OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.getValue();
+    OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.setValue(false);
+
+    final OPaginatedClusterV2 rewriteCluster;
+    try {
+      rewriteCluster = new OPaginatedClusterV2("paginatedClusterRewriteTest", storage);
+    } finally {
+      OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.setValue(inPlaceUpdate);
+    }
+
+    rewriteCluster.configure(43, "paginatedClusterRewriteTest");
+    rewriteCluster.create();
+    try {
+      final Random random = new Random(42);
+      final int records = 200;
+
+      final byte[][] contents = new byte[records][];
+      final long[] inPlacePositions = new long[records];
+      final long[] rewritePositions = new long[records];
+
+      for (int i = 0; i < records; i++) {
+        contents[i] = new byte[random.nextInt(3000) + 1];
+        random.nextBytes(contents[i]);
+
+        inPlacePositions[i] = paginatedCluster.createRecord(contents[i], 1, (byte) 1, null).clusterPosition;
+        rewritePositions[i] = rewriteCluster.createRecord(contents[i], 1, (byte) 1, null).clusterPosition;
+      }
+
+      for (int version = 2; version < 12; version++) {
+        for (int i = 0; i < records; i++) {
+          final byte[] content = contents[i];
+          final int changes = random.nextInt(5);
+          for (int n = 0; n < changes; n++) {
+            content[random.nextInt(content.length)] = (byte) random.nextInt();
+          }
+
+          paginatedCluster.updateRecord(inPlacePositions[i], content, version, (byte) 1);
+          rewriteCluster.updateRecord(rewritePositions[i], content, version, (byte) 1);
+        }
+
+        for (int i = 0; i < records; i++) {
+          final ORawBuffer inPlaceBuffer = paginatedCluster.readRecord(inPlacePositions[i], false);
+          final ORawBuffer rewriteBuffer = rewriteCluster.readRecord(rewritePositions[i], false);
+
+          Assert.assertNotNull(inPlaceBuffer);
+          Assert.assertNotNull(rewriteBuffer);
+
+          Assert.assertEquals(version, inPlaceBuffer.version);
+          Assert.assertEquals(rewriteBuffer.version, inPlaceBuffer.version);
+          Assertions.assertThat(inPlaceBuffer.buffer).isEqualTo(contents[i]);
+          Assertions.assertThat(inPlaceBuffer.buffer).isEqualTo(rewriteBuffer.buffer);
+        }
+      }
+    } finally {
+      rewriteCluster.delete();
+    }
+  }
 }
@@ -0,0 +1,61 @@
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OClusterPositionCacheTest {
+  private OClusterPositionCache cache;
+
+  @Before
+  public void before() {
+    cache = new OClusterPositionCache(64 * 1024);
+  }
+
+  @After
+  public void after() {
+    cache.free();
+  }
+
+  @Test
+  public void testPutGetRemove() {
+    Assert.assertEquals(-1, cache.get(0));
+
+    cache.put(0, 42);
+    cache.put(12, (3L << 16) | 7);
+
+    Assert.assertEquals(42, cache.get(0));
+    Assert.assertEquals((3L << 16) | 7, cache.get(12));
+    Assert.assertEquals(-1, cache.get(1));
+
+    cache.put(12, 24);
+    Assert.assertEquals(24, cache.get(12));
+
+    cache.remove(12);
+    Assert.assertEquals(-1, cache.get(12));
+    Assert.assertEquals(42, cache.get(0));
+
+    cache.clear();
+    Assert.assertEquals(-1, cache.get(0));
+  }
+
+  @Test
+  public void testEvictionKeepsValuesConsistent() {
+    for (long i = 0; i < 1_000_000; i++) {
+      cache.put(i, i * 3);
+    }
+
+    int hits = 0;
+    for (long i = 0; i < 1_000_000; i++) {
+      final long pagePointer = cache.get(i);
+      if (pagePointer >= 0) {
+        Assert.assertEquals(i * 3, pagePointer);
+        hits++;
+      }
+    }
+
+    Assert.assertTrue(hits > 0);
+    Assert.assertTrue(hits <= 64 * 1024 / 16);
+  }
+}
@@ -0,0 +1,141 @@
+package com.orientechnologies.orient.core.storage.cluster.v2;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class OPaginatedClusterV2PositionCacheTestIT {
+  private static final int RECORDS = 2_000;
+  private static final int READERS = 4;
+
+  private static String                    buildDirectory;
+  private static OrientDB                  orientDB;
+  private static ODatabaseDocumentInternal databaseDocumentTx;
+  private static OAbstractPaginatedStorage storage;
+  private static OPaginatedClusterV2       paginatedCluster;
+  private static int                       positionCacheSize;
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    positionCacheSize = OGlobalConfiguration.STORAGE_CLUSTER_POSITION_CACHE_SIZE.getValueAsInteger();
+    OGlobalConfiguration.STORAGE_CLUSTER_POSITION_CACHE_SIZE.setValue(64);
+
+    buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty())
+      buildDirectory = ".";
+
+    buildDirectory += File.separator + OPaginatedClusterV2PositionCacheTestIT.class.getSimpleName();
+    OFileUtils.deleteRecursively(new File(buildDirectory));
+
+    orientDB = new OrientDB("plocal:" + buildDirectory, OrientDBConfig.defaultConfig());
+    orientDB.create("positionCacheTest", ODatabaseType.PLOCAL);
+
+    databaseDocumentTx = (ODatabaseDocumentInternal) orientDB.open("positionCacheTest", "admin", "admin");
+    storage = (OAbstractPaginatedStorage) databaseDocumentTx.getStorage();
+
+    paginatedCluster = new OPaginatedClusterV2("positionCacheTest", storage);
+    paginatedCluster.configure(42, "positionCacheTest");
+    paginatedCluster.create();
+  }
+
+  @AfterClass
+  public static void afterClass() throws Exception {
+    paginatedCluster.delete();
+
+    databaseDocumentTx.close();
+    orientDB.drop("positionCacheTest");
+    orientDB.close();
+
+    OGlobalConfiguration.STORAGE_CLUSTER_POSITION_CACHE_SIZE.setValue(positionCacheSize);
+  }
+
+  @Test
+  public void testConcurrentDeleteAndRead() throws Exception {
+    final long[] positions = new long[RECORDS];
+    for (int i = 0; i < RECORDS; i++) {
+      positions[i] = paginatedCluster.createRecord(new byte[] { (byte) i, 1, 2, 3 }, 1, (byte) 'd', null).clusterPosition;
+    }
+
+    final OAtomicOperationsManager atomicOperationsManager = storage.getAtomicOperationsManager();
+    final ConcurrentHashMap<Long, Boolean> deleted = new ConcurrentHashMap<>();
+    final AtomicBoolean stop = new AtomicBoolean();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+    try {
+      final List<Future<Void>> readers = new ArrayList<>();
+      for (int n = 0; n < READERS; n++) {
+        readers.add(executor.submit(() -> {
+          final Random random = new Random();
+          while (!stop.get()) {
+            final long position = positions[random.nextInt(RECORDS)];
+            final boolean wasDeleted = deleted.containsKey(position);
+
+            final ORawBuffer buffer = paginatedCluster.readRecord(position, false);
+            if (wasDeleted) {
+              Assert.assertNull("Deleted record " + position + " was read", buffer);
+            }
+          }
+
+          return null;
+        }));
+      }
+
+      //deletion and reuse of slots is performed the same way as non-tx operations of storage do
+      for (int i = 0; i < RECORDS; i += 2) {
+        atomicOperationsManager.startAtomicOperation((String) null, true);
+        try {
+          paginatedCluster.deleteRecord(positions[i]);
+          Thread.yield();
+        } finally {
+          atomicOperationsManager.endAtomicOperation(false);
+        }
+        deleted.put(positions[i], Boolean.TRUE);
+
+        atomicOperationsManager.startAtomicOperation((String) null, true);
+        try {
+          paginatedCluster.createRecord(new byte[] { 4, 3, 2, 1 }, 1, (byte) 'd', null);
+        } finally {
+          atomicOperationsManager.endAtomicOperation(false);
+        }
+      }
+
+      stop.set(true);
+      for (Future<Void> reader : readers) {
+        reader.get();
+      }
+    } finally {
+      stop.set(true);
+      executor.shutdown();
+    }
+
+    for (int i = 0; i < RECORDS; i++) {
+      final ORawBuffer buffer = paginatedCluster.readRecord(positions[i], false);
+      if (i % 2 == 0) {
+        Assert.assertNull(buffer);
+      } else {
+        Assert.assertNotNull(buffer);
+        Assert.assertEquals((byte) i, buffer.buffer[0]);
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OWALParallelRestoreTest {
+  @Test
+  public void testCloseIfWorkerIsStopped() throws Exception {
+    final OReadCache readCache = mock(OReadCache.class);
+    final OWriteCache writeCache = mock(OWriteCache.class);
+
+    when(writeCache.internalFileId(anyLong())).thenReturn(1);
+    when(readCache.loadForWrite(anyLong(), anyLong(), anyBoolean(), any(), anyBoolean(), any()))
+        .thenThrow(new AssertionError("Worker is stopped by test"));
+
+    final OWALParallelRestore parallelRestore = new OWALParallelRestore(readCache, writeCache, "testCloseIfWorkerIsStopped", 1);
+
+    //queue of the stopped worker is filled up, so submission fails once error is detected
+    try {
+      for (int i = 0; i < 100_000; i++) {
+        parallelRestore.submit(1, new OUpdatePageRecord(i, 1, OOperationUnitId.generateId(), null));
+      }
+
+      Assert.fail("Submission should fail if worker is stopped");
+    } catch (OStorageException e) {
+      Assert.assertTrue(e.getCause() instanceof AssertionError);
+    }
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(parallelRestore::close).get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
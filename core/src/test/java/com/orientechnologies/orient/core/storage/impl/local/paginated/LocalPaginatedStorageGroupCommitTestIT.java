@@ -0,0 +1,101 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALGroupCommit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LocalPaginatedStorageGroupCommitTestIT {
+  private static final String DB_NAME        = "groupCommitTest";
+  private static final int    THREADS        = 8;
+  private static final int    TX_PER_THREAD  = 200;
+  private static final int    RECORDS_PER_TX = 5;
+
+  private File     dbDirectory;
+  private OrientDB orientDB;
+
+  @Before
+  public void before() {
+    final String buildDirectory = System.getProperty("buildDirectory", "./target");
+    dbDirectory = new File(buildDirectory, LocalPaginatedStorageGroupCommitTestIT.class.getSimpleName());
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    orientDB = new OrientDB("plocal:" + dbDirectory.getAbsolutePath(),
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.WAL_SYNC_ON_COMMIT, true).build());
+    orientDB.create(DB_NAME, ODatabaseType.PLOCAL);
+
+    try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      session.createClass("GroupCommitRecord");
+    }
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+
+    OFileUtils.deleteRecursively(dbDirectory);
+  }
+
+  @Test
+  public void testConcurrentCommitsShareFlush() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < THREADS; n++) {
+        final int threadId = n;
+        futures.add(executor.submit(() -> {
+          try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+            for (int i = 0; i < TX_PER_THREAD; i++) {
+              session.begin();
+              for (int k = 0; k < RECORDS_PER_TX; k++) {
+                final ODocument document = new ODocument("GroupCommitRecord");
+                document.field("thread", threadId);
+                document.field("tx", i);
+                session.save(document);
+              }
+              session.commit();
+            }
+          }
+          return null;
+        }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      Assert.assertEquals(THREADS * TX_PER_THREAD * RECORDS_PER_TX, session.countClass("GroupCommitRecord"));
+
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) session).getStorage();
+      final OWALGroupCommit groupCommit = storage.getWALGroupCommit();
+      Assert.assertNotNull(groupCommit);
+
+      final long flushes = groupCommit.getBatchSizeHistogram().getCount();
+      Assert.assertTrue(flushes > 0);
+      Assert.assertTrue(flushes < THREADS * TX_PER_THREAD);
+      Assert.assertTrue(groupCommit.getWaitTimeHistogram().getCount() >= THREADS * TX_PER_THREAD);
+    }
+  }
+}
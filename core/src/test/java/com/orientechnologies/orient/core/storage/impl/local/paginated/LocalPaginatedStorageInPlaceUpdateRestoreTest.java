@@ -0,0 +1,194 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that records which are updated in place, see {@link OGlobalConfiguration#STORAGE_CLUSTER_IN_PLACE_UPDATE}, are restored
+ * from WAL after crash.
+ */
+public class LocalPaginatedStorageInPlaceUpdateRestoreTest {
+  private static final String BASE_NAME     = "baseLocalPaginatedStorageInPlaceUpdateRestore";
+  private static final String RESTORED_NAME = "restoredLocalPaginatedStorageInPlaceUpdateRestore";
+
+  private static final int DOCUMENTS     = 1000;
+  private static final int STRING_LENGTH = 512;
+
+  private static File   buildDir;
+  private static Object inPlaceUpdate;
+  private static Object checksumMode;
+  private static Object fuzzyCheckpointInterval;
+
+  private ODatabaseDocumentTx baseDocumentTx;
+
+  @BeforeClass
+  public static void beforeClass() {
+    inPlaceUpdate = OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.getValue();
+    checksumMode = OGlobalConfiguration.STORAGE_CHECKSUM_MODE.getValue();
+    fuzzyCheckpointInterval = OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.getValue();
+
+    OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.setValue(true);
+    //pages are copied while storage is open, they may be written partially by write cache at that moment
+    OGlobalConfiguration.STORAGE_CHECKSUM_MODE.setValue("off");
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    buildDirectory += "/localPaginatedStorageInPlaceUpdateRestore";
+
+    buildDir = new File(buildDirectory);
+    OFileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    OGlobalConfiguration.STORAGE_CLUSTER_IN_PLACE_UPDATE.setValue(inPlaceUpdate);
+    OGlobalConfiguration.STORAGE_CHECKSUM_MODE.setValue(checksumMode);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(fuzzyCheckpointInterval);
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Before
+  public void beforeMethod() {
+    baseDocumentTx = new ODatabaseDocumentTx("plocal:" + buildDir.getAbsolutePath() + "/" + BASE_NAME);
+    if (baseDocumentTx.exists()) {
+      baseDocumentTx.open("admin", "admin");
+      baseDocumentTx.drop();
+    }
+
+    baseDocumentTx.create();
+
+    final OClass testClass = baseDocumentTx.getMetadata().getSchema().createClass("TestOne");
+    testClass.createProperty("counter", OType.LONG);
+    testClass.createProperty("stringProp", OType.STRING);
+  }
+
+  @After
+  public void afterMethod() {
+    dropDatabase(baseDocumentTx.getURL());
+    dropDatabase("plocal:" + buildDir.getAbsolutePath() + "/" + RESTORED_NAME);
+  }
+
+  @Test
+  public void testRestoreOfRecordsUpdatedInPlace() throws Exception {
+    final Random random = new Random(42);
+    final List<ORID> rids = new ArrayList<>();
+
+    for (int i = 0; i < DOCUMENTS; i++) {
+      final ODocument document = new ODocument("TestOne");
+      //values keep the size of serialized document, so documents are updated in place
+      document.field("counter", 1_000_000L + i);
+      document.field("stringProp", randomString(random));
+      document.save();
+
+      rids.add(document.getIdentity());
+    }
+
+    //pages of created records are flushed, so only in place updates are restored from WAL
+    baseDocumentTx.getStorage().synch();
+
+    for (int round = 0; round < 5; round++) {
+      for (final ORID rid : rids) {
+        final ODocument document = baseDocumentTx.load(rid);
+        document.field("counter", document.<Long>field("counter") + 1);
+
+        final char[] chars = document.<String>field("stringProp").toCharArray();
+        chars[random.nextInt(STRING_LENGTH)] = (char) ('a' + random.nextInt(26));
+        document.field("stringProp", new String(chars));
+
+        document.save();
+      }
+    }
+
+    final OAbstractPaginatedStorage baseStorage = (OAbstractPaginatedStorage) baseDocumentTx.getStorage().getUnderlying();
+    baseStorage.getWALInstance().flush();
+
+    copyStorageWithoutClose();
+
+    baseDocumentTx.close();
+
+    final ODatabaseDocumentTx restoredDocumentTx = new ODatabaseDocumentTx(
+        "plocal:" + buildDir.getAbsolutePath() + "/" + RESTORED_NAME);
+    restoredDocumentTx.open("admin", "admin");
+    try {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) restoredDocumentTx.getStorage().getUnderlying();
+      Assert.assertTrue(storage.wereDataRestoredAfterOpen());
+
+      for (int i = 0; i < DOCUMENTS; i++) {
+        final ODocument document = restoredDocumentTx.load(rids.get(i));
+        Assert.assertEquals(1_000_005L + i, (long) document.<Long>field("counter"));
+      }
+    } finally {
+      restoredDocumentTx.close();
+    }
+
+    final ODatabaseCompare databaseCompare = new ODatabaseCompare(baseDocumentTx.getURL(), restoredDocumentTx.getURL(), "admin",
+        "admin", text -> {
+    });
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  private static String randomString(final Random random) {
+    final char[] chars = new char[STRING_LENGTH];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(26));
+    }
+
+    return new String(chars);
+  }
+
+  private static void dropDatabase(final String url) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(url);
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+  }
+
+  private void copyStorageWithoutClose() throws IOException {
+    final File storageDir = new File(buildDir, BASE_NAME);
+    final File copyToDir = new File(buildDir, RESTORED_NAME);
+
+    Assert.assertFalse(copyToDir.exists());
+    Assert.assertTrue(copyToDir.mkdir());
+
+    final File[] storageFiles = storageDir.listFiles();
+    Assert.assertNotNull(storageFiles);
+
+    for (final File storageFile : storageFiles) {
+      //storage which is not closed is marked as dirty, so copy is restored from WAL on open
+      if (storageFile.getName().equals("dirty.fl")) {
+        continue;
+      }
+
+      String fileName = storageFile.getName();
+      //WAL and double write log segments are prefixed by storage name
+      if (fileName.startsWith(BASE_NAME + ".") || fileName.startsWith(BASE_NAME + "_")) {
+        fileName = RESTORED_NAME + fileName.substring(BASE_NAME.length());
+      }
+
+      Files.copy(storageFile.toPath(), new File(copyToDir, fileName).toPath());
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+public class LocalPaginatedStorageMemoryMappedReadOnlyTestIT {
+  private static final String DB_NAME       = "memoryMappedReadOnlyTest";
+  private static final int    RECORDS_COUNT = 10_000;
+
+  private File dbDirectory;
+
+  @Before
+  public void before() {
+    final String buildDirectory = System.getProperty("buildDirectory", "./target");
+    dbDirectory = new File(buildDirectory, LocalPaginatedStorageMemoryMappedReadOnlyTestIT.class.getSimpleName());
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    final OrientDB orientDB = new OrientDB("plocal:" + dbDirectory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+    try {
+      orientDB.create(DB_NAME, ODatabaseType.PLOCAL);
+
+      try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+        session.createClass("MappedRecord").createIndex("MappedRecordIdIndex", "UNIQUE", "id");
+
+        for (int i = 0; i < RECORDS_COUNT; i++) {
+          final ODocument document = new ODocument("MappedRecord");
+          document.field("id", i);
+          document.field("value", "value of record " + i);
+          session.save(document);
+        }
+      }
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  @After
+  public void after() {
+    final OrientDB orientDB = new OrientDB("plocal:" + dbDirectory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+    try {
+      orientDB.drop(DB_NAME);
+    } finally {
+      orientDB.close();
+    }
+
+    OFileUtils.deleteRecursively(dbDirectory);
+  }
+
+  @Test
+  public void testReadRecordsFromMappedFiles() {
+    final OrientDB orientDB = new OrientDB("plocal:" + dbDirectory.getAbsolutePath(),
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.STORAGE_OPEN_MEMORY_MAPPED_READ_ONLY, true).build());
+    try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      Assert.assertEquals(RECORDS_COUNT, session.countClass("MappedRecord"));
+
+      int counter = 0;
+      for (final ODocument document : session.browseClass("MappedRecord")) {
+        final int id = document.field("id");
+        Assert.assertEquals("value of record " + id, document.field("value"));
+        counter++;
+      }
+      Assert.assertEquals(RECORDS_COUNT, counter);
+
+      try (final OResultSet resultSet = session.query("select value from MappedRecord where id = ?", 4242)) {
+        Assert.assertTrue(resultSet.hasNext());
+        final OResult result = resultSet.next();
+        Assert.assertEquals("value of record 4242", result.getProperty("value"));
+        Assert.assertFalse(resultSet.hasNext());
+      }
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  @Test
+  public void testModificationsAreProhibited() {
+    final OrientDB orientDB = new OrientDB("plocal:" + dbDirectory.getAbsolutePath(),
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.STORAGE_OPEN_MEMORY_MAPPED_READ_ONLY, true).build());
+    try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final ODocument document = new ODocument("MappedRecord");
+      document.field("id", RECORDS_COUNT);
+
+      try {
+        session.save(document);
+        Assert.fail();
+      } catch (final OStorageException e) {
+        //expected
+      }
+
+      Assert.assertEquals(RECORDS_COUNT, session.countClass("MappedRecord"));
+    } finally {
+      orientDB.close();
+    }
+  }
+}
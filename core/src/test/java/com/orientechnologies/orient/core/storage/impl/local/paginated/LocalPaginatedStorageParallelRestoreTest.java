@@ -0,0 +1,263 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.tool.ODatabaseCompare;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that restore of data from WAL gives the same database when page changes are applied sequentially and when they are
+ * applied by several threads, see {@link OGlobalConfiguration#WAL_RESTORE_THREADS}.
+ */
+public class LocalPaginatedStorageParallelRestoreTest {
+  private static final String BASE_NAME       = "baseLocalPaginatedStorageParallelRestore";
+  private static final String SEQUENTIAL_NAME = "sequentialLocalPaginatedStorageParallelRestore";
+  private static final String PARALLEL_NAME   = "parallelLocalPaginatedStorageParallelRestore";
+
+  private static File   buildDir;
+  private static Object restoreThreads;
+  private static Object checksumMode;
+  private static Object fuzzyCheckpointInterval;
+
+  private ODatabaseDocumentTx baseDocumentTx;
+
+  @BeforeClass
+  public static void beforeClass() {
+    restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValue();
+    checksumMode = OGlobalConfiguration.STORAGE_CHECKSUM_MODE.getValue();
+    fuzzyCheckpointInterval = OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.getValue();
+
+    //pages are copied while storage is open, they may be written partially by write cache at that moment
+    OGlobalConfiguration.STORAGE_CHECKSUM_MODE.setValue("off");
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(100000000);
+
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+    buildDirectory += "/localPaginatedStorageParallelRestore";
+
+    buildDir = new File(buildDirectory);
+    OFileUtils.deleteRecursively(buildDir);
+    Assert.assertTrue(buildDir.mkdirs());
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(restoreThreads);
+    OGlobalConfiguration.STORAGE_CHECKSUM_MODE.setValue(checksumMode);
+    OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL.setValue(fuzzyCheckpointInterval);
+
+    OFileUtils.deleteRecursively(buildDir);
+  }
+
+  @Before
+  public void beforeMethod() {
+    baseDocumentTx = new ODatabaseDocumentTx("plocal:" + buildDir.getAbsolutePath() + "/" + BASE_NAME);
+    if (baseDocumentTx.exists()) {
+      baseDocumentTx.open("admin", "admin");
+      baseDocumentTx.drop();
+    }
+
+    baseDocumentTx.create();
+    createSchema(baseDocumentTx);
+
+    //all files are created and flushed, so only page changes are restored from WAL
+    baseDocumentTx.getStorage().synch();
+  }
+
+  @After
+  public void afterMethod() {
+    dropDatabase(baseDocumentTx.getURL());
+    dropDatabase("plocal:" + buildDir.getAbsolutePath() + "/" + SEQUENTIAL_NAME);
+    dropDatabase("plocal:" + buildDir.getAbsolutePath() + "/" + PARALLEL_NAME);
+  }
+
+  @Test
+  public void testParallelRestoreGivesSameDataAsSequential() throws Exception {
+    propagateData(baseDocumentTx, 5000);
+
+    final OAbstractPaginatedStorage baseStorage = (OAbstractPaginatedStorage) baseDocumentTx.getStorage().getUnderlying();
+    baseStorage.getWALInstance().flush();
+
+    copyStorageWithoutClose(SEQUENTIAL_NAME);
+    copyStorageWithoutClose(PARALLEL_NAME);
+
+    baseDocumentTx.close();
+
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(1);
+    final String sequentialURL = restore(SEQUENTIAL_NAME);
+
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+    final String parallelURL = restore(PARALLEL_NAME);
+
+    assertSameDatabases(baseDocumentTx.getURL(), sequentialURL);
+    assertSameDatabases(baseDocumentTx.getURL(), parallelURL);
+    assertSameDatabases(sequentialURL, parallelURL);
+  }
+
+  @Test
+  public void testParallelRestoreWithFilesCreatedAfterCheckpoint() throws Exception {
+    propagateData(baseDocumentTx, 1000);
+
+    //creation of files is applied only after all page changes which precede it
+    final OClass testThreeClass = baseDocumentTx.getMetadata().getSchema().createClass("TestThree");
+    testThreeClass.createProperty("intProp", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    for (int i = 0; i < 1000; i++) {
+      final ODocument document = new ODocument("TestThree");
+      document.field("intProp", i);
+      document.save();
+    }
+
+    propagateData(baseDocumentTx, 1000);
+
+    final OAbstractPaginatedStorage baseStorage = (OAbstractPaginatedStorage) baseDocumentTx.getStorage().getUnderlying();
+    baseStorage.getWALInstance().flush();
+
+    copyStorageWithoutClose(PARALLEL_NAME);
+
+    baseDocumentTx.close();
+
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+    final String parallelURL = restore(PARALLEL_NAME);
+
+    assertSameDatabases(baseDocumentTx.getURL(), parallelURL);
+  }
+
+  private String restore(final String name) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("plocal:" + buildDir.getAbsolutePath() + "/" + name);
+    db.open("admin", "admin");
+    try {
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage().getUnderlying();
+      Assert.assertTrue(storage.wereDataRestoredAfterOpen());
+    } finally {
+      db.close();
+    }
+
+    return db.getURL();
+  }
+
+  private static void assertSameDatabases(final String firstURL, final String secondURL) throws IOException {
+    final ODatabaseCompare databaseCompare = new ODatabaseCompare(firstURL, secondURL, "admin", "admin", text -> {
+    });
+    databaseCompare.setCompareIndexMetadata(true);
+
+    Assert.assertTrue(databaseCompare.compare());
+  }
+
+  private static void dropDatabase(final String url) {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(url);
+    if (db.exists()) {
+      db.open("admin", "admin");
+      db.drop();
+    }
+  }
+
+  private void copyStorageWithoutClose(final String name) throws IOException {
+    final File storageDir = new File(buildDir, BASE_NAME);
+    final File copyToDir = new File(buildDir, name);
+
+    Assert.assertFalse(copyToDir.exists());
+    Assert.assertTrue(copyToDir.mkdir());
+
+    final File[] storageFiles = storageDir.listFiles();
+    Assert.assertNotNull(storageFiles);
+
+    for (final File storageFile : storageFiles) {
+      //storage which is not closed is marked as dirty, so copy is restored from WAL on open
+      if (storageFile.getName().equals("dirty.fl")) {
+        continue;
+      }
+
+      String fileName = storageFile.getName();
+      //WAL and double write log segments are prefixed by storage name
+      if (fileName.startsWith(BASE_NAME + ".") || fileName.startsWith(BASE_NAME + "_")) {
+        fileName = name + fileName.substring(BASE_NAME.length());
+      }
+
+      Files.copy(storageFile.toPath(), new File(copyToDir, fileName).toPath());
+    }
+  }
+
+  private static void createSchema(final ODatabaseDocumentTx databaseDocumentTx) {
+    final OSchema schema = databaseDocumentTx.getMetadata().getSchema();
+    final OClass testOneClass = schema.createClass("TestOne");
+
+    testOneClass.createProperty("intProp", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    testOneClass.createProperty("stringProp", OType.STRING);
+    testOneClass.createProperty("linkMap", OType.LINKMAP);
+
+    final OClass testTwoClass = schema.createClass("TestTwo");
+    testTwoClass.createProperty("stringList", OType.EMBEDDEDLIST, OType.STRING);
+  }
+
+  private static void propagateData(final ODatabaseDocumentTx db, final int documents) {
+    final Random random = new Random(42);
+
+    final List<ORID> testTwoList = new ArrayList<>();
+    final List<ORID> firstDocs = new ArrayList<>();
+
+    for (int i = 0; i < documents; i++) {
+      final ODocument docOne = new ODocument("TestOne");
+      docOne.field("intProp", random.nextInt(100));
+
+      final byte[] stringData = new byte[256];
+      random.nextBytes(stringData);
+      docOne.field("stringProp", new String(stringData));
+
+      docOne.save();
+      firstDocs.add(docOne.getIdentity());
+
+      if (random.nextBoolean()) {
+        final ODocument docTwo = new ODocument("TestTwo");
+
+        final List<String> stringList = new ArrayList<>();
+        for (int n = 0; n < 5; n++) {
+          stringList.add("strnd" + random.nextInt());
+        }
+
+        docTwo.field("stringList", stringList);
+        docTwo.save();
+
+        testTwoList.add(docTwo.getIdentity());
+      }
+
+      if (!testTwoList.isEmpty()) {
+        final int startIndex = random.nextInt(testTwoList.size());
+        final int endIndex = random.nextInt(testTwoList.size() - startIndex) + startIndex;
+
+        final Map<String, ORID> linkMap = new HashMap<>();
+        for (int n = startIndex; n < endIndex; n++) {
+          final ORID docTwoRid = testTwoList.get(n);
+          linkMap.put(docTwoRid.toString(), docTwoRid);
+        }
+
+        docOne.field("linkMap", linkMap);
+        docOne.save();
+      }
+
+      if (random.nextDouble() <= 0.2) {
+        final ORID rid = firstDocs.remove(random.nextInt(firstDocs.size()));
+        db.delete(rid);
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public class OWALGroupCommitTest {
+  @Test
+  public void testInterruptedFlusherCompletesCommits() throws Exception {
+    final OWriteAheadLog writeAheadLog = mock(OWriteAheadLog.class);
+    final AtomicInteger flushes = new AtomicInteger();
+    doAnswer(invocation -> flushes.incrementAndGet()).when(writeAheadLog).flush();
+
+    final String storageName = "testInterruptedFlusherCompletesCommits";
+    final OWALGroupCommit groupCommit = new OWALGroupCommit(writeAheadLog, storageName, TimeUnit.MINUTES.toNanos(10), 1_000);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Void> commit = executor.submit(() -> {
+        groupCommit.commit(new OLogSequenceNumber(1, 1));
+        return null;
+      });
+
+      //let flusher start waiting for the rest of the group commit window
+      Thread.sleep(500);
+      findFlusher(storageName).interrupt();
+
+      commit.get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(1, flushes.get());
+
+      //flusher is still alive and serves following commits
+      executor.submit(() -> {
+        findFlusher(storageName).interrupt();
+        groupCommit.commit(new OLogSequenceNumber(1, 2));
+        return null;
+      }).get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(2, flushes.get());
+    } finally {
+      executor.shutdown();
+      groupCommit.close();
+    }
+  }
+
+  @Test
+  public void testCommitsFailIfFlusherIsStopped() throws Exception {
+    final OWriteAheadLog writeAheadLog = mock(OWriteAheadLog.class);
+    doThrow(new AssertionError("Flusher is stopped by test")).when(writeAheadLog).flush();
+
+    final OWALGroupCommit groupCommit = new OWALGroupCommit(writeAheadLog, "testCommitsFailIfFlusherIsStopped", 0, 1);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      for (int i = 0; i < 2; i++) {
+        final long position = i;
+        final Future<Void> commit = executor.submit(() -> {
+          groupCommit.commit(new OLogSequenceNumber(1, position));
+          return null;
+        });
+
+        try {
+          commit.get(10, TimeUnit.SECONDS);
+          Assert.fail("Commit should fail if flusher is stopped");
+        } catch (ExecutionException e) {
+          Assert.assertTrue(e.getCause() instanceof OStorageException);
+        }
+      }
+    } finally {
+      executor.shutdown();
+      groupCommit.close();
+    }
+  }
+
+  private static Thread findFlusher(final String storageName) {
+    for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals("OrientDB WAL Group Commit Flusher (" + storageName + ")")) {
+        return thread;
+      }
+    }
+
+    throw new IllegalStateException("Flusher thread is not found");
+  }
+}
@@ -3,6 +3,8 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
 import com.orientechnologies.orient.core.storage.impl.local.OCheckpointRequestListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.*;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.common.CASWALPage;
@@ -106,6 +108,81 @@ public class CASDiskWriteAheadLogIT {
     }
   }
 
+  @Test
+  public void testReadCompressedSegments() throws Exception {
+    final long seed = System.nanoTime();
+    try {
+      final Random random = new Random(seed);
+
+      CASDiskWriteAheadLog wal = new CASDiskWriteAheadLog("walTest", testDirectory, testDirectory, 100, 64, null, null,
+          Integer.MAX_VALUE, Integer.MAX_VALUE, 20, true, Locale.US, -1, -1, 1000, false, false, true, 10);
+      wal.setSegmentCompression(OCompressionFactory.INSTANCE.getCompression(OGZIPCompression.NAME, null));
+
+      final List<TestRecord> records = new ArrayList<>();
+      final int segments = 5;
+      for (int segment = 0; segment < segments; segment++) {
+        for (int i = 0; i < 100; i++) {
+          final TestRecord walRecord = new TestRecord(random, 3 * wal.pageSize(), 1);
+          wal.log(walRecord);
+          records.add(walRecord);
+        }
+
+        wal.appendNewSegment();
+      }
+
+      wal.log(new EmptyWALRecord());
+      wal.flush();
+
+      final long compressionStart = System.nanoTime();
+      for (int segment = 1; segment <= segments; segment++) {
+        final Path compressedSegment = testDirectory.resolve("walTest." + segment + OWriteAheadLog.WAL_COMPRESSED_SEGMENT_EXTENSION);
+        while (!Files.exists(compressedSegment) || Files.exists(
+            testDirectory.resolve("walTest." + segment + OWriteAheadLog.WAL_SEGMENT_EXTENSION))) {
+          Assert.assertTrue(System.nanoTime() - compressionStart < TimeUnit.MINUTES.toNanos(1));
+          Thread.sleep(10);
+        }
+      }
+
+      assertRecordsAreRead(wal, records);
+      wal.close();
+
+      wal = new CASDiskWriteAheadLog("walTest", testDirectory, testDirectory, 100, 64, null, null, Integer.MAX_VALUE,
+          Integer.MAX_VALUE, 20, true, Locale.US, -1, -1, 1000, false, false, true, 10);
+
+      assertRecordsAreRead(wal, records);
+
+      Assert.assertTrue(wal.cutTill(new OLogSequenceNumber(3, CASWALPage.RECORDS_OFFSET)));
+      Assert.assertFalse(Files.exists(testDirectory.resolve("walTest.1" + OWriteAheadLog.WAL_COMPRESSED_SEGMENT_EXTENSION)));
+      Assert.assertFalse(Files.exists(testDirectory.resolve("walTest.2" + OWriteAheadLog.WAL_COMPRESSED_SEGMENT_EXTENSION)));
+      Assert.assertTrue(Files.exists(testDirectory.resolve("walTest.3" + OWriteAheadLog.WAL_COMPRESSED_SEGMENT_EXTENSION)));
+
+      wal.close();
+    } catch (Exception | Error e) {
+      System.out.println("testReadCompressedSegments : " + seed);
+      throw e;
+    }
+  }
+
+  private static void assertRecordsAreRead(final CASDiskWriteAheadLog wal, final List<TestRecord> records) throws IOException {
+    final Iterator<TestRecord> expectedIterator = records.iterator();
+
+    List<WriteableWALRecord> readRecords = wal.read(records.get(0).getLsn(), 10);
+    while (!readRecords.isEmpty()) {
+      for (final WriteableWALRecord record : readRecords) {
+        if (record instanceof TestRecord) {
+          final TestRecord expected = expectedIterator.next();
+
+          Assert.assertEquals(expected.getLsn(), record.getLsn());
+          Assert.assertArrayEquals(expected.data, ((TestRecord) record).data);
+        }
+      }
+
+      readRecords = wal.next(readRecords.get(readRecords.size() - 1).getLsn(), 10);
+    }
+
+    Assert.assertFalse(expectedIterator.hasNext());
+  }
+
   @Test
   public void testAddSingleOnePageRecordEncrypted() throws Exception {
     final String aesKeyEncoded = "T1JJRU5UREJfSVNfQ09PTA==";
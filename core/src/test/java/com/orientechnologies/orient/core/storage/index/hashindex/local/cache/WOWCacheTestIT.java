@@ -176,6 +176,51 @@ public class WOWCacheTestIT {
     }
   }
 
+  @Test
+  public void testFlushMergesAdjacentPagesIntoExtents() throws Exception {
+    deleteCacheAndDeleteFile();
+
+    Files.createDirectories(storagePath);
+
+    writeAheadLog = new CASDiskWriteAheadLog(storageName, storagePath, storagePath, 12_000, 128, null, null, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, 25, true, Locale.US, -1, 1024L * 1024 * 1024, 1000, true, false, true, 10);
+    wowCache = new OWOWCache(pageSize, bufferPool, writeAheadLog, new DoubleWriteLogNoOP(), -1, 10, 1024L * 1024 * 1024,
+        storagePath, storageName, OStringSerializer.INSTANCE, files, 1, OChecksumMode.StoreAndVerify, null, null, false, true);
+
+    wowCache.loadRegisteredFiles();
+
+    final long fileId = wowCache.addFile(fileName);
+    final String nativeFileName = wowCache.nativeFileNameById(fileId);
+
+    final int pages = 200;
+    for (int i = 0; i < pages; i++) {
+      final int pageIndex = wowCache.allocateNewPage(fileId);
+      Assert.assertEquals(i, pageIndex);
+      final OCachePointer cachePointer = wowCache.load(fileId, i, new OModifiableBoolean(), false);
+      cachePointer.acquireExclusiveLock();
+
+      final ByteBuffer buffer = cachePointer.getBufferDuplicate();
+      buffer.position(ODurablePage.NEXT_FREE_POSITION);
+      buffer.putLong(i);
+      cachePointer.releaseExclusiveLock();
+
+      wowCache.store(fileId, i, cachePointer);
+      cachePointer.decrementReadersReferrer();
+    }
+
+    Assert.assertEquals(0, wowCache.getAverageFlushExtentSize());
+
+    wowCache.flush();
+
+    Assert.assertEquals(pages * pageSize, wowCache.getAverageFlushExtentSize());
+
+    for (int i = 0; i < pages; i++) {
+      final byte[] data = new byte[8];
+      OLongSerializer.INSTANCE.serializeNative(i, data, 0);
+      assertFile(i, data, new OLogSequenceNumber(0, 0), nativeFileName);
+    }
+  }
+
   @Test
   public void testLoadStoreEncrypted() throws Exception {
     deleteCacheAndDeleteFile();